@@ -0,0 +1,83 @@
+package at.doml.genalg.progress;
+
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapter which exposes a {@link GenerationPublisher} as a <code>Flow.Publisher</code>, so that the summaries can be
+ * consumed by any Reactive Streams library. This class is only compiled with the <code>flow</code> profile, because
+ * <code>java.util.concurrent.Flow</code> requires Java 9. Backpressure and conflation are performed by the wrapped
+ * publisher.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see GenerationPublisher
+ */
+public class FlowGenerationPublisher<C extends IChromosome> implements Flow.Publisher<GenerationSummary<C>> {
+    
+    /**
+     * Publisher which delivers the summaries.
+     */
+    private final GenerationPublisher<C> publisher;
+    /**
+     * Flag which specifies whether the summaries contain the population.
+     */
+    private final boolean includePopulation;
+    
+    /**
+     * Constructs a <code>FlowGenerationPublisher</code> which delivers the summaries of the provided publisher.
+     * 
+     * @param publisher publisher which delivers the summaries.
+     * @param includePopulation <code>true</code> if the summaries should contain copies of the whole population.
+     */
+    public FlowGenerationPublisher(GenerationPublisher<C> publisher, boolean includePopulation) {
+        this.publisher = publisher;
+        this.includePopulation = includePopulation;
+    }
+    
+    @Override
+    public void subscribe(Flow.Subscriber<? super GenerationSummary<C>> subscriber) {
+        
+        publisher.subscribe(new IProgressSubscriber<GenerationSummary<C>>() {
+            
+            @Override
+            public void onSubscribe(IProgressSubscription subscription) {
+                
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    
+                    @Override
+                    public void request(long n) {
+                        
+                        subscription.request(n);
+                    }
+                    
+                    @Override
+                    public void cancel() {
+                        
+                        subscription.cancel();
+                    }
+                });
+            }
+            
+            @Override
+            public void onNext(GenerationSummary<C> item) {
+                
+                subscriber.onNext(item);
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                
+                subscriber.onError(throwable);
+            }
+            
+            @Override
+            public void onComplete() {
+                
+                subscriber.onComplete();
+            }
+        }, includePopulation);
+    }
+}
@@ -0,0 +1,23 @@
+package at.doml.genalg.evaluation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Creates executors which run each task on a new virtual thread. This class is only compiled with the
+ * <code>virtual-threads</code> profile and it is loaded reflectively by <code>EvaluationExecutors</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see EvaluationExecutors
+ */
+public class VirtualThreadExecutorFactory implements Supplier<ExecutorService> {
+    
+    @Override
+    public ExecutorService get() {
+        
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,411 @@
+package at.doml.genalg;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.interfaces.ICrossoverOperator;
+import at.doml.genalg.operators.interfaces.IMutationOperator;
+import at.doml.genalg.population.interfaces.IAsyncFitnessTest;
+import at.doml.genalg.population.interfaces.IBoundedFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.population.interfaces.IPopulationGenerator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An asynchronous implementation of the steady-state genetic algorithm. Fitness evaluations are performed either by
+ * the provided <code>Executor</code>, or by an {@link IAsyncFitnessTest}, and the algorithm keeps up to the specified
+ * number of evaluations in flight. As soon as any evaluation completes, the evaluated child is inserted into the
+ * population and a new child is bred to take its place, so there is no barrier which waits for the slowest
+ * evaluation. This keeps all workers busy when the duration of the evaluations varies a lot.<br>
+ * <br>
+ * Breeding and insertion are performed only by the thread which calls {@link #step()} or {@link #run(long, double)},
+ * so operators and the chromosome pool do not have to be thread-safe. New children are bred while earlier children
+ * are still being evaluated, so the work of the operators overlaps with the evaluations. The fitness test must be
+ * thread-safe, because several chromosomes are evaluated at the same time. Each call of {@link #step()} integrates
+ * exactly one completed evaluation, regardless of the number of replacements per step.<br>
+ * <br>
+ * Children whose evaluations are cancelled or fail are released into the chromosome pool, if it is set. A child whose
+ * evaluation is still running when it is cancelled is released only after the evaluation stops using it.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see SteadyStateGeneticAlgorithm
+ * @see IAsyncFitnessTest
+ */
+public class AsynchronousSteadyStateGeneticAlgorithm<C extends IChromosome> extends SteadyStateGeneticAlgorithm<C> {
+    
+    /**
+     * Executor which runs the evaluations, or <code>null</code> if an asynchronous fitness test is used.
+     */
+    private final Executor executor;
+    /**
+     * Asynchronous fitness test, or <code>null</code> if the evaluations are run by the executor.
+     */
+    private final IAsyncFitnessTest<C> asyncFitnessTest;
+    /**
+     * Evaluations which have completed, in the order of completion.
+     */
+    private final BlockingQueue<Future<Double>> completed = new LinkedBlockingQueue<>();
+    /**
+     * Evaluations which were submitted, but not yet integrated, mapped to the evaluated children.
+     */
+    private final Map<Future<Double>, C> inFlight = new HashMap<>();
+    /**
+     * Children of cancelled evaluations which are no longer used by the evaluations, waiting to be released into the
+     * pool by the thread which runs the algorithm.
+     */
+    private final Queue<C> abandoned = new ConcurrentLinkedQueue<>();
+    /**
+     * Maximum number of evaluations in flight.
+     */
+    private final int maxInFlight;
+    
+    /**
+     * Constructs an <code>AsynchronousSteadyStateGeneticAlgorithm</code> with provided components. The population is
+     * generated and evaluated on the first call of {@link #step()}, or when {@link #initialize()} is called.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param generator generator of the initial population.
+     * @param fitnessTest thread-safe fitness test used to evaluate the chromosomes.
+     * @param crossover crossover operator used to create children.
+     * @param mutation mutation operator applied to each child.
+     * @param populationSize number of chromosomes in the population. Must be at least 2.
+     * @param executor executor which performs the evaluations.
+     * @param maxInFlight maximum number of evaluations in flight. This is usually the number of workers of the
+     *            executor. Must be at least 1.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public AsynchronousSteadyStateGeneticAlgorithm(Random rand, IPopulationGenerator<C> generator,
+            IFitnessTest<C> fitnessTest, ICrossoverOperator<C> crossover, IMutationOperator<C> mutation,
+            int populationSize, Executor executor, int maxInFlight) {
+        this(rand, generator, fitnessTest, crossover, mutation, populationSize, executor, null, maxInFlight);
+    }
+    
+    /**
+     * Constructs an <code>AsynchronousSteadyStateGeneticAlgorithm</code> which evaluates the chromosomes with the
+     * provided asynchronous fitness test. The population is generated and evaluated on the first call of
+     * {@link #step()}, or when {@link #initialize()} is called.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param generator generator of the initial population.
+     * @param fitnessTest asynchronous fitness test used to evaluate the chromosomes.
+     * @param crossover crossover operator used to create children.
+     * @param mutation mutation operator applied to each child.
+     * @param populationSize number of chromosomes in the population. Must be at least 2.
+     * @param maxInFlight maximum number of evaluations in flight. Must be at least 1.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public AsynchronousSteadyStateGeneticAlgorithm(Random rand, IPopulationGenerator<C> generator,
+            IAsyncFitnessTest<C> fitnessTest, ICrossoverOperator<C> crossover, IMutationOperator<C> mutation,
+            int populationSize, int maxInFlight) {
+        this(rand, generator, fitnessTest.toBatchFitnessTest(), crossover, mutation, populationSize, null,
+                fitnessTest, maxInFlight);
+    }
+    
+    /**
+     * Constructs an <code>AsynchronousSteadyStateGeneticAlgorithm</code> with provided components. Exactly one of
+     * the executor and the asynchronous fitness test must not be <code>null</code>.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param generator generator of the initial population.
+     * @param fitnessTest fitness test used to evaluate the chromosomes.
+     * @param crossover crossover operator used to create children.
+     * @param mutation mutation operator applied to each child.
+     * @param populationSize number of chromosomes in the population. Must be at least 2.
+     * @param executor executor which runs the fitness test, or <code>null</code>.
+     * @param asyncFitnessTest asynchronous fitness test, or <code>null</code>.
+     * @param maxInFlight maximum number of evaluations in flight. Must be at least 1.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    private AsynchronousSteadyStateGeneticAlgorithm(Random rand, IPopulationGenerator<C> generator,
+            IFitnessTest<C> fitnessTest, ICrossoverOperator<C> crossover, IMutationOperator<C> mutation,
+            int populationSize, Executor executor, IAsyncFitnessTest<C> asyncFitnessTest, int maxInFlight) {
+        super(rand, generator, fitnessTest, crossover, mutation, populationSize);
+        
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(
+                    "Number of evaluations in flight must be at least 1. Provided value was: " + maxInFlight + ".");
+        }
+        
+        this.executor = executor;
+        this.asyncFitnessTest = asyncFitnessTest;
+        this.maxInFlight = maxInFlight;
+    }
+    
+    /**
+     * {@inheritDoc} Chromosomes of the initial population are evaluated concurrently, and this method returns when all
+     * of them are evaluated. Evaluations in flight are cancelled first.
+     * 
+     * @throws GeneticAlgorithmException thrown if any evaluation fails or the calling thread is interrupted.
+     */
+    @Override
+    protected void evaluatePopulation(List<C> chromosomes) {
+        
+        cancelPendingEvaluations();
+        
+        for (C chromosome : chromosomes) {
+            submit(chromosome, Double.NEGATIVE_INFINITY);
+        }
+        
+        for (int i = 0; i < chromosomes.size(); i++) {
+            await();
+        }
+    }
+    
+    /**
+     * Fills the evaluations in flight with new children, waits for any evaluation to complete and inserts the evaluated
+     * child into the population. The population is initialized first if needed.
+     * 
+     * @throws GeneticAlgorithmException thrown if the evaluation fails or the calling thread is interrupted.
+     */
+    @Override
+    public void step() {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        integrateNext(Long.MAX_VALUE);
+    }
+    
+    /**
+     * {@inheritDoc} New children are submitted only while the number of completed and in-flight evaluations is below
+     * the maximum, so the maximum is never exceeded. Evaluations which are still in flight when the algorithm stops
+     * are cancelled.
+     * 
+     * @throws GeneticAlgorithmException thrown if any evaluation fails or the calling thread is interrupted.
+     */
+    @Override
+    public C run(long maxEvaluations, double targetFitness) {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        try {
+            while (numOfEvaluations < maxEvaluations && getBestFitness() < targetFitness) {
+                integrateNext(maxEvaluations - numOfEvaluations);
+            }
+        } finally {
+            cancelPendingEvaluations();
+        }
+        
+        return getBest();
+    }
+    
+    /**
+     * Cancels all evaluations which are in flight, including completed evaluations which were not yet integrated.
+     * Their children are discarded and released into the pool once their evaluations stop using them. Evaluations of
+     * an {@link IAsyncFitnessTest} cannot be interrupted, so their children are released when their futures complete.
+     */
+    @SuppressWarnings("unchecked")
+    public void cancelPendingEvaluations() {
+        
+        for (Map.Entry<Future<Double>, C> entry : inFlight.entrySet()) {
+            Future<Double> future = entry.getKey();
+            C chromosome = entry.getValue();
+            
+            if (future instanceof AsynchronousSteadyStateGeneticAlgorithm.EvaluationTask) {
+                ((EvaluationTask) future).abandon();
+            } else {
+                ((CompletableFuture<Double>) future).whenComplete((fitness, failure) -> abandoned.add(chromosome));
+            }
+        }
+        
+        inFlight.clear();
+        completed.clear();
+        releaseAbandoned();
+    }
+    
+    /**
+     * Fetches the number of evaluations which are currently in flight.
+     * 
+     * @return Number of evaluations in flight.
+     */
+    public int getNumOfEvaluationsInFlight() {
+        
+        return inFlight.size();
+    }
+    
+    /**
+     * Submits new children until the number of evaluations in flight reaches the maximum or the provided limit, then
+     * waits for any evaluation to complete and inserts the evaluated child into the population.
+     * 
+     * @param remaining maximum number of evaluations which can still be performed, including those in flight.
+     */
+    private void integrateNext(long remaining) {
+        
+        releaseAbandoned();
+        
+        while (inFlight.size() < maxInFlight && inFlight.size() < remaining) {
+            submit(breed(), getAcceptanceThreshold());
+        }
+        
+        C child = await();
+        numOfEvaluations++;
+        
+        insert(child, child.getFitness());
+        publishProgress();
+    }
+    
+    /**
+     * Submits the chromosome for evaluation. The acceptance threshold is passed to the fitness test if it implements
+     * {@link IBoundedFitnessTest}.
+     * 
+     * @param chromosome chromosome to evaluate.
+     * @param threshold lowest fitness which the chromosome must reach to be inserted into the population.
+     */
+    private void submit(C chromosome, double threshold) {
+        
+        if (asyncFitnessTest != null) {
+            CompletableFuture<Double> future = asyncFitnessTest.evaluateAsync(chromosome);
+            
+            inFlight.put(future, chromosome);
+            future.whenComplete((fitness, failure) -> completed.add(future));
+            return;
+        }
+        
+        EvaluationTask task = new EvaluationTask(chromosome, threshold);
+        
+        inFlight.put(task, chromosome);
+        executor.execute(task);
+    }
+    
+    /**
+     * Releases the children of cancelled evaluations which are no longer used by the evaluations into the pool.
+     */
+    private void releaseAbandoned() {
+        
+        C chromosome;
+        
+        while ((chromosome = abandoned.poll()) != null) {
+            release(chromosome);
+        }
+    }
+    
+    /**
+     * Waits for any evaluation in flight to complete. Evaluations which were cancelled are skipped.
+     * 
+     * @return Evaluated chromosome.
+     * @throws GeneticAlgorithmException thrown if the evaluation fails or the calling thread is interrupted.
+     */
+    private C await() {
+        
+        C chromosome = null;
+        
+        try {
+            Future<Double> future;
+            
+            do {
+                future = completed.take();
+            } while ((chromosome = inFlight.remove(future)) == null);
+            
+            chromosome.setFitness(future.get());
+            
+            return chromosome;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new GeneticAlgorithmException("Interrupted while waiting for a fitness evaluation.", exception);
+        } catch (ExecutionException exception) {
+            release(chromosome);
+            throw new GeneticAlgorithmException("Fitness evaluation failed.", exception.getCause());
+        }
+    }
+    
+    /**
+     * Task which evaluates a single child with the fitness test on the executor. It keeps track of whether the
+     * evaluation is running, so that a cancelled child is released only after the evaluation stops using it.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class EvaluationTask extends FutureTask<Double> {
+        
+        /**
+         * State of a task whose evaluation is not running.
+         */
+        private static final int IDLE = 0;
+        /**
+         * State of a task whose evaluation is running.
+         */
+        private static final int RUNNING = 1;
+        /**
+         * State of a task which was cancelled and whose child was discarded.
+         */
+        private static final int ABANDONED = 2;
+        
+        /**
+         * Child which is evaluated.
+         */
+        private final C chromosome;
+        /**
+         * Current state of the task.
+         */
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+        
+        /**
+         * Constructs an <code>EvaluationTask</code> which evaluates provided child.
+         * 
+         * @param chromosome child to evaluate.
+         * @param threshold lowest fitness which the child must reach to be inserted into the population.
+         */
+        private EvaluationTask(C chromosome, double threshold) {
+            super(() -> {
+                IBoundedFitnessTest.evaluateBounded(fitnessTest, chromosome, threshold);
+                return chromosome.getFitness();
+            });
+            
+            this.chromosome = chromosome;
+        }
+        
+        @Override
+        public void run() {
+            
+            if (!state.compareAndSet(IDLE, RUNNING)) {
+                return;
+            }
+            
+            try {
+                super.run();
+            } finally {
+                if (!state.compareAndSet(RUNNING, IDLE)) {
+                    abandoned.add(chromosome);
+                }
+            }
+        }
+        
+        @Override
+        protected void done() {
+            
+            completed.add(this);
+        }
+        
+        /**
+         * Cancels the task and discards its child. If the evaluation is running, the child is handed over for release
+         * when the evaluation stops, otherwise it is handed over immediately.
+         */
+        private void abandon() {
+            
+            cancel(true);
+            
+            if (state.getAndSet(ABANDONED) != RUNNING) {
+                abandoned.add(chromosome);
+            }
+        }
+    }
+}
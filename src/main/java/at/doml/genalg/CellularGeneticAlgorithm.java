@@ -0,0 +1,807 @@
+package at.doml.genalg;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.interfaces.ICrossoverOperator;
+import at.doml.genalg.operators.interfaces.IMutationOperator;
+import at.doml.genalg.population.interfaces.IBoundedFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.population.interfaces.IPopulationGenerator;
+import at.doml.genalg.progress.GenerationPublisher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * An implementation of the cellular genetic algorithm. Chromosomes are placed on a toroidal grid with any number of
+ * dimensions, and each chromosome mates only with chromosomes from its neighbourhood. In each sweep, every cell
+ * creates a child from its own chromosome and the winner of a tournament among its neighbours, and the child replaces
+ * the chromosome of the cell if it is at least as fit. Good solutions spread slowly through the grid, which keeps the
+ * population diverse for longer than selection over the whole population.<br>
+ * <br>
+ * Chromosomes and their fitness values are stored in flat arrays, and the neighbours of every cell are computed once
+ * and stored in a flat array as well. The grid is divided into tiles, each of which consists of whole layers along the
+ * first dimension, so every tile is a contiguous range of cells. Tiles can be updated in parallel by the provided
+ * executor, since updating a cell does not require any global synchronization. Each tile has its own crossover and
+ * mutation operators, created by the provided factories, and its own <code>Random</code> object.<br>
+ * <br>
+ * In the synchronous mode, all cells are updated from the chromosomes of the previous sweep, and the new chromosomes
+ * are written into a second pair of arrays. In the asynchronous mode, cells are updated in place, so a cell can mate
+ * with a child created earlier in the same sweep. To keep parallel asynchronous sweeps correct, tiles with even and odd
+ * indices are updated one after another, so two adjacent tiles are never updated at the same time.<br>
+ * <br>
+ * The fitness test must be thread-safe if more than one tile is used. Other methods of this class are not thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ */
+public class CellularGeneticAlgorithm<C extends IChromosome> {
+    
+    /**
+     * Neighbourhoods of a cell.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    public enum Neighbourhood {
+        
+        /**
+         * Cells which differ from the cell by one in a single coordinate. A cell has <code>2 * d</code> such
+         * neighbours on a grid with <code>d</code> dimensions.
+         */
+        VON_NEUMANN,
+        
+        /**
+         * Cells which differ from the cell by at most one in each coordinate. A cell has <code>3^d - 1</code> such
+         * neighbours on a grid with <code>d</code> dimensions.
+         */
+        MOORE
+    }
+    
+    /**
+     * Ways in which the cells are updated in a sweep.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    public enum UpdateMode {
+        
+        /**
+         * All cells are updated from the chromosomes of the previous sweep.
+         */
+        SYNCHRONOUS,
+        
+        /**
+         * Cells are updated in place, in the order of their indices within each tile.
+         */
+        ASYNCHRONOUS
+    }
+    
+    /**
+     * Sizes of the grid in each dimension.
+     */
+    private final int[] dimensions;
+    /**
+     * Number of cells in the grid.
+     */
+    private final int numOfCells;
+    /**
+     * Generator of the initial population.
+     */
+    private final IPopulationGenerator<C> generator;
+    /**
+     * Fitness test used to evaluate the chromosomes.
+     */
+    private final IFitnessTest<C> fitnessTest;
+    /**
+     * Factory of the crossover operator of each tile.
+     */
+    private final Function<Random, ? extends ICrossoverOperator<C>> crossoverFactory;
+    /**
+     * Factory of the mutation operator of each tile.
+     */
+    private final Function<Random, ? extends IMutationOperator<C>> mutationFactory;
+    /**
+     * Generator of seeds of the tiles.
+     */
+    private final SplittableRandom seeds;
+    /**
+     * Neighbourhood of each cell.
+     */
+    private Neighbourhood neighbourhood = Neighbourhood.MOORE;
+    /**
+     * Mode in which the cells are updated.
+     */
+    private UpdateMode updateMode = UpdateMode.SYNCHRONOUS;
+    /**
+     * Executor which updates the tiles, or <code>null</code> to update them on the calling thread.
+     */
+    private Executor executor;
+    /**
+     * Requested number of tiles.
+     */
+    private int numOfTiles = 1;
+    /**
+     * Number of chromosomes which compete in a tournament for a mate.
+     */
+    private int tournamentSize = 2;
+    /**
+     * Number of neighbours of each cell.
+     */
+    private int numOfNeighbours;
+    /**
+     * Indices of the neighbours of each cell. Neighbours of the cell <code>i</code> are stored starting at the index
+     * <code>i * numOfNeighbours</code>.
+     */
+    private int[] neighbours;
+    /**
+     * Chromosome of each cell.
+     */
+    private Object[] cells;
+    /**
+     * Fitness of the chromosome of each cell.
+     */
+    private double[] fitness;
+    /**
+     * Chromosomes of the next sweep, used in the synchronous mode.
+     */
+    private Object[] nextCells;
+    /**
+     * Fitness values of the chromosomes of the next sweep, used in the synchronous mode.
+     */
+    private double[] nextFitness;
+    /**
+     * Tiles of the grid.
+     */
+    private List<Tile> tiles;
+    /**
+     * Index of the cell with the best chromosome.
+     */
+    private int bestIndex;
+    /**
+     * Number of fitness evaluations performed so far.
+     */
+    private long numOfEvaluations;
+    /**
+     * Number of sweeps performed so far.
+     */
+    private long numOfSweeps;
+    /**
+     * Publisher of sweep summaries, or <code>null</code>.
+     */
+    private GenerationPublisher<C> publisher;
+    
+    /**
+     * Constructs a <code>CellularGeneticAlgorithm</code> with provided components. The grid is generated and evaluated
+     * on the first call of {@link #sweep()}, or when {@link #initialize()} is called.
+     * 
+     * @param dimensions sizes of the grid in each dimension. There must be at least one dimension, and each size must
+     *            be at least 3.
+     * @param generator generator of the initial population.
+     * @param fitnessTest fitness test used to evaluate the chromosomes.
+     * @param crossoverFactory function which creates the crossover operator of a tile from the <code>Random</code>
+     *            object of the tile.
+     * @param mutationFactory function which creates the mutation operator of a tile from the <code>Random</code>
+     *            object of the tile.
+     * @param seed seed from which the seeds of all tiles are derived.
+     * @throws IllegalArgumentException thrown if provided dimensions are illegal.
+     */
+    public CellularGeneticAlgorithm(int[] dimensions, IPopulationGenerator<C> generator, IFitnessTest<C> fitnessTest,
+            Function<Random, ? extends ICrossoverOperator<C>> crossoverFactory,
+            Function<Random, ? extends IMutationOperator<C>> mutationFactory, long seed) {
+        if (dimensions.length == 0) {
+            throw new IllegalArgumentException("Grid must have at least one dimension.");
+        }
+        
+        long size = 1L;
+        
+        for (int dimension : dimensions) {
+            if (dimension < 3) {
+                throw new IllegalArgumentException(
+                        "Size of each dimension must be at least 3. Provided sizes were: " + Arrays.toString(dimensions)
+                                + ".");
+            }
+            
+            size *= dimension;
+            
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Grid is too large: " + Arrays.toString(dimensions) + ".");
+            }
+        }
+        
+        this.dimensions = Arrays.copyOf(dimensions, dimensions.length);
+        this.numOfCells = (int) size;
+        this.generator = generator;
+        this.fitnessTest = fitnessTest;
+        this.crossoverFactory = crossoverFactory;
+        this.mutationFactory = mutationFactory;
+        this.seeds = new SplittableRandom(seed);
+    }
+    
+    /**
+     * Sets the neighbourhood of each cell. Must be called before the grid is initialized.
+     * 
+     * @param neighbourhood neighbourhood of each cell. Default is {@link Neighbourhood#MOORE}.
+     * @throws IllegalStateException thrown if the grid was already initialized.
+     */
+    public void setNeighbourhood(Neighbourhood neighbourhood) {
+        
+        checkNotInitialized();
+        this.neighbourhood = neighbourhood;
+    }
+    
+    /**
+     * Sets the mode in which the cells are updated.
+     * 
+     * @param updateMode mode in which the cells are updated. Default is {@link UpdateMode#SYNCHRONOUS}.
+     */
+    public void setUpdateMode(UpdateMode updateMode) {
+        
+        this.updateMode = updateMode;
+    }
+    
+    /**
+     * Sets the executor which updates the tiles in parallel, and the number of tiles. The number of tiles is limited
+     * by the size of the first dimension, and a number larger than 1 is rounded down to an even number, so that tiles
+     * with even and odd indices alternate around the torus. Must be called before the grid is initialized.
+     * 
+     * @param executor executor which updates the tiles, or <code>null</code> to update them on the calling thread.
+     * @param numOfTiles number of tiles. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided number of tiles is less than 1.
+     * @throws IllegalStateException thrown if the grid was already initialized.
+     */
+    public void setExecutor(Executor executor, int numOfTiles) {
+        
+        checkNotInitialized();
+        
+        if (numOfTiles < 1) {
+            throw new IllegalArgumentException(
+                    "Number of tiles must be at least 1. Provided value was: " + numOfTiles + ".");
+        }
+        
+        this.executor = executor;
+        this.numOfTiles = Math.min(numOfTiles, dimensions[0]);
+        
+        if (this.numOfTiles > 1) {
+            this.numOfTiles &= ~1;
+        }
+    }
+    
+    /**
+     * Sets the number of neighbours which compete in a tournament for a mate. The fittest neighbour of the tournament
+     * mates with the chromosome of the cell.
+     * 
+     * @param tournamentSize number of neighbours in a tournament. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setTournamentSize(int tournamentSize) {
+        
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException(
+                    "Tournament size must be at least 1. Provided value was: " + tournamentSize + ".");
+        }
+        
+        this.tournamentSize = tournamentSize;
+    }
+    
+    /**
+     * Sets the publisher to which the summary of the grid is published after initialization and after each sweep.
+     * The index of the sweep is used as the index of the generation. Summaries are created only while the publisher has
+     * subscribers.
+     * 
+     * @param publisher publisher of sweep summaries, or <code>null</code> to stop publishing.
+     */
+    public void setPublisher(GenerationPublisher<C> publisher) {
+        
+        this.publisher = publisher;
+    }
+    
+    /**
+     * Throws an exception if the grid was already initialized.
+     * 
+     * @throws IllegalStateException thrown if the grid was already initialized.
+     */
+    private void checkNotInitialized() {
+        
+        if (isInitialized()) {
+            throw new IllegalStateException("Grid was already initialized.");
+        }
+    }
+    
+    /**
+     * Generates and evaluates the chromosomes of all cells, computes the neighbours of each cell and creates the
+     * tiles.
+     * 
+     * @throws IllegalStateException thrown if the grid was already initialized.
+     * @throws IllegalArgumentException thrown if the generator does not generate the expected number of chromosomes.
+     */
+    public void initialize() {
+        
+        checkNotInitialized();
+        
+        Collection<C> generated = generator.generatePopulation(numOfCells);
+        
+        if (generated.size() != numOfCells) {
+            throw new IllegalArgumentException("Generator created " + generated.size()
+                    + " chromosomes, but the grid has " + numOfCells + " cells.");
+        }
+        
+        computeNeighbours();
+        
+        cells = generated.toArray();
+        fitness = new double[numOfCells];
+        nextCells = new Object[numOfCells];
+        nextFitness = new double[numOfCells];
+        tiles = new ArrayList<>(numOfTiles);
+        
+        int layerSize = numOfCells / dimensions[0];
+        
+        for (int i = 0; i < numOfTiles; i++) {
+            int fromLayer = (int) ((long) dimensions[0] * i / numOfTiles);
+            int toLayer = (int) ((long) dimensions[0] * (i + 1) / numOfTiles);
+            
+            tiles.add(new Tile(fromLayer * layerSize, toLayer * layerSize, new Random(seeds.nextLong())));
+        }
+        
+        for (int i = 0; i < numOfCells; i++) {
+            C chromosome = getChromosome(cells, i);
+            
+            fitnessTest.evaluate(chromosome);
+            fitness[i] = chromosome.getFitness();
+        }
+        
+        numOfEvaluations += numOfCells;
+        updateBest();
+        publish();
+    }
+    
+    /**
+     * Computes the indices of the neighbours of each cell. Cells are indexed so that the last dimension varies the
+     * fastest.
+     */
+    private void computeNeighbours() {
+        
+        int numOfDimensions = dimensions.length;
+        List<int[]> offsets = new ArrayList<>();
+        
+        if (neighbourhood == Neighbourhood.VON_NEUMANN) {
+            for (int d = 0; d < numOfDimensions; d++) {
+                for (int delta = -1; delta <= 1; delta += 2) {
+                    int[] offset = new int[numOfDimensions];
+                    offset[d] = delta;
+                    offsets.add(offset);
+                }
+            }
+        } else {
+            int numOfOffsets = 1;
+            
+            for (int d = 0; d < numOfDimensions; d++) {
+                numOfOffsets *= 3;
+            }
+            
+            for (int i = 0; i < numOfOffsets; i++) {
+                int[] offset = new int[numOfDimensions];
+                boolean zero = true;
+                
+                for (int d = 0, rest = i; d < numOfDimensions; d++, rest /= 3) {
+                    offset[d] = rest % 3 - 1;
+                    zero &= offset[d] == 0;
+                }
+                
+                if (!zero) {
+                    offsets.add(offset);
+                }
+            }
+        }
+        
+        int[] strides = new int[numOfDimensions];
+        strides[numOfDimensions - 1] = 1;
+        
+        for (int d = numOfDimensions - 2; d >= 0; d--) {
+            strides[d] = strides[d + 1] * dimensions[d + 1];
+        }
+        
+        numOfNeighbours = offsets.size();
+        neighbours = new int[numOfCells * numOfNeighbours];
+        
+        for (int cell = 0, position = 0; cell < numOfCells; cell++) {
+            for (int[] offset : offsets) {
+                int neighbour = 0;
+                
+                for (int d = 0; d < numOfDimensions; d++) {
+                    int coordinate = cell / strides[d] % dimensions[d];
+                    neighbour += (coordinate + offset[d] + dimensions[d]) % dimensions[d] * strides[d];
+                }
+                
+                neighbours[position++] = neighbour;
+            }
+        }
+    }
+    
+    /**
+     * Performs a single sweep, in which every cell is updated once. The grid is initialized first if needed.
+     * 
+     * @throws GeneticAlgorithmException thrown if updating any tile fails.
+     */
+    public void sweep() {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        if (updateMode == UpdateMode.SYNCHRONOUS) {
+            updateTiles(0, 1, cells, fitness, nextCells, nextFitness);
+            
+            Object[] swapCells = cells;
+            cells = nextCells;
+            nextCells = swapCells;
+            
+            double[] swapFitness = fitness;
+            fitness = nextFitness;
+            nextFitness = swapFitness;
+        } else if (tiles.size() == 1) {
+            updateTiles(0, 1, cells, fitness, cells, fitness);
+        } else {
+            // The number of tiles is even, so tiles with even indices are never adjacent, and neither are odd ones.
+            updateTiles(0, 2, cells, fitness, cells, fitness);
+            updateTiles(1, 2, cells, fitness, cells, fitness);
+        }
+        
+        for (Tile tile : tiles) {
+            numOfEvaluations += tile.numOfEvaluations;
+            tile.numOfEvaluations = 0;
+        }
+        
+        numOfSweeps++;
+        updateBest();
+        publish();
+    }
+    
+    /**
+     * Updates every tile whose index is <code>first + k * step</code>, and waits until all of them are updated.
+     * 
+     * @param first index of the first tile to update.
+     * @param step difference between indices of two consecutive tiles to update.
+     * @param source chromosomes from which the cells are updated.
+     * @param sourceFitness fitness values of the source chromosomes.
+     * @param target array in which the updated chromosomes are stored.
+     * @param targetFitness array in which the fitness values of the updated chromosomes are stored.
+     * @throws GeneticAlgorithmException thrown if updating any tile fails.
+     */
+    private void updateTiles(int first, int step, Object[] source, double[] sourceFitness, Object[] target,
+            double[] targetFitness) {
+        
+        if (executor == null) {
+            for (int i = first; i < tiles.size(); i += step) {
+                tiles.get(i).update(source, sourceFitness, target, targetFitness);
+            }
+            
+            return;
+        }
+        
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        
+        for (int i = first; i < tiles.size(); i += step) {
+            Tile tile = tiles.get(i);
+            futures.add(CompletableFuture.runAsync(() -> tile.update(source, sourceFitness, target, targetFitness),
+                    executor));
+        }
+        
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+        } catch (CompletionException exception) {
+            throw new GeneticAlgorithmException("Updating a tile failed.", exception.getCause());
+        }
+    }
+    
+    /**
+     * Finds the cell with the best chromosome.
+     */
+    private void updateBest() {
+        
+        bestIndex = 0;
+        
+        for (int i = 1; i < numOfCells; i++) {
+            if (fitness[i] > fitness[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+    }
+    
+    /**
+     * Publishes the summary of the grid, if the publisher is set and has subscribers.
+     */
+    @SuppressWarnings("unchecked")
+    private void publish() {
+        
+        if (publisher != null && publisher.hasSubscribers()) {
+            publisher.publish(numOfSweeps, numOfEvaluations, (List<C>) (List<?>) Arrays.asList(cells));
+        }
+    }
+    
+    /**
+     * Performs sweeps until the provided number of fitness evaluations is reached, or until the fitness of the best
+     * chromosome reaches the target fitness. Since whole sweeps are performed, the number of evaluations can exceed
+     * the maximum by less than the number of cells.
+     * 
+     * @param maxEvaluations maximum number of fitness evaluations, including the evaluations performed so far.
+     * @param targetFitness fitness at which the algorithm stops.
+     * @return The best chromosome in the grid.
+     * @throws GeneticAlgorithmException thrown if updating any tile fails.
+     */
+    public C run(long maxEvaluations, double targetFitness) {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        while (numOfEvaluations < maxEvaluations && getBestFitness() < targetFitness) {
+            sweep();
+        }
+        
+        return getBest();
+    }
+    
+    /**
+     * Checks if the grid was initialized.
+     * 
+     * @return <code>true</code> if the grid was initialized, <code>false</code> otherwise.
+     */
+    public boolean isInitialized() {
+        
+        return cells != null;
+    }
+    
+    /**
+     * Fetches the chromosome stored in the provided array.
+     * 
+     * @param array array of chromosomes.
+     * @param index index of the chromosome.
+     * @return Chromosome stored under provided index.
+     */
+    @SuppressWarnings("unchecked")
+    private C getChromosome(Object[] array, int index) {
+        
+        return (C) array[index];
+    }
+    
+    /**
+     * Fetches the best chromosome in the grid.
+     * 
+     * @return The best chromosome.
+     * @throws IllegalStateException thrown if the grid is not initialized.
+     */
+    public C getBest() {
+        
+        checkInitialized();
+        
+        return getChromosome(cells, bestIndex);
+    }
+    
+    /**
+     * Fetches the fitness of the best chromosome in the grid.
+     * 
+     * @return Fitness of the best chromosome.
+     * @throws IllegalStateException thrown if the grid is not initialized.
+     */
+    public double getBestFitness() {
+        
+        checkInitialized();
+        
+        return fitness[bestIndex];
+    }
+    
+    /**
+     * Fetches the chromosome of the provided cell.
+     * 
+     * @param index index of the cell. Cells are indexed so that the last dimension varies the fastest.
+     * @return Chromosome of the cell.
+     * @throws IllegalStateException thrown if the grid is not initialized.
+     * @throws IndexOutOfBoundsException thrown if provided index is out of range.
+     */
+    public C getCell(int index) {
+        
+        checkInitialized();
+        
+        return getChromosome(cells, index);
+    }
+    
+    /**
+     * Fetches the indices of the neighbours of the provided cell.
+     * 
+     * @param index index of the cell.
+     * @return A new array which contains the indices of the neighbours.
+     * @throws IllegalStateException thrown if the grid is not initialized.
+     * @throws IndexOutOfBoundsException thrown if provided index is out of range.
+     */
+    public int[] getNeighbours(int index) {
+        
+        checkInitialized();
+        
+        if (index < 0 || index >= numOfCells) {
+            throw new IndexOutOfBoundsException("Cell index: " + index + ", number of cells: " + numOfCells + ".");
+        }
+        
+        return Arrays.copyOfRange(neighbours, index * numOfNeighbours, (index + 1) * numOfNeighbours);
+    }
+    
+    /**
+     * Throws an exception if the grid is not initialized.
+     * 
+     * @throws IllegalStateException thrown if the grid is not initialized.
+     */
+    private void checkInitialized() {
+        
+        if (!isInitialized()) {
+            throw new IllegalStateException("Grid is not initialized.");
+        }
+    }
+    
+    /**
+     * Fetches the number of cells in the grid.
+     * 
+     * @return Number of cells.
+     */
+    public int getNumOfCells() {
+        
+        return numOfCells;
+    }
+    
+    /**
+     * Fetches the number of tiles into which the grid is divided.
+     * 
+     * @return Number of tiles.
+     */
+    public int getNumOfTiles() {
+        
+        return tiles == null ? numOfTiles : tiles.size();
+    }
+    
+    /**
+     * Fetches the number of fitness evaluations performed so far.
+     * 
+     * @return Number of fitness evaluations.
+     */
+    public long getNumOfEvaluations() {
+        
+        return numOfEvaluations;
+    }
+    
+    /**
+     * Fetches the number of sweeps performed so far.
+     * 
+     * @return Number of sweeps.
+     */
+    public long getNumOfSweeps() {
+        
+        return numOfSweeps;
+    }
+    
+    /**
+     * A contiguous range of cells, which is updated by a single thread.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Tile {
+        
+        /**
+         * Index of the first cell of the tile, inclusive.
+         */
+        private final int from;
+        /**
+         * Index of the last cell of the tile, exclusive.
+         */
+        private final int to;
+        /**
+         * Object used to generate random numbers in this tile.
+         */
+        private final Random rand;
+        /**
+         * Crossover operator of this tile.
+         */
+        private final ICrossoverOperator<C> crossover;
+        /**
+         * Mutation operator of this tile.
+         */
+        private final IMutationOperator<C> mutation;
+        /**
+         * Set which holds the parents during crossover.
+         */
+        private final SortedSet<C> parents = new TreeSet<>();
+        /**
+         * Number of fitness evaluations performed since the last sweep.
+         */
+        private long numOfEvaluations;
+        
+        /**
+         * Constructs a <code>Tile</code> with provided range of cells.
+         * 
+         * @param from index of the first cell of the tile, inclusive.
+         * @param to index of the last cell of the tile, exclusive.
+         * @param rand object used to generate random numbers in this tile.
+         */
+        private Tile(int from, int to, Random rand) {
+            this.from = from;
+            this.to = to;
+            this.rand = rand;
+            this.crossover = crossoverFactory.apply(rand);
+            this.mutation = mutationFactory.apply(rand);
+        }
+        
+        /**
+         * Updates every cell of this tile.
+         * 
+         * @param source chromosomes from which the cells are updated.
+         * @param sourceFitness fitness values of the source chromosomes.
+         * @param target array in which the updated chromosomes are stored.
+         * @param targetFitness array in which the fitness values of the updated chromosomes are stored.
+         */
+        private void update(Object[] source, double[] sourceFitness, Object[] target, double[] targetFitness) {
+            
+            for (int cell = from; cell < to; cell++) {
+                C current = getChromosome(source, cell);
+                double currentFitness = sourceFitness[cell];
+                int mate = selectMate(cell, sourceFitness);
+                C child;
+                
+                parents.add(current);
+                parents.add(getChromosome(source, mate));
+                
+                try {
+                    child = mutation.mutate(crossover.doCrossover(parents));
+                } finally {
+                    parents.clear();
+                }
+                
+                IBoundedFitnessTest.evaluateBounded(fitnessTest, child, currentFitness);
+                numOfEvaluations++;
+                
+                if (child.getFitness() >= currentFitness) {
+                    target[cell] = child;
+                    targetFitness[cell] = child.getFitness();
+                } else {
+                    target[cell] = current;
+                    targetFitness[cell] = currentFitness;
+                }
+            }
+        }
+        
+        /**
+         * Selects the mate of the provided cell by a tournament among its neighbours.
+         * 
+         * @param cell index of the cell.
+         * @param sourceFitness fitness values of the chromosomes.
+         * @return Index of the cell whose chromosome is the mate.
+         */
+        private int selectMate(int cell, double[] sourceFitness) {
+            
+            int offset = cell * numOfNeighbours;
+            int winner = neighbours[offset + rand.nextInt(numOfNeighbours)];
+            
+            for (int i = 1; i < tournamentSize; i++) {
+                int candidate = neighbours[offset + rand.nextInt(numOfNeighbours)];
+                
+                if (sourceFitness[candidate] > sourceFitness[winner]) {
+                    winner = candidate;
+                }
+            }
+            
+            return winner;
+        }
+    }
+}
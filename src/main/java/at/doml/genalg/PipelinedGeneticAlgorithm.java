@@ -0,0 +1,768 @@
+package at.doml.genalg;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.operators.interfaces.ICrossoverOperator;
+import at.doml.genalg.operators.interfaces.IMutationOperator;
+import at.doml.genalg.operators.interfaces.ISelectionOperator;
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.population.interfaces.IPopulationGenerator;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.utilities.ChromosomePool;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * An implementation of the generational genetic algorithm in which breeding and evaluation of each generation are
+ * pipelined. Children of a generation are created in batches. Breeder tasks select parents, perform crossover and
+ * mutation, and put finished batches into a bounded queue, from which evaluator tasks take them and evaluate them.
+ * While one batch is being evaluated, the next batch is already being bred, so the operators and the fitness test
+ * work at the same time. The bounded queue keeps breeders from running too far ahead of the evaluators.<br>
+ * <br>
+ * Each new generation consists of the configured number of elite chromosomes of the previous generation and the
+ * children created from the previous generation. Since every child is bred from the whole previous generation, the
+ * end of each generation is a barrier at which all stages wait for the slowest batch.<br>
+ * <br>
+ * Each breeder has its own selection, crossover and mutation operators, created by the provided factories, and its
+ * own <code>Random</code> object, so operators do not have to be thread-safe. For the same reason, each breeder has its
+ * own {@link ChromosomePool} when pooling is enabled with {@link #setPoolCapacity(int)}. The fitness test must be
+ * thread-safe if more than one evaluator is used. If the fitness test is an {@link IBatchFitnessTest}, each batch is
+ * evaluated with a single call. Without an executor, batches are bred and evaluated one after another on the calling
+ * thread. Methods of this class must be invoked from a single thread.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see SteadyStateGeneticAlgorithm
+ */
+public class PipelinedGeneticAlgorithm<C extends IChromosome> {
+    
+    /**
+     * Time in milliseconds for which the stages wait on a queue before they check whether another stage failed.
+     */
+    private static final long POLL_MILLIS = 10L;
+    
+    /**
+     * Generator of the initial population.
+     */
+    private final IPopulationGenerator<C> generator;
+    /**
+     * Fitness test used to evaluate the chromosomes.
+     */
+    private final IFitnessTest<C> fitnessTest;
+    /**
+     * Factory of the selection operator of each breeder.
+     */
+    private final Function<Random, ? extends ISelectionOperator<C>> selectionFactory;
+    /**
+     * Factory of the crossover operator of each breeder.
+     */
+    private final Function<Random, ? extends ICrossoverOperator<C>> crossoverFactory;
+    /**
+     * Factory of the mutation operator of each breeder.
+     */
+    private final Function<Random, ? extends IMutationOperator<C>> mutationFactory;
+    /**
+     * Number of chromosomes in the population.
+     */
+    private final int populationSize;
+    /**
+     * Generator of the seeds of the breeders.
+     */
+    private final SplittableRandom seeds;
+    /**
+     * Number of the fittest chromosomes which survive into the next generation.
+     */
+    private int elitism = 1;
+    /**
+     * Number of children in a single batch.
+     */
+    private int batchSize = 16;
+    /**
+     * Maximum number of bred batches which wait for evaluation.
+     */
+    private int queueCapacity = 2;
+    /**
+     * Executor which runs the stages, or <code>null</code> if the stages run on the calling thread.
+     */
+    private Executor executor;
+    /**
+     * Number of breeder tasks.
+     */
+    private int numOfBreeders = 1;
+    /**
+     * Number of evaluator tasks.
+     */
+    private int numOfEvaluators = 1;
+    /**
+     * Capacity of the chromosome pool of each breeder, or 0 if pooling is disabled.
+     */
+    private int poolCapacity;
+    /**
+     * Breeders, one for each breeder task.
+     */
+    private final List<Breeder> breeders = new ArrayList<>();
+    /**
+     * Current population, sorted by fitness in descending order.
+     */
+    private SortedSet<C> population;
+    /**
+     * Number of fitness evaluations performed so far.
+     */
+    private long numOfEvaluations;
+    /**
+     * Number of generations created after the initial population.
+     */
+    private long generation;
+    /**
+     * Publisher of generation summaries, or <code>null</code>.
+     */
+    private GenerationPublisher<C> publisher;
+    
+    /**
+     * Constructs a <code>PipelinedGeneticAlgorithm</code> with provided components. Each factory receives the
+     * <code>Random</code> object of a breeder and is invoked once for every breeder. The population is generated and
+     * evaluated on the first call of {@link #step()}, or when {@link #initialize()} is called.
+     * 
+     * @param generator generator of the initial population.
+     * @param fitnessTest fitness test used to evaluate the chromosomes.
+     * @param selectionFactory factory of the selection operators used to choose parents.
+     * @param crossoverFactory factory of the crossover operators used to create children.
+     * @param mutationFactory factory of the mutation operators applied to each child.
+     * @param populationSize number of chromosomes in the population. Must be at least 2.
+     * @param seed seed from which the seeds of the breeders are derived.
+     * @throws IllegalArgumentException thrown if the population size is less than 2.
+     */
+    public PipelinedGeneticAlgorithm(IPopulationGenerator<C> generator, IFitnessTest<C> fitnessTest,
+            Function<Random, ? extends ISelectionOperator<C>> selectionFactory,
+            Function<Random, ? extends ICrossoverOperator<C>> crossoverFactory,
+            Function<Random, ? extends IMutationOperator<C>> mutationFactory, int populationSize, long seed) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException(
+                    "Population size must be at least 2. Provided value was: " + populationSize + ".");
+        }
+        
+        this.generator = generator;
+        this.fitnessTest = fitnessTest;
+        this.selectionFactory = selectionFactory;
+        this.crossoverFactory = crossoverFactory;
+        this.mutationFactory = mutationFactory;
+        this.populationSize = populationSize;
+        this.seeds = new SplittableRandom(seed);
+    }
+    
+    /**
+     * Sets the number of the fittest chromosomes which are copied into the next generation without changes. Default
+     * value is 1.
+     * 
+     * @param elitism number of elite chromosomes. Must be at least 0 and less than the population size.
+     * @throws IllegalArgumentException thrown if provided value is out of range.
+     */
+    public void setElitism(int elitism) {
+        
+        if (elitism < 0) {
+            throw new IllegalArgumentException("Elitism must be at least 0. Provided value was: " + elitism + ".");
+        }
+        
+        if (elitism >= populationSize) {
+            throw new IllegalArgumentException("Elitism must be less than the population size. Provided value was: "
+                    + elitism + ".");
+        }
+        
+        this.elitism = elitism;
+    }
+    
+    /**
+     * Sets the number of children which are bred and evaluated together. Smaller batches keep the stages busy more
+     * evenly, while larger batches reduce the overhead of the queues and of batch fitness tests. Default value is 16.
+     * 
+     * @param batchSize number of children in a batch. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setBatchSize(int batchSize) {
+        
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1. Provided value was: " + batchSize + ".");
+        }
+        
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Sets the maximum number of bred batches which can wait for evaluation. Breeders block while the queue is full.
+     * Default value is 2.
+     * 
+     * @param queueCapacity capacity of the queue between breeders and evaluators. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Queue capacity must be at least 1. Provided value was: " + queueCapacity + ".");
+        }
+        
+        this.queueCapacity = queueCapacity;
+    }
+    
+    /**
+     * Sets the executor which runs the breeder and evaluator tasks. The executor must be able to run all tasks at the
+     * same time, because tasks of one stage wait for the tasks of the other. If the executor is <code>null</code>, all
+     * batches are bred and evaluated on the calling thread, one after another.
+     * 
+     * @param executor executor which runs the stages, or <code>null</code>.
+     * @param numOfBreeders number of breeder tasks. Must be at least 1.
+     * @param numOfEvaluators number of evaluator tasks. Must be at least 1.
+     * @throws IllegalArgumentException thrown if the number of breeders or evaluators is less than 1.
+     */
+    public void setExecutor(Executor executor, int numOfBreeders, int numOfEvaluators) {
+        
+        if (numOfBreeders < 1) {
+            throw new IllegalArgumentException(
+                    "Number of breeders must be at least 1. Provided value was: " + numOfBreeders + ".");
+        }
+        
+        if (numOfEvaluators < 1) {
+            throw new IllegalArgumentException(
+                    "Number of evaluators must be at least 1. Provided value was: " + numOfEvaluators + ".");
+        }
+        
+        this.executor = executor;
+        this.numOfBreeders = numOfBreeders;
+        this.numOfEvaluators = numOfEvaluators;
+    }
+    
+    /**
+     * Sets the capacity of the chromosome pool of each breeder. When pooling is enabled, chromosomes of the previous
+     * generation which do not survive into the next one are released into the pools of the breeders between
+     * generations, and each breeder whose crossover operator extends {@link AbstractCrossoverOperator} acquires its
+     * children from its own pool. Since the pools are not thread-safe, they are never shared between breeders. Default
+     * value is 0, which disables pooling.<br>
+     * <br>
+     * Chromosomes of a discarded generation must not be used after the next generation is created.
+     * 
+     * @param poolCapacity capacity of the pool of each breeder. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided value is negative.
+     */
+    public void setPoolCapacity(int poolCapacity) {
+        
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Pool capacity must not be negative. Provided value was: " + poolCapacity + ".");
+        }
+        
+        this.poolCapacity = poolCapacity;
+        
+        for (Breeder breeder : breeders) {
+            breeder.createPool();
+        }
+    }
+    
+    /**
+     * Sets the publisher to which the summary of each generation, including the initial population, is published.
+     * Summaries are created only while the publisher has subscribers.
+     * 
+     * @param publisher publisher of generation summaries, or <code>null</code> to stop publishing.
+     */
+    public void setPublisher(GenerationPublisher<C> publisher) {
+        
+        this.publisher = publisher;
+    }
+    
+    /**
+     * Generates and evaluates the initial population. If the population was already initialized, it is discarded and
+     * generated again.
+     * 
+     * @throws IllegalArgumentException thrown if the generator does not generate the expected number of chromosomes.
+     */
+    public void initialize() {
+        
+        Collection<C> generated = generator.generatePopulation(populationSize);
+        
+        if (generated.size() != populationSize) {
+            throw new IllegalArgumentException("Generator created " + generated.size()
+                    + " chromosomes, but population size is " + populationSize + ".");
+        }
+        
+        List<C> chromosomes = new ArrayList<>(generated);
+        
+        evaluate(chromosomes);
+        numOfEvaluations += populationSize;
+        population = new TreeSet<>(chromosomes);
+        generation = 0L;
+        publish();
+    }
+    
+    /**
+     * Checks whether the population was initialized.
+     * 
+     * @return <code>true</code> if the population was initialized, <code>false</code> otherwise.
+     */
+    public boolean isInitialized() {
+        
+        return population != null;
+    }
+    
+    /**
+     * Creates the next generation. Children are bred and evaluated in batches by the pipeline, and this method returns
+     * when all children are evaluated. The population is initialized first if needed.
+     * 
+     * @throws GeneticAlgorithmException thrown if any stage fails or the calling thread is interrupted.
+     */
+    public void step() {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        int numOfChildren = populationSize - elitism;
+        List<C> children = executor == null ? breedSequentially(numOfChildren) : breedPipelined(numOfChildren);
+        SortedSet<C> next = new TreeSet<>();
+        Iterator<C> iterator = population.iterator();
+        
+        for (int i = 0; i < elitism; i++) {
+            next.add(iterator.next());
+        }
+        
+        next.addAll(children);
+        numOfEvaluations += numOfChildren;
+        population = next;
+        generation++;
+        release(iterator);
+        publish();
+    }
+    
+    /**
+     * Runs the algorithm until the maximum number of evaluations is reached or the best chromosome reaches the
+     * target fitness. Since whole generations are created, the maximum may be exceeded by less than one generation.
+     * The population is initialized first if needed.
+     * 
+     * @param maxEvaluations maximum number of fitness evaluations, including the evaluations of the initial
+     *            population.
+     * @param targetFitness fitness at which the algorithm stops.
+     * @return The best chromosome found.
+     * @throws GeneticAlgorithmException thrown if any stage fails or the calling thread is interrupted.
+     */
+    public C run(long maxEvaluations, double targetFitness) {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        while (numOfEvaluations < maxEvaluations && getBestFitness() < targetFitness) {
+            step();
+        }
+        
+        return getBest();
+    }
+    
+    /**
+     * Fetches the best chromosome in the population.
+     * 
+     * @return The best chromosome in the population.
+     * @throws IllegalStateException thrown if the population is not initialized.
+     */
+    public C getBest() {
+        
+        if (!isInitialized()) {
+            throw new IllegalStateException("Population is not initialized.");
+        }
+        
+        return population.first();
+    }
+    
+    /**
+     * Fetches the fitness of the best chromosome in the population.
+     * 
+     * @return Fitness of the best chromosome.
+     * @throws IllegalStateException thrown if the population is not initialized.
+     */
+    public double getBestFitness() {
+        
+        return getBest().getFitness();
+    }
+    
+    /**
+     * Fetches the number of fitness evaluations performed so far, including the evaluations of the initial
+     * population.
+     * 
+     * @return Number of fitness evaluations.
+     */
+    public long getNumOfEvaluations() {
+        
+        return numOfEvaluations;
+    }
+    
+    /**
+     * Fetches the number of generations created after the initial population.
+     * 
+     * @return Number of generations.
+     */
+    public long getGeneration() {
+        
+        return generation;
+    }
+    
+    /**
+     * Fetches the current population, sorted by fitness in descending order.
+     * 
+     * @return Unmodifiable view of the population, or <code>null</code> if the population is not initialized.
+     */
+    public SortedSet<C> getPopulation() {
+        
+        return population == null ? null : Collections.unmodifiableSortedSet(population);
+    }
+    
+    /**
+     * Publishes the summary of the current generation, if the publisher is set and has subscribers.
+     */
+    private void publish() {
+        
+        if (publisher != null && publisher.hasSubscribers()) {
+            publisher.publish(generation, numOfEvaluations, population);
+        }
+    }
+    
+    /**
+     * Releases discarded chromosomes into the pools of the breeders which create the next generation, distributing
+     * them evenly. This is done on the calling thread between generations, while no breeder is running.
+     * 
+     * @param discarded chromosomes of the previous generation which did not survive.
+     */
+    private void release(Iterator<C> discarded) {
+        
+        int numOfActive = executor == null ? 1 : numOfBreeders;
+        
+        for (int i = 0; discarded.hasNext(); i++) {
+            ChromosomePool<C> pool = getBreeder(i % numOfActive).pool;
+            
+            if (pool == null) {
+                return;
+            }
+            
+            pool.release(discarded.next());
+        }
+    }
+    
+    /**
+     * Breeds and evaluates all children on the calling thread, one batch after another.
+     * 
+     * @param numOfChildren number of children to create.
+     * @return Evaluated children.
+     */
+    private List<C> breedSequentially(int numOfChildren) {
+        
+        Breeder breeder = getBreeder(0);
+        List<C> children = new ArrayList<>(numOfChildren);
+        
+        for (int created = 0; created < numOfChildren; created += batchSize) {
+            List<C> batch = breeder.breed(population, Math.min(batchSize, numOfChildren - created));
+            
+            evaluate(batch);
+            children.addAll(batch);
+        }
+        
+        return children;
+    }
+    
+    /**
+     * Breeds and evaluates all children with breeder and evaluator tasks run by the executor. The calling thread
+     * collects evaluated batches and returns when all of them arrive, or when any task fails.
+     * 
+     * @param numOfChildren number of children to create.
+     * @return Evaluated children.
+     * @throws GeneticAlgorithmException thrown if any task fails or the calling thread is interrupted.
+     */
+    private List<C> breedPipelined(int numOfChildren) {
+        
+        Pipeline pipeline = new Pipeline(numOfChildren);
+        
+        for (int i = 0; i < numOfBreeders; i++) {
+            Breeder breeder = getBreeder(i);
+            executor.execute(() -> pipeline.runBreeder(breeder));
+        }
+        
+        for (int i = 0; i < numOfEvaluators; i++) {
+            executor.execute(pipeline::runEvaluator);
+        }
+        
+        List<C> children = new ArrayList<>(numOfChildren);
+        
+        for (int i = 0; i < pipeline.numOfBatches; i++) {
+            List<C> batch = pipeline.poll(pipeline.evaluated);
+            
+            if (batch == null) {
+                throw new GeneticAlgorithmException("Pipeline stage failed.", pipeline.failure.get());
+            }
+            
+            children.addAll(batch);
+        }
+        
+        return children;
+    }
+    
+    /**
+     * Fetches the breeder with provided index, creating new breeders if needed.
+     * 
+     * @param index index of the breeder.
+     * @return Breeder with provided index.
+     */
+    private Breeder getBreeder(int index) {
+        
+        while (breeders.size() <= index) {
+            breeders.add(new Breeder(new Random(seeds.nextLong())));
+        }
+        
+        return breeders.get(index);
+    }
+    
+    /**
+     * Evaluates provided chromosomes, in a single batch if the fitness test is an {@link IBatchFitnessTest}.
+     * 
+     * @param chromosomes chromosomes to evaluate.
+     */
+    @SuppressWarnings("unchecked")
+    private void evaluate(List<C> chromosomes) {
+        
+        if (fitnessTest instanceof IBatchFitnessTest) {
+            ((IBatchFitnessTest<C>) fitnessTest).evaluateAll(chromosomes);
+            return;
+        }
+        
+        for (C chromosome : chromosomes) {
+            fitnessTest.evaluate(chromosome);
+        }
+    }
+    
+    /**
+     * Operators and random number generator of a single breeder task.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Breeder {
+        
+        /**
+         * Selection operator used to choose parents.
+         */
+        private final ISelectionOperator<C> selection;
+        /**
+         * Crossover operator used to create children.
+         */
+        private final ICrossoverOperator<C> crossover;
+        /**
+         * Mutation operator applied to each child.
+         */
+        private final IMutationOperator<C> mutation;
+        /**
+         * Pool from which the crossover operator acquires children, or <code>null</code> if pooling is disabled.
+         */
+        private ChromosomePool<C> pool;
+        
+        /**
+         * Constructs a <code>Breeder</code> whose operators are created with provided <code>Random</code> object.
+         * 
+         * @param rand object used to generate random numbers.
+         */
+        private Breeder(Random rand) {
+            this.selection = selectionFactory.apply(rand);
+            this.crossover = crossoverFactory.apply(rand);
+            this.mutation = mutationFactory.apply(rand);
+            createPool();
+        }
+        
+        /**
+         * Creates the pool of this breeder with the configured capacity and sets it on the crossover operator. The
+         * pool is not created if pooling is disabled, or if the crossover operator cannot acquire chromosomes from a
+         * pool.
+         */
+        @SuppressWarnings("unchecked")
+        private void createPool() {
+            
+            pool = null;
+            
+            if (poolCapacity > 0 && crossover instanceof AbstractCrossoverOperator) {
+                pool = new ChromosomePool<>((C) population.first().newLikeThis(), poolCapacity);
+                ((AbstractCrossoverOperator<C>) crossover).setPool(pool);
+            }
+        }
+        
+        /**
+         * Breeds provided number of children from provided parents.
+         * 
+         * @param parents population from which parents are selected.
+         * @param size number of children to breed.
+         * @return Bred children, not yet evaluated.
+         */
+        private List<C> breed(SortedSet<C> parents, int size) {
+            
+            List<C> children = new ArrayList<>(size);
+            
+            for (int i = 0; i < size; i++) {
+                SortedSet<C> selected = selection.select(parents, ISelectionOperator.MIN_SELECTION_SIZE);
+                children.add(mutation.mutate(crossover.doCrossover(selected)));
+            }
+            
+            return children;
+        }
+    }
+    
+    /**
+     * State of the pipeline which creates a single generation. Breeders claim batch indices, and evaluators take
+     * bred batches from the bounded queue until all batches of the generation are taken.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Pipeline {
+        
+        /**
+         * Population from which parents are selected.
+         */
+        private final SortedSet<C> parents = population;
+        /**
+         * Number of children of the generation.
+         */
+        private final int numOfChildren;
+        /**
+         * Number of batches of the generation.
+         */
+        private final int numOfBatches;
+        /**
+         * Index of the next batch to breed.
+         */
+        private final AtomicInteger nextBatch = new AtomicInteger();
+        /**
+         * Number of batches taken by the evaluators.
+         */
+        private final AtomicInteger takenBatches = new AtomicInteger();
+        /**
+         * Bred batches which wait for evaluation.
+         */
+        private final BlockingQueue<List<C>> bred = new ArrayBlockingQueue<>(queueCapacity);
+        /**
+         * Evaluated batches which wait to be collected.
+         */
+        private final BlockingQueue<List<C>> evaluated = new LinkedBlockingQueue<>();
+        /**
+         * First failure of any task, or of the collecting thread.
+         */
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        /**
+         * Constructs a <code>Pipeline</code> which creates provided number of children.
+         * 
+         * @param numOfChildren number of children to create.
+         */
+        private Pipeline(int numOfChildren) {
+            this.numOfChildren = numOfChildren;
+            this.numOfBatches = (numOfChildren + batchSize - 1) / batchSize;
+        }
+        
+        /**
+         * Breeds batches with provided breeder until all batches are claimed or any task fails.
+         * 
+         * @param breeder breeder which creates the children.
+         */
+        private void runBreeder(Breeder breeder) {
+            
+            try {
+                int batch;
+                
+                while ((batch = nextBatch.getAndIncrement()) < numOfBatches) {
+                    int size = Math.min(batchSize, numOfChildren - batch * batchSize);
+                    
+                    if (!offer(breeder.breed(parents, size))) {
+                        return;
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure.compareAndSet(null, throwable);
+            }
+        }
+        
+        /**
+         * Evaluates bred batches until all batches are taken or any task fails.
+         */
+        private void runEvaluator() {
+            
+            try {
+                while (takenBatches.getAndIncrement() < numOfBatches) {
+                    List<C> batch = poll(bred);
+                    
+                    if (batch == null) {
+                        return;
+                    }
+                    
+                    evaluate(batch);
+                    evaluated.add(batch);
+                }
+            } catch (Throwable throwable) {
+                failure.compareAndSet(null, throwable);
+            }
+        }
+        
+        /**
+         * Puts provided batch into the queue of bred batches, waiting while the queue is full.
+         * 
+         * @param batch bred batch.
+         * @return <code>true</code> if the batch was queued, <code>false</code> if any task failed.
+         * @throws InterruptedException thrown if the calling thread is interrupted.
+         */
+        private boolean offer(List<C> batch) throws InterruptedException {
+            
+            while (failure.get() == null) {
+                if (bred.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+        
+        /**
+         * Takes a batch from provided queue, waiting while the queue is empty. If the calling thread is interrupted,
+         * the failure is recorded so that all tasks stop.
+         * 
+         * @param queue queue from which the batch is taken.
+         * @return Batch from the queue, or <code>null</code> if any task failed.
+         */
+        private List<C> poll(BlockingQueue<List<C>> queue) {
+            
+            try {
+                while (failure.get() == null) {
+                    List<C> batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    
+                    if (batch != null) {
+                        return batch;
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, exception);
+            }
+            
+            return null;
+        }
+    }
+}
@@ -0,0 +1,569 @@
+package at.doml.genalg;
+
+import at.doml.genalg.operators.interfaces.ICrossoverOperator;
+import at.doml.genalg.operators.interfaces.IMutationOperator;
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IBoundedFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.population.interfaces.IPopulationGenerator;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.utilities.ChromosomePool;
+import at.doml.genalg.utilities.FitnessHeap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An implementation of the steady-state genetic algorithm. Instead of replacing the whole population in each
+ * generation, the algorithm creates only a few children in each step, and each child replaces a single chromosome of
+ * the population. Parents are chosen by tournaments over random chromosomes of the population. The replaced chromosome
+ * is either the worst chromosome of the population, or the loser of a tournament if the replacement tournament size is
+ * set. A child replaces a chromosome only if it is at least as fit as that chromosome, so the fitness of the best
+ * chromosome never decreases.<br>
+ * <br>
+ * Chromosomes are stored in an array and their fitness values are kept in two {@link FitnessHeap}s, so the best and
+ * the worst chromosome are found in <code>O(1)</code> time and a replacement costs <code>O(log n)</code> time. The
+ * population is never sorted. Since every child is evaluated right after it is created, this algorithm makes good use
+ * of the evaluations when the fitness test is expensive. Fitness tests which implement {@link IBoundedFitnessTest}
+ * receive the fitness of the worst chromosome as the acceptance threshold, so they can stop evaluating children which
+ * would be rejected anyway.<br>
+ * <br>
+ * This class is not thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see FitnessHeap
+ */
+public class SteadyStateGeneticAlgorithm<C extends IChromosome> {
+    
+    /**
+     * Object used to generate random numbers.
+     */
+    protected final Random rand;
+    /**
+     * Generator of the initial population.
+     */
+    private final IPopulationGenerator<C> generator;
+    /**
+     * Fitness test used to evaluate the chromosomes.
+     */
+    protected final IFitnessTest<C> fitnessTest;
+    /**
+     * Crossover operator used to create children.
+     */
+    private final ICrossoverOperator<C> crossover;
+    /**
+     * Mutation operator applied to each child.
+     */
+    private final IMutationOperator<C> mutation;
+    /**
+     * Chromosomes of the population.
+     */
+    private final List<C> population;
+    /**
+     * Heap which keeps the worst chromosome at the top.
+     */
+    private final FitnessHeap worst;
+    /**
+     * Heap which keeps the best chromosome at the top.
+     */
+    private final FitnessHeap best;
+    /**
+     * Set which is reused to pass the parents to the crossover operator.
+     */
+    private final SortedSet<C> parents = new TreeSet<>();
+    /**
+     * Number of chromosomes in the population.
+     */
+    private final int populationSize;
+    /**
+     * Number of children created in each step.
+     */
+    private int replacementsPerStep = 1;
+    /**
+     * Number of chromosomes which compete in a tournament for a parent.
+     */
+    private int tournamentSize = 2;
+    /**
+     * Number of chromosomes which compete in a tournament for replacement, or 0 if the worst chromosome is replaced.
+     */
+    private int replacementTournamentSize;
+    /**
+     * Pool into which replaced and rejected chromosomes are released, or <code>null</code>.
+     */
+    private ChromosomePool<C> pool;
+    /**
+     * Number of fitness evaluations performed so far.
+     */
+    protected long numOfEvaluations;
+    /**
+     * Publisher of generation summaries, or <code>null</code>.
+     */
+    private GenerationPublisher<C> publisher;
+    /**
+     * Index of the last published generation.
+     */
+    private long publishedGeneration = -1L;
+    
+    /**
+     * Constructs a <code>SteadyStateGeneticAlgorithm</code> with provided components. The population is generated and
+     * evaluated on the first call of {@link #step()}, or when {@link #initialize()} is called.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param generator generator of the initial population.
+     * @param fitnessTest fitness test used to evaluate the chromosomes.
+     * @param crossover crossover operator used to create children.
+     * @param mutation mutation operator applied to each child.
+     * @param populationSize number of chromosomes in the population. Must be at least 2.
+     * @throws IllegalArgumentException thrown if provided population size is less than 2.
+     */
+    public SteadyStateGeneticAlgorithm(Random rand, IPopulationGenerator<C> generator, IFitnessTest<C> fitnessTest,
+            ICrossoverOperator<C> crossover, IMutationOperator<C> mutation, int populationSize) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException(
+                    "Population size must be at least 2. Provided value was: " + populationSize + ".");
+        }
+        
+        this.rand = rand;
+        this.generator = generator;
+        this.fitnessTest = fitnessTest;
+        this.crossover = crossover;
+        this.mutation = mutation;
+        this.populationSize = populationSize;
+        this.population = new ArrayList<>(populationSize);
+        this.worst = FitnessHeap.worstFirst(populationSize);
+        this.best = FitnessHeap.bestFirst(populationSize);
+    }
+    
+    /**
+     * Sets the number of children which are created in each step.
+     * 
+     * @param replacementsPerStep number of children created in each step. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setReplacementsPerStep(int replacementsPerStep) {
+        
+        if (replacementsPerStep < 1) {
+            throw new IllegalArgumentException(
+                    "Replacements per step must be at least 1. Provided value was: " + replacementsPerStep + ".");
+        }
+        
+        this.replacementsPerStep = replacementsPerStep;
+    }
+    
+    /**
+     * Sets the number of chromosomes which compete in a tournament for a parent. The fittest chromosome of the
+     * tournament becomes a parent.
+     * 
+     * @param tournamentSize number of chromosomes in a tournament. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setTournamentSize(int tournamentSize) {
+        
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException(
+                    "Tournament size must be at least 1. Provided value was: " + tournamentSize + ".");
+        }
+        
+        this.tournamentSize = tournamentSize;
+    }
+    
+    /**
+     * Sets the number of chromosomes which compete in a tournament for replacement. The least fit chromosome of the
+     * tournament is the candidate for replacement. If the size is 0, the worst chromosome of the population is always
+     * the candidate, which is the default.
+     * 
+     * @param replacementTournamentSize number of chromosomes in a replacement tournament, or 0 to replace the worst
+     *            chromosome. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided value is negative.
+     */
+    public void setReplacementTournamentSize(int replacementTournamentSize) {
+        
+        if (replacementTournamentSize < 0) {
+            throw new IllegalArgumentException("Replacement tournament size must not be negative. Provided value was: "
+                    + replacementTournamentSize + ".");
+        }
+        
+        this.replacementTournamentSize = replacementTournamentSize;
+    }
+    
+    /**
+     * Sets the pool into which replaced chromosomes and rejected children are released. The same pool is usually set
+     * on the crossover operator, so that the released chromosomes are reused as children.
+     * 
+     * @param pool pool of chromosomes, or <code>null</code> to disable pooling.
+     */
+    public void setPool(ChromosomePool<C> pool) {
+        
+        this.pool = pool;
+    }
+    
+    /**
+     * Sets the publisher to which summaries of the population are published. Since the population is never replaced
+     * as a whole, a generation is completed after every <code>populationSize</code> evaluations, and the evaluations of
+     * the initial population complete generation 0. The summary is published after the step in which a generation is
+     * completed. Summaries are created only while the publisher has subscribers.
+     * 
+     * @param publisher publisher of generation summaries, or <code>null</code> to stop publishing.
+     */
+    public void setPublisher(GenerationPublisher<C> publisher) {
+        
+        this.publisher = publisher;
+    }
+    
+    /**
+     * Generates and evaluates the initial population. If the population was already initialized, it is discarded and
+     * generated again.
+     * 
+     * @throws IllegalArgumentException thrown if the generator does not generate the expected number of chromosomes.
+     */
+    public void initialize() {
+        
+        Collection<C> generated = generator.generatePopulation(populationSize);
+        
+        if (generated.size() != populationSize) {
+            throw new IllegalArgumentException("Generator created " + generated.size()
+                    + " chromosomes, but population size is " + populationSize + ".");
+        }
+        
+        List<C> chromosomes = new ArrayList<>(generated);
+        
+        evaluatePopulation(chromosomes);
+        numOfEvaluations += populationSize;
+        
+        population.clear();
+        worst.clear();
+        best.clear();
+        
+        for (C chromosome : chromosomes) {
+            double fitness = chromosome.getFitness();
+            int index = population.size();
+            
+            population.add(chromosome);
+            worst.set(index, fitness);
+            best.set(index, fitness);
+        }
+        
+        publishProgress();
+    }
+    
+    /**
+     * Evaluates all chromosomes of the initial population. By default, chromosomes are evaluated one after another,
+     * or in a single batch if the fitness test is an {@link IBatchFitnessTest}.
+     * 
+     * @param chromosomes chromosomes of the initial population.
+     */
+    @SuppressWarnings("unchecked")
+    protected void evaluatePopulation(List<C> chromosomes) {
+        
+        if (fitnessTest instanceof IBatchFitnessTest) {
+            ((IBatchFitnessTest<C>) fitnessTest).evaluateAll(chromosomes);
+            return;
+        }
+        
+        for (C chromosome : chromosomes) {
+            fitnessTest.evaluate(chromosome);
+        }
+    }
+    
+    /**
+     * Performs a single step of the algorithm. In each step, the configured number of children is created, evaluated
+     * and inserted into the population. The population is initialized first if needed.<br>
+     * <br>
+     * If the fitness test is an {@link IBatchFitnessTest}, all children of the step are created first and evaluated in
+     * a single batch, so parents are chosen only from the population as it was at the start of the step.
+     */
+    @SuppressWarnings("unchecked")
+    public void step() {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        if (fitnessTest instanceof IBatchFitnessTest) {
+            List<C> children = new ArrayList<>(replacementsPerStep);
+            
+            for (int i = 0; i < replacementsPerStep; i++) {
+                children.add(breed());
+            }
+            
+            ((IBatchFitnessTest<C>) fitnessTest).evaluateAll(children);
+            numOfEvaluations += children.size();
+            
+            for (C child : children) {
+                insert(child, child.getFitness());
+            }
+            
+            publishProgress();
+            return;
+        }
+        
+        for (int i = 0; i < replacementsPerStep; i++) {
+            C child = breed();
+            
+            IBoundedFitnessTest.evaluateBounded(fitnessTest, child, getAcceptanceThreshold());
+            numOfEvaluations++;
+            
+            insert(child, child.getFitness());
+        }
+        
+        publishProgress();
+    }
+    
+    /**
+     * Creates a new child which is not yet evaluated. Parents are chosen from the current population by tournaments,
+     * and the child created by the crossover is mutated.
+     * 
+     * @return A new child.
+     */
+    protected C breed() {
+        
+        int firstIndex = selectParent(-1);
+        int secondIndex = selectParent(firstIndex);
+        
+        parents.add(population.get(firstIndex));
+        parents.add(population.get(secondIndex));
+        
+        try {
+            return mutation.mutate(crossover.doCrossover(parents));
+        } finally {
+            parents.clear();
+        }
+    }
+    
+    /**
+     * Performs steps of the algorithm until the provided number of fitness evaluations is reached, or until the
+     * fitness of the best chromosome reaches the target fitness. Since whole steps are performed, the number of
+     * evaluations can exceed the maximum by less than the number of replacements per step.
+     * 
+     * @param maxEvaluations maximum number of fitness evaluations, including the evaluations performed so far.
+     * @param targetFitness fitness at which the algorithm stops.
+     * @return The best chromosome in the population.
+     */
+    public C run(long maxEvaluations, double targetFitness) {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        while (numOfEvaluations < maxEvaluations && getBestFitness() < targetFitness) {
+            step();
+        }
+        
+        return getBest();
+    }
+    
+    /**
+     * Inserts an evaluated chromosome which was created outside of this algorithm, such as a migrant from another
+     * island. The chromosome is inserted in the same way as an evaluated child, but it is not counted as an
+     * evaluation. The population is initialized first if needed.
+     * 
+     * @param chromosome evaluated chromosome which is owned only by this algorithm.
+     */
+    public void immigrate(C chromosome) {
+        
+        if (!isInitialized()) {
+            initialize();
+        }
+        
+        insert(chromosome, chromosome.getFitness());
+    }
+    
+    /**
+     * Inserts the evaluated child into the population, replacing the candidate for replacement if the child is at
+     * least as fit as the candidate. Otherwise, the child is rejected.
+     * 
+     * @param child evaluated child.
+     * @param fitness fitness of the child.
+     */
+    protected void insert(C child, double fitness) {
+        
+        int index = selectReplaced();
+        
+        if (fitness < worst.getFitness(index)) {
+            release(child);
+            return;
+        }
+        
+        release(population.set(index, child));
+        worst.set(index, fitness);
+        best.set(index, fitness);
+    }
+    
+    /**
+     * Publishes the summary of the population if a generation was completed since the last published summary, the
+     * publisher is set and it has subscribers.
+     */
+    protected void publishProgress() {
+        
+        if (publisher == null || !publisher.hasSubscribers()) {
+            return;
+        }
+        
+        long generation = numOfEvaluations / populationSize - 1L;
+        
+        if (generation != publishedGeneration) {
+            publishedGeneration = generation;
+            publisher.publish(generation, numOfEvaluations, population);
+        }
+    }
+    
+    /**
+     * Fetches the lowest fitness which a child must reach to be inserted into the population. This is the fitness of
+     * the worst chromosome, because the candidate for replacement is never worse than the worst chromosome. The
+     * fitness of the worst chromosome never decreases, so the threshold remains valid for children which are inserted
+     * later. It is passed to fitness tests which implement {@link IBoundedFitnessTest}.
+     * 
+     * @return Acceptance threshold, or <code>Double.NEGATIVE_INFINITY</code> if the population is not initialized.
+     */
+    protected double getAcceptanceThreshold() {
+        
+        return isInitialized() ? worst.peekFitness() : Double.NEGATIVE_INFINITY;
+    }
+    
+    /**
+     * Checks if the population was initialized.
+     * 
+     * @return <code>true</code> if the population was initialized, <code>false</code> otherwise.
+     */
+    public boolean isInitialized() {
+        
+        return !population.isEmpty();
+    }
+    
+    /**
+     * Selects a parent using a tournament over random chromosomes of the population.
+     * 
+     * @param excluded index which must not be selected, or -1.
+     * @return Index of the selected parent.
+     */
+    private int selectParent(int excluded) {
+        
+        int winner = randomIndex(excluded);
+        
+        for (int i = 1; i < tournamentSize; i++) {
+            int candidate = randomIndex(excluded);
+            
+            if (best.getFitness(candidate) > best.getFitness(winner)) {
+                winner = candidate;
+            }
+        }
+        
+        return winner;
+    }
+    
+    /**
+     * Selects the candidate for replacement, which is either the worst chromosome of the population or the loser of a
+     * replacement tournament.
+     * 
+     * @return Index of the candidate for replacement.
+     */
+    private int selectReplaced() {
+        
+        if (replacementTournamentSize == 0) {
+            return worst.peek();
+        }
+        
+        int loser = randomIndex(-1);
+        
+        for (int i = 1; i < replacementTournamentSize; i++) {
+            int candidate = randomIndex(-1);
+            
+            if (worst.getFitness(candidate) < worst.getFitness(loser)) {
+                loser = candidate;
+            }
+        }
+        
+        return loser;
+    }
+    
+    /**
+     * Generates a random index of the population which is different from the excluded index.
+     * 
+     * @param excluded index which must not be generated, or -1.
+     * @return Random index of the population.
+     */
+    private int randomIndex(int excluded) {
+        
+        if (excluded < 0) {
+            return rand.nextInt(populationSize);
+        }
+        
+        int index = rand.nextInt(populationSize - 1);
+        
+        return index < excluded ? index : index + 1;
+    }
+    
+    /**
+     * Releases the chromosome into the pool, if the pool is set.
+     * 
+     * @param chromosome chromosome which is no longer used.
+     */
+    protected void release(C chromosome) {
+        
+        if (pool != null) {
+            pool.release(chromosome);
+        }
+    }
+    
+    /**
+     * Fetches the best chromosome in the population.
+     * 
+     * @return The best chromosome in the population.
+     * @throws java.util.NoSuchElementException thrown if the population is not initialized.
+     */
+    public C getBest() {
+        
+        return population.get(best.peek());
+    }
+    
+    /**
+     * Fetches the fitness of the best chromosome in the population.
+     * 
+     * @return Fitness of the best chromosome.
+     * @throws java.util.NoSuchElementException thrown if the population is not initialized.
+     */
+    public double getBestFitness() {
+        
+        return best.peekFitness();
+    }
+    
+    /**
+     * Fetches the fitness of the worst chromosome in the population.
+     * 
+     * @return Fitness of the worst chromosome.
+     * @throws java.util.NoSuchElementException thrown if the population is not initialized.
+     */
+    public double getWorstFitness() {
+        
+        return worst.peekFitness();
+    }
+    
+    /**
+     * Fetches the number of fitness evaluations performed so far, including the evaluations of the initial
+     * population.
+     * 
+     * @return Number of fitness evaluations.
+     */
+    public long getNumOfEvaluations() {
+        
+        return numOfEvaluations;
+    }
+    
+    /**
+     * Fetches the current population. The returned list is a read-only view which reflects later replacements.
+     * 
+     * @return Unmodifiable view of the population.
+     */
+    public List<C> getPopulation() {
+        
+        return Collections.unmodifiableList(population);
+    }
+}
@@ -0,0 +1,347 @@
+package at.doml.genalg.codecs;
+
+import at.doml.genalg.utilities.BitUtilities;
+import java.io.Serializable;
+
+/**
+ * Describes how a single gene is stored in <code>DoubleArrayToSchemaBinaryCodec</code>. Each gene has its own width,
+ * which can range from 1 to 64 bits, and its own bounds. There are three kinds of genes:
+ * <ul>
+ * <li><b>real</b> genes are encoded in the same way as in <code>DoubleArrayToNaturalBinaryCodec</code> or
+ * <code>DoubleArrayToGrayBinaryCodec</code>, with all zeroes representing the lower bound and the encoded upper bound
+ * representing the upper bound,</li>
+ * <li><b>integer</b> genes store a whole number from a closed range, using the smallest number of bits which can hold
+ * the whole range. Bit patterns which are outside of the range are decoded as the maximum value,</li>
+ * <li><b>categorical</b> genes store an index of a category, using the smallest number of bits which can hold all
+ * indexes. Bit patterns which are outside of the range wrap around, so every bit pattern decodes to a valid
+ * category.</li>
+ * </ul>
+ * Instances are created using the static factory methods of this class.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see DoubleArrayToSchemaBinaryCodec
+ */
+public final class BinaryGene implements Serializable {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -4129356402657021879L;
+    /**
+     * Minimal number of bits per gene.
+     */
+    private static final int MIN_BITS_PER_GENE = 1;
+    /**
+     * Maximum number of bits per gene.
+     */
+    private static final int MAX_BITS_PER_GENE = 64;
+    
+    /**
+     * Kinds of genes.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    public enum Kind {
+        /**
+         * Real value from a closed range.
+         */
+        REAL,
+        /**
+         * Whole number from a closed range.
+         */
+        INTEGER,
+        /**
+         * Index of a category.
+         */
+        CATEGORICAL
+    }
+    
+    /**
+     * Kind of this gene.
+     */
+    private final Kind kind;
+    /**
+     * Number of bits used by this gene.
+     */
+    private final int bits;
+    /**
+     * Minimum value of this gene.
+     */
+    private final double lowerBound;
+    /**
+     * Maximum value of this gene.
+     */
+    private final double upperBound;
+    /**
+     * Indicates if real value is stored in gray code.
+     */
+    private final boolean gray;
+    /**
+     * Minimum difference between two real values, or 1 for integer and categorical genes.
+     */
+    private final double step;
+    /**
+     * Largest encoded value for integer and categorical genes, or all ones for real genes.
+     */
+    private final long maxEncodedValue;
+    /**
+     * Minimum value of integer genes, stored separately from the lower bound in order to avoid rounding of large
+     * values. Zero for other kinds of genes.
+     */
+    private final long minIntegerValue;
+    
+    /**
+     * Constructs a <code>BinaryGene</code> with provided parameters.
+     * 
+     * @param kind kind of the gene.
+     * @param bits number of bits used by the gene.
+     * @param lowerBound minimum value of the gene.
+     * @param upperBound maximum value of the gene.
+     * @param gray indicates if real value is stored in gray code.
+     * @param maxEncodedValue largest encoded value.
+     * @param minIntegerValue minimum value of integer gene.
+     */
+    private BinaryGene(Kind kind, int bits, double lowerBound, double upperBound, boolean gray, long maxEncodedValue,
+            long minIntegerValue) {
+        this.kind = kind;
+        this.bits = bits;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.gray = gray;
+        this.maxEncodedValue = maxEncodedValue;
+        this.minIntegerValue = minIntegerValue;
+        
+        step = kind == Kind.REAL ? (upperBound - lowerBound) / Math.pow(2.0, bits) : 1.0;
+    }
+    
+    /**
+     * Creates a real gene which is stored in natural binary code.
+     * 
+     * @param bits number of bits used by the gene. Valid range is [1, 64].
+     * @param lowerBound minimum value to encode. All values smaller than this will have bits set to all zeroes.
+     * @param upperBound maximum value to encode. All values greater than this will have bits set to all ones.
+     * @return Created gene.
+     * @throws IllegalArgumentException thrown if number of bits is out of range or if lower bound is not less than
+     *             upper bound.
+     */
+    public static BinaryGene real(int bits, double lowerBound, double upperBound) {
+        
+        return createReal(bits, lowerBound, upperBound, false);
+    }
+    
+    /**
+     * Creates a real gene which is stored in gray code.
+     * 
+     * @param bits number of bits used by the gene. Valid range is [1, 64].
+     * @param lowerBound minimum value to encode. All values smaller than this will have bits set to all zeroes.
+     * @param upperBound maximum value to encode. All values greater than this will have the bits of encoded upper
+     *            bound.
+     * @return Created gene.
+     * @throws IllegalArgumentException thrown if number of bits is out of range or if lower bound is not less than
+     *             upper bound.
+     */
+    public static BinaryGene grayReal(int bits, double lowerBound, double upperBound) {
+        
+        return createReal(bits, lowerBound, upperBound, true);
+    }
+    
+    /**
+     * Creates an integer gene which holds whole numbers from range [<code>min</code>, <code>max</code>].
+     * 
+     * @param min minimum value of the gene.
+     * @param max maximum value of the gene. Must be greater than <code>min</code>.
+     * @return Created gene.
+     * @throws IllegalArgumentException thrown if <code>max</code> is not greater than <code>min</code>, or if the
+     *             range cannot be represented with 64 bits.
+     */
+    public static BinaryGene integer(long min, long max) {
+        
+        if (min >= max) {
+            throw new IllegalArgumentException("Maximum value must be greater than minimum value. "
+                    + "Provided values were: min = " + min + ", max = " + max + ".");
+        }
+        
+        long range = max - min;
+        
+        if (range < 0L) {
+            throw new IllegalArgumentException(
+                    "Range [" + min + ", " + max + "] cannot be represented with " + MAX_BITS_PER_GENE + " bits.");
+        }
+        
+        return new BinaryGene(Kind.INTEGER, bitsFor(range), min, max, false, range, min);
+    }
+    
+    /**
+     * Creates a categorical gene which holds an index of one of the provided number of categories. Decoded values are
+     * in range [0, <code>numOfCategories</code> - 1].
+     * 
+     * @param numOfCategories number of categories. Must be at least 2.
+     * @return Created gene.
+     * @throws IllegalArgumentException thrown if there are less than 2 categories.
+     */
+    public static BinaryGene categorical(int numOfCategories) {
+        
+        if (numOfCategories < 2) {
+            throw new IllegalArgumentException(
+                    "There must be at least 2 categories. Provided value was: " + numOfCategories + ".");
+        }
+        
+        int lastCategory = numOfCategories - 1;
+        
+        return new BinaryGene(Kind.CATEGORICAL, bitsFor(lastCategory), 0.0, lastCategory, false, lastCategory, 0L);
+    }
+    
+    /**
+     * Creates a real gene with provided parameters.
+     * 
+     * @param bits number of bits used by the gene. Valid range is [1, 64].
+     * @param lowerBound minimum value to encode.
+     * @param upperBound maximum value to encode.
+     * @param gray indicates if the value is stored in gray code.
+     * @return Created gene.
+     * @throws IllegalArgumentException thrown if number of bits is out of range or if lower bound is not less than
+     *             upper bound.
+     */
+    private static BinaryGene createReal(int bits, double lowerBound, double upperBound, boolean gray) {
+        
+        if (bits < MIN_BITS_PER_GENE || bits > MAX_BITS_PER_GENE) {
+            throw new IllegalArgumentException("Valid range for number of bits is [" + MIN_BITS_PER_GENE + ", "
+                    + MAX_BITS_PER_GENE + "]. Provided value was " + bits + ".");
+        }
+        
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException(
+                    "Upper bound must be greater than lower bound. Provided values were: lowerBound = " + lowerBound
+                            + ", upperBound = " + upperBound + ".");
+        }
+        
+        return new BinaryGene(Kind.REAL, bits, lowerBound, upperBound, gray, BitUtilities.mask(bits), 0L);
+    }
+    
+    /**
+     * Calculates the smallest number of bits which can hold the provided unsigned value.
+     * 
+     * @param value unsigned value which must fit into the bits.
+     * @return Number of bits needed for the value, which is at least 1.
+     */
+    private static int bitsFor(long value) {
+        
+        return Math.max(MIN_BITS_PER_GENE, Long.SIZE - Long.numberOfLeadingZeros(value));
+    }
+    
+    /**
+     * Fetches the kind of this gene.
+     * 
+     * @return Kind of this gene.
+     */
+    public Kind getKind() {
+        
+        return kind;
+    }
+    
+    /**
+     * Fetches the number of bits used by this gene.
+     * 
+     * @return Number of bits used by this gene.
+     */
+    public int getBits() {
+        
+        return bits;
+    }
+    
+    /**
+     * Fetches the minimum value of this gene.
+     * 
+     * @return Minimum value of this gene.
+     */
+    public double getLowerBound() {
+        
+        return lowerBound;
+    }
+    
+    /**
+     * Fetches the maximum value of this gene.
+     * 
+     * @return Maximum value of this gene.
+     */
+    public double getUpperBound() {
+        
+        return upperBound;
+    }
+    
+    /**
+     * Checks if this gene is stored in gray code.
+     * 
+     * @return <code>true</code> if this is a real gene stored in gray code, <code>false</code> otherwise.
+     */
+    public boolean isGray() {
+        
+        return gray;
+    }
+    
+    /**
+     * Encodes the value into the bits of this gene.
+     * 
+     * @param value value to encode.
+     * @return Encoded value stored in the lowest {@link #getBits()} bits.
+     */
+    long encode(double value) {
+        
+        if (kind != Kind.REAL) {
+            double rounded = Math.rint(value);
+            
+            if (rounded <= lowerBound) {
+                return 0L;
+            } else if (rounded >= upperBound) {
+                return maxEncodedValue;
+            } else {
+                return Math.min((long) rounded - minIntegerValue, maxEncodedValue);
+            }
+        }
+        
+        long binaryValue;
+        
+        if (value <= lowerBound) {
+            binaryValue = 0L;
+        } else if (value >= upperBound) {
+            binaryValue = maxEncodedValue;
+        } else {
+            binaryValue = BitUtilities.doubleToUnsigned((value - lowerBound) / step);
+            
+            if (Long.compareUnsigned(binaryValue, maxEncodedValue) > 0) {
+                binaryValue = maxEncodedValue;
+            }
+        }
+        
+        return gray ? BitUtilities.binaryToGray(binaryValue) : binaryValue;
+    }
+    
+    /**
+     * Decodes the bits of this gene into a value.
+     * 
+     * @param value encoded value stored in the lowest {@link #getBits()} bits.
+     * @return Decoded value.
+     */
+    double decode(long value) {
+        
+        if (kind == Kind.INTEGER) {
+            return minIntegerValue + (Long.compareUnsigned(value, maxEncodedValue) > 0 ? maxEncodedValue : value);
+        } else if (kind == Kind.CATEGORICAL) {
+            return Long.remainderUnsigned(value, maxEncodedValue + 1L);
+        }
+        
+        long binaryValue = gray ? BitUtilities.grayToBinary(value) : value;
+        
+        if (binaryValue == 0L) {
+            return lowerBound;
+        } else if (binaryValue == maxEncodedValue) {
+            return upperBound;
+        } else {
+            return BitUtilities.unsignedToDouble(binaryValue) * step + lowerBound;
+        }
+    }
+}
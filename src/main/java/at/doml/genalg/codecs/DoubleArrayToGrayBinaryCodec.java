@@ -1,6 +1,7 @@
 package at.doml.genalg.codecs;
 
 import at.doml.genalg.codecs.abstracts.AbstractDoubleArrayToBinaryCodec;
+import at.doml.genalg.utilities.BitUtilities;
 
 /**
  * An implementation of <code>AbstractDoubleArrayToBinaryCodec</code> which encodes <code>double</code>s with gray
@@ -45,13 +46,7 @@ public class DoubleArrayToGrayBinaryCodec extends DoubleArrayToNaturalBinaryCode
     @Override
     protected long calculateEncodedUpperBound(double upperBound, int bitsPerValue) {
         
-        long encodedValue = 1L;
-        
-        for (int i = 0, bound = bitsPerValue - 1; i < bound; i++) {
-            encodedValue = encodedValue << 1L;
-        }
-        
-        return encodedValue;
+        return 1L << bitsPerValue - 1;
     }
     
     @Override
@@ -59,18 +54,12 @@ public class DoubleArrayToGrayBinaryCodec extends DoubleArrayToNaturalBinaryCode
         
         long binaryValue = super.encodeValue(value, lowerBound, upperBound, step, bitsPerValue);
         
-        return binaryValue ^ binaryValue >>> 1;
+        return BitUtilities.binaryToGray(binaryValue);
     }
     
     @Override
     protected double decodeValue(long value, double lowerBound, double upperBound, double step, int bitsPerValue) {
         
-        long binaryValue = value;
-        
-        for (long mask = binaryValue >>> 1L; mask != 0; mask = mask >>> 1L) {
-            binaryValue = binaryValue ^ mask;
-        }
-        
-        return super.decodeValue(binaryValue, lowerBound, upperBound, step, bitsPerValue);
+        return super.decodeValue(BitUtilities.grayToBinary(value), lowerBound, upperBound, step, bitsPerValue);
     }
 }
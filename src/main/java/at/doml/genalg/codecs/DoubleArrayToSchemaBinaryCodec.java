@@ -0,0 +1,322 @@
+package at.doml.genalg.codecs;
+
+import at.doml.genalg.codecs.interfaces.IBulkByteArrayCodec;
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.codecs.interfaces.IByteBufferCodec;
+import at.doml.genalg.codecs.interfaces.IRandomAccessByteArrayCodec;
+import at.doml.genalg.utilities.BitUtilities;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * An implementation of <code>IByteArrayCodec</code> which encodes an array of <code>double</code>s using a per-gene
+ * schema. Unlike <code>AbstractDoubleArrayToBinaryCodec</code>, where all values share the same number of bits and the
+ * same bounds, each gene is described by its own <code>BinaryGene</code>, which specifies its width (from 1 to 64
+ * bits), its bounds and its kind. Genes are packed one after another without padding, using the same bit layout as the
+ * other binary codecs in this package.<br>
+ * <br>
+ * Bit offsets of all genes are calculated upon construction, so any single gene can be read or written in constant
+ * time using {@link #decodeValue(byte[], int)} and {@link #encodeValue(byte[], int, double)}. Bulk methods only accept
+ * items which have exactly one value per gene.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see BinaryGene
+ * @see IByteArrayCodec
+ * @see IRandomAccessByteArrayCodec
+ * @see IBulkByteArrayCodec
+ * @see IByteBufferCodec
+ */
+public class DoubleArrayToSchemaBinaryCodec implements IRandomAccessByteArrayCodec, IByteBufferCodec {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 2968021947306112846L;
+    /**
+     * Genes which define the schema.
+     */
+    private final BinaryGene[] genes;
+    /**
+     * Offset of the first bit of each gene.
+     */
+    private final long[] bitOffsets;
+    /**
+     * Number of <code>byte</code>s needed to store all genes.
+     */
+    private final int numOfBytes;
+    
+    /**
+     * Constructs a <code>DoubleArrayToSchemaBinaryCodec</code> object with provided genes. Encoded arrays will have one
+     * value per provided gene.
+     * 
+     * @param genes genes which define the schema. At least one gene must be provided.
+     * @throws IllegalArgumentException thrown if no genes are provided or if encoded genes do not fit into an array.
+     */
+    public DoubleArrayToSchemaBinaryCodec(BinaryGene... genes) {
+        if (genes.length == 0) {
+            throw new IllegalArgumentException("At least one gene must be provided.");
+        }
+        
+        this.genes = Arrays.copyOf(genes, genes.length);
+        
+        bitOffsets = new long[genes.length];
+        
+        long totalBits = 0L;
+        for (int i = 0; i < genes.length; i++) {
+            bitOffsets[i] = totalBits;
+            totalBits += genes[i].getBits();
+        }
+        
+        long totalBytes = (totalBits + 7L) / 8L;
+        
+        if (totalBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Encoded genes need " + totalBytes + " bytes, which is more than the "
+                    + "maximum array size.");
+        }
+        
+        numOfBytes = (int) totalBytes;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public byte[] encode(double[] item) {
+        
+        if (item.length != genes.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + genes.length + " values. Provided array has " + item.length + " values.");
+        }
+        
+        byte[] output = new byte[numOfBytes];
+        
+        for (int i = 0; i < genes.length; i++) {
+            BitUtilities.writeBits(output, bitOffsets[i], genes[i].getBits(), genes[i].encode(item[i]));
+        }
+        
+        return output;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the array is too short to hold all genes.
+     */
+    @Override
+    public double[] decode(byte[] bytes) {
+        
+        checkLength(bytes);
+        
+        double[] output = new double[genes.length];
+        
+        for (int i = 0; i < genes.length; i++) {
+            output[i] = genes[i].decode(BitUtilities.readBits(bytes, bitOffsets[i], genes[i].getBits()));
+        }
+        
+        return output;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public int getEncodedLength(int numOfValues) {
+        
+        if (numOfValues != genes.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + genes.length + " values. Provided number of values was " + numOfValues + ".");
+        }
+        
+        return numOfBytes;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public void encode(double[] values, int valuesOffset, int numOfValues, byte[] output, int outputOffset) {
+        
+        getEncodedLength(numOfValues);
+        
+        long bitOffset = (long) outputOffset * 8L;
+        
+        for (int i = 0; i < genes.length; i++) {
+            BinaryGene gene = genes[i];
+            
+            BitUtilities.writeBits(output, bitOffset + bitOffsets[i], gene.getBits(),
+                    gene.encode(values[valuesOffset + i]));
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public void decode(byte[] bytes, int bytesOffset, int numOfValues, double[] output, int outputOffset) {
+        
+        getEncodedLength(numOfValues);
+        
+        long bitOffset = (long) bytesOffset * 8L;
+        
+        for (int i = 0; i < genes.length; i++) {
+            BinaryGene gene = genes[i];
+            long bits = BitUtilities.readBits(bytes, bitOffset + bitOffsets[i], gene.getBits());
+            
+            output[outputOffset + i] = gene.decode(bits);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public void encode(double[] values, int valuesOffset, int numOfValues, ByteBuffer output, int outputIndex) {
+        
+        getEncodedLength(numOfValues);
+        
+        long bitOffset = (long) outputIndex * 8L;
+        
+        for (int i = 0; i < genes.length; i++) {
+            BinaryGene gene = genes[i];
+            
+            BitUtilities.writeBits(output, bitOffset + bitOffsets[i], gene.getBits(),
+                    gene.encode(values[valuesOffset + i]));
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the number of values differs from the number of genes.
+     */
+    @Override
+    public void decode(ByteBuffer input, int inputIndex, int numOfValues, double[] output, int outputOffset) {
+        
+        getEncodedLength(numOfValues);
+        
+        long bitOffset = (long) inputIndex * 8L;
+        
+        for (int i = 0; i < genes.length; i++) {
+            BinaryGene gene = genes[i];
+            long bits = BitUtilities.readBits(input, bitOffset + bitOffsets[i], gene.getBits());
+            
+            output[outputOffset + i] = gene.decode(bits);
+        }
+    }
+    
+    /**
+     * Decodes a single gene from the provided array. Other genes are not read.
+     * 
+     * @param bytes array which contains encoded genes.
+     * @param index index of the gene to decode.
+     * @return Decoded value of the gene.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     * @throws IllegalArgumentException thrown if the array is too short to hold all genes.
+     */
+    @Override
+    public double decodeValue(byte[] bytes, int index) {
+        
+        checkLength(bytes);
+        
+        return genes[index].decode(BitUtilities.readBits(bytes, bitOffsets[index], genes[index].getBits()));
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the array is too short to hold all genes.
+     */
+    @Override
+    public int getNumOfValues(byte[] bytes) {
+        
+        checkLength(bytes);
+        
+        return genes.length;
+    }
+    
+    /**
+     * Encodes a single gene into the provided array. Other genes are left unchanged.
+     * 
+     * @param bytes array which contains encoded genes.
+     * @param index index of the gene to encode.
+     * @param value value to encode.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     * @throws IllegalArgumentException thrown if the array is too short to hold all genes.
+     */
+    public void encodeValue(byte[] bytes, int index, double value) {
+        
+        checkLength(bytes);
+        
+        BitUtilities.writeBits(bytes, bitOffsets[index], genes[index].getBits(), genes[index].encode(value));
+    }
+    
+    /**
+     * Fetches the number of genes in the schema.
+     * 
+     * @return Number of genes.
+     */
+    public int getNumOfGenes() {
+        
+        return genes.length;
+    }
+    
+    /**
+     * Fetches the gene with specified index.
+     * 
+     * @param index index of the gene.
+     * @return Gene with specified index.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     */
+    public BinaryGene getGene(int index) {
+        
+        return genes[index];
+    }
+    
+    /**
+     * Fetches the offset of the first bit of the gene with specified index.
+     * 
+     * @param index index of the gene.
+     * @return Offset of the first bit of the gene.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     */
+    public long getBitOffset(int index) {
+        
+        return bitOffsets[index];
+    }
+    
+    /**
+     * Fetches the number of <code>byte</code>s in each encoded array.
+     * 
+     * @return Number of <code>byte</code>s needed to store all genes.
+     */
+    public int getNumOfBytes() {
+        
+        return numOfBytes;
+    }
+    
+    /**
+     * Checks if the provided array is long enough to hold all genes.
+     * 
+     * @param bytes array to check.
+     * @throws IllegalArgumentException thrown if the array is too short.
+     */
+    private void checkLength(byte[] bytes) {
+        
+        if (bytes.length < numOfBytes) {
+            throw new IllegalArgumentException(
+                    "Expected at least " + numOfBytes + " bytes. Provided array has " + bytes.length + " bytes.");
+        }
+    }
+}
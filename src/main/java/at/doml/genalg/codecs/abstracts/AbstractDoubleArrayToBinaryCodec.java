@@ -1,19 +1,29 @@
 package at.doml.genalg.codecs.abstracts;
 
+import at.doml.genalg.codecs.interfaces.IBulkByteArrayCodec;
 import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.codecs.interfaces.IByteBufferCodec;
+import at.doml.genalg.codecs.interfaces.IRandomAccessByteArrayCodec;
+import at.doml.genalg.utilities.BitUtilities;
+import java.nio.ByteBuffer;
 
 /**
  * An abstract implementation of <code>IByteArrayCodec</code> which encodes/decodes an array of <code>double</code>s.
  * Each <code>double</code> value can be represented by a minimum of 8 and a maximum of 32 bits. This class has
  * implemented methods for storing and reading bits in and from an array of <code>byte</code>s. Only methods for
- * encoding/decoding <code>double</code>s into bits need to be implemented.
+ * encoding/decoding <code>double</code>s into bits need to be implemented. Since all values have the same number of
+ * bits, any single value can be decoded using {@link #decodeValue(byte[], int)}, and many values can be encoded and
+ * decoded directly into preallocated arrays or buffers.
  * 
  * @author Domagoj Latečki
  * @version 1.0
  * @since 1.8
  * @see IByteArrayCodec
+ * @see IRandomAccessByteArrayCodec
+ * @see IBulkByteArrayCodec
+ * @see IByteBufferCodec
  */
-public abstract class AbstractDoubleArrayToBinaryCodec implements IByteArrayCodec<double[]> {
+public abstract class AbstractDoubleArrayToBinaryCodec implements IRandomAccessByteArrayCodec, IByteBufferCodec {
     
     /**
      * Serial version UID.
@@ -179,6 +189,73 @@ public abstract class AbstractDoubleArrayToBinaryCodec implements IByteArrayCode
         return output;
     }
     
+    @Override
+    public double decodeValue(byte[] bytes, int index) {
+        
+        if (index < 0 || index >= getNumOfValues(bytes)) {
+            throw new IndexOutOfBoundsException(
+                    "Index " + index + " is out of range for " + getNumOfValues(bytes) + " encoded values.");
+        }
+        
+        return decodeValue(BitUtilities.readBits(bytes, (long) index * bitsPerValue, bitsPerValue));
+    }
+    
+    @Override
+    public int getNumOfValues(byte[] bytes) {
+        
+        return (int) ((long) bytes.length * 8L / bitsPerValue);
+    }
+    
+    @Override
+    public int getEncodedLength(int numOfValues) {
+        
+        return (int) (((long) numOfValues * bitsPerValue + 7L) / 8L);
+    }
+    
+    @Override
+    public void encode(double[] values, int valuesOffset, int numOfValues, byte[] output, int outputOffset) {
+        
+        long bitOffset = (long) outputOffset * 8L;
+        
+        for (int i = 0; i < numOfValues; i++) {
+            BitUtilities.writeBits(output, bitOffset, bitsPerValue, encodeValue(values[valuesOffset + i]));
+            bitOffset += bitsPerValue;
+        }
+    }
+    
+    @Override
+    public void decode(byte[] bytes, int bytesOffset, int numOfValues, double[] output, int outputOffset) {
+        
+        long bitOffset = (long) bytesOffset * 8L;
+        
+        for (int i = 0; i < numOfValues; i++) {
+            output[outputOffset + i] = decodeValue(BitUtilities.readBits(bytes, bitOffset, bitsPerValue));
+            bitOffset += bitsPerValue;
+        }
+    }
+    
+    @Override
+    public void encode(double[] values, int valuesOffset, int numOfValues, ByteBuffer output, int outputIndex) {
+        
+        long bitOffset = (long) outputIndex * 8L;
+        
+        for (int i = 0; i < numOfValues; i++) {
+            BitUtilities.writeBits(output, bitOffset, bitsPerValue, encodeValue(values[valuesOffset + i]));
+            bitOffset += bitsPerValue;
+        }
+    }
+    
+    @Override
+    public void decode(ByteBuffer input, int inputIndex, int numOfValues, double[] output, int outputOffset) {
+        
+        long bitOffset = (long) inputIndex * 8L;
+        
+        for (int i = 0; i < numOfValues; i++) {
+            output[outputOffset + i] = decodeValue(BitUtilities.readBits(input, bitOffset, bitsPerValue));
+            bitOffset += bitsPerValue;
+        }
+    }
+    
     /**
      * Encodes the given <code>double</code> value into the bits which are stored in a <code>long</code> variable.
      * 
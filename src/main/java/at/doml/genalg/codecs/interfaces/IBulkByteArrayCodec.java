@@ -0,0 +1,114 @@
+package at.doml.genalg.codecs.interfaces;
+
+/**
+ * Interface which specifies a codec that encodes arrays of <code>double</code>s into arrays of <code>byte</code>s
+ * directly into preallocated arrays. Besides encoding and decoding of a single item at specified offsets, it provides
+ * methods for encoding and decoding of many items at once, where all items are stored one after another in a single
+ * flat array of <code>double</code>s, and their encoded forms are stored in a single flat array of <code>byte</code>s
+ * with a fixed stride. None of these methods allocate new arrays.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IByteArrayCodec
+ */
+public interface IBulkByteArrayCodec extends IByteArrayCodec<double[]> {
+    
+    /**
+     * Calculates the number of <code>byte</code>s needed to store the provided number of encoded values.
+     * 
+     * @param numOfValues number of values to encode.
+     * @return Number of <code>byte</code>s needed to store the encoded values.
+     * @throws IllegalArgumentException thrown if the codec cannot encode the provided number of values.
+     */
+    public int getEncodedLength(int numOfValues);
+    
+    /**
+     * Encodes the values from the provided array into the output array. Only bits of the encoded values are written,
+     * other bits in the output array are left unchanged.
+     * 
+     * @param values array which contains values to encode.
+     * @param valuesOffset index of the first value to encode.
+     * @param numOfValues number of values to encode.
+     * @param output array in which the encoded values will be written.
+     * @param outputOffset index of the first <code>byte</code> in the output array to write.
+     * @throws IllegalArgumentException thrown if the codec cannot encode the provided number of values.
+     * @throws IndexOutOfBoundsException thrown if either of the ranges exceeds the bounds of its array.
+     */
+    public void encode(double[] values, int valuesOffset, int numOfValues, byte[] output, int outputOffset);
+    
+    /**
+     * Decodes the values from the provided array into the output array.
+     * 
+     * @param bytes array which contains encoded values.
+     * @param bytesOffset index of the first <code>byte</code> to decode.
+     * @param numOfValues number of values to decode.
+     * @param output array in which the decoded values will be written.
+     * @param outputOffset index of the first value in the output array to write.
+     * @throws IllegalArgumentException thrown if the codec cannot decode the provided number of values.
+     * @throws IndexOutOfBoundsException thrown if either of the ranges exceeds the bounds of its array.
+     */
+    public void decode(byte[] bytes, int bytesOffset, int numOfValues, double[] output, int outputOffset);
+    
+    /**
+     * Encodes many items at once. Items are read one after another from the <code>values</code> array, and the
+     * encoded item with index <code>i</code> is written at offset <code>i * stride</code> of the output array.
+     * 
+     * @param values array which contains all items, one after another.
+     * @param numOfItems number of items to encode.
+     * @param valuesPerItem number of values in each item.
+     * @param output array in which the encoded items will be written.
+     * @param stride distance between the first <code>byte</code>s of two consecutive encoded items. Must be at least
+     *            {@link #getEncodedLength(int)} for <code>valuesPerItem</code>.
+     * @throws IllegalArgumentException thrown if the stride is too small.
+     * @throws IndexOutOfBoundsException thrown if the items exceed the bounds of either array.
+     */
+    public default void encodeAll(double[] values, int numOfItems, int valuesPerItem, byte[] output, int stride) {
+        
+        checkStride(stride, valuesPerItem);
+        
+        for (int i = 0; i < numOfItems; i++) {
+            encode(values, i * valuesPerItem, valuesPerItem, output, i * stride);
+        }
+    }
+    
+    /**
+     * Decodes many items at once. The encoded item with index <code>i</code> is read at offset
+     * <code>i * stride</code> of the <code>bytes</code> array, and the decoded items are written one after another into
+     * the output array.
+     * 
+     * @param bytes array which contains all encoded items.
+     * @param numOfItems number of items to decode.
+     * @param valuesPerItem number of values in each item.
+     * @param stride distance between the first <code>byte</code>s of two consecutive encoded items. Must be at least
+     *            {@link #getEncodedLength(int)} for <code>valuesPerItem</code>.
+     * @param output array in which the decoded items will be written.
+     * @throws IllegalArgumentException thrown if the stride is too small.
+     * @throws IndexOutOfBoundsException thrown if the items exceed the bounds of either array.
+     */
+    public default void decodeAll(byte[] bytes, int numOfItems, int valuesPerItem, int stride, double[] output) {
+        
+        checkStride(stride, valuesPerItem);
+        
+        for (int i = 0; i < numOfItems; i++) {
+            decode(bytes, i * stride, valuesPerItem, output, i * valuesPerItem);
+        }
+    }
+    
+    /**
+     * Checks if the stride is large enough to hold encoded items with provided number of values.
+     * 
+     * @param stride stride to check.
+     * @param valuesPerItem number of values in each item.
+     * @throws IllegalArgumentException thrown if the stride is too small.
+     */
+    public default void checkStride(int stride, int valuesPerItem) {
+        
+        int encodedLength = getEncodedLength(valuesPerItem);
+        
+        if (stride < encodedLength) {
+            throw new IllegalArgumentException("Stride must be at least " + encodedLength + " bytes for items with "
+                    + valuesPerItem + " values. Provided value was " + stride + ".");
+        }
+    }
+}
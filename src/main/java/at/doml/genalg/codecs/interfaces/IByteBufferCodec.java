@@ -0,0 +1,85 @@
+package at.doml.genalg.codecs.interfaces;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Interface which specifies a codec that encodes arrays of <code>double</code>s directly into a
+ * <code>ByteBuffer</code> and decodes them from it. The buffer is supplied by the caller, so it can be a direct buffer
+ * or a memory-mapped file, and no intermediate array of <code>byte</code>s is allocated. Encoded values are stored
+ * with the same layout as in the arrays produced by {@link #encode(Object)}.<br>
+ * <br>
+ * Methods which accept an index use absolute access, and they do not change the position of the buffer. The remaining
+ * methods start at the current position of the buffer and advance it past the encoded item.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IBulkByteArrayCodec
+ */
+public interface IByteBufferCodec extends IBulkByteArrayCodec {
+    
+    /**
+     * Encodes the values from the provided array into the buffer, starting at the specified index of the buffer. Only
+     * bits of the encoded values are written, other bits in the buffer are left unchanged. The position of the buffer
+     * is not changed.
+     * 
+     * @param values array which contains values to encode.
+     * @param valuesOffset index of the first value to encode.
+     * @param numOfValues number of values to encode.
+     * @param output buffer in which the encoded values will be written.
+     * @param outputIndex index of the first <code>byte</code> in the buffer to write.
+     * @throws IllegalArgumentException thrown if the codec cannot encode the provided number of values.
+     * @throws IndexOutOfBoundsException thrown if the values exceed the bounds of the array or the limit of the buffer.
+     */
+    public void encode(double[] values, int valuesOffset, int numOfValues, ByteBuffer output, int outputIndex);
+    
+    /**
+     * Decodes the values from the buffer into the output array, starting at the specified index of the buffer. The
+     * position of the buffer is not changed.
+     * 
+     * @param input buffer which contains encoded values.
+     * @param inputIndex index of the first <code>byte</code> in the buffer to decode.
+     * @param numOfValues number of values to decode.
+     * @param output array in which the decoded values will be written.
+     * @param outputOffset index of the first value in the output array to write.
+     * @throws IllegalArgumentException thrown if the codec cannot decode the provided number of values.
+     * @throws IndexOutOfBoundsException thrown if the values exceed the bounds of the array or the limit of the buffer.
+     */
+    public void decode(ByteBuffer input, int inputIndex, int numOfValues, double[] output, int outputOffset);
+    
+    /**
+     * Encodes the item into the buffer, starting at the current position of the buffer. The position is advanced by
+     * the encoded length of the item.
+     * 
+     * @param item item to encode.
+     * @param output buffer in which the encoded item will be written.
+     * @throws IllegalArgumentException thrown if the codec cannot encode the item.
+     * @throws IndexOutOfBoundsException thrown if the encoded item exceeds the limit of the buffer.
+     */
+    public default void encode(double[] item, ByteBuffer output) {
+        
+        int position = output.position();
+        
+        encode(item, 0, item.length, output, position);
+        // Cast keeps the compiled code compatible with Java 8, where position(int) is only declared in Buffer.
+        ((Buffer) output).position(position + getEncodedLength(item.length));
+    }
+    
+    /**
+     * Decodes an item from the buffer into the output array, starting at the current position of the buffer. The
+     * whole output array is filled, and the position is advanced by the encoded length of the item.
+     * 
+     * @param input buffer which contains the encoded item.
+     * @param output array in which the decoded item will be written.
+     * @throws IllegalArgumentException thrown if the codec cannot decode the item.
+     * @throws IndexOutOfBoundsException thrown if the encoded item exceeds the limit of the buffer.
+     */
+    public default void decode(ByteBuffer input, double[] output) {
+        
+        int position = input.position();
+        
+        decode(input, position, output.length, output, 0);
+        ((Buffer) input).position(position + getEncodedLength(output.length));
+    }
+}
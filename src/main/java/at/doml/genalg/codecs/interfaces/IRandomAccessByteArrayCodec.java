@@ -0,0 +1,33 @@
+package at.doml.genalg.codecs.interfaces;
+
+/**
+ * Interface which specifies a codec that encodes an array of <code>double</code>s into an array of <code>byte</code>s
+ * and is able to decode any single value without decoding the whole array.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IByteArrayCodec
+ */
+public interface IRandomAccessByteArrayCodec extends IByteArrayCodec<double[]> {
+    
+    /**
+     * Decodes a single value from the array of <code>byte</code>s. The result is equal to the element with the same
+     * index in the array returned by {@link #decode(byte[])}.
+     * 
+     * @param bytes array which contains encoded values.
+     * @param index index of the value to decode.
+     * @return Decoded value.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     */
+    public double decodeValue(byte[] bytes, int index);
+    
+    /**
+     * Fetches the number of values which are encoded in the array of <code>byte</code>s. The result is equal to the
+     * length of the array returned by {@link #decode(byte[])}.
+     * 
+     * @param bytes array which contains encoded values.
+     * @return Number of encoded values.
+     */
+    public int getNumOfValues(byte[] bytes);
+}
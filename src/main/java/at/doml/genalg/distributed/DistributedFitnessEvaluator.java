@@ -0,0 +1,614 @@
+package at.doml.genalg.distributed;
+
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fitness test which acts as a coordinator of {@link FitnessWorker}s running in other processes. Workers connect to
+ * the port on which this evaluator listens, and they can connect or disconnect at any time. Chromosomes are encoded
+ * with the provided codec and sent to the workers as tasks, while the threads which requested the evaluation wait for
+ * the fitness values.<br>
+ * <br>
+ * Tasks are sent in batches of the configured size, and each worker can have several batches in flight, so it can
+ * start the next batch as soon as it finishes the current one. If a worker disconnects, or if nothing is received from
+ * it for longer than the heartbeat timeout, its connection is closed and all of its unfinished tasks are dispatched to
+ * other workers. If the fitness function of a worker fails, the evaluation of the whole batch fails with a
+ * {@link GeneticAlgorithmException}. Remaining tasks of a failed batch are withdrawn, and results which arrive for them
+ * later are ignored, so the chromosomes are not modified after the evaluation returns.<br>
+ * <br>
+ * Any number of threads can evaluate chromosomes through the same evaluator at the same time.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated.
+ * @see FitnessWorker
+ * @see IBatchFitnessTest
+ */
+public class DistributedFitnessEvaluator<C extends IChromosome> implements IBatchFitnessTest<C>, Closeable {
+    
+    /**
+     * Socket which accepts the connections of workers.
+     */
+    private final ServerSocket serverSocket;
+    /**
+     * Codec used to encode chromosomes.
+     */
+    private final IByteArrayCodec<C> codec;
+    /**
+     * Maximum number of tasks in a single batch.
+     */
+    private final int batchSize;
+    /**
+     * Maximum number of unfinished tasks of a single worker.
+     */
+    private final int maxInFlightPerWorker;
+    /**
+     * Time in nanoseconds after which a silent worker is considered lost.
+     */
+    private final long heartbeatTimeoutNanos;
+    /**
+     * Tasks which are not assigned to any worker. Guarded by this object.
+     */
+    private final Deque<Task> pending = new ArrayDeque<>();
+    /**
+     * Currently connected workers. Guarded by this object.
+     */
+    private final List<Worker> workers = new ArrayList<>();
+    /**
+     * Identifier of the next task. Guarded by this object.
+     */
+    private long nextId;
+    /**
+     * Number of tasks which were dispatched again after their worker was lost. Guarded by this object.
+     */
+    private long numOfRedispatched;
+    /**
+     * Flag which signals that this evaluator is closed.
+     */
+    private volatile boolean closed;
+    
+    /**
+     * Constructs a <code>DistributedFitnessEvaluator</code> which listens for workers on the provided address and
+     * port, and starts accepting connections.
+     * 
+     * @param bindAddress address on which to listen, or <code>null</code> to listen on all local addresses.
+     * @param port port on which to listen, or 0 to use any free port.
+     * @param codec codec used to encode chromosomes. Must produce payloads which the codec of the workers can decode.
+     * @param batchSize maximum number of tasks in a single batch. Must be at least 1.
+     * @param maxInFlightPerWorker maximum number of unfinished tasks of a single worker. Must be at least 1. Values
+     *            larger than the batch size allow a worker to receive the next batch while it evaluates the current
+     *            one.
+     * @param heartbeatTimeoutMillis time in milliseconds after which a worker from which nothing was received is
+     *            considered lost. Must be at least 1.
+     * @throws IOException thrown if the socket cannot be bound.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public DistributedFitnessEvaluator(InetAddress bindAddress, int port, IByteArrayCodec<C> codec, int batchSize,
+            int maxInFlightPerWorker, long heartbeatTimeoutMillis) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1. Provided value was: " + batchSize + ".");
+        }
+        
+        if (maxInFlightPerWorker < 1) {
+            throw new IllegalArgumentException("Maximum number of tasks in flight must be at least 1. Provided value "
+                    + "was: " + maxInFlightPerWorker + ".");
+        }
+        
+        if (heartbeatTimeoutMillis < 1L) {
+            throw new IllegalArgumentException(
+                    "Heartbeat timeout must be at least 1. Provided value was: " + heartbeatTimeoutMillis + ".");
+        }
+        
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.maxInFlightPerWorker = maxInFlightPerWorker;
+        this.heartbeatTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatTimeoutMillis);
+        this.serverSocket = new ServerSocket(port, 0, bindAddress);
+        
+        startDaemon(this::acceptWorkers, "fitness-coordinator-" + getPort());
+        startDaemon(this::watchWorkers, "fitness-coordinator-watchdog-" + getPort());
+    }
+    
+    /**
+     * Starts a daemon thread which runs the provided action.
+     * 
+     * @param action action to run.
+     * @param name name of the thread.
+     */
+    private static void startDaemon(Runnable action, String name) {
+        
+        Thread thread = new Thread(action, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * {@inheritDoc} Chromosomes are evaluated by the connected workers. If no worker is connected, this method waits
+     * until one connects.
+     * 
+     * @throws GeneticAlgorithmException thrown if the evaluation of any chromosome fails, if this evaluator is closed,
+     *             or if the current thread is interrupted while waiting.
+     */
+    @Override
+    public void evaluateAll(List<? extends C> chromosomes) {
+        
+        if (chromosomes.isEmpty()) {
+            return;
+        }
+        
+        Batch batch = new Batch(chromosomes.size());
+        
+        synchronized (this) {
+            if (closed) {
+                throw new GeneticAlgorithmException("Evaluator is closed.");
+            }
+            
+            for (C chromosome : chromosomes) {
+                pending.add(new Task(nextId++, chromosome, codec.encode(chromosome), batch));
+            }
+        }
+        
+        dispatch();
+        
+        try {
+            batch.remaining.await();
+        } catch (InterruptedException exception) {
+            fail(batch, "Interrupted while waiting for fitness values.");
+            Thread.currentThread().interrupt();
+            throw new GeneticAlgorithmException("Interrupted while waiting for fitness values.", exception);
+        }
+        
+        if (batch.failure != null) {
+            throw new GeneticAlgorithmException(batch.failure);
+        }
+    }
+    
+    /**
+     * Assigns pending tasks to workers which have room for them, and sends them.
+     */
+    private void dispatch() {
+        
+        List<Entry<Worker, List<Task>>> assignments = new ArrayList<>();
+        
+        synchronized (this) {
+            for (Worker worker : workers) {
+                while (!pending.isEmpty() && worker.assigned.size() < maxInFlightPerWorker) {
+                    List<Task> tasks = new ArrayList<>(batchSize);
+                    
+                    while (tasks.size() < batchSize && !pending.isEmpty()
+                            && worker.assigned.size() < maxInFlightPerWorker) {
+                        Task task = pending.poll();
+                        
+                        worker.assigned.put(task.id, task);
+                        tasks.add(task);
+                    }
+                    
+                    assignments.add(new SimpleEntry<>(worker, tasks));
+                }
+            }
+        }
+        
+        // Tasks are written outside of the lock, so a slow connection does not block the other workers.
+        for (Entry<Worker, List<Task>> assignment : assignments) {
+            try {
+                assignment.getKey().send(assignment.getValue());
+            } catch (IOException exception) {
+                lose(assignment.getKey());
+            }
+        }
+    }
+    
+    /**
+     * Accepts connections of workers until this evaluator is closed.
+     */
+    private void acceptWorkers() {
+        
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                
+                Worker worker = new Worker(socket);
+                
+                synchronized (this) {
+                    if (closed) {
+                        socket.close();
+                        return;
+                    }
+                    
+                    workers.add(worker);
+                }
+                
+                startDaemon(() -> readResults(worker), "fitness-coordinator-" + socket.getRemoteSocketAddress());
+                dispatch();
+            } catch (IOException ignorable) {
+                // Thrown when the server socket is closed, or when a single connection could not be accepted.
+            }
+        }
+    }
+    
+    /**
+     * Reads frames sent by the worker until its connection is closed.
+     * 
+     * @param worker worker whose frames are read.
+     */
+    private void readResults(Worker worker) {
+        
+        try {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(worker.socket.getInputStream()));
+            
+            while (!closed) {
+                byte type = input.readByte();
+                worker.lastSeen = System.nanoTime();
+                
+                switch (type) {
+                    case WorkerProtocol.RESULTS:
+                        int numOfResults = input.readInt();
+                        
+                        for (int i = 0; i < numOfResults; i++) {
+                            complete(worker, input.readLong(), input.readDouble(), null);
+                        }
+                        
+                        dispatch();
+                        break;
+                    case WorkerProtocol.FAILURE:
+                        complete(worker, input.readLong(), Double.NaN, input.readUTF());
+                        break;
+                    case WorkerProtocol.HEARTBEAT:
+                        break;
+                    default:
+                        throw new IOException("Unexpected frame type: " + type + ".");
+                }
+            }
+        } catch (IOException ignorable) {
+            // The connection is broken, closed or malformed, so the worker is considered lost.
+        } finally {
+            lose(worker);
+        }
+    }
+    
+    /**
+     * Completes the task with provided identifier, if it is still assigned to the worker. The fitness is set while
+     * holding the lock, so it is never set after the batch of the task failed.
+     * 
+     * @param worker worker which evaluated the task.
+     * @param id identifier of the task.
+     * @param fitness fitness of the chromosome.
+     * @param failure message which describes the failure, or <code>null</code> if the evaluation succeeded.
+     */
+    private synchronized void complete(Worker worker, long id, double fitness, String failure) {
+        
+        Task task = worker.assigned.remove(id);
+        
+        if (task == null || task.batch.failure != null) {
+            return;
+        }
+        
+        if (failure != null) {
+            fail(task.batch, "Evaluation failed on worker " + worker.socket.getRemoteSocketAddress() + ": " + failure);
+        } else {
+            task.chromosome.setFitness(fitness);
+            task.batch.remaining.countDown();
+        }
+    }
+    
+    /**
+     * Fails the batch and withdraws its remaining tasks, so they are neither dispatched nor completed later.
+     * 
+     * @param batch batch which failed.
+     * @param message message which describes the failure.
+     */
+    private synchronized void fail(Batch batch, String message) {
+        
+        batch.fail(message);
+        pending.removeIf(task -> task.batch == batch);
+        
+        for (Worker worker : workers) {
+            worker.assigned.values().removeIf(task -> task.batch == batch);
+        }
+    }
+    
+    /**
+     * Closes the connection of the worker and dispatches its unfinished tasks to other workers.
+     * 
+     * @param worker worker which is lost.
+     */
+    private void lose(Worker worker) {
+        
+        synchronized (this) {
+            if (!workers.remove(worker)) {
+                return;
+            }
+            
+            for (Task task : worker.assigned.values()) {
+                pending.addFirst(task);
+                numOfRedispatched++;
+            }
+            
+            worker.assigned.clear();
+        }
+        
+        worker.close();
+        dispatch();
+    }
+    
+    /**
+     * Periodically closes connections of workers from which nothing was received for longer than the heartbeat
+     * timeout, until this evaluator is closed.
+     */
+    private void watchWorkers() {
+        
+        long interval = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(heartbeatTimeoutNanos) / 4L);
+        
+        while (!closed) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException exception) {
+                return;
+            }
+            
+            long now = System.nanoTime();
+            List<Worker> lost = new ArrayList<>();
+            
+            synchronized (this) {
+                for (Worker worker : workers) {
+                    if (now - worker.lastSeen > heartbeatTimeoutNanos) {
+                        lost.add(worker);
+                    }
+                }
+            }
+            
+            for (Worker worker : lost) {
+                lose(worker);
+            }
+        }
+    }
+    
+    /**
+     * Fetches the port on which this evaluator listens for workers.
+     * 
+     * @return Local port of this evaluator.
+     */
+    public int getPort() {
+        
+        return serverSocket.getLocalPort();
+    }
+    
+    /**
+     * Fetches the number of currently connected workers.
+     * 
+     * @return Number of connected workers.
+     */
+    public synchronized int getNumOfWorkers() {
+        
+        return workers.size();
+    }
+    
+    /**
+     * Fetches the number of tasks which were dispatched again because their worker was lost.
+     * 
+     * @return Number of dispatched tasks of lost workers.
+     */
+    public synchronized long getNumOfRedispatched() {
+        
+        return numOfRedispatched;
+    }
+    
+    /**
+     * Stops accepting workers, closes all connections and fails all unfinished evaluations.
+     * 
+     * @throws IOException thrown if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        
+        List<Worker> connected;
+        List<Task> unfinished = new ArrayList<>();
+        
+        synchronized (this) {
+            closed = true;
+            connected = new ArrayList<>(workers);
+            unfinished.addAll(pending);
+            pending.clear();
+            
+            for (Worker worker : workers) {
+                unfinished.addAll(worker.assigned.values());
+                worker.assigned.clear();
+            }
+            
+            workers.clear();
+        }
+        
+        try {
+            serverSocket.close();
+        } finally {
+            for (Worker worker : connected) {
+                worker.close();
+            }
+            
+            for (Task task : unfinished) {
+                task.batch.fail("Evaluator was closed.");
+            }
+        }
+    }
+    
+    /**
+     * Evaluation of a single chromosome.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Task {
+        
+        /**
+         * Identifier of the task.
+         */
+        private final long id;
+        /**
+         * Chromosome which is evaluated.
+         */
+        private final C chromosome;
+        /**
+         * Encoded chromosome.
+         */
+        private final byte[] payload;
+        /**
+         * Batch to which the task belongs.
+         */
+        private final Batch batch;
+        
+        /**
+         * Constructs a <code>Task</code> with provided parameters.
+         * 
+         * @param id identifier of the task.
+         * @param chromosome chromosome which is evaluated.
+         * @param payload encoded chromosome.
+         * @param batch batch to which the task belongs.
+         */
+        private Task(long id, C chromosome, byte[] payload, Batch batch) {
+            this.id = id;
+            this.chromosome = chromosome;
+            this.payload = payload;
+            this.batch = batch;
+        }
+    }
+    
+    /**
+     * Tasks requested by a single call of {@link DistributedFitnessEvaluator#evaluateAll(List)}.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private static final class Batch {
+        
+        /**
+         * Number of tasks which are not yet finished.
+         */
+        private final CountDownLatch remaining;
+        /**
+         * Message which describes the first failure, or <code>null</code> if there was none.
+         */
+        private volatile String failure;
+        
+        /**
+         * Constructs a <code>Batch</code> with provided number of tasks.
+         * 
+         * @param numOfTasks number of tasks in the batch.
+         */
+        private Batch(int numOfTasks) {
+            this.remaining = new CountDownLatch(numOfTasks);
+        }
+        
+        /**
+         * Fails the whole batch, so the waiting thread is released immediately.
+         * 
+         * @param message message which describes the failure.
+         */
+        private void fail(String message) {
+            
+            if (failure == null) {
+                failure = message;
+            }
+            
+            while (remaining.getCount() > 0L) {
+                remaining.countDown();
+            }
+        }
+    }
+    
+    /**
+     * Connection to a single worker.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Worker {
+        
+        /**
+         * Connection to the worker.
+         */
+        private final Socket socket;
+        /**
+         * Stream used to write tasks to the connection. Guarded by itself.
+         */
+        private final DataOutputStream output;
+        /**
+         * Unfinished tasks assigned to the worker. Guarded by the evaluator.
+         */
+        private final Map<Long, Task> assigned = new HashMap<>();
+        /**
+         * Time in nanoseconds when the last frame was received from the worker.
+         */
+        private volatile long lastSeen = System.nanoTime();
+        
+        /**
+         * Constructs a <code>Worker</code> for provided connection.
+         * 
+         * @param socket connection to the worker.
+         * @throws IOException thrown if the output stream of the connection cannot be created.
+         */
+        private Worker(Socket socket) throws IOException {
+            this.socket = socket;
+            this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+        
+        /**
+         * Sends the tasks to the worker in a single frame.
+         * 
+         * @param tasks tasks to send.
+         * @throws IOException thrown if the tasks cannot be written.
+         */
+        private void send(List<Task> tasks) throws IOException {
+            
+            synchronized (output) {
+                output.writeByte(WorkerProtocol.TASKS);
+                output.writeInt(tasks.size());
+                
+                for (Task task : tasks) {
+                    output.writeLong(task.id);
+                    output.writeInt(task.payload.length);
+                    output.write(task.payload);
+                }
+                
+                output.flush();
+            }
+        }
+        
+        /**
+         * Closes the connection to the worker, ignoring any errors.
+         */
+        private void close() {
+            
+            try {
+                socket.close();
+            } catch (IOException ignorable) {
+                // The connection is abandoned anyway.
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package at.doml.genalg.distributed;
+
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Worker which connects to a {@link DistributedFitnessEvaluator}, evaluates the genomes it receives and sends back
+ * their fitness. It is meant to run in a separate process, for example one which wraps a native simulator, but it can
+ * also run on a thread of the coordinator process.<br>
+ * <br>
+ * Genomes are decoded from the received payload with the provided codec, so they can be arrays of <code>byte</code>s,
+ * arrays of <code>double</code>s, or any other type which the codec supports. Tasks of a single batch are evaluated
+ * one after another, while the coordinator already sends the next batch, so the worker does not wait for the network
+ * between batches. While the worker is connected, a separate thread periodically sends heartbeats, so the coordinator
+ * can detect workers which died or lost their connection.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <G> the type of genomes which are evaluated.
+ * @see DistributedFitnessEvaluator
+ */
+public class FitnessWorker<G> {
+    
+    /**
+     * Codec used to decode genomes.
+     */
+    private final IByteArrayCodec<G> codec;
+    /**
+     * Function which calculates the fitness of a genome.
+     */
+    private final ToDoubleFunction<? super G> fitnessFunction;
+    /**
+     * Interval between two heartbeats in milliseconds.
+     */
+    private final long heartbeatIntervalMillis;
+    /**
+     * Maximum length of a single payload.
+     */
+    private final int maxPayloadLength;
+    
+    /**
+     * Constructs a <code>FitnessWorker</code> with provided parameters.
+     * 
+     * @param codec codec used to decode genomes.
+     * @param fitnessFunction function which calculates the fitness of a genome.
+     * @param heartbeatIntervalMillis interval between two heartbeats in milliseconds. Must be at least 1, and should be
+     *            several times shorter than the heartbeat timeout of the coordinator.
+     * @param maxPayloadLength maximum length of a single payload. Connections which send longer payloads are closed.
+     * @throws IllegalArgumentException thrown if heartbeat interval is less than 1 or maximum payload length is
+     *             negative.
+     */
+    public FitnessWorker(IByteArrayCodec<G> codec, ToDoubleFunction<? super G> fitnessFunction,
+            long heartbeatIntervalMillis, int maxPayloadLength) {
+        if (heartbeatIntervalMillis < 1L) {
+            throw new IllegalArgumentException(
+                    "Heartbeat interval must be at least 1. Provided value was: " + heartbeatIntervalMillis + ".");
+        }
+        
+        if (maxPayloadLength < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum payload length must not be negative. Provided value was: " + maxPayloadLength + ".");
+        }
+        
+        this.codec = codec;
+        this.fitnessFunction = fitnessFunction;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+    
+    /**
+     * Connects to the coordinator at provided host and port, and evaluates tasks until the coordinator closes the
+     * connection. If the fitness function throws an exception, the failure is reported to the coordinator and the
+     * worker continues with the next task.
+     * 
+     * @param host host of the coordinator.
+     * @param port port of the coordinator.
+     * @throws IOException thrown if the connection fails or the coordinator sends a malformed frame.
+     */
+    public void run(String host, int port) throws IOException {
+        
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            Thread heartbeat = new Thread(() -> sendHeartbeats(output), "fitness-worker-heartbeat");
+            
+            heartbeat.setDaemon(true);
+            heartbeat.start();
+            
+            try {
+                while (true) {
+                    byte type;
+                    
+                    try {
+                        type = input.readByte();
+                    } catch (EOFException endOfStream) {
+                        return;
+                    }
+                    
+                    if (type != WorkerProtocol.TASKS) {
+                        throw new IOException("Unexpected frame type: " + type + ".");
+                    }
+                    
+                    evaluateTasks(input, output);
+                }
+            } finally {
+                heartbeat.interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Reads and evaluates a single batch of tasks, and sends the results.
+     * 
+     * @param input stream from which the tasks are read.
+     * @param output stream to which the results are written.
+     * @throws IOException thrown if the batch cannot be read or the results cannot be written.
+     */
+    private void evaluateTasks(DataInputStream input, DataOutputStream output) throws IOException {
+        
+        int numOfTasks = input.readInt();
+        long[] ids = new long[numOfTasks];
+        double[] fitness = new double[numOfTasks];
+        int numOfResults = 0;
+        
+        for (int i = 0; i < numOfTasks; i++) {
+            long id = input.readLong();
+            int length = input.readInt();
+            
+            if (length < 0 || length > maxPayloadLength) {
+                throw new IOException("Illegal payload length: " + length + ".");
+            }
+            
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+            
+            try {
+                fitness[numOfResults] = fitnessFunction.applyAsDouble(codec.decode(payload));
+                ids[numOfResults++] = id;
+            } catch (RuntimeException exception) {
+                synchronized (output) {
+                    output.writeByte(WorkerProtocol.FAILURE);
+                    output.writeLong(id);
+                    output.writeUTF(String.valueOf(exception));
+                }
+            }
+        }
+        
+        synchronized (output) {
+            output.writeByte(WorkerProtocol.RESULTS);
+            output.writeInt(numOfResults);
+            
+            for (int i = 0; i < numOfResults; i++) {
+                output.writeLong(ids[i]);
+                output.writeDouble(fitness[i]);
+            }
+            
+            output.flush();
+        }
+    }
+    
+    /**
+     * Sends heartbeats until the current thread is interrupted or the connection fails.
+     * 
+     * @param output stream to which the heartbeats are written.
+     */
+    private void sendHeartbeats(DataOutputStream output) {
+        
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(heartbeatIntervalMillis);
+                
+                synchronized (output) {
+                    output.writeByte(WorkerProtocol.HEARTBEAT);
+                    output.flush();
+                }
+            }
+        } catch (InterruptedException | IOException ignorable) {
+            // The worker has finished or the connection is broken, which is detected by the reading thread.
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package at.doml.genalg.distributed;
+
+/**
+ * Constants of the protocol used between {@link DistributedFitnessEvaluator} and {@link FitnessWorker}. Every frame
+ * starts with a single <code>byte</code> which determines its type.
+ * <ul>
+ * <li>{@link #TASKS} is sent by the coordinator. It contains the number of tasks, followed by the identifier, the
+ * length of the payload and the payload of each task.</li>
+ * <li>{@link #RESULTS} is sent by a worker. It contains the number of results, followed by the identifier of the task
+ * and the fitness for each result.</li>
+ * <li>{@link #FAILURE} is sent by a worker when the evaluation of a task fails. It contains the identifier of the task
+ * and a message.</li>
+ * <li>{@link #HEARTBEAT} is sent periodically by a worker, and it has no content.</li>
+ * </ul>
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ */
+class WorkerProtocol {
+    
+    /**
+     * Type of the frame which contains tasks.
+     */
+    static final byte TASKS = 1;
+    /**
+     * Type of the frame which contains results.
+     */
+    static final byte RESULTS = 2;
+    /**
+     * Type of the frame which reports a failed evaluation.
+     */
+    static final byte FAILURE = 3;
+    /**
+     * Type of the frame which signals that a worker is alive.
+     */
+    static final byte HEARTBEAT = 4;
+    
+    /**
+     * Protected constructor which prevents instantiation.
+     */
+    protected WorkerProtocol() {}
+}
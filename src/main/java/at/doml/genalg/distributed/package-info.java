@@ -0,0 +1,8 @@
+/**
+ * Contains the coordinator and the workers which evaluate fitness of chromosomes in other processes, connected by a
+ * simple binary protocol over TCP.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.distributed;
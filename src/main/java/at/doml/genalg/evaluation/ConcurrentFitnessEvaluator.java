@@ -0,0 +1,176 @@
+package at.doml.genalg.evaluation;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batch fitness test which evaluates chromosomes concurrently by running each evaluation of the wrapped fitness test
+ * as a separate task. It is meant for fitness tests which block on I/O most of the time, such as tests which call
+ * local services or read files. With an executor created by {@link EvaluationExecutors#newThreadPerTaskExecutor()},
+ * each evaluation runs on its own virtual thread when virtual threads are available, so thousands of blocking
+ * evaluations can run at the same time without sizing a thread pool.<br>
+ * <br>
+ * The number of evaluations which run at the same time is limited by the provided value, also when several threads
+ * use the same evaluator. When the limit is reached, the calling thread waits until a running evaluation finishes.
+ * The wrapped fitness test must be thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated.
+ * @see EvaluationExecutors
+ * @see IBatchFitnessTest
+ */
+public class ConcurrentFitnessEvaluator<C extends IChromosome> implements IBatchFitnessTest<C>, AutoCloseable {
+    
+    /**
+     * Fitness test which evaluates a single chromosome.
+     */
+    private final IFitnessTest<C> fitnessTest;
+    /**
+     * Executor which runs the evaluations.
+     */
+    private final ExecutorService executor;
+    /**
+     * Flag which tells whether the executor is shut down when this evaluator is closed.
+     */
+    private final boolean ownsExecutor;
+    /**
+     * Permits for evaluations which run at the same time.
+     */
+    private final Semaphore permits;
+    /**
+     * Maximum number of evaluations which run at the same time.
+     */
+    private final int maxConcurrency;
+    
+    /**
+     * Constructs a <code>ConcurrentFitnessEvaluator</code> which runs the evaluations on the provided executor. The
+     * executor is not shut down when this evaluator is closed.
+     * 
+     * @param fitnessTest thread-safe fitness test which evaluates a single chromosome.
+     * @param executor executor which runs the evaluations.
+     * @param maxConcurrency maximum number of evaluations which run at the same time. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided maximum concurrency is less than 1.
+     */
+    public ConcurrentFitnessEvaluator(IFitnessTest<C> fitnessTest, ExecutorService executor, int maxConcurrency) {
+        this(fitnessTest, executor, maxConcurrency, false);
+    }
+    
+    /**
+     * Constructs a <code>ConcurrentFitnessEvaluator</code> with provided parameters.
+     * 
+     * @param fitnessTest thread-safe fitness test which evaluates a single chromosome.
+     * @param executor executor which runs the evaluations.
+     * @param maxConcurrency maximum number of evaluations which run at the same time. Must be at least 1.
+     * @param ownsExecutor <code>true</code> if the executor is shut down when this evaluator is closed.
+     * @throws IllegalArgumentException thrown if provided maximum concurrency is less than 1.
+     */
+    private ConcurrentFitnessEvaluator(IFitnessTest<C> fitnessTest, ExecutorService executor, int maxConcurrency,
+            boolean ownsExecutor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum concurrency must be at least 1. Provided value was: " + maxConcurrency + ".");
+        }
+        
+        this.fitnessTest = fitnessTest;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.ownsExecutor = ownsExecutor;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+    
+    /**
+     * Creates a <code>ConcurrentFitnessEvaluator</code> which runs each evaluation on its own thread, created by
+     * {@link EvaluationExecutors#newThreadPerTaskExecutor()}. The threads are virtual if virtual threads are
+     * available. The executor is shut down when the evaluator is closed.
+     * 
+     * @param <C> the type of chromosome which will be evaluated.
+     * @param fitnessTest thread-safe fitness test which evaluates a single chromosome.
+     * @param maxConcurrency maximum number of evaluations which run at the same time. Must be at least 1.
+     * @return A new evaluator.
+     * @throws IllegalArgumentException thrown if provided maximum concurrency is less than 1.
+     */
+    public static <C extends IChromosome> ConcurrentFitnessEvaluator<C> threadPerTask(IFitnessTest<C> fitnessTest,
+            int maxConcurrency) {
+        
+        return new ConcurrentFitnessEvaluator<>(fitnessTest, EvaluationExecutors.newThreadPerTaskExecutor(),
+                maxConcurrency, true);
+    }
+    
+    /**
+     * {@inheritDoc} Chromosomes are evaluated concurrently, and this method returns when all evaluations have
+     * finished.
+     * 
+     * @throws GeneticAlgorithmException thrown if the evaluation of any chromosome fails, if the executor rejects an
+     *             evaluation, or if the current thread is interrupted while waiting.
+     */
+    @Override
+    public void evaluateAll(List<? extends C> chromosomes) {
+        
+        CountDownLatch remaining = new CountDownLatch(chromosomes.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        try {
+            for (C chromosome : chromosomes) {
+                permits.acquire();
+                
+                try {
+                    executor.execute(() -> {
+                        try {
+                            fitnessTest.evaluate(chromosome);
+                        } catch (Throwable throwable) {
+                            failure.compareAndSet(null, throwable);
+                        } finally {
+                            permits.release();
+                            remaining.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException exception) {
+                    permits.release();
+                    remaining.countDown();
+                    failure.compareAndSet(null, exception);
+                }
+            }
+            
+            remaining.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new GeneticAlgorithmException("Interrupted while waiting for fitness values.", exception);
+        }
+        
+        if (failure.get() != null) {
+            throw new GeneticAlgorithmException("Fitness evaluation failed.", failure.get());
+        }
+    }
+    
+    /**
+     * Fetches the maximum number of evaluations which run at the same time.
+     * 
+     * @return Maximum number of concurrent evaluations.
+     */
+    public int getMaxConcurrency() {
+        
+        return maxConcurrency;
+    }
+    
+    /**
+     * Shuts down the executor if it was created by this class. Evaluations which are already running are not
+     * interrupted.
+     */
+    @Override
+    public void close() {
+        
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package at.doml.genalg.evaluation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Class which creates executors for concurrent fitness evaluation. Executors which run each evaluation on a virtual
+ * thread are only available when the library is built with the <code>virtual-threads</code> profile and runs on Java
+ * 21 or newer. In all other cases each evaluation runs on a platform thread from a cached pool. Platform threads can
+ * also be forced by setting the {@value #THREADS_PROPERTY} system property to <code>platform</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see ConcurrentFitnessEvaluator
+ */
+public class EvaluationExecutors {
+    
+    /**
+     * Name of the system property which can be used to force platform threads.
+     */
+    public static final String THREADS_PROPERTY = "at.doml.genalg.evaluation.threads";
+    /**
+     * Fully qualified name of the factory of virtual thread executors.
+     */
+    private static final String VIRTUAL_FACTORY_CLASS = "at.doml.genalg.evaluation.VirtualThreadExecutorFactory";
+    /**
+     * Factory of virtual thread executors, or <code>null</code> if virtual threads are not available.
+     */
+    private static final Supplier<ExecutorService> VIRTUAL_FACTORY = loadVirtualFactory();
+    
+    /**
+     * Empty protected constructor - this class only has static methods and fields.
+     */
+    protected EvaluationExecutors() {}
+    
+    /**
+     * Creates an executor which runs each task on its own thread. The threads are virtual if virtual threads are
+     * available, and daemon platform threads from a cached pool otherwise. The executor should be shut down when it
+     * is no longer needed.
+     * 
+     * @return A new executor.
+     */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        
+        if (VIRTUAL_FACTORY != null) {
+            return VIRTUAL_FACTORY.get();
+        }
+        
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "fitness-evaluation");
+            thread.setDaemon(true);
+            
+            return thread;
+        });
+    }
+    
+    /**
+     * Checks if executors created by {@link #newThreadPerTaskExecutor()} use virtual threads.
+     * 
+     * @return <code>true</code> if virtual threads are used, <code>false</code> otherwise.
+     */
+    public static boolean isVirtual() {
+        
+        return VIRTUAL_FACTORY != null;
+    }
+    
+    /**
+     * Loads the factory of virtual thread executors if it is available and not disabled.
+     * 
+     * @return Factory of virtual thread executors, or <code>null</code> if platform threads will be used.
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<ExecutorService> loadVirtualFactory() {
+        
+        if ("platform".equals(System.getProperty(THREADS_PROPERTY))) {
+            return null;
+        }
+        
+        try {
+            Supplier<ExecutorService> factory =
+                    (Supplier<ExecutorService>) Class.forName(VIRTUAL_FACTORY_CLASS).getConstructor().newInstance();
+            
+            // Creating an executor fails on older JVMs, even if the factory class itself can be loaded.
+            factory.get().shutdown();
+            
+            return factory;
+        } catch (ReflectiveOperationException | LinkageError ignorable) {
+            // Either the library was built without the virtual-threads profile, or the JVM is older than Java 21.
+            return null;
+        }
+    }
+}
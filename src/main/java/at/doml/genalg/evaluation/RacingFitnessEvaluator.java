@@ -0,0 +1,278 @@
+package at.doml.genalg.evaluation;
+
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IBoundedFitnessTest;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.population.interfaces.ISampledFitnessTest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fitness test for noisy fitness functions which evaluates chromosomes incrementally and stops sampling chromosomes
+ * which are statistically dominated, in the style of Hoeffding races. The fitness of a chromosome is the mean of its
+ * samples, and all samples of a chromosome are assumed to lie in an interval of the provided width. After
+ * <code>n</code> samples, the true fitness lies within <code>range * sqrt(ln(2 / d) / (2 * n))</code> of the mean with
+ * probability at least <code>1 - d</code>, where <code>d</code> is the provided error probability divided among all
+ * comparisons of the race.<br>
+ * <br>
+ * When a batch is evaluated, its chromosomes race against each other. All chromosomes which are still in the race are
+ * sampled in rounds, with the same sample index in each round. A chromosome drops out as soon as its upper bound is
+ * below the lower bounds of the configured number of contenders, so the remaining samples are spent only on
+ * chromosomes which can still be among the best. When a single chromosome is evaluated against an acceptance
+ * threshold, it drops out as soon as its upper bound is below the threshold. In both cases the fitness is set to the
+ * mean of the samples taken so far, and no chromosome is sampled more than the maximum number of times.<br>
+ * <br>
+ * Sample statistics are kept for each chromosome until the chromosome is evaluated again or garbage collected. This
+ * class is thread-safe if the sampled fitness test is thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated.
+ * @see ISampledFitnessTest
+ * @see SampleStatistics
+ */
+public class RacingFitnessEvaluator<C extends IChromosome> implements IBatchFitnessTest<C>, IBoundedFitnessTest<C> {
+    
+    /**
+     * Sampled fitness test.
+     */
+    private final ISampledFitnessTest<C> sampledTest;
+    /**
+     * Number of samples taken before any chromosome can drop out.
+     */
+    private final int minSamples;
+    /**
+     * Maximum number of samples of a chromosome.
+     */
+    private final int maxSamples;
+    /**
+     * Width of the interval which contains all samples.
+     */
+    private final double range;
+    /**
+     * Probability that any chromosome drops out wrongly.
+     */
+    private final double delta;
+    /**
+     * Statistics of each evaluated chromosome.
+     */
+    private final Map<C, SampleStatistics> statistics = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Number of samples taken so far.
+     */
+    private final AtomicLong numOfSamples = new AtomicLong();
+    /**
+     * Number of chromosomes which dropped out before the maximum number of samples.
+     */
+    private final AtomicLong numOfDropped = new AtomicLong();
+    /**
+     * Number of chromosomes of a batch which can not drop out.
+     */
+    private volatile int numOfContenders = 1;
+    
+    /**
+     * Constructs a <code>RacingFitnessEvaluator</code> with provided parameters.
+     * 
+     * @param sampledTest sampled fitness test.
+     * @param minSamples number of samples taken before any chromosome can drop out. Must be at least 1.
+     * @param maxSamples maximum number of samples of a chromosome. Must be at least <code>minSamples</code>.
+     * @param range width of the interval which contains all samples of a chromosome. Must be a positive number.
+     * @param delta probability that any chromosome of a race drops out wrongly. Must be in range (0, 1).
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public RacingFitnessEvaluator(ISampledFitnessTest<C> sampledTest, int minSamples, int maxSamples, double range,
+            double delta) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException(
+                    "Minimum number of samples must be at least 1. Provided value was: " + minSamples + ".");
+        }
+        
+        if (maxSamples < minSamples) {
+            throw new IllegalArgumentException("Maximum number of samples must be at least " + minSamples
+                    + ". Provided value was: " + maxSamples + ".");
+        }
+        
+        if (!(range > 0.0)) {
+            throw new IllegalArgumentException("Range must be a positive number. Provided value was: " + range + ".");
+        }
+        
+        if (!(delta > 0.0 && delta < 1.0)) {
+            throw new IllegalArgumentException("Delta must be in range (0, 1). Provided value was: " + delta + ".");
+        }
+        
+        this.sampledTest = sampledTest;
+        this.minSamples = minSamples;
+        this.maxSamples = maxSamples;
+        this.range = range;
+        this.delta = delta;
+    }
+    
+    /**
+     * Sets the number of chromosomes of a batch which are never dropped, because they have the highest lower bounds.
+     * They are sampled the maximum number of times, so their fitness is the most accurate. Default value is 1.
+     * 
+     * @param numOfContenders number of contenders. Must be at least 1.
+     * @throws IllegalArgumentException thrown if provided value is less than 1.
+     */
+    public void setNumOfContenders(int numOfContenders) {
+        
+        if (numOfContenders < 1) {
+            throw new IllegalArgumentException(
+                    "Number of contenders must be at least 1. Provided value was: " + numOfContenders + ".");
+        }
+        
+        this.numOfContenders = numOfContenders;
+    }
+    
+    /**
+     * Evaluates given chromosome with the maximum number of samples.
+     * 
+     * @param chromosome chromosome to evaluate.
+     */
+    @Override
+    public void evaluate(C chromosome) {
+        
+        evaluate(chromosome, Double.NEGATIVE_INFINITY);
+    }
+    
+    /**
+     * Samples given chromosome until its upper bound drops below the threshold, or until the maximum number of
+     * samples is reached. The fitness is set to the mean of the samples.
+     * 
+     * @param chromosome chromosome to evaluate.
+     * @param threshold lowest fitness which the chromosome must reach to be accepted.
+     */
+    @Override
+    public void evaluate(C chromosome, double threshold) {
+        
+        SampleStatistics stats = new SampleStatistics();
+        
+        statistics.put(chromosome, stats);
+        
+        for (int sample = 0; sample < maxSamples; sample++) {
+            stats.add(sampledTest.sample(chromosome, sample));
+            
+            int n = sample + 1;
+            
+            if (n >= minSamples && n < maxSamples && stats.getMean() + radius(n, 1) < threshold) {
+                numOfDropped.incrementAndGet();
+                break;
+            }
+        }
+        
+        numOfSamples.addAndGet(stats.getNumOfSamples());
+        chromosome.setFitness(stats.getMean());
+    }
+    
+    /**
+     * Races given chromosomes against each other. All chromosomes in the race are sampled in rounds, and after each
+     * round the chromosomes whose upper bound is below the lower bound of every contender drop out. The fitness of
+     * each chromosome is set to the mean of its samples.
+     * 
+     * @param chromosomes chromosomes to evaluate.
+     */
+    @Override
+    public void evaluateAll(List<? extends C> chromosomes) {
+        
+        int size = chromosomes.size();
+        int contenders = numOfContenders;
+        SampleStatistics[] stats = new SampleStatistics[size];
+        int[] racing = new int[size];
+        double[] lowerBounds = new double[size];
+        int numOfRacing = size;
+        
+        for (int i = 0; i < size; i++) {
+            stats[i] = new SampleStatistics();
+            racing[i] = i;
+            statistics.put(chromosomes.get(i), stats[i]);
+        }
+        
+        for (int sample = 0; sample < maxSamples; sample++) {
+            for (int i = 0; i < numOfRacing; i++) {
+                int index = racing[i];
+                stats[index].add(sampledTest.sample(chromosomes.get(index), sample));
+            }
+            
+            int n = sample + 1;
+            
+            if (n < minSamples || n == maxSamples || numOfRacing <= contenders) {
+                continue;
+            }
+            
+            double radius = radius(n, size);
+            
+            for (int i = 0; i < numOfRacing; i++) {
+                lowerBounds[i] = stats[racing[i]].getMean() - radius;
+            }
+            
+            Arrays.sort(lowerBounds, 0, numOfRacing);
+            
+            double contenderBound = lowerBounds[numOfRacing - contenders];
+            int remaining = 0;
+            
+            for (int i = 0; i < numOfRacing; i++) {
+                if (stats[racing[i]].getMean() + radius >= contenderBound) {
+                    racing[remaining++] = racing[i];
+                }
+            }
+            
+            numOfDropped.addAndGet(numOfRacing - remaining);
+            numOfRacing = remaining;
+        }
+        
+        for (int i = 0; i < size; i++) {
+            numOfSamples.addAndGet(stats[i].getNumOfSamples());
+            chromosomes.get(i).setFitness(stats[i].getMean());
+        }
+    }
+    
+    /**
+     * Fetches the sample statistics of the last evaluation of given chromosome.
+     * 
+     * @param chromosome evaluated chromosome.
+     * @return Sample statistics of the chromosome, or <code>null</code> if it was not evaluated by this evaluator.
+     */
+    public SampleStatistics getStatistics(C chromosome) {
+        
+        return statistics.get(chromosome);
+    }
+    
+    /**
+     * Fetches the total number of samples taken so far.
+     * 
+     * @return Number of samples.
+     */
+    public long getNumOfSamples() {
+        
+        return numOfSamples.get();
+    }
+    
+    /**
+     * Fetches the number of chromosomes which dropped out before they were sampled the maximum number of times.
+     * 
+     * @return Number of dropped chromosomes.
+     */
+    public long getNumOfDropped() {
+        
+        return numOfDropped.get();
+    }
+    
+    /**
+     * Computes the Hoeffding radius after the provided number of samples. The error probability is divided among all
+     * chromosomes of the race and all rounds, so the probability that any chromosome drops out wrongly is at most
+     * <code>delta</code>.
+     * 
+     * @param n number of samples of each chromosome.
+     * @param numOfChromosomes number of chromosomes in the race.
+     * @return Half-width of the confidence interval of the mean.
+     */
+    private double radius(int n, int numOfChromosomes) {
+        
+        return range * Math.sqrt(Math.log(2.0 * numOfChromosomes * maxSamples / delta) / (2.0 * n));
+    }
+}
@@ -0,0 +1,70 @@
+package at.doml.genalg.evaluation;
+
+/**
+ * Running statistics of the fitness samples of a single chromosome. The mean and the variance are updated with
+ * Welford's algorithm, so they remain accurate for any number of samples.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see RacingFitnessEvaluator
+ */
+public final class SampleStatistics {
+    
+    /**
+     * Number of samples.
+     */
+    private int numOfSamples;
+    /**
+     * Mean of the samples.
+     */
+    private double mean;
+    /**
+     * Sum of squared differences from the mean.
+     */
+    private double squaredDeviations;
+    
+    /**
+     * Adds a sample to the statistics.
+     * 
+     * @param sample value of the sample.
+     */
+    void add(double sample) {
+        
+        numOfSamples++;
+        
+        double difference = sample - mean;
+        mean += difference / numOfSamples;
+        squaredDeviations += difference * (sample - mean);
+    }
+    
+    /**
+     * Fetches the number of samples.
+     * 
+     * @return Number of samples.
+     */
+    public int getNumOfSamples() {
+        
+        return numOfSamples;
+    }
+    
+    /**
+     * Fetches the mean of the samples.
+     * 
+     * @return Mean of the samples, or 0 if there are no samples.
+     */
+    public double getMean() {
+        
+        return mean;
+    }
+    
+    /**
+     * Fetches the unbiased variance of the samples.
+     * 
+     * @return Variance of the samples, or 0 if there are less than two samples.
+     */
+    public double getVariance() {
+        
+        return numOfSamples < 2 ? 0.0 : squaredDeviations / (numOfSamples - 1);
+    }
+}
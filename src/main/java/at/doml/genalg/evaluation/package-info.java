@@ -0,0 +1,8 @@
+/**
+ * Contains fitness tests which evaluate several chromosomes concurrently, for fitness functions which spend most of
+ * their time waiting for I/O, and fitness tests which race noisy chromosomes against each other.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.evaluation;
@@ -0,0 +1,26 @@
+package at.doml.genalg.islands;
+
+/**
+ * Interface which specifies a destination to which migrants can be sent, such as the queue of a local island or a
+ * connection to an island in another process. Sending must never block the island which sends the migrant, so a
+ * target which cannot accept the migrant immediately should reject it.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <E> the type of migrants accepted by this target.
+ * @see MigrationQueue
+ * @see MigrantSender
+ */
+@FunctionalInterface
+public interface IMigrationTarget<E> {
+    
+    /**
+     * Sends the migrant to this target, if the target can accept it without blocking. The migrant is owned by the
+     * target after this method returns <code>true</code>, so the caller must not modify it.
+     * 
+     * @param migrant migrant to send. Must not be <code>null</code>.
+     * @return <code>true</code> if the migrant was accepted, <code>false</code> if it was dropped.
+     */
+    public boolean offer(E migrant);
+}
@@ -0,0 +1,28 @@
+package at.doml.genalg.islands;
+
+import java.util.Random;
+
+/**
+ * Interface which defines the topology of the island model, which determines the islands to which each island sends
+ * its emigrants. Implementations for common topologies are provided by {@link MigrationTopologies}.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see MigrationTopologies
+ * @see IslandModel
+ */
+@FunctionalInterface
+public interface IMigrationTopology {
+    
+    /**
+     * Determines the islands which receive emigrants from the provided island. This method is called on every
+     * migration, by the thread of the source island, so implementations must be thread-safe.
+     * 
+     * @param source index of the island which sends emigrants.
+     * @param numOfIslands total number of islands.
+     * @param rand random number generator of the source island, used by random topologies.
+     * @return Indices of the islands which receive emigrants. Must not contain the source island.
+     */
+    public int[] getTargets(int source, int numOfIslands, Random rand);
+}
@@ -0,0 +1,386 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.SteadyStateGeneticAlgorithm;
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.progress.GenerationPublisher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * An implementation of the island model. Each island is a separate steady-state genetic algorithm with its own
+ * population, which runs on its own thread. Islands are created by the provided factory, which receives a
+ * <code>Random</code> object with its own seed, so each island can use its own stream of random numbers without any
+ * contention between threads.<br>
+ * <br>
+ * After every specified number of steps, each island selects an emigrant using the migration policy and sends a clone
+ * of it to each island determined by the topology. Migrants are passed through bounded lock-free queues, so islands
+ * never wait for each other. Each island receives the migrants from its queue after every step, and inserts them in the
+ * same way as its own children. If the queue of an island is full, new migrants for that island are dropped.<br>
+ * <br>
+ * Islands in other processes can be connected with {@link #connect(int, IMigrationTarget)} and
+ * {@link #getInbox(int)}, using {@link MigrantSender} and {@link MigrantReceiver}. The progress of the whole model
+ * can be published with {@link #setPublisher(GenerationPublisher)}, and the progress of a single island by setting a
+ * publisher on the island itself.<br>
+ * <br>
+ * Since every island runs on its own thread, islands must not share operators, pools or fitness tests which are not
+ * thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the islands.
+ * @see SteadyStateGeneticAlgorithm
+ * @see IMigrationTopology
+ * @see MigrationPolicy
+ */
+public class IslandModel<C extends IChromosome> {
+    
+    /**
+     * Algorithms which run on the islands.
+     */
+    private final List<SteadyStateGeneticAlgorithm<C>> islands;
+    /**
+     * Random number generators used for migration on each island.
+     */
+    private final List<Random> randoms;
+    /**
+     * Queues of incoming migrants for each island.
+     */
+    private final List<MigrationQueue<C>> queues;
+    /**
+     * Additional targets of each island, such as islands in other processes.
+     */
+    private final List<List<IMigrationTarget<? super C>>> remoteTargets;
+    /**
+     * Topology which determines the targets of migration.
+     */
+    private final IMigrationTopology topology;
+    /**
+     * Policy which selects the emigrants.
+     */
+    private final MigrationPolicy policy;
+    /**
+     * Number of steps between two migrations.
+     */
+    private final int migrationInterval;
+    /**
+     * Copy of the best chromosome of each island at the end of its last completed generation.
+     */
+    private final AtomicReferenceArray<C> islandBests;
+    /**
+     * Number of evaluations of each island at the end of its last completed generation.
+     */
+    private final AtomicLongArray islandEvaluations;
+    /**
+     * Index of the last completed generation of each island, or -1.
+     */
+    private final AtomicLongArray islandGenerations;
+    /**
+     * Lock which keeps merged summaries in the order in which they were created.
+     */
+    private final Object publishLock = new Object();
+    /**
+     * Publisher of merged summaries, or <code>null</code>.
+     */
+    private volatile GenerationPublisher<C> publisher;
+    
+    /**
+     * Constructs an <code>IslandModel</code> with provided parameters.
+     * 
+     * @param numOfIslands number of islands. Must be at least 1.
+     * @param islandFactory function which creates the algorithm of an island from the provided <code>Random</code>
+     *            object. It should also use that object for the operators of the island.
+     * @param topology topology which determines the targets of migration.
+     * @param policy policy which selects the emigrants.
+     * @param migrationInterval number of steps of each island between two migrations. Must be at least 1.
+     * @param queueCapacity capacity of the queue of incoming migrants of each island. Must be at least 1.
+     * @param seed seed from which the seeds of all islands are derived.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public IslandModel(int numOfIslands, Function<Random, ? extends SteadyStateGeneticAlgorithm<C>> islandFactory,
+            IMigrationTopology topology, MigrationPolicy policy, int migrationInterval, int queueCapacity, long seed) {
+        if (numOfIslands < 1) {
+            throw new IllegalArgumentException(
+                    "Number of islands must be at least 1. Provided value was: " + numOfIslands + ".");
+        }
+        
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException(
+                    "Migration interval must be at least 1. Provided value was: " + migrationInterval + ".");
+        }
+        
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<SteadyStateGeneticAlgorithm<C>> islands = new ArrayList<>(numOfIslands);
+        List<Random> randoms = new ArrayList<>(numOfIslands);
+        List<MigrationQueue<C>> queues = new ArrayList<>(numOfIslands);
+        List<List<IMigrationTarget<? super C>>> remoteTargets = new ArrayList<>(numOfIslands);
+        
+        for (int i = 0; i < numOfIslands; i++) {
+            islands.add(islandFactory.apply(new Random(seeds.nextLong())));
+            randoms.add(new Random(seeds.nextLong()));
+            queues.add(new MigrationQueue<>(queueCapacity));
+            remoteTargets.add(new ArrayList<>());
+        }
+        
+        this.islands = Collections.unmodifiableList(islands);
+        this.randoms = randoms;
+        this.queues = queues;
+        this.remoteTargets = remoteTargets;
+        this.topology = topology;
+        this.policy = policy;
+        this.migrationInterval = migrationInterval;
+        this.islandBests = new AtomicReferenceArray<>(numOfIslands);
+        this.islandEvaluations = new AtomicLongArray(numOfIslands);
+        this.islandGenerations = new AtomicLongArray(numOfIslands);
+        
+        for (int i = 0; i < numOfIslands; i++) {
+            islandGenerations.set(i, -1L);
+        }
+    }
+    
+    /**
+     * Adds a target to which the provided island sends emigrants, in addition to the targets determined by the
+     * topology. This is usually a {@link MigrantSender} connected to an island in another process. Targets must be
+     * added before the islands are run.
+     * 
+     * @param island index of the island which sends the emigrants.
+     * @param target target which receives the emigrants.
+     * @throws IndexOutOfBoundsException thrown if provided island index is out of range.
+     */
+    public void connect(int island, IMigrationTarget<? super C> target) {
+        
+        remoteTargets.get(island).add(target);
+    }
+    
+    /**
+     * Sets the publisher to which merged summaries of all islands are published while the islands run. The population
+     * of a merged summary consists of the best chromosome of each island at the end of its last completed generation,
+     * where an island completes a generation after every <code>populationSize</code> evaluations. A merged summary is
+     * published whenever any island completes a generation. Its generation is the lowest generation completed by all
+     * islands, and its number of evaluations is the sum over all islands. Summaries are created only while the
+     * publisher has subscribers.
+     * 
+     * @param publisher publisher of merged summaries, or <code>null</code> to stop publishing.
+     */
+    public void setPublisher(GenerationPublisher<C> publisher) {
+        
+        this.publisher = publisher;
+    }
+    
+    /**
+     * Fetches the queue of incoming migrants of the provided island. Migrants from other processes can be offered to
+     * this queue, for example by a {@link MigrantReceiver}, and they are inserted into the island while it runs.
+     * 
+     * @param island index of the island.
+     * @return Target which accepts incoming migrants of the island.
+     * @throws IndexOutOfBoundsException thrown if provided island index is out of range.
+     */
+    public IMigrationTarget<C> getInbox(int island) {
+        
+        return queues.get(island);
+    }
+    
+    /**
+     * Runs all islands concurrently until each of them reaches the provided number of fitness evaluations, or until
+     * any island reaches the target fitness. This method returns when all island threads have finished.
+     * 
+     * @param maxEvaluationsPerIsland maximum number of fitness evaluations of each island.
+     * @param targetFitness fitness at which all islands stop.
+     * @return The best chromosome of all islands.
+     * @throws GeneticAlgorithmException thrown if any island fails or the calling thread is interrupted.
+     */
+    public C run(long maxEvaluationsPerIsland, double targetFitness) {
+        
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[islands.size()];
+        
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            
+            threads[i] = new Thread(() -> {
+                try {
+                    runIsland(index, maxEvaluationsPerIsland, targetFitness, stop);
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                    stop.set(true);
+                }
+            }, "island-" + i);
+            threads[i].start();
+        }
+        
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException exception) {
+            stop.set(true);
+            Thread.currentThread().interrupt();
+            throw new GeneticAlgorithmException("Interrupted while waiting for the islands.", exception);
+        }
+        
+        if (failure.get() != null) {
+            throw new GeneticAlgorithmException("Island failed.", failure.get());
+        }
+        
+        return getBest();
+    }
+    
+    /**
+     * Runs a single island on the current thread.
+     * 
+     * @param index index of the island.
+     * @param maxEvaluations maximum number of fitness evaluations of the island.
+     * @param targetFitness fitness at which all islands stop.
+     * @param stop flag which signals all islands to stop.
+     */
+    private void runIsland(int index, long maxEvaluations, double targetFitness, AtomicBoolean stop) {
+        
+        SteadyStateGeneticAlgorithm<C> island = islands.get(index);
+        long steps = 0;
+        
+        if (!island.isInitialized()) {
+            island.initialize();
+        }
+        
+        receiveMigrants(index);
+        publishProgress(index);
+        
+        while (!stop.get() && island.getNumOfEvaluations() < maxEvaluations
+                && island.getBestFitness() < targetFitness) {
+            island.step();
+            
+            if (++steps % migrationInterval == 0) {
+                sendMigrants(index);
+            }
+            
+            receiveMigrants(index);
+            publishProgress(index);
+        }
+        
+        if (island.getBestFitness() >= targetFitness) {
+            stop.set(true);
+        }
+    }
+    
+    /**
+     * Sends a clone of the selected emigrant to each target of the provided island.
+     * 
+     * @param index index of the island.
+     */
+    @SuppressWarnings("unchecked")
+    private void sendMigrants(int index) {
+        
+        Random rand = randoms.get(index);
+        SteadyStateGeneticAlgorithm<C> island = islands.get(index);
+        
+        for (int target : topology.getTargets(index, islands.size(), rand)) {
+            // Clones are created by the thread which owns the island, so the island is never read by other threads.
+            queues.get(target).offer((C) policy.selectEmigrant(island, rand).clone());
+        }
+        
+        for (IMigrationTarget<? super C> target : remoteTargets.get(index)) {
+            target.offer((C) policy.selectEmigrant(island, rand).clone());
+        }
+    }
+    
+    /**
+     * Inserts all migrants from the queue of the provided island into the island.
+     * 
+     * @param index index of the island.
+     */
+    private void receiveMigrants(int index) {
+        
+        SteadyStateGeneticAlgorithm<C> island = islands.get(index);
+        MigrationQueue<C> queue = queues.get(index);
+        C migrant;
+        
+        while ((migrant = queue.poll()) != null) {
+            island.immigrate(migrant);
+        }
+    }
+    
+    /**
+     * Records the best chromosome of the provided island if the island completed a generation, and publishes the
+     * merged summary of all islands. This method is invoked only by the thread which owns the island.
+     * 
+     * @param index index of the island.
+     */
+    @SuppressWarnings("unchecked")
+    private void publishProgress(int index) {
+        
+        GenerationPublisher<C> publisher = this.publisher;
+        
+        if (publisher == null || !publisher.hasSubscribers()) {
+            return;
+        }
+        
+        SteadyStateGeneticAlgorithm<C> island = islands.get(index);
+        long generation = island.getNumOfEvaluations() / island.getPopulation().size() - 1L;
+        
+        if (generation == islandGenerations.get(index)) {
+            return;
+        }
+        
+        // The clone is created by the thread which owns the island, so the island is never read by other threads.
+        islandBests.set(index, (C) island.getBest().clone());
+        islandEvaluations.set(index, island.getNumOfEvaluations());
+        islandGenerations.set(index, generation);
+        
+        synchronized (publishLock) {
+            List<C> bests = new ArrayList<>(islands.size());
+            long minGeneration = Long.MAX_VALUE;
+            long numOfEvaluations = 0L;
+            
+            for (int i = 0; i < islands.size(); i++) {
+                C best = islandBests.get(i);
+                
+                if (best != null) {
+                    bests.add(best);
+                }
+                
+                minGeneration = Math.min(minGeneration, islandGenerations.get(i));
+                numOfEvaluations += islandEvaluations.get(i);
+            }
+            
+            publisher.publish(Math.max(minGeneration, 0L), numOfEvaluations, bests);
+        }
+    }
+    
+    /**
+     * Fetches the best chromosome of all islands. This method must not be called while the islands are running.
+     * 
+     * @return The best chromosome of all islands.
+     */
+    public C getBest() {
+        
+        SteadyStateGeneticAlgorithm<C> best = islands.get(0);
+        
+        for (SteadyStateGeneticAlgorithm<C> island : islands) {
+            if (island.getBestFitness() > best.getBestFitness()) {
+                best = island;
+            }
+        }
+        
+        return best.getBest();
+    }
+    
+    /**
+     * Fetches the algorithms which run on the islands.
+     * 
+     * @return Unmodifiable list of the islands.
+     */
+    public List<SteadyStateGeneticAlgorithm<C>> getIslands() {
+        
+        return islands;
+    }
+}
@@ -0,0 +1,219 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Accepts connections from {@link MigrantSender}s and passes the received migrants to the provided target, which is
+ * usually the inbox of an island. Each connection is read by its own thread. Received chromosomes are decoded with the
+ * provided codec and get the fitness which was sent with them.<br>
+ * <br>
+ * When the target rejects a migrant because it is full, the reading thread waits until the target accepts it and stops
+ * reading the connection in the meantime. This way a slow island slows down the senders instead of losing migrants
+ * which were already transferred.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which is received.
+ * @see MigrantSender
+ * @see IslandModel#getInbox(int)
+ */
+public class MigrantReceiver<C extends IChromosome> implements Closeable {
+    
+    /**
+     * Time in nanoseconds for which a reading thread waits when the target is full.
+     */
+    private static final long FULL_NANOS = 100_000L;
+    
+    /**
+     * Socket which accepts the connections.
+     */
+    private final ServerSocket serverSocket;
+    /**
+     * Codec used to decode chromosomes.
+     */
+    private final IByteArrayCodec<C> codec;
+    /**
+     * Target which receives the migrants.
+     */
+    private final IMigrationTarget<? super C> target;
+    /**
+     * Maximum length of a single encoded chromosome.
+     */
+    private final int maxEncodedLength;
+    /**
+     * Currently open connections.
+     */
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    /**
+     * Number of migrants which were passed to the target.
+     */
+    private final AtomicLong numOfReceived = new AtomicLong();
+    /**
+     * Flag which signals all threads of this receiver to stop.
+     */
+    private volatile boolean closed;
+    
+    /**
+     * Constructs a <code>MigrantReceiver</code> which listens on the provided address and port, and starts accepting
+     * connections.
+     * 
+     * @param bindAddress address on which to listen, or <code>null</code> to listen on all local addresses.
+     * @param port port on which to listen, or 0 to use any free port.
+     * @param codec codec used to decode chromosomes.
+     * @param maxEncodedLength maximum length of a single encoded chromosome. Connections which send longer
+     *            chromosomes are closed.
+     * @param target target which receives the migrants.
+     * @throws IOException thrown if the socket cannot be bound.
+     * @throws IllegalArgumentException thrown if maximum encoded length is negative.
+     */
+    public MigrantReceiver(InetAddress bindAddress, int port, IByteArrayCodec<C> codec, int maxEncodedLength,
+            IMigrationTarget<? super C> target) throws IOException {
+        if (maxEncodedLength < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum encoded length must not be negative. Provided value was: " + maxEncodedLength + ".");
+        }
+        
+        this.codec = codec;
+        this.maxEncodedLength = maxEncodedLength;
+        this.target = target;
+        this.serverSocket = new ServerSocket(port, 0, bindAddress);
+        
+        Thread acceptor = new Thread(this::acceptConnections, "migrant-receiver-" + getPort());
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+    
+    /**
+     * Accepts connections until this receiver is closed.
+     */
+    private void acceptConnections() {
+        
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                
+                connections.add(socket);
+                
+                Thread reader = new Thread(() -> readConnection(socket),
+                        "migrant-receiver-" + getPort() + "-" + socket.getRemoteSocketAddress());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException ignorable) {
+                // Thrown when the server socket is closed, or when a single connection could not be accepted.
+            }
+        }
+    }
+    
+    /**
+     * Reads batches of migrants from the connection until the sender closes it or this receiver is closed.
+     * 
+     * @param socket connection to read.
+     */
+    private void readConnection(Socket socket) {
+        
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (!closed) {
+                int numOfMigrants;
+                
+                try {
+                    numOfMigrants = input.readInt();
+                } catch (EOFException endOfStream) {
+                    break;
+                }
+                
+                for (int i = 0; i < numOfMigrants && !closed; i++) {
+                    double fitness = input.readDouble();
+                    int length = input.readInt();
+                    
+                    if (length < 0 || length > maxEncodedLength) {
+                        throw new IOException("Illegal length of encoded chromosome: " + length + ".");
+                    }
+                    
+                    byte[] bytes = new byte[length];
+                    input.readFully(bytes);
+                    
+                    C migrant = codec.decode(bytes);
+                    migrant.setFitness(fitness);
+                    deliver(migrant);
+                }
+            }
+        } catch (IOException | RuntimeException ignorable) {
+            // The connection is broken, or malformed data could not be decoded by the codec, so it is dropped. Other
+            // connections are not affected.
+        } finally {
+            connections.remove(socket);
+        }
+    }
+    
+    /**
+     * Passes the migrant to the target, waiting while the target is full.
+     * 
+     * @param migrant migrant to pass.
+     */
+    private void deliver(C migrant) {
+        
+        while (!target.offer(migrant)) {
+            if (closed) {
+                return;
+            }
+            
+            LockSupport.parkNanos(FULL_NANOS);
+        }
+        
+        numOfReceived.incrementAndGet();
+    }
+    
+    /**
+     * Fetches the port on which this receiver listens.
+     * 
+     * @return Local port of this receiver.
+     */
+    public int getPort() {
+        
+        return serverSocket.getLocalPort();
+    }
+    
+    /**
+     * Fetches the number of migrants which were passed to the target.
+     * 
+     * @return Number of received migrants.
+     */
+    public long getNumOfReceived() {
+        
+        return numOfReceived.get();
+    }
+    
+    /**
+     * Stops accepting connections and closes all open connections.
+     * 
+     * @throws IOException thrown if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        
+        closed = true;
+        serverSocket.close();
+        
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignorable) {
+                // The connection is abandoned anyway.
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Migration target which sends migrants to a {@link MigrantReceiver} over a TCP connection, so islands can run in
+ * separate processes on the same or on different hosts. Chromosomes are transferred as bytes produced by the provided
+ * codec, followed by their fitness, so the receiving island does not need to evaluate them again.<br>
+ * <br>
+ * Offered migrants are first put into a bounded outgoing queue, from which a separate thread sends them in batches.
+ * When the receiver cannot keep up, the connection stops accepting data, the outgoing queue fills up and further
+ * migrants are dropped, so the sending island is never blocked by the network.<br>
+ * <br>
+ * Each batch is written as the number of migrants, followed by the fitness, the length of the encoded chromosome and
+ * the encoded chromosome for each migrant.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which is sent.
+ * @see MigrantReceiver
+ * @see IslandModel#connect(int, IMigrationTarget)
+ */
+public class MigrantSender<C extends IChromosome> implements IMigrationTarget<C>, Closeable {
+    
+    /**
+     * Default time in milliseconds for which {@link #close()} waits for the remaining migrants to be sent.
+     */
+    public static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = 5_000L;
+    /**
+     * Time in nanoseconds for which the sending thread waits when there are no migrants to send.
+     */
+    private static final long IDLE_NANOS = 1_000_000L;
+    
+    /**
+     * Connection to the receiver.
+     */
+    private final Socket socket;
+    /**
+     * Stream used to write batches to the connection.
+     */
+    private final DataOutputStream output;
+    /**
+     * Codec used to encode chromosomes.
+     */
+    private final IByteArrayCodec<C> codec;
+    /**
+     * Queue of migrants which have not been sent yet.
+     */
+    private final MigrationQueue<C> outgoing;
+    /**
+     * Maximum number of migrants in a single batch.
+     */
+    private final int batchSize;
+    /**
+     * Thread which sends the migrants.
+     */
+    private final Thread thread;
+    /**
+     * Number of migrants which were sent.
+     */
+    private final AtomicLong numOfSent = new AtomicLong();
+    /**
+     * Number of migrants which were dropped.
+     */
+    private final AtomicLong numOfDropped = new AtomicLong();
+    /**
+     * Flag which signals the sending thread to send the remaining migrants and stop.
+     */
+    private volatile boolean closed;
+    /**
+     * Exception which stopped the sending thread, or <code>null</code> if there was none.
+     */
+    private volatile IOException failure;
+    
+    /**
+     * Constructs a <code>MigrantSender</code> connected to the receiver at provided host and port, and starts the
+     * sending thread.
+     * 
+     * @param host host of the receiver.
+     * @param port port of the receiver.
+     * @param codec codec used to encode chromosomes. Must produce bytes which the codec of the receiver can decode.
+     * @param capacity capacity of the queue of migrants which have not been sent yet. Must be at least 1.
+     * @param batchSize maximum number of migrants sent in a single batch. Must be at least 1.
+     * @throws IOException thrown if the connection cannot be established.
+     * @throws IllegalArgumentException thrown if capacity or batch size is less than 1.
+     */
+    public MigrantSender(String host, int port, IByteArrayCodec<C> codec, int capacity, int batchSize)
+            throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1. Provided value was: " + batchSize + ".");
+        }
+        
+        this.outgoing = new MigrationQueue<>(capacity);
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.thread = new Thread(this::sendMigrants, "migrant-sender-" + host + ":" + port);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+    
+    /**
+     * {@inheritDoc} The migrant must have its fitness set. It is dropped if the queue of migrants which have not been
+     * sent yet is full, or if this sender was closed or has failed.
+     */
+    @Override
+    public boolean offer(C migrant) {
+        
+        if (closed || failure != null || !outgoing.offer(migrant)) {
+            numOfDropped.incrementAndGet();
+            return false;
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Sends migrants from the outgoing queue until this sender is closed and the queue is empty.
+     */
+    private void sendMigrants() {
+        
+        List<C> batch = new ArrayList<>(batchSize);
+        
+        try {
+            while (true) {
+                C migrant;
+                
+                while (batch.size() < batchSize && (migrant = outgoing.poll()) != null) {
+                    batch.add(migrant);
+                }
+                
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                } else if (closed) {
+                    break;
+                } else {
+                    output.flush();
+                    LockSupport.parkNanos(IDLE_NANOS);
+                }
+            }
+            
+            output.flush();
+        } catch (IOException exception) {
+            failure = exception;
+        }
+    }
+    
+    /**
+     * Writes a single batch of migrants to the connection.
+     * 
+     * @param batch migrants to write.
+     * @throws IOException thrown if the batch cannot be written.
+     */
+    private void writeBatch(List<C> batch) throws IOException {
+        
+        output.writeInt(batch.size());
+        
+        for (C migrant : batch) {
+            byte[] bytes = codec.encode(migrant);
+            
+            output.writeDouble(migrant.getFitness());
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        
+        numOfSent.addAndGet(batch.size());
+    }
+    
+    /**
+     * Fetches the number of migrants which were sent to the receiver.
+     * 
+     * @return Number of sent migrants.
+     */
+    public long getNumOfSent() {
+        
+        return numOfSent.get();
+    }
+    
+    /**
+     * Fetches the number of migrants which were dropped because they could not be sent.
+     * 
+     * @return Number of dropped migrants.
+     */
+    public long getNumOfDropped() {
+        
+        return numOfDropped.get();
+    }
+    
+    /**
+     * Sends all migrants which are already in the outgoing queue, and closes the connection. Migrants offered after
+     * this method is called are dropped. This method waits at most {@value #DEFAULT_CLOSE_TIMEOUT_MILLIS} milliseconds
+     * for the remaining migrants to be sent.
+     * 
+     * @throws IOException thrown if the connection failed while sending migrants or while closing.
+     * @see #close(long)
+     */
+    @Override
+    public void close() throws IOException {
+        
+        close(DEFAULT_CLOSE_TIMEOUT_MILLIS);
+    }
+    
+    /**
+     * Sends all migrants which are already in the outgoing queue, and closes the connection. Migrants offered after
+     * this method is called are dropped. If the migrants cannot be sent within the provided time, for example because
+     * the receiver stopped reading, the connection is closed anyway and the migrants which were not sent are counted
+     * as dropped.
+     * 
+     * @param timeoutMillis maximum time in milliseconds to wait for the remaining migrants to be sent. Must not be
+     *            negative.
+     * @throws IOException thrown if the connection failed while sending migrants or while closing.
+     * @throws IllegalArgumentException thrown if provided timeout is negative.
+     */
+    public void close(long timeoutMillis) throws IOException {
+        
+        if (timeoutMillis < 0L) {
+            throw new IllegalArgumentException("Timeout must not be negative. Provided value was: " + timeoutMillis
+                    + ".");
+        }
+        
+        closed = true;
+        
+        boolean abandoned = false;
+        
+        try {
+            if (timeoutMillis > 0L) {
+                thread.join(timeoutMillis);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            abandoned = thread.isAlive();
+            // Closing the connection unblocks the sending thread if it is still writing.
+            socket.close();
+        }
+        
+        if (abandoned) {
+            try {
+                thread.join(timeoutMillis + 1L);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            
+            while (outgoing.poll() != null) {
+                numOfDropped.incrementAndGet();
+            }
+            
+            return;
+        }
+        
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
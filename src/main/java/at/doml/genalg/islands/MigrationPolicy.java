@@ -0,0 +1,55 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.SteadyStateGeneticAlgorithm;
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Defines which chromosome of an island emigrates to other islands. The selected chromosome stays on its island, and
+ * each target island receives a clone of it.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IslandModel
+ */
+public enum MigrationPolicy {
+    
+    /**
+     * The best chromosome of the island emigrates. This spreads good solutions quickly, but also reduces the diversity
+     * of the islands.
+     */
+    BEST {
+        
+        @Override
+        public <C extends IChromosome> C selectEmigrant(SteadyStateGeneticAlgorithm<C> island, Random rand) {
+            
+            return island.getBest();
+        }
+    },
+    
+    /**
+     * A random chromosome of the island emigrates.
+     */
+    RANDOM {
+        
+        @Override
+        public <C extends IChromosome> C selectEmigrant(SteadyStateGeneticAlgorithm<C> island, Random rand) {
+            
+            List<C> population = island.getPopulation();
+            
+            return population.get(rand.nextInt(population.size()));
+        }
+    };
+    
+    /**
+     * Selects the chromosome which emigrates from the provided island.
+     * 
+     * @param <C> the type of chromosome used in the island.
+     * @param island island from which the chromosome emigrates. Must be initialized.
+     * @param rand random number generator of the island.
+     * @return Chromosome which emigrates.
+     */
+    public abstract <C extends IChromosome> C selectEmigrant(SteadyStateGeneticAlgorithm<C> island, Random rand);
+}
@@ -0,0 +1,157 @@
+package at.doml.genalg.islands;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free queue used to pass migrants between islands. Any number of threads can offer and poll elements
+ * at the same time. Elements are stored in a ring buffer, and each slot of the buffer has a sequence number which tells
+ * producers and consumers whether the slot can be written or read, so no thread ever blocks or takes a lock. When the
+ * queue is full, offered elements are rejected instead of waiting for free space.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <E> the type of elements in the queue.
+ * @see IMigrationTarget
+ */
+public final class MigrationQueue<E> implements IMigrationTarget<E> {
+    
+    /**
+     * Slots of the ring buffer.
+     */
+    private final AtomicReferenceArray<E> buffer;
+    /**
+     * Sequence number of each slot.
+     */
+    private final AtomicLongArray sequences;
+    /**
+     * Mask used to calculate the slot from the position.
+     */
+    private final int mask;
+    /**
+     * Position of the next element to poll.
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * Position of the next element to offer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+    
+    /**
+     * Constructs a <code>MigrationQueue</code> which can hold at least the provided number of elements. The capacity is
+     * rounded up to the nearest power of two.
+     * 
+     * @param capacity minimum number of elements which the queue can hold. Must be in range [1, 2<sup>30</sup>].
+     * @throws IllegalArgumentException thrown if provided capacity is outside of the valid range.
+     */
+    public MigrationQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Capacity must be in range [1, 2^30]. Provided value was: " + capacity + ".");
+        }
+        
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+        
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Adds the element to the end of the queue, if the queue is not full.
+     * 
+     * @param element element to add. Must not be <code>null</code>.
+     * @return <code>true</code> if the element was added, <code>false</code> if the queue is full.
+     * @throws NullPointerException thrown if provided element is <code>null</code>.
+     */
+    @Override
+    public boolean offer(E element) {
+        
+        if (element == null) {
+            throw new NullPointerException("Element must not be null.");
+        }
+        
+        long position;
+        int slot;
+        
+        while (true) {
+            position = tail.get();
+            slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+        
+        buffer.lazySet(slot, element);
+        sequences.set(slot, position + 1);
+        
+        return true;
+    }
+    
+    /**
+     * Removes the element from the front of the queue and returns it.
+     * 
+     * @return The removed element, or <code>null</code> if the queue is empty.
+     */
+    public E poll() {
+        
+        long position;
+        int slot;
+        
+        while (true) {
+            position = head.get();
+            slot = (int) position & mask;
+            long difference = sequences.get(slot) - (position + 1);
+            
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+        }
+        
+        E element = buffer.get(slot);
+        buffer.lazySet(slot, null);
+        sequences.set(slot, position + mask + 1);
+        
+        return element;
+    }
+    
+    /**
+     * Fetches the number of elements in the queue. Since other threads may change the queue at the same time, the
+     * returned value is only an estimate.
+     * 
+     * @return Estimated number of elements in the queue.
+     */
+    public int size() {
+        
+        long size = tail.get() - head.get();
+        
+        return (int) Math.max(0, Math.min(size, mask + 1L));
+    }
+    
+    /**
+     * Fetches the maximum number of elements which the queue can hold.
+     * 
+     * @return Capacity of the queue.
+     */
+    public int getCapacity() {
+        
+        return mask + 1;
+    }
+}
@@ -0,0 +1,136 @@
+package at.doml.genalg.islands;
+
+import java.util.Arrays;
+
+/**
+ * Contains factory methods for common topologies of the island model.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IMigrationTopology
+ */
+public class MigrationTopologies {
+    
+    /**
+     * Constructor is protected because this class should not be instantiated.
+     */
+    protected MigrationTopologies() {}
+    
+    /**
+     * Creates a unidirectional ring topology, in which each island sends emigrants to the next island.
+     * 
+     * @return Ring topology.
+     */
+    public static IMigrationTopology ring() {
+        
+        return (source, numOfIslands, rand) -> distinctTargets(source, (source + 1) % numOfIslands);
+    }
+    
+    /**
+     * Creates a two-dimensional torus topology with provided width. Islands are arranged in rows of the provided
+     * width, and each island sends emigrants to its left, right, upper and lower neighbours, where the edges of the
+     * grid wrap around. The number of islands must be divisible by the width.
+     * 
+     * @param width number of islands in each row. Must be at least 1.
+     * @return Torus topology.
+     * @throws IllegalArgumentException thrown if provided width is less than 1.
+     */
+    public static IMigrationTopology torus(int width) {
+        
+        if (width < 1) {
+            throw new IllegalArgumentException("Width must be at least 1. Provided value was: " + width + ".");
+        }
+        
+        return (source, numOfIslands, rand) -> {
+            if (numOfIslands % width != 0) {
+                throw new IllegalArgumentException(
+                        "Number of islands (" + numOfIslands + ") is not divisible by the width (" + width + ").");
+            }
+            
+            int height = numOfIslands / width;
+            int row = source / width;
+            int column = source % width;
+            
+            return distinctTargets(source, row * width + (column + width - 1) % width,
+                    row * width + (column + 1) % width, (row + height - 1) % height * width + column,
+                    (row + 1) % height * width + column);
+        };
+    }
+    
+    /**
+     * Creates a fully connected topology, in which each island sends emigrants to all other islands.
+     * 
+     * @return Fully connected topology.
+     */
+    public static IMigrationTopology fullyConnected() {
+        
+        return (source, numOfIslands, rand) -> {
+            int[] targets = new int[Math.max(0, numOfIslands - 1)];
+            
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = i < source ? i : i + 1;
+            }
+            
+            return targets;
+        };
+    }
+    
+    /**
+     * Creates a random topology, in which each island sends emigrants to the provided number of distinct islands which
+     * are chosen at random on every migration. If there are not enough islands, emigrants are sent to all other
+     * islands.
+     * 
+     * @param numOfTargets number of islands which receive emigrants. Must be at least 1.
+     * @return Random topology.
+     * @throws IllegalArgumentException thrown if provided number of targets is less than 1.
+     */
+    public static IMigrationTopology random(int numOfTargets) {
+        
+        if (numOfTargets < 1) {
+            throw new IllegalArgumentException(
+                    "Number of targets must be at least 1. Provided value was: " + numOfTargets + ".");
+        }
+        
+        return (source, numOfIslands, rand) -> {
+            int[] others = fullyConnected().getTargets(source, numOfIslands, rand);
+            int count = Math.min(numOfTargets, others.length);
+            
+            // Partial Fisher-Yates shuffle, only the first count elements are needed.
+            for (int i = 0; i < count; i++) {
+                int j = i + rand.nextInt(others.length - i);
+                int target = others[j];
+                others[j] = others[i];
+                others[i] = target;
+            }
+            
+            return Arrays.copyOf(others, count);
+        };
+    }
+    
+    /**
+     * Removes the source island and duplicates from the provided targets. Duplicates occur in small grids.
+     * 
+     * @param source index of the source island.
+     * @param targets candidate targets.
+     * @return Distinct targets which do not contain the source island.
+     */
+    private static int[] distinctTargets(int source, int... targets) {
+        
+        int count = 0;
+        
+        for (int i = 0; i < targets.length; i++) {
+            boolean keep = targets[i] != source;
+            
+            for (int j = 0; j < count && keep; j++) {
+                keep = targets[j] != targets[i];
+            }
+            
+            if (keep) {
+                targets[count++] = targets[i];
+            }
+        }
+        
+        return Arrays.copyOf(targets, count);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contains the island model, in which several genetic algorithms run concurrently on separate sub-populations and
+ * exchange chromosomes through migration. Migrants can also be exchanged with islands in other processes over TCP
+ * connections.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.islands;
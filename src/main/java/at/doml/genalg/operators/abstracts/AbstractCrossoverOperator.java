@@ -4,6 +4,7 @@ import at.doml.genalg.exceptions.IncompatibleParentsException;
 import at.doml.genalg.exceptions.TooFewParentsException;
 import at.doml.genalg.operators.interfaces.ICrossoverOperator;
 import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.utilities.ChromosomePool;
 import java.util.Random;
 import java.util.SortedSet;
 
@@ -21,6 +22,11 @@ import java.util.SortedSet;
 public abstract class AbstractCrossoverOperator<C extends IChromosome> extends AbstractOperator
         implements ICrossoverOperator<C> {
         
+    /**
+     * Pool from which children are acquired. If <code>null</code>, children are created by the parents.
+     */
+    private ChromosomePool<C> pool;
+    
     /**
      * Constructs a crossover operator with provided <code>Random</code> object.
      * 
@@ -46,6 +52,41 @@ public abstract class AbstractCrossoverOperator<C extends IChromosome> extends A
         return createChild(parents);
     }
     
+    /**
+     * Sets the pool from which this operator acquires chromosomes for children. If the pool is <code>null</code>,
+     * children are created by calling {@link IChromosome#newLikeThis()} on a parent.
+     * 
+     * @param pool pool of chromosomes, or <code>null</code> to disable pooling.
+     */
+    public void setPool(ChromosomePool<C> pool) {
+        
+        this.pool = pool;
+    }
+    
+    /**
+     * Fetches the pool from which this operator acquires chromosomes for children.
+     * 
+     * @return Pool of chromosomes, or <code>null</code> if pooling is disabled.
+     */
+    public ChromosomePool<C> getPool() {
+        
+        return pool;
+    }
+    
+    /**
+     * Creates an empty chromosome which will become a child. The chromosome is acquired from the pool if it is set,
+     * otherwise it is created by calling {@link IChromosome#newLikeThis()} on the provided parent. Implementations
+     * should use this method instead of calling <code>newLikeThis()</code> directly.
+     * 
+     * @param parent parent which is used to create the child if the pool is not set.
+     * @return An empty chromosome of the same type as the parent.
+     */
+    @SuppressWarnings("unchecked")
+    protected C newChild(C parent) {
+        
+        return pool != null ? pool.acquire() : (C) parent.newLikeThis();
+    }
+    
     /**
      * Creates a child chromosome using the given set of parent chromosomes. The parents are sorted by their fitness in
      * the descending order. The number of parents is guaranteed to be at least 2.
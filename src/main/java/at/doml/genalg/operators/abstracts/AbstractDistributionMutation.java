@@ -8,6 +8,8 @@ import java.util.Random;
  * affects the variance of the distribution. Variance is scaled linearly according to the mutation intensity.<br>
  * <br>
  * This mutation operator can only be used on chromosomes which extend <code>AbstractDoubleArrayChromosome</code>.
+ * Random samples of implementations which process the whole array at once are stored in a scratch array which is kept
+ * in this operator, so instances of this class must not be used by multiple threads at the same time.
  * 
  * @author Domagoj Latečki
  * @version 1.0
@@ -23,6 +25,10 @@ public abstract class AbstractDistributionMutation<C extends AbstractDoubleArray
      * The variance of the distribution.
      */
     private final double variance;
+    /**
+     * Scratch array for random samples, reused between mutations.
+     */
+    private double[] samples = new double[0];
     
     /**
      * Constructs an abstract distribution mutation operator with provided parameters. Mutation intensity must be in
@@ -49,15 +55,45 @@ public abstract class AbstractDistributionMutation<C extends AbstractDoubleArray
         
         double[] values = chromosome.getValues();
         
-        for (int i = 0; i < values.length; i++) {
-            values[i] = calculateNewValue(values[i], variance * mutationIntensity);
-        }
+        calculateNewValues(values, variance * mutationIntensity);
         
         chromosome.setValues(values);
         
         return chromosome;
     }
     
+    /**
+     * Calculates the new values generated by the distribution using the old values and provided variance. The new
+     * values are stored in the provided array. By default, {@link #calculateNewValue(double, double)} is invoked for
+     * each element. Implementations can override this method in order to process the whole array at once.
+     * 
+     * @param values array which contains the old values. The new values will be stored in this array.
+     * @param variance value of the variance which will be provided to the distribution in order to calculate the new
+     *            values.
+     */
+    protected void calculateNewValues(double[] values, double variance) {
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = calculateNewValue(values[i], variance);
+        }
+    }
+    
+    /**
+     * Fetches the scratch array in which random samples can be stored. The array is reused between mutations and grows
+     * only when a longer array of values is mutated, so it may have more elements than requested.
+     * 
+     * @param length required number of elements.
+     * @return Scratch array which can hold at least <code>length</code> elements.
+     */
+    protected double[] getSamples(int length) {
+        
+        if (samples.length < length) {
+            samples = new double[Math.max(length, samples.length * 2)];
+        }
+        
+        return samples;
+    }
+    
     /**
      * Calculates the new value generated by the distribution using the old value and provided variance.
      * 
@@ -0,0 +1,111 @@
+package at.doml.genalg.operators.abstracts;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+
+/**
+ * An abstract class for crossover operators which are used on chromosomes based on a permutation. Only the two fittest
+ * parents are used in the crossover. Permutations of the parents are copied into scratch arrays which are kept in this
+ * object and reused for every child, so the only allocation per child is the array of the child chromosome itself.
+ * Derived classes can use {@link #ensureCapacity(int[], int)} to keep their own scratch arrays, and the shared
+ * {@link #used} set to mark elements which are already placed in the child.<br>
+ * <br>
+ * Because of the scratch arrays, instances of this class must not be used by multiple threads at the same time.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractPermutationChromosome
+ * @see AbstractCrossoverOperator
+ */
+public abstract class AbstractPermutationCrossover<C extends AbstractPermutationChromosome>
+        extends AbstractCrossoverOperator<C> {
+    
+    /**
+     * Set used to mark elements or positions which have already been processed.
+     */
+    protected final BitSet used = new BitSet();
+    /**
+     * Scratch array which holds the permutation of the fittest parent.
+     */
+    private int[] first = new int[0];
+    /**
+     * Scratch array which holds the permutation of the second fittest parent.
+     */
+    private int[] second = new int[0];
+    /**
+     * Scratch array which holds the permutation of the child.
+     */
+    private int[] child = new int[0];
+    
+    /**
+     * Constructs a permutation crossover operator with provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public AbstractPermutationCrossover(Random rand) {
+        super(rand);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IncompatibleParentsException thrown if provided parents are incompatible for crossover.
+     */
+    @Override
+    protected final C createChild(SortedSet<C> parents) {
+        
+        Iterator<C> parentIterator = parents.iterator();
+        C firstParent = parentIterator.next();
+        C secondParent = parentIterator.next();
+        int length = firstParent.getLength();
+        
+        if (length != secondParent.getLength()) {
+            throw new IncompatibleParentsException("One or more parents have permutations of different length.");
+        }
+        
+        first = ensureCapacity(first, length);
+        second = ensureCapacity(second, length);
+        child = ensureCapacity(child, length);
+        
+        firstParent.copyPermutationTo(first, 0);
+        secondParent.copyPermutationTo(second, 0);
+        used.clear();
+        
+        cross(first, second, child, length);
+        
+        C childChromosome = newChild(firstParent);
+        
+        childChromosome.setPermutation(child, 0, length);
+        
+        return childChromosome;
+    }
+    
+    /**
+     * Returns the provided array if it can hold the required number of elements, or a new array otherwise.
+     * 
+     * @param array current scratch array.
+     * @param length required number of elements.
+     * @return Array which can hold at least <code>length</code> elements.
+     */
+    protected static int[] ensureCapacity(int[] array, int length) {
+        
+        return array.length >= length ? array : new int[Math.max(length, array.length * 2)];
+    }
+    
+    /**
+     * Creates the permutation of the child from the permutations of the parents. Only the first <code>length</code>
+     * elements of each array are used. The {@link #used} set is cleared before this method is called.
+     * 
+     * @param first permutation of the fittest parent. Must not be modified.
+     * @param second permutation of the second fittest parent. Must not be modified.
+     * @param child array in which the permutation of the child will be written.
+     * @param length length of the permutations.
+     */
+    protected abstract void cross(int[] first, int[] second, int[] child, int length);
+}
@@ -2,6 +2,8 @@ package at.doml.genalg.operators.crossover;
 
 import at.doml.genalg.exceptions.IncompatibleParentsException;
 import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.operators.kernels.DoubleArrayKernels;
+import at.doml.genalg.operators.kernels.IDoubleArrayKernels;
 import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
 import java.util.Random;
 import java.util.SortedSet;
@@ -54,8 +56,7 @@ public class ArithmeticMeanCrossover<C extends AbstractDoubleArrayChromosome> ex
     @Override
     protected C createChild(SortedSet<C> parents) {
         
-        @SuppressWarnings("unchecked")
-        C child = (C) parents.first().newLikeThis();
+        C child = newChild(parents.first());
         
         child.setValues(calculateChildValues(parents));
         
@@ -71,6 +72,7 @@ public class ArithmeticMeanCrossover<C extends AbstractDoubleArrayChromosome> ex
      */
     private double[] calculateChildValues(SortedSet<C> parents) {
         
+        IDoubleArrayKernels kernels = DoubleArrayKernels.getInstance();
         double[] childValues = null;
         
         for (C parent : parents) {
@@ -81,17 +83,11 @@ public class ArithmeticMeanCrossover<C extends AbstractDoubleArrayChromosome> ex
             } else if (values.length != childValues.length) {
                 throw new IncompatibleParentsException("One or more parents have arrays of different length.");
             } else {
-                for (int i = 0; i < childValues.length; i++) {
-                    childValues[i] += values[i];
-                }
+                kernels.add(childValues, values);
             }
         }
         
-        int numOfParents = parents.size();
-        
-        for (int i = 0; i < childValues.length; i++) {
-            childValues[i] /= numOfParents;
-        }
+        kernels.divide(childValues, parents.size());
         
         return childValues;
     }
@@ -0,0 +1,81 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.operators.kernels.DoubleArrayKernels;
+import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+
+/**
+ * An implementation of the blend crossover (BLX-&alpha;) used for chromosomes based on an array of <code>double</code>s.
+ * Each element of the child's array is uniformly sampled from the interval which spans the corresponding elements of
+ * the parents, extended on both sides by <code>alpha</code> times the distance between them. Only the two fittest
+ * parents are used in the crossover.<br>
+ * <br>
+ * This crossover operator can only be used on chromosomes which extend <code>AbstractDoubleArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractDoubleArrayChromosome
+ * @see AbstractCrossoverOperator
+ */
+public class BlendCrossover<C extends AbstractDoubleArrayChromosome> extends AbstractCrossoverOperator<C> {
+    
+    /**
+     * Extension factor of the sampling interval.
+     */
+    private final double alpha;
+    
+    /**
+     * Constructs a <code>BlendCrossover</code> operator with provided extension factor. The extension factor must not
+     * be negative. Commonly used value is 0.5.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param alpha extension factor of the sampling interval. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided extension factor is negative.
+     */
+    public BlendCrossover(Random rand, double alpha) {
+        super(rand);
+        
+        if (alpha < 0.0) {
+            throw new IllegalArgumentException("Alpha must not be negative. Provided value was: " + alpha + ".");
+        }
+        
+        this.alpha = alpha;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IncompatibleParentsException thrown if provided parents are incompatible for crossover.
+     */
+    @Override
+    protected C createChild(SortedSet<C> parents) {
+        
+        Iterator<C> parentIterator = parents.iterator();
+        double[] first = parentIterator.next().getValues();
+        double[] second = parentIterator.next().getValues();
+        
+        if (first.length != second.length) {
+            throw new IncompatibleParentsException("One or more parents have arrays of different length.");
+        }
+        
+        double[] samples = new double[first.length];
+        
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = rand.nextDouble();
+        }
+        
+        DoubleArrayKernels.getInstance().blend(first, first, second, samples, alpha);
+        
+        C child = newChild(parents.first());
+        
+        child.setValues(first);
+        
+        return child;
+    }
+}
@@ -0,0 +1,64 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.operators.abstracts.AbstractPermutationCrossover;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of the cycle crossover (CX) used for chromosomes based on a permutation. Positions are divided
+ * into cycles, where each cycle is followed by looking up the element of the second parent in the fittest parent. The
+ * child takes the elements of the first cycle from the fittest parent, the elements of the second cycle from the second
+ * parent, and so on, so every element keeps the position it has in one of the parents.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractPermutationChromosome
+ * @see AbstractPermutationCrossover
+ */
+public class CycleCrossover<C extends AbstractPermutationChromosome> extends AbstractPermutationCrossover<C> {
+    
+    /**
+     * Scratch array which maps elements of the fittest parent to their positions.
+     */
+    private int[] positions = new int[0];
+    
+    /**
+     * Constructs a <code>CycleCrossover</code> operator with provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public CycleCrossover(Random rand) {
+        super(rand);
+    }
+    
+    @Override
+    protected void cross(int[] first, int[] second, int[] child, int length) {
+        
+        positions = ensureCapacity(positions, length);
+        
+        for (int i = 0; i < length; i++) {
+            positions[first[i]] = i;
+        }
+        
+        int cycle = 0;
+        
+        for (int start = 0; start < length; start++) {
+            if (used.get(start)) {
+                continue;
+            }
+            
+            int[] source = cycle % 2 == 0 ? first : second;
+            int i = start;
+            
+            do {
+                child[i] = source[i];
+                used.set(i);
+                i = positions[second[i]];
+            } while (i != start);
+            
+            cycle++;
+        }
+    }
+}
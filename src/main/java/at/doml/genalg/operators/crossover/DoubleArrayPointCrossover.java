@@ -26,7 +26,7 @@ public class DoubleArrayPointCrossover<C extends AbstractDoubleArrayChromosome>
     protected C createChild(SortedSet<C> parents) {
         
         int numOfParents = parents.size();
-        int arrayLength = parents.first().getArrayLangth();
+        int arrayLength = parents.first().getArrayLength();
         int totalNumOfCrossoverPoints = numOfParents * crossoverPoints;
         
         if (arrayLength < totalNumOfCrossoverPoints) {
@@ -0,0 +1,186 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.operators.abstracts.AbstractPermutationCrossover;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of the edge recombination crossover (ERX) used for chromosomes based on a permutation. Both
+ * parents are treated as cycles, and the child is built from the edges which appear in them. The child starts with the
+ * first element of the fittest parent. Each following element is the neighbour of the current element which has the
+ * fewest remaining neighbours, with ties broken randomly. When the current element has no remaining neighbours, a
+ * random unused element is taken. Neighbour lists and the pool of unused elements are kept in scratch arrays.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractPermutationChromosome
+ * @see AbstractPermutationCrossover
+ */
+public class EdgeRecombinationCrossover<C extends AbstractPermutationChromosome>
+        extends AbstractPermutationCrossover<C> {
+    
+    /**
+     * Maximum number of distinct neighbours of a single element, two from each parent.
+     */
+    private static final int MAX_NEIGHBOURS = 4;
+    /**
+     * Scratch array which holds neighbours of each element. Neighbours of element <code>e</code> are stored starting
+     * at index <code>e * MAX_NEIGHBOURS</code>.
+     */
+    private int[] neighbours = new int[0];
+    /**
+     * Scratch array which holds the number of remaining neighbours of each element.
+     */
+    private int[] numOfNeighbours = new int[0];
+    /**
+     * Scratch array which holds elements which are not yet placed in the child.
+     */
+    private int[] pool = new int[0];
+    /**
+     * Scratch array which maps elements to their positions in {@link #pool}.
+     */
+    private int[] poolPositions = new int[0];
+    
+    /**
+     * Constructs an <code>EdgeRecombinationCrossover</code> operator with provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public EdgeRecombinationCrossover(Random rand) {
+        super(rand);
+    }
+    
+    @Override
+    protected void cross(int[] first, int[] second, int[] child, int length) {
+        
+        if (length == 0) {
+            return;
+        }
+        
+        neighbours = ensureCapacity(neighbours, length * MAX_NEIGHBOURS);
+        numOfNeighbours = ensureCapacity(numOfNeighbours, length);
+        pool = ensureCapacity(pool, length);
+        poolPositions = ensureCapacity(poolPositions, length);
+        
+        for (int i = 0; i < length; i++) {
+            numOfNeighbours[i] = 0;
+            pool[i] = i;
+            poolPositions[i] = i;
+        }
+        
+        addEdges(first, length);
+        addEdges(second, length);
+        
+        int poolSize = length;
+        int current = first[0];
+        
+        for (int i = 0; i < length; i++) {
+            child[i] = current;
+            
+            int last = pool[--poolSize];
+            pool[poolPositions[current]] = last;
+            poolPositions[last] = poolPositions[current];
+            
+            for (int j = 0, offset = current * MAX_NEIGHBOURS; j < numOfNeighbours[current]; j++) {
+                removeEdge(neighbours[offset + j], current);
+            }
+            
+            if (poolSize == 0) {
+                break;
+            }
+            
+            current = selectNext(current);
+            
+            if (current < 0) {
+                current = pool[rand.nextInt(poolSize)];
+            }
+        }
+    }
+    
+    /**
+     * Adds the edges of the provided parent to the neighbour lists.
+     * 
+     * @param parent permutation of the parent.
+     * @param length length of the permutation.
+     */
+    private void addEdges(int[] parent, int length) {
+        
+        for (int i = 0; i < length; i++) {
+            int element = parent[i];
+            int next = parent[(i + 1) % length];
+            
+            if (element != next) {
+                addEdge(element, next);
+                addEdge(next, element);
+            }
+        }
+    }
+    
+    /**
+     * Adds the neighbour to the neighbour list of the element, unless it is already in the list.
+     * 
+     * @param element element whose list will be changed.
+     * @param neighbour neighbour to add.
+     */
+    private void addEdge(int element, int neighbour) {
+        
+        int offset = element * MAX_NEIGHBOURS;
+        
+        for (int i = 0; i < numOfNeighbours[element]; i++) {
+            if (neighbours[offset + i] == neighbour) {
+                return;
+            }
+        }
+        
+        neighbours[offset + numOfNeighbours[element]++] = neighbour;
+    }
+    
+    /**
+     * Removes the neighbour from the neighbour list of the element.
+     * 
+     * @param element element whose list will be changed.
+     * @param neighbour neighbour to remove.
+     */
+    private void removeEdge(int element, int neighbour) {
+        
+        int offset = element * MAX_NEIGHBOURS;
+        
+        for (int i = 0; i < numOfNeighbours[element]; i++) {
+            if (neighbours[offset + i] == neighbour) {
+                neighbours[offset + i] = neighbours[offset + --numOfNeighbours[element]];
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Selects the remaining neighbour of the current element which has the fewest remaining neighbours. Ties are broken
+     * randomly.
+     * 
+     * @param current current element.
+     * @return Selected neighbour, or -1 if the current element has no remaining neighbours.
+     */
+    private int selectNext(int current) {
+        
+        int next = -1;
+        int fewestNeighbours = Integer.MAX_VALUE;
+        int numOfTies = 0;
+        
+        for (int i = 0, offset = current * MAX_NEIGHBOURS; i < numOfNeighbours[current]; i++) {
+            int neighbour = neighbours[offset + i];
+            int count = numOfNeighbours[neighbour];
+            
+            if (count < fewestNeighbours) {
+                next = neighbour;
+                fewestNeighbours = count;
+                numOfTies = 1;
+            } else if (count == fewestNeighbours && rand.nextInt(++numOfTies) == 0) {
+                next = neighbour;
+            }
+        }
+        
+        return next;
+    }
+}
@@ -0,0 +1,87 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.population.abstracts.AbstractFloatArrayChromosome;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+
+/**
+ * An implementation of the blend crossover (BLX-&alpha;) used for chromosomes based on an array of <code>float</code>s.
+ * Each element of the child's array is uniformly sampled from the interval which spans the corresponding elements of
+ * the parents, extended on both sides by <code>alpha</code> times the distance between them. Only the two fittest
+ * parents are used in the crossover. Elements are calculated with <code>double</code> precision and then rounded to
+ * the nearest <code>float</code>.<br>
+ * <br>
+ * This crossover operator can only be used on chromosomes which extend <code>AbstractFloatArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractFloatArrayChromosome
+ * @see AbstractCrossoverOperator
+ * @see BlendCrossover
+ */
+public class FloatArrayBlendCrossover<C extends AbstractFloatArrayChromosome> extends AbstractCrossoverOperator<C> {
+    
+    /**
+     * Extension factor of the sampling interval.
+     */
+    private final double alpha;
+    
+    /**
+     * Constructs a <code>FloatArrayBlendCrossover</code> operator with provided extension factor. The extension factor
+     * must not be negative. Commonly used value is 0.5.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param alpha extension factor of the sampling interval. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided extension factor is negative.
+     */
+    public FloatArrayBlendCrossover(Random rand, double alpha) {
+        super(rand);
+        
+        if (alpha < 0.0) {
+            throw new IllegalArgumentException("Alpha must not be negative. Provided value was: " + alpha + ".");
+        }
+        
+        this.alpha = alpha;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IncompatibleParentsException thrown if provided parents are incompatible for crossover.
+     */
+    @Override
+    protected C createChild(SortedSet<C> parents) {
+        
+        Iterator<C> parentIterator = parents.iterator();
+        C firstParent = parentIterator.next();
+        C secondParent = parentIterator.next();
+        int length = firstParent.getArrayLength();
+        
+        if (length != secondParent.getArrayLength()) {
+            throw new IncompatibleParentsException("One or more parents have arrays of different length.");
+        }
+        
+        float[] childValues = new float[length];
+        
+        for (int i = 0; i < length; i++) {
+            double first = firstParent.getValue(i);
+            double second = secondParent.getValue(i);
+            double min = Math.min(first, second);
+            double distance = Math.max(first, second) - min;
+            double extension = alpha * distance;
+            
+            childValues[i] = (float) (min - extension + rand.nextDouble() * (distance + 2.0 * extension));
+        }
+        
+        C child = newChild(firstParent);
+        
+        child.setValues(childValues);
+        
+        return child;
+    }
+}
@@ -0,0 +1,64 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.population.abstracts.AbstractIntArrayChromosome;
+import java.util.Random;
+import java.util.SortedSet;
+
+/**
+ * An implementation of the uniform crossover used for chromosomes based on an array of <code>int</code>s. Each element
+ * of the child's array is copied from the corresponding element of a parent which is chosen at random, where every
+ * parent has an equal chance of being chosen. All provided parents are used in the crossover.<br>
+ * <br>
+ * This crossover operator can only be used on chromosomes which extend <code>AbstractIntArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractIntArrayChromosome
+ * @see AbstractCrossoverOperator
+ */
+public class IntArrayUniformCrossover<C extends AbstractIntArrayChromosome> extends AbstractCrossoverOperator<C> {
+    
+    /**
+     * Constructs an <code>IntArrayUniformCrossover</code> operator.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public IntArrayUniformCrossover(Random rand) {
+        super(rand);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IncompatibleParentsException thrown if provided parents are incompatible for crossover.
+     */
+    @Override
+    protected C createChild(SortedSet<C> parents) {
+        
+        @SuppressWarnings("unchecked")
+        C[] parentArray = (C[]) parents.toArray(new AbstractIntArrayChromosome[parents.size()]);
+        int length = parentArray[0].getArrayLength();
+        
+        for (C parent : parentArray) {
+            if (parent.getArrayLength() != length) {
+                throw new IncompatibleParentsException("One or more parents have arrays of different length.");
+            }
+        }
+        
+        int[] childValues = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            childValues[i] = parentArray[rand.nextInt(parentArray.length)].getValue(i);
+        }
+        
+        C child = newChild(parentArray[0]);
+        
+        child.setValues(childValues);
+        
+        return child;
+    }
+}
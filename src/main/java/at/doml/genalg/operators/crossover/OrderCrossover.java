@@ -0,0 +1,63 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.operators.abstracts.AbstractPermutationCrossover;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of the order crossover (OX) used for chromosomes based on a permutation. A randomly selected
+ * segment of the fittest parent is copied into the child at the same positions. The remaining positions, starting
+ * after the segment and wrapping around, are filled with the missing elements in the order in which they appear in the
+ * second parent, also starting after the segment.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractPermutationChromosome
+ * @see AbstractPermutationCrossover
+ */
+public class OrderCrossover<C extends AbstractPermutationChromosome> extends AbstractPermutationCrossover<C> {
+    
+    /**
+     * Constructs an <code>OrderCrossover</code> operator with provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public OrderCrossover(Random rand) {
+        super(rand);
+    }
+    
+    @Override
+    protected void cross(int[] first, int[] second, int[] child, int length) {
+        
+        if (length == 0) {
+            return;
+        }
+        
+        int start = rand.nextInt(length);
+        int end = rand.nextInt(length);
+        
+        if (start > end) {
+            int temp = start;
+            start = end;
+            end = temp;
+        }
+        
+        for (int i = start; i <= end; i++) {
+            child[i] = first[i];
+            used.set(first[i]);
+        }
+        
+        int childIndex = (end + 1) % length;
+        
+        for (int i = 1; i <= length; i++) {
+            int element = second[(end + i) % length];
+            
+            if (!used.get(element)) {
+                child[childIndex] = element;
+                childIndex = (childIndex + 1) % length;
+            }
+        }
+    }
+}
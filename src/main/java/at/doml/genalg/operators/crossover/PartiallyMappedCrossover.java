@@ -0,0 +1,75 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.operators.abstracts.AbstractPermutationCrossover;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of the partially mapped crossover (PMX) used for chromosomes based on a permutation. A randomly
+ * selected segment of the fittest parent is copied into the child at the same positions. The remaining positions are
+ * taken from the second parent. Elements of the second parent which already appear in the segment are replaced by
+ * following the mapping defined by the segment, until an element which is not in the segment is found.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractPermutationChromosome
+ * @see AbstractPermutationCrossover
+ */
+public class PartiallyMappedCrossover<C extends AbstractPermutationChromosome> extends AbstractPermutationCrossover<C> {
+    
+    /**
+     * Scratch array which maps elements of the fittest parent to their positions.
+     */
+    private int[] positions = new int[0];
+    
+    /**
+     * Constructs a <code>PartiallyMappedCrossover</code> operator with provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     */
+    public PartiallyMappedCrossover(Random rand) {
+        super(rand);
+    }
+    
+    @Override
+    protected void cross(int[] first, int[] second, int[] child, int length) {
+        
+        if (length == 0) {
+            return;
+        }
+        
+        positions = ensureCapacity(positions, length);
+        
+        for (int i = 0; i < length; i++) {
+            positions[first[i]] = i;
+        }
+        
+        int start = rand.nextInt(length);
+        int end = rand.nextInt(length);
+        
+        if (start > end) {
+            int temp = start;
+            start = end;
+            end = temp;
+        }
+        
+        for (int i = start; i <= end; i++) {
+            child[i] = first[i];
+            used.set(first[i]);
+        }
+        
+        for (int i = 0; i < length; i++) {
+            if (i < start || i > end) {
+                int element = second[i];
+                
+                while (used.get(element)) {
+                    element = second[positions[element]];
+                }
+                
+                child[i] = element;
+            }
+        }
+    }
+}
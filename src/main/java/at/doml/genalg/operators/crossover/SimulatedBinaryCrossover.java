@@ -0,0 +1,83 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.operators.abstracts.AbstractCrossoverOperator;
+import at.doml.genalg.operators.kernels.DoubleArrayKernels;
+import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SortedSet;
+
+/**
+ * An implementation of the simulated binary crossover (SBX) used for chromosomes based on an array of
+ * <code>double</code>s. The spread of each child element around the parent elements is controlled by the distribution
+ * index. Larger values of the distribution index produce children which are closer to the parents. Only the two fittest
+ * parents are used in the crossover, and the child is placed closer to the fitter parent when the spread factor is
+ * greater than 1.<br>
+ * <br>
+ * This crossover operator can only be used on chromosomes which extend <code>AbstractDoubleArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the crossover operator.
+ * @see AbstractDoubleArrayChromosome
+ * @see AbstractCrossoverOperator
+ */
+public class SimulatedBinaryCrossover<C extends AbstractDoubleArrayChromosome> extends AbstractCrossoverOperator<C> {
+    
+    /**
+     * Distribution index of the crossover.
+     */
+    private final double distributionIndex;
+    
+    /**
+     * Constructs a <code>SimulatedBinaryCrossover</code> operator with provided distribution index. The distribution
+     * index must not be negative. Commonly used values are in range [2, 20].
+     * 
+     * @param rand object used to generate random numbers.
+     * @param distributionIndex distribution index of the crossover. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided distribution index is negative.
+     */
+    public SimulatedBinaryCrossover(Random rand, double distributionIndex) {
+        super(rand);
+        
+        if (distributionIndex < 0.0) {
+            throw new IllegalArgumentException(
+                    "Distribution index must not be negative. Provided value was: " + distributionIndex + ".");
+        }
+        
+        this.distributionIndex = distributionIndex;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IncompatibleParentsException thrown if provided parents are incompatible for crossover.
+     */
+    @Override
+    protected C createChild(SortedSet<C> parents) {
+        
+        Iterator<C> parentIterator = parents.iterator();
+        double[] first = parentIterator.next().getValues();
+        double[] second = parentIterator.next().getValues();
+        
+        if (first.length != second.length) {
+            throw new IncompatibleParentsException("One or more parents have arrays of different length.");
+        }
+        
+        double[] samples = new double[first.length];
+        
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = rand.nextDouble();
+        }
+        
+        DoubleArrayKernels.getInstance().simulatedBinary(first, first, second, samples, distributionIndex);
+        
+        C child = newChild(parents.first());
+        
+        child.setValues(first);
+        
+        return child;
+    }
+}
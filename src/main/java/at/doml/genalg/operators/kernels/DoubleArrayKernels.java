@@ -0,0 +1,87 @@
+package at.doml.genalg.operators.kernels;
+
+/**
+ * Class which selects the <code>IDoubleArrayKernels</code> implementation used by the operators. The SIMD
+ * implementation is only present when the library is built with the <code>vector</code> profile, and it can only be
+ * loaded when the JVM is started with <code>--add-modules jdk.incubator.vector</code>. In all other cases the scalar
+ * implementation is used. The scalar implementation can also be forced by setting the {@value #KERNELS_PROPERTY}
+ * system property to <code>scalar</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IDoubleArrayKernels
+ */
+public class DoubleArrayKernels {
+    
+    /**
+     * Name of the system property which can be used to force the scalar kernels.
+     */
+    public static final String KERNELS_PROPERTY = "at.doml.genalg.kernels";
+    /**
+     * Fully qualified name of the SIMD kernels class.
+     */
+    private static final String VECTOR_KERNELS_CLASS = "at.doml.genalg.operators.kernels.VectorDoubleArrayKernels";
+    /**
+     * Scalar kernels.
+     */
+    private static final IDoubleArrayKernels SCALAR_KERNELS = new ScalarDoubleArrayKernels();
+    /**
+     * Kernels selected at runtime.
+     */
+    private static final IDoubleArrayKernels KERNELS = loadKernels();
+    
+    /**
+     * Empty protected constructor - this class only has static methods and fields.
+     */
+    protected DoubleArrayKernels() {}
+    
+    /**
+     * Fetches the kernels which were selected at runtime.
+     * 
+     * @return SIMD kernels if they are available, scalar kernels otherwise.
+     */
+    public static IDoubleArrayKernels getInstance() {
+        
+        return KERNELS;
+    }
+    
+    /**
+     * Fetches the scalar kernels.
+     * 
+     * @return Scalar kernels.
+     */
+    public static IDoubleArrayKernels getScalarInstance() {
+        
+        return SCALAR_KERNELS;
+    }
+    
+    /**
+     * Checks if SIMD kernels were selected at runtime.
+     * 
+     * @return <code>true</code> if SIMD kernels are used, <code>false</code> otherwise.
+     */
+    public static boolean isVectorized() {
+        
+        return KERNELS != SCALAR_KERNELS;
+    }
+    
+    /**
+     * Loads the SIMD kernels if they are available and not disabled.
+     * 
+     * @return Kernels which will be used by the operators.
+     */
+    private static IDoubleArrayKernels loadKernels() {
+        
+        if ("scalar".equals(System.getProperty(KERNELS_PROPERTY))) {
+            return SCALAR_KERNELS;
+        }
+        
+        try {
+            return (IDoubleArrayKernels) Class.forName(VECTOR_KERNELS_CLASS).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ignorable) {
+            // Either the library was built without the vector profile, or the incubator module is not present.
+            return SCALAR_KERNELS;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package at.doml.genalg.operators.kernels;
+
+/**
+ * Interface which defines element-wise kernels over arrays of <code>double</code>s. Kernels do not generate random
+ * numbers; all random samples are generated by the operator and passed to the kernel as an array, which keeps the
+ * sequence of random numbers identical regardless of the kernel implementation. All arrays passed to a single kernel
+ * invocation must have at least as many elements as the first array argument.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see DoubleArrayKernels
+ */
+public interface IDoubleArrayKernels {
+    
+    /**
+     * Adds scaled samples and an offset to the values. Each element is calculated as
+     * <code>values[i] = values[i] + samples[i] * scale + offset</code>.
+     * 
+     * @param values values which will be modified.
+     * @param samples samples which will be scaled and added to the values.
+     * @param scale factor by which the samples are multiplied.
+     * @param offset value which is added to each element.
+     */
+    public void addScaled(double[] values, double[] samples, double scale, double offset);
+    
+    /**
+     * Adds the values to the accumulator. Each element is calculated as
+     * <code>accumulator[i] = accumulator[i] + values[i]</code>.
+     * 
+     * @param accumulator array to which the values will be added.
+     * @param values values which will be added to the accumulator.
+     */
+    public void add(double[] accumulator, double[] values);
+    
+    /**
+     * Divides each element of the array by the provided divisor.
+     * 
+     * @param values values which will be divided.
+     * @param divisor value by which each element will be divided.
+     */
+    public void divide(double[] values, double divisor);
+    
+    /**
+     * Calculates the child values using the blend crossover (BLX-&alpha;). Each child element is sampled from the
+     * interval which spans the parent elements and is extended by <code>alpha</code> times the distance between them on
+     * both sides.
+     * 
+     * @param child array in which the child values will be stored.
+     * @param first values of the first parent.
+     * @param second values of the second parent.
+     * @param samples uniformly distributed samples from range [0, 1).
+     * @param alpha extension factor of the interval. Must not be negative.
+     */
+    public void blend(double[] child, double[] first, double[] second, double[] samples, double alpha);
+    
+    /**
+     * Calculates the child values using the simulated binary crossover (SBX). The spread factor of each element is
+     * calculated from the provided samples and the distribution index.
+     * 
+     * @param child array in which the child values will be stored.
+     * @param first values of the first parent.
+     * @param second values of the second parent.
+     * @param samples uniformly distributed samples from range [0, 1).
+     * @param distributionIndex distribution index of the crossover. Must not be negative.
+     */
+    public void simulatedBinary(double[] child, double[] first, double[] second, double[] samples,
+            double distributionIndex);
+}
@@ -0,0 +1,65 @@
+package at.doml.genalg.operators.kernels;
+
+/**
+ * An implementation of <code>IDoubleArrayKernels</code> which processes one element at a time. This implementation is
+ * always available and it is used whenever the SIMD implementation cannot be loaded.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IDoubleArrayKernels
+ */
+public class ScalarDoubleArrayKernels implements IDoubleArrayKernels {
+    
+    @Override
+    public void addScaled(double[] values, double[] samples, double scale, double offset) {
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i] + samples[i] * scale + offset;
+        }
+    }
+    
+    @Override
+    public void add(double[] accumulator, double[] values) {
+        
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] += values[i];
+        }
+    }
+    
+    @Override
+    public void divide(double[] values, double divisor) {
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] /= divisor;
+        }
+    }
+    
+    @Override
+    public void blend(double[] child, double[] first, double[] second, double[] samples, double alpha) {
+        
+        double rangeFactor = 1.0 + 2.0 * alpha;
+        
+        for (int i = 0; i < child.length; i++) {
+            double distance = Math.abs(first[i] - second[i]);
+            double lowerLimit = Math.min(first[i], second[i]) - alpha * distance;
+            
+            child[i] = lowerLimit + samples[i] * (distance * rangeFactor);
+        }
+    }
+    
+    @Override
+    public void simulatedBinary(double[] child, double[] first, double[] second, double[] samples,
+            double distributionIndex) {
+        
+        double exponent = 1.0 / (distributionIndex + 1.0);
+        
+        for (int i = 0; i < child.length; i++) {
+            double sample = samples[i];
+            double spread = sample <= 0.5 ? Math.pow(2.0 * sample, exponent)
+                    : Math.pow(1.0 / (2.0 * (1.0 - sample)), exponent);
+            
+            child[i] = 0.5 * ((1.0 + spread) * first[i] + (1.0 - spread) * second[i]);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contains element-wise kernels which are used by the operators working on arrays of <code>double</code>s. A scalar
+ * implementation is always available, and a SIMD implementation is selected at runtime when the library is built with
+ * the <code>vector</code> profile and the <code>jdk.incubator.vector</code> module is present.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.operators.kernels;
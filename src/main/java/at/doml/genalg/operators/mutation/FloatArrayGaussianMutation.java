@@ -0,0 +1,69 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.operators.abstracts.AbstractMutationOperator;
+import at.doml.genalg.population.abstracts.AbstractFloatArrayChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of mutation operator which uses the normal (or Gaussian) distribution to generate mutated values
+ * of chromosomes based on an array of <code>float</code>s. The new value is calculated in the same way as in
+ * <code>GaussianDistributionMutation</code>: a value generated by the normal distribution, whose variance is scaled by
+ * the mutation intensity, and the bias are added to the old value. The result is rounded to the nearest
+ * <code>float</code>.<br>
+ * <br>
+ * This mutation operator can only be used on chromosomes which extend <code>AbstractFloatArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the mutation operator.
+ * @see AbstractFloatArrayChromosome
+ * @see GaussianDistributionMutation
+ */
+public class FloatArrayGaussianMutation<C extends AbstractFloatArrayChromosome> extends AbstractMutationOperator<C> {
+    
+    /**
+     * The variance of the distribution.
+     */
+    private final double variance;
+    /**
+     * This value will always be added to the value generated by the distribution.
+     */
+    private final double bias;
+    
+    /**
+     * Constructs a normal distribution mutation operator using the provided parameters. Mutation intensity affects the
+     * variance which will be used in the distribution.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param mutationIntensity intensity at which mutation will occur. Valid value range is [0, 1].
+     * @param variance variance of the distribution. Must be a positive number.
+     * @param bias value which is always added to the value generated by the distribution.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public FloatArrayGaussianMutation(Random rand, double mutationIntensity, double variance, double bias) {
+        super(rand, mutationIntensity);
+        
+        if (variance <= 0) {
+            throw new IllegalArgumentException("Variance must be a positive number. Provided value was: " + variance);
+        }
+        
+        this.variance = variance;
+        this.bias = bias;
+    }
+    
+    @Override
+    public C mutate(C chromosome) {
+        
+        float[] values = chromosome.getValues();
+        double currentVariance = variance * mutationIntensity;
+        
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) (values[i] + rand.nextGaussian() * currentVariance + bias);
+        }
+        
+        chromosome.setValues(values);
+        
+        return chromosome;
+    }
+}
@@ -1,6 +1,7 @@
 package at.doml.genalg.operators.mutation;
 
 import at.doml.genalg.operators.abstracts.AbstractDistributionMutation;
+import at.doml.genalg.operators.kernels.DoubleArrayKernels;
 import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
 import java.util.Random;
 
@@ -54,4 +55,16 @@ public class GaussianDistributionMutation<C extends AbstractDoubleArrayChromosom
         
         return oldValue + rand.nextGaussian() * variance + bias;
     }
+    
+    @Override
+    protected void calculateNewValues(double[] values, double variance) {
+        
+        double[] samples = getSamples(values.length);
+        
+        for (int i = 0; i < values.length; i++) {
+            samples[i] = rand.nextGaussian();
+        }
+        
+        DoubleArrayKernels.getInstance().addScaled(values, samples, variance, bias);
+    }
 }
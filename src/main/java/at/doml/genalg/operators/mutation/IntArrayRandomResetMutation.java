@@ -0,0 +1,69 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.operators.abstracts.AbstractMutationOperator;
+import at.doml.genalg.population.abstracts.AbstractIntArrayChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of mutation operator which replaces values of chromosomes based on an array of <code>int</code>s
+ * with random values. Each value is replaced with probability equal to the mutation intensity, and the new value is
+ * uniformly chosen from the range defined by the provided lower and upper bounds, including both bounds.<br>
+ * <br>
+ * This mutation operator can only be used on chromosomes which extend <code>AbstractIntArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the mutation operator.
+ * @see AbstractIntArrayChromosome
+ * @see AbstractMutationOperator
+ */
+public class IntArrayRandomResetMutation<C extends AbstractIntArrayChromosome> extends AbstractMutationOperator<C> {
+    
+    /**
+     * Lowest value which can be generated.
+     */
+    private final int lowerBound;
+    /**
+     * Number of values which can be generated.
+     */
+    private final long range;
+    
+    /**
+     * Constructs a random reset mutation operator using the provided parameters. Upper bound must not be less than the
+     * lower bound.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param mutationIntensity chance for each value to be replaced. Valid value range is [0, 1].
+     * @param lowerBound lowest value which can be generated.
+     * @param upperBound highest value which can be generated.
+     * @throws IllegalArgumentException thrown if any of the arguments has an illegal value.
+     */
+    public IntArrayRandomResetMutation(Random rand, double mutationIntensity, int lowerBound, int upperBound) {
+        super(rand, mutationIntensity);
+        
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("Upper bound must not be less than the lower bound. "
+                    + "Provided values were: lowerBound = " + lowerBound + ", upperBound = " + upperBound + ".");
+        }
+        
+        this.lowerBound = lowerBound;
+        this.range = (long) upperBound - lowerBound + 1L;
+    }
+    
+    @Override
+    public C mutate(C chromosome) {
+        
+        int[] values = chromosome.getValues();
+        
+        for (int i = 0; i < values.length; i++) {
+            if (rand.nextDouble() < mutationIntensity) {
+                values[i] = (int) (lowerBound + (long) (rand.nextDouble() * range));
+            }
+        }
+        
+        chromosome.setValues(values);
+        
+        return chromosome;
+    }
+}
@@ -0,0 +1,55 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.operators.abstracts.AbstractMutationOperator;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of mutation operator which reverses segments of a permutation. For each element, a randomly
+ * selected segment of the permutation is reversed with provided probability rate.<br>
+ * <br>
+ * This mutation operator can only be used on chromosomes which extend the <code>AbstractPermutationChromosome</code>.
+ * The permutation is changed in place, without allocating new arrays.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in mutation operator.
+ * @see AbstractMutationOperator
+ * @see AbstractPermutationChromosome
+ */
+public class InversionMutation<C extends AbstractPermutationChromosome> extends AbstractMutationOperator<C> {
+    
+    /**
+     * Constructs an inversion mutation operator. Mutation intensity specifies the chance for each element of the
+     * permutation to trigger a reversal of a randomly selected segment. Mutation intensity must be in range [0, 1].
+     * 
+     * @param rand object used to generate random numbers.
+     * @param mutationIntensity intensity at which mutation will occur. Valid value range is [0, 1].
+     * @throws IllegalArgumentException thrown if provided value for mutation chance is invalid.
+     */
+    public InversionMutation(Random rand, double mutationIntensity) {
+        super(rand, mutationIntensity);
+    }
+    
+    @Override
+    public C mutate(C chromosome) {
+        
+        int length = chromosome.getLength();
+        
+        if (length < 2) {
+            return chromosome;
+        }
+        
+        for (int i = 0; i < length; i++) {
+            if (rand.nextDouble() < mutationIntensity) {
+                int from = rand.nextInt(length);
+                int to = rand.nextInt(length);
+                
+                chromosome.reverse(Math.min(from, to), Math.max(from, to) + 1);
+            }
+        }
+        
+        return chromosome;
+    }
+}
@@ -0,0 +1,52 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.operators.abstracts.AbstractMutationOperator;
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+import java.util.Random;
+
+/**
+ * An implementation of mutation operator which swaps elements of a permutation. Each element is swapped with a
+ * randomly selected element with provided probability rate.<br>
+ * <br>
+ * This mutation operator can only be used on chromosomes which extend the <code>AbstractPermutationChromosome</code>.
+ * The permutation is changed in place, without allocating new arrays.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in mutation operator.
+ * @see AbstractMutationOperator
+ * @see AbstractPermutationChromosome
+ */
+public class SwapMutation<C extends AbstractPermutationChromosome> extends AbstractMutationOperator<C> {
+    
+    /**
+     * Constructs a swap mutation operator. Mutation intensity specifies the chance for each element of the permutation
+     * to be swapped with a randomly selected element. Mutation intensity must be in range [0, 1].
+     * 
+     * @param rand object used to generate random numbers.
+     * @param mutationIntensity intensity at which mutation will occur. Valid value range is [0, 1].
+     * @throws IllegalArgumentException thrown if provided value for mutation chance is invalid.
+     */
+    public SwapMutation(Random rand, double mutationIntensity) {
+        super(rand, mutationIntensity);
+    }
+    
+    @Override
+    public C mutate(C chromosome) {
+        
+        int length = chromosome.getLength();
+        
+        if (length < 2) {
+            return chromosome;
+        }
+        
+        for (int i = 0; i < length; i++) {
+            if (rand.nextDouble() < mutationIntensity) {
+                chromosome.swap(i, rand.nextInt(length));
+            }
+        }
+        
+        return chromosome;
+    }
+}
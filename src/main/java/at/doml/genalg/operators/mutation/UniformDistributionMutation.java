@@ -1,6 +1,7 @@
 package at.doml.genalg.operators.mutation;
 
 import at.doml.genalg.operators.abstracts.AbstractDistributionMutation;
+import at.doml.genalg.operators.kernels.DoubleArrayKernels;
 import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
 import java.util.Random;
 
@@ -108,4 +109,19 @@ public class UniformDistributionMutation<C extends AbstractDoubleArrayChromosome
         
         return oldValue + currentRange * rand.nextDouble() + currentLowerLimit;
     }
+    
+    @Override
+    protected void calculateNewValues(double[] values, double variance) {
+        
+        double currentLowerLimit = SQRT_12 * variance / range * lowerLimit;
+        double currentUpperLimit = SQRT_12 * variance / range * upperLimit;
+        double currentRange = currentUpperLimit - currentLowerLimit;
+        double[] samples = getSamples(values.length);
+        
+        for (int i = 0; i < values.length; i++) {
+            samples[i] = rand.nextDouble();
+        }
+        
+        DoubleArrayKernels.getInstance().addScaled(values, samples, currentRange, currentLowerLimit);
+    }
 }
@@ -0,0 +1,104 @@
+package at.doml.genalg.operators.selection;
+
+import at.doml.genalg.operators.abstracts.AbstractSelectionOperator;
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * An implementation of tournament selection. Each selected chromosome is the winner of a tournament among randomly
+ * chosen chromosomes of the pool, so the selection pressure grows with the size of the tournament. Since the pool is
+ * sorted by fitness in descending order, the winner of a tournament is the chromosome with the lowest position in the
+ * pool, and no fitness values have to be compared. If the winner was already selected, the next fittest chromosome
+ * which was not selected yet is taken instead, so all selected chromosomes are distinct.<br>
+ * <br>
+ * The chromosomes of the pool are copied into an array on every call, so the pool may be modified between calls.
+ * Because the array which marks selected positions is reused, instances of this class must not be used by multiple
+ * threads at the same time.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be used in the selection operator.
+ * @see AbstractSelectionOperator
+ */
+public class TournamentSelection<C extends IChromosome> extends AbstractSelectionOperator<C> {
+    
+    /**
+     * Number of chromosomes which compete in a single tournament.
+     */
+    private final int tournamentSize;
+    /**
+     * Marks positions in the pool which were already selected. The array grows when a larger pool is provided.
+     */
+    private boolean[] selected = new boolean[0];
+    
+    /**
+     * Constructs a <code>TournamentSelection</code> with provided parameters.
+     * 
+     * @param rand object used to generate random numbers.
+     * @param selectionSize number of chromosomes to select. Must be at least
+     *            {@value at.doml.genalg.operators.interfaces.ISelectionOperator#MIN_SELECTION_SIZE}.
+     * @param tournamentSize number of chromosomes which compete in a single tournament. Must be at least 1.
+     * @throws IllegalArgumentException thrown if any of the sizes is illegal.
+     */
+    public TournamentSelection(Random rand, int selectionSize, int tournamentSize) {
+        super(rand, selectionSize);
+        
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException(
+                    "Tournament size must be at least 1. Provided value was: " + tournamentSize + ".");
+        }
+        
+        this.tournamentSize = tournamentSize;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException thrown if the pool contains fewer chromosomes than the selection size.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected SortedSet<C> performSelection(SortedSet<C> pool, int size) {
+        
+        int poolSize = pool.size();
+        
+        if (poolSize < size) {
+            throw new IllegalArgumentException(
+                    "Cannot select " + size + " chromosomes from a pool of " + poolSize + " chromosomes.");
+        }
+        
+        Object[] chromosomes = pool.toArray();
+        
+        if (selected.length < poolSize) {
+            selected = new boolean[poolSize];
+        }
+        
+        SortedSet<C> result = new TreeSet<>();
+        int[] winners = new int[size];
+        
+        for (int i = 0; i < size; i++) {
+            int winner = rand.nextInt(poolSize);
+            
+            for (int j = 1; j < tournamentSize; j++) {
+                winner = Math.min(winner, rand.nextInt(poolSize));
+            }
+            
+            while (selected[winner]) {
+                winner = (winner + 1) % poolSize;
+            }
+            
+            selected[winner] = true;
+            winners[i] = winner;
+            result.add((C) chromosomes[winner]);
+        }
+        
+        for (int winner : winners) {
+            selected[winner] = false;
+        }
+        
+        return result;
+    }
+}
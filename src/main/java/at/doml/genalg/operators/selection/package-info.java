@@ -0,0 +1,7 @@
+/**
+ * Contains implementations of selection operators.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.operators.selection;
@@ -1,7 +1,11 @@
 package at.doml.genalg.population.abstracts;
 
+import at.doml.genalg.population.interfaces.IIndexedIntConsumer;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * An abstract chromosome which is represented by an array of <code>byte</code>s.
@@ -21,6 +25,12 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
      * Array of bytes that represent this chromosome.
      */
     protected byte[] bytes;
+    /**
+     * Flag which indicates that the internal array may be shared with a clone of this chromosome. Such an array is
+     * copied before the first write, see {@link #prepareBytesForWrite()}. The flag is serialized, because an original
+     * and its clone which are serialized into the same stream are deserialized with a single shared array.
+     */
+    private boolean bytesShared;
     
     /**
      * An empty constructor used in {@link #newLikeThis()} method in derived classes.
@@ -52,6 +62,18 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
         this(bytes, true);
     }
     
+    /**
+     * {@inheritDoc} The internal array is not copied. Instead, it is shared between this chromosome and the target
+     * until either of them writes into it, so clones which are never changed do not copy their genes. Derived classes
+     * which override this method must call it.
+     */
+    @Override
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        bytesShared = true;
+        ((AbstractByteArrayChromosome) target).bytesShared = true;
+    }
+    
     /**
      * Creates an array which will contain the bytes stored in this object.
      * 
@@ -62,6 +84,20 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
         return Arrays.copyOf(bytes, bytes.length);
     }
     
+    /**
+     * Creates a read-only view of the bytes stored in this object. No copy of the bytes is made, so this method should
+     * be preferred over {@link #getBytes()} when the bytes are only read, for example during fitness evaluation. The
+     * view reflects changes made in place, but it is not updated if the internal array is replaced, which happens
+     * when the length changes or when an array shared with a clone is copied before a write. Because the view is a
+     * <code>ByteBuffer</code>, it can be passed directly to codecs which decode from buffers.
+     * 
+     * @return Read-only buffer which wraps the internal array.
+     */
+    public ByteBuffer getBytesView() {
+        
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+    
     /**
      * Copies the provided bytes into an array stored in this object.
      * 
@@ -69,11 +105,53 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
      */
     public void setBytes(byte[] bytes) {
         
-        if (bytes.length == this.bytes.length) {
+        if (this.bytes != null && !bytesShared && bytes.length == this.bytes.length) {
             System.arraycopy(bytes, 0, this.bytes, 0, this.bytes.length);
         } else {
             this.bytes = Arrays.copyOf(bytes, bytes.length);
+            bytesShared = false;
+        }
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the bytes from the specified range of the provided array into an array stored in this object. If the
+     * length of the range is equal to the length of the stored array, no new array is allocated.
+     * 
+     * @param source array which contains the new bytes.
+     * @param offset index of the first byte to copy.
+     * @param length number of bytes to copy.
+     * @throws IndexOutOfBoundsException thrown if the range exceeds the bounds of the provided array.
+     */
+    public void setBytes(byte[] source, int offset, int length) {
+        
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") is out of bounds for array of length " + source.length + ".");
         }
+        
+        if (this.bytes == null || bytesShared || length != this.bytes.length) {
+            this.bytes = new byte[length];
+            bytesShared = false;
+        }
+        
+        System.arraycopy(source, offset, this.bytes, 0, length);
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the bytes stored in this object into the provided array, starting at the specified offset. This can be
+     * used to export many chromosomes into a single array without allocating an array for each chromosome.
+     * 
+     * @param destination array into which the bytes will be copied.
+     * @param offset index in the destination array of the first copied byte.
+     * @throws IndexOutOfBoundsException thrown if the bytes do not fit into the destination array.
+     */
+    public void copyBytesTo(byte[] destination, int offset) {
+        
+        System.arraycopy(bytes, 0, destination, offset, bytes.length);
     }
     
     /**
@@ -81,11 +159,23 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
      * 
      * @return Length of the internal array.
      */
-    public int getArrayLangth() {
+    public int getArrayLength() {
         
         return bytes.length;
     }
     
+    /**
+     * Fetches the length of the internally stored array of <code>byte</code>s.
+     * 
+     * @return Length of the internal array.
+     * @deprecated misspelled name, use {@link #getArrayLength()} instead.
+     */
+    @Deprecated
+    public int getArrayLangth() {
+        
+        return getArrayLength();
+    }
+    
     /**
      * Fetches a byte with specified index stored in the internal array.
      * 
@@ -99,7 +189,24 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
     }
     
     /**
-     * Performs an action for each element of the internal array.
+     * Sets the byte with specified index in the internal array.
+     * 
+     * @param index index of the byte which will be set.
+     * @param value new byte which will be stored under specified index.
+     * @throws IndexOutOfBoundsException thrown if provided <code>index</code> is outside of internal array bounds.
+     */
+    public void setByte(int index, byte value) {
+        
+        prepareBytesForWrite();
+        
+        bytes[index] = value;
+        
+        genesChanged();
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. Every element is boxed before it is passed to the
+     * action, so {@link #forEachByte(IntConsumer)} should be preferred when many elements are visited.
      * 
      * @param action action which will be performed for each element of the internal array.
      */
@@ -109,4 +216,61 @@ public abstract class AbstractByteArrayChromosome extends AbstractChromosome {
             action.accept(bytes[i]);
         }
     }
+    
+    /**
+     * Performs an action for each element of the internal array. Unlike {@link #forEach(Consumer)}, elements are
+     * not boxed, so no objects are allocated during the iteration. Elements are widened to <code>int</code>s.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachByte(IntConsumer action) {
+        
+        for (int i = 0; i < bytes.length; i++) {
+            action.accept(bytes[i]);
+        }
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. The action receives both the index and the value of
+     * the element, and elements are not boxed. Elements are widened to <code>int</code>s.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachIndexedByte(IIndexedIntConsumer action) {
+        
+        for (int i = 0; i < bytes.length; i++) {
+            action.accept(i, bytes[i]);
+        }
+    }
+    
+    /**
+     * Creates a sequential stream of the elements of the internal array, widened to <code>int</code>s. The stream reads
+     * the internal array directly, so no copy of the array is made, and the chromosome must not be changed while the
+     * stream is being consumed.
+     * 
+     * @return Stream of the elements of the internal array.
+     */
+    public IntStream byteStream() {
+        
+        return IntStream.range(0, bytes.length).map(i -> bytes[i]);
+    }
+    
+    /**
+     * Ensures that the internal array is not shared with any clone of this chromosome, copying it if necessary. Derived
+     * classes must call this method before they write directly into the internal array.
+     */
+    protected final void prepareBytesForWrite() {
+        
+        if (bytesShared) {
+            bytes = Arrays.copyOf(bytes, bytes.length);
+            bytesShared = false;
+        }
+    }
+    
+    /**
+     * Called after the genes of this chromosome were changed through {@link #setBytes(byte[])},
+     * {@link #setBytes(byte[], int, int)} or {@link #setByte(int, byte)}. Derived classes which keep values
+     * calculated from the genes should invalidate them here. Default implementation does nothing.
+     */
+    protected void genesChanged() {}
 }
@@ -68,6 +68,12 @@ public abstract class AbstractChromosome implements IChromosome {
         fitnessEvaluated = true;
     }
     
+    @Override
+    public final void resetFitness() {
+        
+        fitnessEvaluated = false;
+    }
+    
     @Override
     public final IChromosome clone() {
         
@@ -1,7 +1,11 @@
 package at.doml.genalg.population.abstracts;
 
+import at.doml.genalg.population.interfaces.IIndexedDoubleConsumer;
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
 
 /**
  * An abstract chromosome which is represented by an array of <code>double</code>s.
@@ -21,6 +25,12 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
      * Array of values that represent this chromosome.
      */
     protected double[] values;
+    /**
+     * Flag which indicates that the internal array may be shared with a clone of this chromosome. Such an array is
+     * copied before the first write, see {@link #prepareValuesForWrite()}. The flag is serialized, because an original
+     * and its clone which are serialized into the same stream are deserialized with a single shared array.
+     */
+    private boolean valuesShared;
     
     /**
      * An empty constructor used in {@link #newLikeThis()} method in derived classes.
@@ -52,6 +62,18 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
         this.values = Arrays.copyOf(values, values.length);
     }
     
+    /**
+     * {@inheritDoc} The internal array is not copied. Instead, it is shared between this chromosome and the target
+     * until either of them writes into it, so clones which are never changed do not copy their genes. Derived classes
+     * which override this method must call it.
+     */
+    @Override
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        valuesShared = true;
+        ((AbstractDoubleArrayChromosome) target).valuesShared = true;
+    }
+    
     /**
      * Creates an array which will contain the values stored in this object.
      * 
@@ -62,6 +84,19 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
         return Arrays.copyOf(values, values.length);
     }
     
+    /**
+     * Creates a read-only view of the values stored in this object. No copy of the values is made, so this method
+     * should be preferred over {@link #getValues()} when the values are only read, for example during fitness
+     * evaluation. The view reflects changes made in place, but it is not updated if the internal array is replaced,
+     * which happens when the length changes or when an array shared with a clone is copied before a write.
+     * 
+     * @return Read-only buffer which wraps the internal array.
+     */
+    public DoubleBuffer getValuesView() {
+        
+        return DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+    
     /**
      * Copies the provided values into an array stored in this object.
      * 
@@ -69,11 +104,53 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
      */
     public void setValues(double[] values) {
         
-        if (values.length == this.values.length) {
+        if (this.values != null && !valuesShared && values.length == this.values.length) {
             System.arraycopy(values, 0, this.values, 0, this.values.length);
         } else {
             this.values = Arrays.copyOf(values, values.length);
+            valuesShared = false;
+        }
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the values from the specified range of the provided array into an array stored in this object. If the
+     * length of the range is equal to the length of the stored array, no new array is allocated.
+     * 
+     * @param source array which contains the new values.
+     * @param offset index of the first value to copy.
+     * @param length number of values to copy.
+     * @throws IndexOutOfBoundsException thrown if the range exceeds the bounds of the provided array.
+     */
+    public void setValues(double[] source, int offset, int length) {
+        
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") is out of bounds for array of length " + source.length + ".");
         }
+        
+        if (this.values == null || valuesShared || length != this.values.length) {
+            this.values = new double[length];
+            valuesShared = false;
+        }
+        
+        System.arraycopy(source, offset, this.values, 0, length);
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the values stored in this object into the provided array, starting at the specified offset. This can be
+     * used to export many chromosomes into a single array without allocating an array for each chromosome.
+     * 
+     * @param destination array into which the values will be copied.
+     * @param offset index in the destination array of the first copied value.
+     * @throws IndexOutOfBoundsException thrown if the values do not fit into the destination array.
+     */
+    public void copyValuesTo(double[] destination, int offset) {
+        
+        System.arraycopy(values, 0, destination, offset, values.length);
     }
     
     /**
@@ -81,11 +158,23 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
      * 
      * @return Length of the internal array.
      */
-    public int getArrayLangth() {
+    public int getArrayLength() {
         
         return values.length;
     }
     
+    /**
+     * Fetches the length of the internally stored array of <code>double</code>s.
+     * 
+     * @return Length of the internal array.
+     * @deprecated misspelled name, use {@link #getArrayLength()} instead.
+     */
+    @Deprecated
+    public int getArrayLangth() {
+        
+        return getArrayLength();
+    }
+    
     /**
      * Fetches a value with specified index stored in the internal array.
      * 
@@ -99,7 +188,24 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
     }
     
     /**
-     * Performs an action for each element of the internal array.
+     * Sets the value with specified index in the internal array.
+     * 
+     * @param index index of the value which will be set.
+     * @param value new value which will be stored under specified index.
+     * @throws IndexOutOfBoundsException thrown if provided <code>index</code> is outside of internal array bounds.
+     */
+    public void setValue(int index, double value) {
+        
+        prepareValuesForWrite();
+        
+        values[index] = value;
+        
+        genesChanged();
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. Every element is boxed before it is passed to the
+     * action, so {@link #forEachValue(DoubleConsumer)} should be preferred when many elements are visited.
      * 
      * @param action action which will be performed for each element of the internal array.
      */
@@ -109,4 +215,60 @@ public abstract class AbstractDoubleArrayChromosome extends AbstractChromosome {
             action.accept(values[i]);
         }
     }
+    
+    /**
+     * Performs an action for each element of the internal array. Unlike {@link #forEach(Consumer)}, elements are
+     * not boxed, so no objects are allocated during the iteration.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachValue(DoubleConsumer action) {
+        
+        for (int i = 0; i < values.length; i++) {
+            action.accept(values[i]);
+        }
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. The action receives both the index and the value of
+     * the element, and elements are not boxed.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachIndexedValue(IIndexedDoubleConsumer action) {
+        
+        for (int i = 0; i < values.length; i++) {
+            action.accept(i, values[i]);
+        }
+    }
+    
+    /**
+     * Creates a sequential stream of the elements of the internal array. The stream reads the internal array directly,
+     * so no copy of the array is made, and the chromosome must not be changed while the stream is being consumed.
+     * 
+     * @return Stream of the elements of the internal array.
+     */
+    public DoubleStream valueStream() {
+        
+        return Arrays.stream(values);
+    }
+    
+    /**
+     * Ensures that the internal array is not shared with any clone of this chromosome, copying it if necessary. Derived
+     * classes must call this method before they write directly into the internal array.
+     */
+    protected final void prepareValuesForWrite() {
+        
+        if (valuesShared) {
+            values = Arrays.copyOf(values, values.length);
+            valuesShared = false;
+        }
+    }
+    
+    /**
+     * Called after the genes of this chromosome were changed through {@link #setValues(double[])},
+     * {@link #setValues(double[], int, int)} or {@link #setValue(int, double)}. Derived classes which keep values
+     * calculated from the genes should invalidate them here. Default implementation does nothing.
+     */
+    protected void genesChanged() {}
 }
@@ -0,0 +1,253 @@
+package at.doml.genalg.population.abstracts;
+
+import at.doml.genalg.population.interfaces.IIndexedDoubleConsumer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * An abstract chromosome which is represented by an array of <code>float</code>s. Each value takes half the memory of a
+ * <code>double</code>, so this chromosome should be preferred over <code>AbstractDoubleArrayChromosome</code> when
+ * single precision is sufficient for the genes.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AbstractChromosome
+ * @see AbstractDoubleArrayChromosome
+ */
+public abstract class AbstractFloatArrayChromosome extends AbstractChromosome {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -3326840557155281974L;
+    /**
+     * Array of values that represent this chromosome.
+     */
+    protected float[] values;
+    /**
+     * Flag which indicates that the internal array may be shared with a clone of this chromosome. Such an array is
+     * copied before the first write, see {@link #prepareValuesForWrite()}. The flag is serialized, because an original
+     * and its clone which are serialized into the same stream are deserialized with a single shared array.
+     */
+    private boolean valuesShared;
+    
+    /**
+     * An empty constructor used in {@link #newLikeThis()} method in derived classes.
+     */
+    protected AbstractFloatArrayChromosome() {}
+    
+    /**
+     * Constructs an <code>AbstractFloatArrayChromosome</code> using the provided array of values.
+     * 
+     * @param values values which will be assigned to the chromosome.
+     * @param copyValues indicates if provided array of <code>float</code>s should be copied into a new array to use it
+     *            this object.
+     */
+    protected AbstractFloatArrayChromosome(float[] values, boolean copyValues) {
+        if (copyValues) {
+            this.values = Arrays.copyOf(values, values.length);
+        } else {
+            this.values = values;
+        }
+    }
+    
+    /**
+     * Constructs an <code>AbstractFloatArrayChromosome</code> using the provided array of values. Values are copied in
+     * order to insure that they cannot be altered outside of this chromosome.
+     * 
+     * @param values values which will be assigned to the chromosome.
+     */
+    public AbstractFloatArrayChromosome(float[] values) {
+        this.values = Arrays.copyOf(values, values.length);
+    }
+    
+    /**
+     * {@inheritDoc} The internal array is not copied. Instead, it is shared between this chromosome and the target
+     * until either of them writes into it, so clones which are never changed do not copy their genes. Derived classes
+     * which override this method must call it.
+     */
+    @Override
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        valuesShared = true;
+        ((AbstractFloatArrayChromosome) target).valuesShared = true;
+    }
+    
+    /**
+     * Creates an array which will contain the values stored in this object.
+     * 
+     * @return Array which contains values stored in this object.
+     */
+    public float[] getValues() {
+        
+        return Arrays.copyOf(values, values.length);
+    }
+    
+    /**
+     * Creates a read-only view of the values stored in this object. No copy of the values is made, so this method
+     * should be preferred over {@link #getValues()} when the values are only read, for example during fitness
+     * evaluation. The view reflects changes made in place, but it is not updated if the internal array is replaced,
+     * which happens when the length changes or when an array shared with a clone is copied before a write.
+     * 
+     * @return Read-only buffer which wraps the internal array.
+     */
+    public FloatBuffer getValuesView() {
+        
+        return FloatBuffer.wrap(values).asReadOnlyBuffer();
+    }
+    
+    /**
+     * Copies the provided values into an array stored in this object.
+     * 
+     * @param values the new values which will be stored in this object.
+     */
+    public void setValues(float[] values) {
+        
+        if (this.values != null && !valuesShared && values.length == this.values.length) {
+            System.arraycopy(values, 0, this.values, 0, this.values.length);
+        } else {
+            this.values = Arrays.copyOf(values, values.length);
+            valuesShared = false;
+        }
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the values from the specified range of the provided array into an array stored in this object. If the
+     * length of the range is equal to the length of the stored array, no new array is allocated.
+     * 
+     * @param source array which contains the new values.
+     * @param offset index of the first value to copy.
+     * @param length number of values to copy.
+     * @throws IndexOutOfBoundsException thrown if the range exceeds the bounds of the provided array.
+     */
+    public void setValues(float[] source, int offset, int length) {
+        
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") is out of bounds for array of length " + source.length + ".");
+        }
+        
+        if (this.values == null || valuesShared || length != this.values.length) {
+            this.values = new float[length];
+            valuesShared = false;
+        }
+        
+        System.arraycopy(source, offset, this.values, 0, length);
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the values stored in this object into the provided array, starting at the specified offset. This can be
+     * used to export many chromosomes into a single array without allocating an array for each chromosome.
+     * 
+     * @param destination array into which the values will be copied.
+     * @param offset index in the destination array of the first copied value.
+     * @throws IndexOutOfBoundsException thrown if the values do not fit into the destination array.
+     */
+    public void copyValuesTo(float[] destination, int offset) {
+        
+        System.arraycopy(values, 0, destination, offset, values.length);
+    }
+    
+    /**
+     * Fetches the length of the internally stored array of <code>float</code>s.
+     * 
+     * @return Length of the internal array.
+     */
+    public int getArrayLength() {
+        
+        return values.length;
+    }
+    
+    /**
+     * Fetches a value with specified index stored in the internal array.
+     * 
+     * @param index index of the value which will be fetched.
+     * @return Value from the internal array stored under specified index.
+     * @throws IndexOutOfBoundsException thrown if provided <code>index</code> is outside of internal array bounds.
+     */
+    public float getValue(int index) {
+        
+        return values[index];
+    }
+    
+    /**
+     * Sets the value with specified index in the internal array.
+     * 
+     * @param index index of the value which will be set.
+     * @param value new value which will be stored under specified index.
+     * @throws IndexOutOfBoundsException thrown if provided <code>index</code> is outside of internal array bounds.
+     */
+    public void setValue(int index, float value) {
+        
+        prepareValuesForWrite();
+        
+        values[index] = value;
+        
+        genesChanged();
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. Elements are not boxed, so no objects are allocated
+     * during the iteration. Elements are widened to <code>double</code>s.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachValue(DoubleConsumer action) {
+        
+        for (int i = 0; i < values.length; i++) {
+            action.accept(values[i]);
+        }
+    }
+    
+    /**
+     * Performs an action for each element of the internal array. The action receives both the index and the value of
+     * the element, and elements are not boxed. Elements are widened to <code>double</code>s.
+     * 
+     * @param action action which will be performed for each element of the internal array.
+     */
+    public void forEachIndexedValue(IIndexedDoubleConsumer action) {
+        
+        for (int i = 0; i < values.length; i++) {
+            action.accept(i, values[i]);
+        }
+    }
+    
+    /**
+     * Creates a sequential stream of the elements of the internal array, widened to <code>double</code>s. The stream
+     * reads the internal array directly, so no copy of the array is made, and the chromosome must not be changed while
+     * the stream is being consumed.
+     * 
+     * @return Stream of the elements of the internal array.
+     */
+    public DoubleStream valueStream() {
+        
+        return IntStream.range(0, values.length).mapToDouble(i -> values[i]);
+    }
+    
+    /**
+     * Ensures that the internal array is not shared with any clone of this chromosome, copying it if necessary. Derived
+     * classes must call this method before they write directly into the internal array.
+     */
+    protected final void prepareValuesForWrite() {
+        
+        if (valuesShared) {
+            values = Arrays.copyOf(values, values.length);
+            valuesShared = false;
+        }
+    }
+    
+    /**
+     * Called after the genes of this chromosome were changed through {@link #setValues(float[])},
+     * {@link #setValues(float[], int, int)} or {@link #setValue(int, float)}. Derived classes which keep values
+     * calculated from the genes should invalidate them here. Default implementation does nothing.
+     */
+    protected void genesChanged() {}
+}
@@ -0,0 +1,222 @@
+package at.doml.genalg.population.abstracts;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An abstract chromosome which is represented by a permutation of numbers from 0 to <code>n - 1</code>, stored in an
+ * array of <code>int</code>s. This kind of chromosome is used for ordering problems, such as scheduling and routing.
+ * Besides setting the whole permutation, this class offers methods which change the permutation in place, without
+ * allocating new arrays.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AbstractChromosome
+ */
+public abstract class AbstractPermutationChromosome extends AbstractChromosome {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 3380145291773092731L;
+    /**
+     * Permutation which represents this chromosome.
+     */
+    protected int[] permutation;
+    
+    /**
+     * An empty constructor used in {@link #newLikeThis()} method in derived classes.
+     */
+    protected AbstractPermutationChromosome() {}
+    
+    /**
+     * Constructs an <code>AbstractPermutationChromosome</code> using the provided permutation. The permutation is
+     * copied in order to ensure that it cannot be altered outside of this chromosome.
+     * 
+     * @param permutation permutation of numbers from 0 to <code>permutation.length - 1</code>.
+     * @throws IllegalArgumentException thrown if provided array is not a permutation.
+     */
+    public AbstractPermutationChromosome(int[] permutation) {
+        checkPermutation(permutation);
+        
+        this.permutation = Arrays.copyOf(permutation, permutation.length);
+    }
+    
+    /**
+     * Checks if the provided array contains every number from 0 to <code>array.length - 1</code> exactly once.
+     * 
+     * @param array array to check.
+     * @throws IllegalArgumentException thrown if provided array is not a permutation.
+     */
+    protected static void checkPermutation(int[] array) {
+        
+        BitSet seen = new BitSet(array.length);
+        
+        for (int element : array) {
+            if (element < 0 || element >= array.length || seen.get(element)) {
+                throw new IllegalArgumentException("Provided array is not a permutation of numbers from 0 to "
+                        + (array.length - 1) + ": " + Arrays.toString(array));
+            }
+            
+            seen.set(element);
+        }
+    }
+    
+    @Override
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        // Elements are swapped in place, so the copy must not share the array with this chromosome.
+        ((AbstractPermutationChromosome) target).permutation = Arrays.copyOf(permutation, permutation.length);
+    }
+    
+    /**
+     * Creates an array which will contain the permutation stored in this object.
+     * 
+     * @return Array which contains the permutation stored in this object.
+     */
+    public int[] getPermutation() {
+        
+        return Arrays.copyOf(permutation, permutation.length);
+    }
+    
+    /**
+     * Copies the provided permutation into an array stored in this object. The array is expected to be a permutation,
+     * which is not checked by this method.
+     * 
+     * @param permutation the new permutation which will be stored in this object.
+     */
+    public void setPermutation(int[] permutation) {
+        
+        setPermutation(permutation, 0, permutation.length);
+    }
+    
+    /**
+     * Copies the permutation from the specified range of the provided array into an array stored in this object. If
+     * the length of the range is equal to the length of the stored array, no new array is allocated. The range is
+     * expected to contain a permutation, which is not checked by this method.
+     * 
+     * @param source array which contains the new permutation.
+     * @param offset index of the first element to copy.
+     * @param length number of elements to copy.
+     * @throws IndexOutOfBoundsException thrown if the range exceeds the bounds of the provided array.
+     */
+    public void setPermutation(int[] source, int offset, int length) {
+        
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") is out of bounds for array of length " + source.length + ".");
+        }
+        
+        if (permutation == null || length != permutation.length) {
+            permutation = new int[length];
+        }
+        
+        System.arraycopy(source, offset, permutation, 0, length);
+        
+        genesChanged();
+    }
+    
+    /**
+     * Copies the permutation stored in this object into the provided array, starting at the specified offset.
+     * 
+     * @param destination array into which the permutation will be copied.
+     * @param offset index in the destination array of the first copied element.
+     * @throws IndexOutOfBoundsException thrown if the permutation does not fit into the destination array.
+     */
+    public void copyPermutationTo(int[] destination, int offset) {
+        
+        System.arraycopy(permutation, 0, destination, offset, permutation.length);
+    }
+    
+    /**
+     * Fetches the length of the permutation.
+     * 
+     * @return Length of the permutation.
+     */
+    public int getLength() {
+        
+        return permutation.length;
+    }
+    
+    /**
+     * Fetches the element of the permutation with specified index.
+     * 
+     * @param index index of the element which will be fetched.
+     * @return Element stored under specified index.
+     * @throws IndexOutOfBoundsException thrown if provided <code>index</code> is outside of the permutation.
+     */
+    public int getElement(int index) {
+        
+        return permutation[index];
+    }
+    
+    /**
+     * Swaps two elements of the permutation.
+     * 
+     * @param first index of the first element.
+     * @param second index of the second element.
+     * @throws IndexOutOfBoundsException thrown if any index is outside of the permutation.
+     */
+    public void swap(int first, int second) {
+        
+        int element = permutation[first];
+        permutation[first] = permutation[second];
+        permutation[second] = element;
+        
+        genesChanged();
+    }
+    
+    /**
+     * Removes the element from one position and inserts it at another position. Elements between the two positions are
+     * shifted by one place.
+     * 
+     * @param from index of the element to move.
+     * @param to index at which the element will be after the move.
+     * @throws IndexOutOfBoundsException thrown if any index is outside of the permutation.
+     */
+    public void move(int from, int to) {
+        
+        int element = permutation[from];
+        
+        if (from < to) {
+            System.arraycopy(permutation, from + 1, permutation, from, to - from);
+        } else {
+            System.arraycopy(permutation, to, permutation, to + 1, from - to);
+        }
+        
+        permutation[to] = element;
+        
+        genesChanged();
+    }
+    
+    /**
+     * Reverses the order of elements in the specified range of the permutation.
+     * 
+     * @param from index of the first element of the range, inclusive.
+     * @param to index of the last element of the range, exclusive.
+     * @throws IndexOutOfBoundsException thrown if the range is outside of the permutation.
+     */
+    public void reverse(int from, int to) {
+        
+        if (from < 0 || to > permutation.length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to
+                    + ") is out of bounds for permutation of length " + permutation.length + ".");
+        }
+        
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int element = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = element;
+        }
+        
+        genesChanged();
+    }
+    
+    /**
+     * Called after the permutation of this chromosome was changed through any method of this class. Derived classes
+     * which keep values calculated from the permutation should invalidate them here. Default implementation does
+     * nothing.
+     */
+    protected void genesChanged() {}
+}
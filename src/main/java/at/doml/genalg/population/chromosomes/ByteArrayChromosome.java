@@ -1,7 +1,6 @@
 package at.doml.genalg.population.chromosomes;
 
 import at.doml.genalg.population.abstracts.AbstractByteArrayChromosome;
-import at.doml.genalg.population.abstracts.AbstractChromosome;
 
 /**
  * An implementation of the <code>AbstractByteArrayChromosome</code>.
@@ -33,9 +32,6 @@ public final class ByteArrayChromosome extends AbstractByteArrayChromosome {
         super(bytes, true);
     }
     
-    @Override
-    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {}
-    
     @Override
     public ByteArrayChromosome newLikeThis() {
         
@@ -2,6 +2,7 @@ package at.doml.genalg.population.chromosomes;
 
 import at.doml.genalg.population.abstracts.AbstractByteArrayChromosome;
 import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.codecs.interfaces.IRandomAccessByteArrayCodec;
 import at.doml.genalg.population.abstracts.AbstractChromosome;
 
 /**
@@ -15,7 +16,16 @@ import at.doml.genalg.population.abstracts.AbstractChromosome;
  * There are no public constructors for this class. To construct a chromosome using an item, use
  * {@link #fromMutable(Object, IByteArrayCodec)} or {@link #fromImmutable(Object, IByteArrayCodec)} static methods of
  * this class. To construct a chromosome using an array of <code>byte</code>s, use
- * {@link #fromBytes(byte[], IByteArrayCodec)} static method.
+ * {@link #fromBytes(byte[], IByteArrayCodec)} static method.<br>
+ * <br>
+ * If the codec implements <code>IRandomAccessByteArrayCodec</code>, single values can be decoded directly from the
+ * array of <code>byte</code>s using {@link #getDecodedValue(int)} or {@link #getDecodedView()}, without decoding the
+ * whole item.<br>
+ * <br>
+ * By default, a mutable item is decoded again on every call to {@link #getItem()}, so that the returned object cannot
+ * be used to change the contents of this chromosome. When decode caching is enabled using
+ * {@link #setDecodeCaching(boolean)}, the decoded item is kept until the genes are changed, and repeated calls of
+ * {@link #getItem()} return the same object. In that mode, the returned item must not be modified.
  * 
  * @author Domagoj Latečki
  * @version 1.0
@@ -37,6 +47,10 @@ public final class ByteArrayWrapperChromosome<I> extends AbstractByteArrayChromo
      * Initial setting of the <code>immutable</code> flag.
      */
     private final boolean initialImmutable;
+    /**
+     * Indicates if the decoded item is cached until the genes change.
+     */
+    private boolean decodeCaching;
     /**
      * Item wrapped by this object.
      */
@@ -161,24 +175,24 @@ public final class ByteArrayWrapperChromosome<I> extends AbstractByteArrayChromo
     
     @Override
     @SuppressWarnings("unchecked")
-    protected void deepCopyTo(AbstractChromosome target) {
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        super.deepCopyTo(target);
         
         // Type is guaranteed to be DoubleArrayWrapperChromosome<I> because the target is cloned from this object.
-        ((ByteArrayWrapperChromosome<I>) target).item = immutable ? item : codec.decode(bytes);
+        ((ByteArrayWrapperChromosome<I>) target).item = immutable || decodeCaching ? item : codec.decode(bytes);
     }
     
     @Override
-    public void setBytes(byte[] bytes) {
-        
-        super.setBytes(bytes);
+    protected void genesChanged() {
         
-        item = codec.decode(this.bytes);
         immutable = true;
+        item = decodeCaching ? null : codec.decode(bytes);
     }
     
     /**
-     * Fetches the item wrapped in this object. If item is not immutable, the new object will be returned which will be
-     * identical to the stored object.
+     * Fetches the item wrapped in this object. If item is not immutable and decode caching is disabled, the new object
+     * will be returned which will be identical to the stored object.
      * 
      * @return Object wrapped in this object.
      */
@@ -189,7 +203,7 @@ public final class ByteArrayWrapperChromosome<I> extends AbstractByteArrayChromo
             immutable = true;
         }
         
-        return immutable ? item : codec.decode(bytes);
+        return immutable || decodeCaching ? item : codec.decode(bytes);
     }
     
     /**
@@ -206,9 +220,100 @@ public final class ByteArrayWrapperChromosome<I> extends AbstractByteArrayChromo
         this.item = immutable ? item : codec.decode(bytes);
     }
     
+    /**
+     * Checks if single values can be decoded from this chromosome without decoding the whole item.
+     * 
+     * @return <code>true</code> if the codec implements <code>IRandomAccessByteArrayCodec</code>, <code>false</code>
+     *         otherwise.
+     */
+    public boolean isRandomAccess() {
+        
+        return codec instanceof IRandomAccessByteArrayCodec;
+    }
+    
+    /**
+     * Decodes a single value from the array of <code>byte</code>s. Other values are not decoded.
+     * 
+     * @param index index of the value to decode.
+     * @return Decoded value.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     * @throws UnsupportedOperationException thrown if the codec does not support random access.
+     */
+    public double getDecodedValue(int index) {
+        
+        return getRandomAccessCodec().decodeValue(bytes, index);
+    }
+    
+    /**
+     * Fetches the number of values which are encoded in the array of <code>byte</code>s.
+     * 
+     * @return Number of encoded values.
+     * @throws UnsupportedOperationException thrown if the codec does not support random access.
+     */
+    public int getNumOfDecodedValues() {
+        
+        return getRandomAccessCodec().getNumOfValues(bytes);
+    }
+    
+    /**
+     * Fetches a view which decodes values of this chromosome on demand.
+     * 
+     * @return View of the decoded values.
+     * @throws UnsupportedOperationException thrown if the codec does not support random access.
+     */
+    public DecodedValuesView getDecodedView() {
+        
+        getRandomAccessCodec();
+        
+        return new DecodedValuesView(this);
+    }
+    
+    /**
+     * Fetches the codec as a random access codec.
+     * 
+     * @return Codec used by this chromosome.
+     * @throws UnsupportedOperationException thrown if the codec does not support random access.
+     */
+    private IRandomAccessByteArrayCodec getRandomAccessCodec() {
+        
+        if (!isRandomAccess()) {
+            throw new UnsupportedOperationException(
+                    "Codec " + codec.getClass().getName() + " does not support decoding of single values.");
+        }
+        
+        return (IRandomAccessByteArrayCodec) codec;
+    }
+    
+    /**
+     * Checks if decode caching is enabled.
+     * 
+     * @return <code>true</code> if the decoded item is cached, <code>false</code> otherwise.
+     */
+    public boolean isDecodeCaching() {
+        
+        return decodeCaching;
+    }
+    
+    /**
+     * Enables or disables decode caching. When enabled, the item is decoded at most once after each change of the
+     * genes, and {@link #getItem()} returns the cached item, which must not be modified. Changes through
+     * {@link #setBytes(byte[])} or {@link #setByte(int, byte)} only invalidate the cached item, so the decoding is
+     * deferred until the item is needed. Chromosomes cloned from this object or created by {@link #newLikeThis()} use
+     * the same setting.
+     * 
+     * @param decodeCaching indicates if the decoded item should be cached.
+     */
+    public void setDecodeCaching(boolean decodeCaching) {
+        
+        this.decodeCaching = decodeCaching;
+    }
+    
     @Override
     public ByteArrayWrapperChromosome<I> newLikeThis() {
         
-        return new ByteArrayWrapperChromosome<>(initialImmutable, codec);
+        ByteArrayWrapperChromosome<I> chromosome = new ByteArrayWrapperChromosome<>(initialImmutable, codec);
+        chromosome.decodeCaching = decodeCaching;
+        
+        return chromosome;
     }
 }
@@ -0,0 +1,55 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.codecs.interfaces.IRandomAccessByteArrayCodec;
+
+/**
+ * A read-only view of the decoded values of a <code>ByteArrayWrapperChromosome</code>. Values are decoded one at a time
+ * when they are requested, so reading a few values does not require decoding of the whole array. The view always
+ * reflects the current contents of the chromosome.<br>
+ * <br>
+ * Instances of this class are fetched by {@link ByteArrayWrapperChromosome#getDecodedView()}.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see ByteArrayWrapperChromosome
+ * @see IRandomAccessByteArrayCodec
+ */
+public final class DecodedValuesView {
+    
+    /**
+     * Chromosome whose values are viewed.
+     */
+    private final ByteArrayWrapperChromosome<?> chromosome;
+    
+    /**
+     * Constructs a <code>DecodedValuesView</code> of the provided chromosome.
+     * 
+     * @param chromosome chromosome whose values will be viewed.
+     */
+    DecodedValuesView(ByteArrayWrapperChromosome<?> chromosome) {
+        this.chromosome = chromosome;
+    }
+    
+    /**
+     * Decodes the value with specified index.
+     * 
+     * @param index index of the value.
+     * @return Decoded value.
+     * @throws IndexOutOfBoundsException thrown if the index is out of range.
+     */
+    public double get(int index) {
+        
+        return chromosome.getDecodedValue(index);
+    }
+    
+    /**
+     * Fetches the number of values in this view.
+     * 
+     * @return Number of values.
+     */
+    public int size() {
+        
+        return chromosome.getNumOfDecodedValues();
+    }
+}
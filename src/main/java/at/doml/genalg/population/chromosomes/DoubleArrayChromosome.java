@@ -1,6 +1,5 @@
 package at.doml.genalg.population.chromosomes;
 
-import at.doml.genalg.population.abstracts.AbstractChromosome;
 import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
 
 /**
@@ -33,9 +32,6 @@ public final class DoubleArrayChromosome extends AbstractDoubleArrayChromosome {
         super(values);
     }
     
-    @Override
-    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {}
-    
     @Override
     public DoubleArrayChromosome newLikeThis() {
         
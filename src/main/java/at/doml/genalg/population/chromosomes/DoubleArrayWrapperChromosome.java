@@ -15,7 +15,12 @@ import at.doml.genalg.population.abstracts.AbstractDoubleArrayChromosome;
  * There are no public constructors for this class. To construct a chromosome using an item, use
  * {@link #fromMutable(Object, IDoubleArrayCodec)} or {@link #fromImmutable(Object, IDoubleArrayCodec)} static methods
  * of this class. To construct a chromosome using an array of <code>double</code>s, use
- * {@link #fromValues(double[], IDoubleArrayCodec)} static method.
+ * {@link #fromValues(double[], IDoubleArrayCodec)} static method.<br>
+ * <br>
+ * By default, a mutable item is decoded again on every call to {@link #getItem()}, so that the returned object cannot
+ * be used to change the contents of this chromosome. When decode caching is enabled using
+ * {@link #setDecodeCaching(boolean)}, the decoded item is kept until the genes are changed, and repeated calls of
+ * {@link #getItem()} return the same object. In that mode, the returned item must not be modified.
  * 
  * @author Domagoj Latečki
  * @version 1.0
@@ -37,6 +42,10 @@ public final class DoubleArrayWrapperChromosome<I> extends AbstractDoubleArrayCh
      * Initial setting of the <code>immutable</code> flag.
      */
     private final boolean initialImmutable;
+    /**
+     * Indicates if the decoded item is cached until the genes change.
+     */
+    private boolean decodeCaching;
     /**
      * Item wrapped by this object.
      */
@@ -162,24 +171,24 @@ public final class DoubleArrayWrapperChromosome<I> extends AbstractDoubleArrayCh
     
     @Override
     @SuppressWarnings("unchecked")
-    protected void deepCopyTo(AbstractChromosome target) {
+    protected void deepCopyTo(AbstractChromosome target) throws CloneNotSupportedException {
+        
+        super.deepCopyTo(target);
         
         // Type is guaranteed to be DoubleArrayWrapperChromosome<I> because the target is cloned from this object.
-        ((DoubleArrayWrapperChromosome<I>) target).item = immutable ? item : codec.decode(values);
+        ((DoubleArrayWrapperChromosome<I>) target).item = immutable || decodeCaching ? item : codec.decode(values);
     }
     
     @Override
-    public void setValues(double[] values) {
-        
-        super.setValues(values);
+    protected void genesChanged() {
         
-        item = codec.decode(this.values);
         immutable = true;
+        item = decodeCaching ? null : codec.decode(values);
     }
     
     /**
-     * Fetches the item wrapped in this object. If item is not immutable, the new object will be returned which will be
-     * identical to the stored object.
+     * Fetches the item wrapped in this object. If item is not immutable and decode caching is disabled, the new object
+     * will be returned which will be identical to the stored object.
      * 
      * @return Object wrapped in this object.
      */
@@ -190,7 +199,7 @@ public final class DoubleArrayWrapperChromosome<I> extends AbstractDoubleArrayCh
             immutable = true;
         }
         
-        return immutable ? item : codec.decode(values);
+        return immutable || decodeCaching ? item : codec.decode(values);
     }
     
     /**
@@ -207,9 +216,36 @@ public final class DoubleArrayWrapperChromosome<I> extends AbstractDoubleArrayCh
         this.item = immutable ? item : codec.decode(values);
     }
     
+    /**
+     * Checks if decode caching is enabled.
+     * 
+     * @return <code>true</code> if the decoded item is cached, <code>false</code> otherwise.
+     */
+    public boolean isDecodeCaching() {
+        
+        return decodeCaching;
+    }
+    
+    /**
+     * Enables or disables decode caching. When enabled, the item is decoded at most once after each change of the
+     * genes, and {@link #getItem()} returns the cached item, which must not be modified. Changes through
+     * {@link #setValues(double[])} or {@link #setValue(int, double)} only invalidate the cached item, so the decoding
+     * is deferred until the item is needed. Chromosomes cloned from this object or created by {@link #newLikeThis()}
+     * use the same setting.
+     * 
+     * @param decodeCaching indicates if the decoded item should be cached.
+     */
+    public void setDecodeCaching(boolean decodeCaching) {
+        
+        this.decodeCaching = decodeCaching;
+    }
+    
     @Override
     public DoubleArrayWrapperChromosome<I> newLikeThis() {
         
-        return new DoubleArrayWrapperChromosome<>(initialImmutable, codec);
+        DoubleArrayWrapperChromosome<I> chromosome = new DoubleArrayWrapperChromosome<>(initialImmutable, codec);
+        chromosome.decodeCaching = decodeCaching;
+        
+        return chromosome;
     }
 }
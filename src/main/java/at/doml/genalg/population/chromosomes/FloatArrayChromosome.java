@@ -0,0 +1,40 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.population.abstracts.AbstractFloatArrayChromosome;
+
+/**
+ * An implementation of <code>AbstractFloatArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AbstractFloatArrayChromosome
+ */
+public final class FloatArrayChromosome extends AbstractFloatArrayChromosome {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 6034917552836610473L;
+    
+    /**
+     * An empty constructor used in {@link #newLikeThis()} method.
+     */
+    protected FloatArrayChromosome() {}
+    
+    /**
+     * Constructs a <code>FloatArrayChromosome</code> using the provided array of values. Values are copied in order to
+     * insure that they cannot be altered outside of this chromosome.
+     * 
+     * @param values values which will be assigned to the chromosome.
+     */
+    public FloatArrayChromosome(float[] values) {
+        super(values);
+    }
+    
+    @Override
+    public FloatArrayChromosome newLikeThis() {
+        
+        return new FloatArrayChromosome();
+    }
+}
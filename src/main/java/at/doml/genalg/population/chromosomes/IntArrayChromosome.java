@@ -0,0 +1,40 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.population.abstracts.AbstractIntArrayChromosome;
+
+/**
+ * An implementation of <code>AbstractIntArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AbstractIntArrayChromosome
+ */
+public final class IntArrayChromosome extends AbstractIntArrayChromosome {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -8872196027145370922L;
+    
+    /**
+     * An empty constructor used in {@link #newLikeThis()} method.
+     */
+    protected IntArrayChromosome() {}
+    
+    /**
+     * Constructs an <code>IntArrayChromosome</code> using the provided array of values. Values are copied in order to
+     * insure that they cannot be altered outside of this chromosome.
+     * 
+     * @param values values which will be assigned to the chromosome.
+     */
+    public IntArrayChromosome(int[] values) {
+        super(values);
+    }
+    
+    @Override
+    public IntArrayChromosome newLikeThis() {
+        
+        return new IntArrayChromosome();
+    }
+}
@@ -0,0 +1,59 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.population.abstracts.AbstractPermutationChromosome;
+
+/**
+ * An implementation of <code>AbstractPermutationChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AbstractPermutationChromosome
+ */
+public final class PermutationChromosome extends AbstractPermutationChromosome {
+    
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -7190822310964482583L;
+    
+    /**
+     * An empty constructor used in {@link #newLikeThis()} method.
+     */
+    protected PermutationChromosome() {}
+    
+    /**
+     * Constructs a <code>PermutationChromosome</code> using the provided permutation. The permutation is copied in
+     * order to insure that it cannot be altered outside of this chromosome.
+     * 
+     * @param permutation permutation of numbers from 0 to <code>permutation.length - 1</code>.
+     * @throws IllegalArgumentException thrown if provided array is not a permutation.
+     */
+    public PermutationChromosome(int[] permutation) {
+        super(permutation);
+    }
+    
+    /**
+     * Constructs a <code>PermutationChromosome</code> which contains the identity permutation of provided length.
+     * 
+     * @param length length of the permutation. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided length is negative.
+     */
+    public PermutationChromosome(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative. Provided value was: " + length + ".");
+        }
+        
+        permutation = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            permutation[i] = i;
+        }
+    }
+    
+    @Override
+    public PermutationChromosome newLikeThis() {
+        
+        return new PermutationChromosome();
+    }
+}
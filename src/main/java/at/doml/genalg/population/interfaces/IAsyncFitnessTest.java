@@ -0,0 +1,91 @@
+package at.doml.genalg.population.interfaces;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Interface for fitness tests which evaluate chromosomes asynchronously. Instead of blocking until the fitness is
+ * known, the test starts the evaluation and returns a future which completes with the fitness. This allows the caller
+ * to breed new chromosomes while evaluations, such as calls to other services, are in progress.<br>
+ * <br>
+ * Static and default methods of this interface adapt synchronous fitness tests to asynchronous ones and back.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated in the fitness test.
+ * @see IFitnessTest
+ * @see IBatchFitnessTest
+ */
+@FunctionalInterface
+public interface IAsyncFitnessTest<C extends IChromosome> {
+    
+    /**
+     * Starts the evaluation of given chromosome. The chromosome must not be modified until the returned future
+     * completes. Implementations are not required to set the fitness of the chromosome, so callers should set it from
+     * the result of the future.
+     * 
+     * @param chromosome chromosome to evaluate.
+     * @return Future which completes with the fitness of the chromosome, or completes exceptionally if the evaluation
+     *         fails.
+     */
+    public CompletableFuture<Double> evaluateAsync(C chromosome);
+    
+    /**
+     * Starts the evaluation of all given chromosomes. The fitness of each chromosome is set as soon as its evaluation
+     * completes.
+     * 
+     * @param chromosomes chromosomes to evaluate.
+     * @return Future which completes when all chromosomes are evaluated, or completes exceptionally if any evaluation
+     *         fails.
+     */
+    public default CompletableFuture<Void> evaluateAllAsync(List<? extends C> chromosomes) {
+        
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chromosomes.size()];
+        
+        for (int i = 0; i < futures.length; i++) {
+            C chromosome = chromosomes.get(i);
+            futures[i] = evaluateAsync(chromosome).thenAccept(chromosome::setFitness);
+        }
+        
+        return CompletableFuture.allOf(futures);
+    }
+    
+    /**
+     * Creates a batch fitness test which starts the evaluation of all chromosomes of a batch and waits until all of
+     * them complete.
+     * 
+     * @return Synchronous view of this fitness test. Failed evaluations are reported as
+     *         {@link GeneticAlgorithmException}.
+     */
+    public default IBatchFitnessTest<C> toBatchFitnessTest() {
+        
+        return chromosomes -> {
+            try {
+                evaluateAllAsync(chromosomes).join();
+            } catch (CompletionException exception) {
+                throw new GeneticAlgorithmException("Fitness evaluation failed.", exception.getCause());
+            }
+        };
+    }
+    
+    /**
+     * Creates an asynchronous fitness test which runs the provided synchronous fitness test on the executor.
+     * 
+     * @param <C> the type of chromosome which will be evaluated in the fitness test.
+     * @param fitnessTest thread-safe fitness test which evaluates a single chromosome.
+     * @param executor executor which runs the evaluations.
+     * @return Asynchronous view of the provided fitness test.
+     */
+    public static <C extends IChromosome> IAsyncFitnessTest<C> fromFitnessTest(IFitnessTest<C> fitnessTest,
+            Executor executor) {
+        
+        return chromosome -> CompletableFuture.supplyAsync(() -> {
+            fitnessTest.evaluate(chromosome);
+            return chromosome.getFitness();
+        }, executor);
+    }
+}
@@ -0,0 +1,37 @@
+package at.doml.genalg.population.interfaces;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Interface for fitness tests which evaluate several chromosomes at once, for example by sending them to other
+ * processes or machines. Genetic algorithms which recognize this interface pass all chromosomes which can be evaluated
+ * together in a single call, so the test can evaluate them in parallel or amortize the cost of communication.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated in the fitness test.
+ * @see IFitnessTest
+ */
+public interface IBatchFitnessTest<C extends IChromosome> extends IFitnessTest<C> {
+    
+    /**
+     * Evaluates all given chromosomes and sets their fitness accordingly. This method returns only after all
+     * chromosomes are evaluated.
+     * 
+     * @param chromosomes chromosomes to evaluate.
+     */
+    public void evaluateAll(List<? extends C> chromosomes);
+    
+    /**
+     * Evaluates given chromosome as a batch of one chromosome.
+     * 
+     * @param chromosome chromosome to evaluate.
+     */
+    @Override
+    public default void evaluate(C chromosome) {
+        
+        evaluateAll(Collections.singletonList(chromosome));
+    }
+}
@@ -0,0 +1,62 @@
+package at.doml.genalg.population.interfaces;
+
+/**
+ * Interface for fitness tests which can stop evaluating a chromosome as soon as it is clear that the chromosome will
+ * be rejected. Genetic algorithms which recognize this interface pass the acceptance threshold, which is the lowest
+ * fitness a child must reach to enter the population. A test which accumulates the fitness over many test cases, and
+ * whose partial fitness can only decrease, can stop as soon as the partial fitness drops below the threshold.<br>
+ * <br>
+ * If the evaluation is stopped early, the fitness of the chromosome must be set to a value which is less than the
+ * threshold, such as the partial fitness. Such a fitness is not exact, so algorithms use it only to reject the
+ * chromosome.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be evaluated in the fitness test.
+ * @see IFitnessTest
+ */
+public interface IBoundedFitnessTest<C extends IChromosome> extends IFitnessTest<C> {
+    
+    /**
+     * Evaluates given chromosome and sets its fitness accordingly. The evaluation may be stopped as soon as it is
+     * certain that the fitness is less than the provided threshold, in which case the fitness must be set to any value
+     * less than the threshold.
+     * 
+     * @param chromosome chromosome to evaluate.
+     * @param threshold lowest fitness which the chromosome must reach to be accepted. If it is
+     *            <code>Double.NEGATIVE_INFINITY</code>, the chromosome must be evaluated fully.
+     */
+    public void evaluate(C chromosome, double threshold);
+    
+    /**
+     * Evaluates given chromosome fully.
+     * 
+     * @param chromosome chromosome to evaluate.
+     */
+    @Override
+    public default void evaluate(C chromosome) {
+        
+        evaluate(chromosome, Double.NEGATIVE_INFINITY);
+    }
+    
+    /**
+     * Evaluates given chromosome with the provided fitness test. The threshold is passed to the test if it is an
+     * <code>IBoundedFitnessTest</code>, otherwise the chromosome is evaluated fully.
+     * 
+     * @param <C> the type of chromosome which will be evaluated.
+     * @param fitnessTest fitness test used to evaluate the chromosome.
+     * @param chromosome chromosome to evaluate.
+     * @param threshold lowest fitness which the chromosome must reach to be accepted.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends IChromosome> void evaluateBounded(IFitnessTest<C> fitnessTest, C chromosome,
+            double threshold) {
+        
+        if (fitnessTest instanceof IBoundedFitnessTest) {
+            ((IBoundedFitnessTest<C>) fitnessTest).evaluate(chromosome, threshold);
+        } else {
+            fitnessTest.evaluate(chromosome);
+        }
+    }
+}
@@ -34,6 +34,13 @@ public interface IChromosome extends Comparable<IChromosome>, Cloneable, Seriali
      */
     public void setFitness(double fitness);
     
+    /**
+     * Marks the fitness of this chromosome as not evaluated. This is used when a chromosome is reused as a new
+     * chromosome. The default implementation does nothing, so the previous fitness is kept until the chromosome is
+     * evaluated again.
+     */
+    public default void resetFitness() {}
+    
     /**
      * Creates a copy of this chromosome. By convention, the returned object should be obtained by calling
      * <code>super.clone()</code>. If there are any non-primitive fields of mutable objects, they should be copied in
@@ -0,0 +1,21 @@
+package at.doml.genalg.population.interfaces;
+
+/**
+ * Represents an operation which accepts an index and a <code>double</code> value stored under that index, and returns
+ * no result. This is a primitive specialization which is used to iterate over genes of a chromosome without boxing.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ */
+@FunctionalInterface
+public interface IIndexedDoubleConsumer {
+    
+    /**
+     * Performs this operation on the provided index and value.
+     * 
+     * @param index index of the value.
+     * @param value value stored under the index.
+     */
+    public void accept(int index, double value);
+}
@@ -0,0 +1,26 @@
+package at.doml.genalg.population.interfaces;
+
+/**
+ * Interface for noisy fitness functions which are evaluated as the mean of many samples, for example by simulating a
+ * chromosome with different random seeds. Each sample is identified by its index, so all chromosomes can be sampled
+ * with the same seeds, which makes their samples directly comparable.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome which will be sampled.
+ * @see at.doml.genalg.evaluation.RacingFitnessEvaluator
+ */
+@FunctionalInterface
+public interface ISampledFitnessTest<C extends IChromosome> {
+    
+    /**
+     * Computes a single sample of the fitness of given chromosome. This method must not modify the fitness of the
+     * chromosome.
+     * 
+     * @param chromosome chromosome to sample.
+     * @param sampleIndex index of the sample, which determines its random seed.
+     * @return Fitness of the chromosome in this sample.
+     */
+    public double sample(C chromosome, int sampleIndex);
+}
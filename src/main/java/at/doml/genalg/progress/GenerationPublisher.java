@@ -0,0 +1,401 @@
+package at.doml.genalg.progress;
+
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publisher which delivers summaries of generations to subscribers, with backpressure. Algorithms invoke
+ * {@link #publish(long, long, Collection)} at the end of each generation, and the summaries are delivered to the
+ * subscribers by tasks run by the provided executor, so slow subscribers never stall the algorithm.<br>
+ * <br>
+ * Each subscriber holds at most one undelivered summary. If a new summary is published before the previous one was
+ * delivered, because the subscriber is still busy or has not requested more items, the previous summary is dropped
+ * and only the latest one is kept. Subscribers therefore always receive the most recent state, and memory use does not
+ * grow with the speed difference between the algorithm and the subscribers.<br>
+ * <br>
+ * Summaries are created only if there are subscribers, and copies of the whole population are created only if any
+ * subscriber asked for them. The subscriber interfaces follow the contract of <code>java.util.concurrent.Flow</code>;
+ * an adapter to <code>Flow.Publisher</code> is compiled by the <code>flow</code> profile.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see GenerationSummary
+ * @see IProgressSubscriber
+ */
+public class GenerationPublisher<C extends IChromosome> implements AutoCloseable {
+    
+    /**
+     * Executor which delivers the summaries.
+     */
+    private final Executor executor;
+    /**
+     * Active subscriptions.
+     */
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    /**
+     * Number of summaries which were dropped by all subscriptions.
+     */
+    private final AtomicLong numOfDropped = new AtomicLong();
+    /**
+     * Failure with which the publisher was closed, or <code>null</code>.
+     */
+    private volatile Throwable failure;
+    /**
+     * Flag which is set when the publisher is closed.
+     */
+    private volatile boolean closed;
+    
+    /**
+     * Constructs a <code>GenerationPublisher</code> which delivers the summaries with the common fork-join pool.
+     */
+    public GenerationPublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructs a <code>GenerationPublisher</code> which delivers the summaries with the provided executor. At most
+     * one task of each subscriber is run at any time.
+     * 
+     * @param executor executor which delivers the summaries.
+     */
+    public GenerationPublisher(Executor executor) {
+        this.executor = executor;
+    }
+    
+    /**
+     * Subscribes the subscriber to summaries which do not contain the population.
+     * 
+     * @param subscriber subscriber which receives the summaries.
+     */
+    public void subscribe(IProgressSubscriber<? super GenerationSummary<C>> subscriber) {
+        
+        subscribe(subscriber, false);
+    }
+    
+    /**
+     * Subscribes the subscriber to the summaries. If the publisher is already closed, the subscriber is completed
+     * immediately after it is subscribed.
+     * 
+     * @param subscriber subscriber which receives the summaries.
+     * @param includePopulation <code>true</code> if the summaries should contain copies of the whole population.
+     */
+    public void subscribe(IProgressSubscriber<? super GenerationSummary<C>> subscriber, boolean includePopulation) {
+        
+        Subscription subscription = new Subscription(subscriber, includePopulation);
+        
+        subscriptions.add(subscription);
+        
+        if (closed) {
+            subscription.done = true;
+        }
+        
+        subscription.schedule();
+    }
+    
+    /**
+     * Publishes the summary of the provided population to all subscribers. This method never blocks. The population
+     * is only read by the calling thread, before this method returns.
+     * 
+     * @param generation index of the generation.
+     * @param numOfEvaluations number of fitness evaluations performed until the end of the generation.
+     * @param population chromosomes of the generation. All of them must be evaluated.
+     * @throws IllegalStateException thrown if the publisher is closed.
+     */
+    public void publish(long generation, long numOfEvaluations, Collection<? extends C> population) {
+        
+        if (closed) {
+            throw new IllegalStateException("Publisher is closed.");
+        }
+        
+        GenerationSummary<C> summary = null;
+        GenerationSummary<C> fullSummary = null;
+        
+        for (Subscription subscription : subscriptions) {
+            if (subscription.includePopulation) {
+                if (fullSummary == null) {
+                    fullSummary = GenerationSummary.of(generation, numOfEvaluations, population, true);
+                }
+                
+                subscription.offer(fullSummary);
+            } else {
+                if (summary == null) {
+                    summary = GenerationSummary.of(generation, numOfEvaluations, population, false);
+                }
+                
+                subscription.offer(summary);
+            }
+        }
+    }
+    
+    /**
+     * Checks whether the publisher has any subscribers. Algorithms can use this method to skip publishing entirely.
+     * 
+     * @return <code>true</code> if there is at least one active subscriber, <code>false</code> otherwise.
+     */
+    public boolean hasSubscribers() {
+        
+        return !subscriptions.isEmpty();
+    }
+    
+    /**
+     * Fetches the number of active subscribers.
+     * 
+     * @return Number of active subscribers.
+     */
+    public int getNumOfSubscribers() {
+        
+        return subscriptions.size();
+    }
+    
+    /**
+     * Fetches the number of summaries which were replaced by newer summaries before they were delivered, summed over
+     * all subscribers.
+     * 
+     * @return Number of dropped summaries.
+     */
+    public long getNumOfDropped() {
+        
+        return numOfDropped.get();
+    }
+    
+    /**
+     * Closes the publisher. Each subscriber receives the summary which is still pending, if it requests it, and is
+     * then completed.
+     */
+    @Override
+    public void close() {
+        
+        closeExceptionally(null);
+    }
+    
+    /**
+     * Closes the publisher because the algorithm failed. Pending summaries are discarded and each subscriber receives
+     * the failure.
+     * 
+     * @param failure cause of the failure, or <code>null</code> to close the publisher normally.
+     */
+    public void closeExceptionally(Throwable failure) {
+        
+        if (closed) {
+            return;
+        }
+        
+        this.failure = failure;
+        closed = true;
+        
+        for (Subscription subscription : subscriptions) {
+            subscription.done = true;
+            subscription.schedule();
+        }
+    }
+    
+    /**
+     * Subscription of a single subscriber. It holds the latest undelivered summary and the demand of the subscriber.
+     * Delivery is performed by a drain task which is scheduled on the executor whenever the state changes, and at
+     * most one drain task of a subscription runs at any time.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private final class Subscription implements IProgressSubscription, Runnable {
+        
+        /**
+         * Subscriber which receives the summaries.
+         */
+        private final IProgressSubscriber<? super GenerationSummary<C>> subscriber;
+        /**
+         * Flag which specifies whether the summaries contain the population.
+         */
+        private final boolean includePopulation;
+        /**
+         * Latest summary which was not delivered yet.
+         */
+        private final AtomicReference<GenerationSummary<C>> latest = new AtomicReference<>();
+        /**
+         * Number of summaries requested by the subscriber and not yet delivered.
+         */
+        private final AtomicLong demand = new AtomicLong();
+        /**
+         * Number of times the drain was requested while it was scheduled or running.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+        /**
+         * Flag which is set when the subscriber received <code>onSubscribe</code>. Accessed only by the drain task.
+         */
+        private boolean subscribed;
+        /**
+         * Flag which is set when the subscriber received a terminal signal. Accessed only by the drain task.
+         */
+        private boolean terminated;
+        /**
+         * Failure caused by a non-positive request, or <code>null</code>.
+         */
+        private volatile Throwable requestFailure;
+        /**
+         * Flag which is set when the publisher is closed.
+         */
+        private volatile boolean done;
+        /**
+         * Flag which is set when the subscription is cancelled.
+         */
+        private volatile boolean cancelled;
+        
+        /**
+         * Constructs a <code>Subscription</code> for the provided subscriber.
+         * 
+         * @param subscriber subscriber which receives the summaries.
+         * @param includePopulation <code>true</code> if the summaries should contain the population.
+         */
+        private Subscription(IProgressSubscriber<? super GenerationSummary<C>> subscriber, boolean includePopulation) {
+            this.subscriber = subscriber;
+            this.includePopulation = includePopulation;
+        }
+        
+        @Override
+        public void request(long n) {
+            
+            if (n <= 0) {
+                requestFailure = new IllegalArgumentException(
+                        "Number of requested items must be at least 1. Provided value was: " + n + ".");
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            
+            schedule();
+        }
+        
+        @Override
+        public void cancel() {
+            
+            cancelled = true;
+            subscriptions.remove(this);
+            latest.set(null);
+        }
+        
+        /**
+         * Replaces the undelivered summary with the provided one and schedules the delivery.
+         * 
+         * @param summary summary to deliver.
+         */
+        private void offer(GenerationSummary<C> summary) {
+            
+            if (latest.getAndSet(summary) != null) {
+                numOfDropped.incrementAndGet();
+            }
+            
+            if (demand.get() > 0) {
+                schedule();
+            }
+        }
+        
+        /**
+         * Schedules the drain task, unless it is already scheduled or running. If the executor rejects the task, the
+         * subscription is cancelled.
+         */
+        private void schedule() {
+            
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException exception) {
+                cancel();
+            }
+        }
+        
+        /**
+         * Delivers pending signals to the subscriber. Exceptions thrown by the subscriber cancel the subscription.
+         */
+        @Override
+        public void run() {
+            
+            int missed = pending.get();
+            
+            do {
+                try {
+                    drain();
+                } catch (Throwable throwable) {
+                    cancel();
+                }
+                
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        /**
+         * Delivers the subscription, the pending summary and the terminal signal, as far as the demand allows.
+         */
+        private void drain() {
+            
+            if (terminated || cancelled) {
+                return;
+            }
+            
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            
+            if (requestFailure != null) {
+                terminate(requestFailure);
+                return;
+            }
+            
+            if (done && failure != null) {
+                terminate(failure);
+                return;
+            }
+            
+            while (!cancelled && demand.get() > 0) {
+                GenerationSummary<C> summary = latest.getAndSet(null);
+                
+                if (summary == null) {
+                    break;
+                }
+                
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                
+                subscriber.onNext(summary);
+            }
+            
+            if (done && !cancelled && latest.get() == null) {
+                terminate(null);
+            }
+        }
+        
+        /**
+         * Removes the subscription and sends the terminal signal to the subscriber.
+         * 
+         * @param throwable cause of the failure, or <code>null</code> to complete the subscriber.
+         */
+        private void terminate(Throwable throwable) {
+            
+            terminated = true;
+            cancel();
+            
+            if (throwable == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(throwable);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package at.doml.genalg.progress;
+
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable summary of a single generation of an algorithm. It contains fitness statistics, a copy of the best
+ * chromosome and, if requested, copies of all chromosomes of the population. Since the summary holds copies, it
+ * remains valid when the algorithm later modifies or reuses its chromosomes.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosome used in the algorithm.
+ * @see GenerationPublisher
+ */
+public final class GenerationSummary<C extends IChromosome> {
+    
+    /**
+     * Index of the generation.
+     */
+    private final long generation;
+    /**
+     * Number of fitness evaluations performed until the end of the generation.
+     */
+    private final long numOfEvaluations;
+    /**
+     * Copy of the best chromosome.
+     */
+    private final C best;
+    /**
+     * Fitness of the best chromosome.
+     */
+    private final double bestFitness;
+    /**
+     * Mean fitness of the population.
+     */
+    private final double meanFitness;
+    /**
+     * Fitness of the worst chromosome.
+     */
+    private final double worstFitness;
+    /**
+     * Copies of all chromosomes, or <code>null</code> if the population was not captured.
+     */
+    private final List<C> population;
+    
+    /**
+     * Constructs a <code>GenerationSummary</code> with provided values.
+     * 
+     * @param generation index of the generation.
+     * @param numOfEvaluations number of fitness evaluations.
+     * @param best copy of the best chromosome.
+     * @param meanFitness mean fitness of the population.
+     * @param worstFitness fitness of the worst chromosome.
+     * @param population copies of all chromosomes, or <code>null</code>.
+     */
+    private GenerationSummary(long generation, long numOfEvaluations, C best, double meanFitness,
+            double worstFitness, List<C> population) {
+        this.generation = generation;
+        this.numOfEvaluations = numOfEvaluations;
+        this.best = best;
+        this.bestFitness = best.getFitness();
+        this.meanFitness = meanFitness;
+        this.worstFitness = worstFitness;
+        this.population = population;
+    }
+    
+    /**
+     * Creates a summary of the provided population. All chromosomes must be evaluated.
+     * 
+     * @param <C> the type of chromosome used in the algorithm.
+     * @param generation index of the generation.
+     * @param numOfEvaluations number of fitness evaluations performed until the end of the generation.
+     * @param population chromosomes of the generation. Must not be empty.
+     * @param includePopulation <code>true</code> if copies of all chromosomes should be included in the summary.
+     * @return Summary of the population.
+     * @throws IllegalArgumentException thrown if the population is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends IChromosome> GenerationSummary<C> of(long generation, long numOfEvaluations,
+            Collection<? extends C> population, boolean includePopulation) {
+        
+        if (population.isEmpty()) {
+            throw new IllegalArgumentException("Population must not be empty.");
+        }
+        
+        List<C> copies = includePopulation ? new ArrayList<>(population.size()) : null;
+        C best = null;
+        double worstFitness = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
+        
+        for (C chromosome : population) {
+            double fitness = chromosome.getFitness();
+            
+            if (best == null || fitness > best.getFitness()) {
+                best = chromosome;
+            }
+            
+            worstFitness = Math.min(worstFitness, fitness);
+            sum += fitness;
+            
+            if (copies != null) {
+                copies.add((C) chromosome.clone());
+            }
+        }
+        
+        return new GenerationSummary<>(generation, numOfEvaluations, (C) best.clone(), sum / population.size(),
+                worstFitness, copies == null ? null : Collections.unmodifiableList(copies));
+    }
+    
+    /**
+     * Fetches the index of the generation. The initial population is generation 0.
+     * 
+     * @return Index of the generation.
+     */
+    public long getGeneration() {
+        
+        return generation;
+    }
+    
+    /**
+     * Fetches the number of fitness evaluations performed until the end of the generation.
+     * 
+     * @return Number of fitness evaluations.
+     */
+    public long getNumOfEvaluations() {
+        
+        return numOfEvaluations;
+    }
+    
+    /**
+     * Fetches the copy of the best chromosome of the generation.
+     * 
+     * @return Copy of the best chromosome.
+     */
+    public C getBest() {
+        
+        return best;
+    }
+    
+    /**
+     * Fetches the fitness of the best chromosome of the generation.
+     * 
+     * @return Fitness of the best chromosome.
+     */
+    public double getBestFitness() {
+        
+        return bestFitness;
+    }
+    
+    /**
+     * Fetches the mean fitness of the generation.
+     * 
+     * @return Mean fitness.
+     */
+    public double getMeanFitness() {
+        
+        return meanFitness;
+    }
+    
+    /**
+     * Fetches the fitness of the worst chromosome of the generation.
+     * 
+     * @return Fitness of the worst chromosome.
+     */
+    public double getWorstFitness() {
+        
+        return worstFitness;
+    }
+    
+    /**
+     * Fetches copies of all chromosomes of the generation, if they were captured.
+     * 
+     * @return Unmodifiable list of copies, or <code>null</code> if the population was not captured.
+     */
+    public List<C> getPopulation() {
+        
+        return population;
+    }
+}
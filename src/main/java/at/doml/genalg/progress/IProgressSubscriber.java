@@ -0,0 +1,41 @@
+package at.doml.genalg.progress;
+
+/**
+ * Interface which specifies a consumer of items published by a {@link GenerationPublisher}. It has the same contract
+ * as <code>java.util.concurrent.Flow.Subscriber</code>, which is not available in Java 8. All methods of a single
+ * subscriber are invoked one at a time, so the subscriber does not have to be thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <T> the type of items received by this subscriber.
+ * @see IProgressSubscription
+ */
+public interface IProgressSubscriber<T> {
+    
+    /**
+     * Invoked before any other method, with the subscription which can be used to request items.
+     * 
+     * @param subscription subscription of this subscriber.
+     */
+    public void onSubscribe(IProgressSubscription subscription);
+    
+    /**
+     * Invoked with the next item, only while the demand of the subscriber is positive.
+     * 
+     * @param item next item.
+     */
+    public void onNext(T item);
+    
+    /**
+     * Invoked when the publisher fails or the subscription is rejected. No other method is invoked afterwards.
+     * 
+     * @param throwable cause of the failure.
+     */
+    public void onError(Throwable throwable);
+    
+    /**
+     * Invoked when the publisher is closed and the last item was delivered. No other method is invoked afterwards.
+     */
+    public void onComplete();
+}
@@ -0,0 +1,28 @@
+package at.doml.genalg.progress;
+
+/**
+ * Interface which specifies the link between a {@link GenerationPublisher} and a single subscriber. It has the same
+ * contract as <code>java.util.concurrent.Flow.Subscription</code>, which is not available in Java 8.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IProgressSubscriber
+ */
+public interface IProgressSubscription {
+    
+    /**
+     * Adds the provided number of items to the demand of the subscriber. Items are delivered only while the demand is
+     * positive. A demand of <code>Long.MAX_VALUE</code> is treated as unbounded.
+     * 
+     * @param n number of additional items. If it is not positive, the subscription is cancelled and the subscriber
+     *            receives an <code>IllegalArgumentException</code> through
+     *            {@link IProgressSubscriber#onError(Throwable)}.
+     */
+    public void request(long n);
+    
+    /**
+     * Cancels the subscription. Items which were not delivered yet are discarded.
+     */
+    public void cancel();
+}
@@ -0,0 +1,8 @@
+/**
+ * Contains the publisher of generation summaries, which reports the progress of the algorithms to loggers, checkpoint
+ * writers and other consumers without blocking the algorithms.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.progress;
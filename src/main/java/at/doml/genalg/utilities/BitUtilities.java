@@ -0,0 +1,234 @@
+package at.doml.genalg.utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Class which contains methods for reading and writing bits in arrays of <code>byte</code>s, as well as conversions
+ * between natural binary and gray code. Bits are stored with the most significant bit first, which is the layout used
+ * by all binary codecs in this library: the first bit of a value is stored in the highest bit of the first
+ * <code>byte</code>, and values may span <code>byte</code> boundaries. Bits can be read from and written to arrays of
+ * <code>byte</code>s as well as <code>ByteBuffer</code>s, using the same layout.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ */
+public class BitUtilities {
+    
+    /**
+     * Number of bits in a <code>byte</code>.
+     */
+    private static final int BITS_PER_BYTE = 8;
+    /**
+     * Mask for the single lowest byte.
+     */
+    private static final int BYTE_MASK = 0xFF;
+    
+    /**
+     * Empty protected constructor - this class only has static methods and fields.
+     */
+    protected BitUtilities() {}
+    
+    /**
+     * Creates a mask which has the lowest <code>numOfBits</code> bits set.
+     * 
+     * @param numOfBits number of bits to set. Valid range is [0, 64].
+     * @return Mask with lowest <code>numOfBits</code> bits set.
+     */
+    public static long mask(int numOfBits) {
+        
+        return numOfBits == Long.SIZE ? -1L : (1L << numOfBits) - 1L;
+    }
+    
+    /**
+     * Reads the bits from the provided array, starting at the specified bit offset. The first bit read is returned as
+     * the most significant bit of the result.
+     * 
+     * @param bytes array from which the bits will be read.
+     * @param bitOffset offset of the first bit to read.
+     * @param numOfBits number of bits to read. Valid range is [0, 64].
+     * @return Bits read from the array, aligned to the lowest bit of the result.
+     * @throws ArrayIndexOutOfBoundsException thrown if the bits exceed the bounds of the array.
+     */
+    public static long readBits(byte[] bytes, long bitOffset, int numOfBits) {
+        
+        long value = 0L;
+        int byteIndex = (int) (bitOffset >>> 3);
+        int bitPosition = (int) (bitOffset & 7L);
+        int remainingBits = numOfBits;
+        
+        while (remainingBits != 0) {
+            int availableBits = BITS_PER_BYTE - bitPosition;
+            int bitsToRead = Math.min(availableBits, remainingBits);
+            int chunk = (bytes[byteIndex] & BYTE_MASK) >>> availableBits - bitsToRead & (1 << bitsToRead) - 1;
+            
+            value = value << bitsToRead | chunk;
+            remainingBits -= bitsToRead;
+            bitPosition = 0;
+            byteIndex++;
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Writes the lowest <code>numOfBits</code> bits of the value into the provided array, starting at the specified bit
+     * offset. The most significant of the written bits is stored first. Bits in the array which are outside of the
+     * written range are left unchanged.
+     * 
+     * @param bytes array in which the bits will be written.
+     * @param bitOffset offset of the first bit to write.
+     * @param numOfBits number of bits to write. Valid range is [0, 64].
+     * @param value value whose lowest <code>numOfBits</code> bits will be written.
+     * @throws ArrayIndexOutOfBoundsException thrown if the bits exceed the bounds of the array.
+     */
+    public static void writeBits(byte[] bytes, long bitOffset, int numOfBits, long value) {
+        
+        int byteIndex = (int) (bitOffset >>> 3);
+        int bitPosition = (int) (bitOffset & 7L);
+        int remainingBits = numOfBits;
+        
+        while (remainingBits != 0) {
+            int availableBits = BITS_PER_BYTE - bitPosition;
+            int bitsToWrite = Math.min(availableBits, remainingBits);
+            int shift = availableBits - bitsToWrite;
+            int chunkMask = (1 << bitsToWrite) - 1;
+            int chunk = (int) (value >>> remainingBits - bitsToWrite) & chunkMask;
+            
+            bytes[byteIndex] = (byte) (bytes[byteIndex] & ~(chunkMask << shift) | chunk << shift);
+            remainingBits -= bitsToWrite;
+            bitPosition = 0;
+            byteIndex++;
+        }
+    }
+    
+    /**
+     * Reads the bits from the provided buffer, starting at the specified bit offset. Offset is measured from the start
+     * of the buffer and it does not depend on the position of the buffer, which is not changed.
+     * 
+     * @param buffer buffer from which the bits will be read.
+     * @param bitOffset offset of the first bit to read.
+     * @param numOfBits number of bits to read. Valid range is [0, 64].
+     * @return Bits read from the buffer, aligned to the lowest bit of the result.
+     * @throws IndexOutOfBoundsException thrown if the bits exceed the limit of the buffer.
+     */
+    public static long readBits(ByteBuffer buffer, long bitOffset, int numOfBits) {
+        
+        long value = 0L;
+        int byteIndex = (int) (bitOffset >>> 3);
+        int bitPosition = (int) (bitOffset & 7L);
+        int remainingBits = numOfBits;
+        
+        while (remainingBits != 0) {
+            int availableBits = BITS_PER_BYTE - bitPosition;
+            int bitsToRead = Math.min(availableBits, remainingBits);
+            int chunk = (buffer.get(byteIndex) & BYTE_MASK) >>> availableBits - bitsToRead & (1 << bitsToRead) - 1;
+            
+            value = value << bitsToRead | chunk;
+            remainingBits -= bitsToRead;
+            bitPosition = 0;
+            byteIndex++;
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Writes the lowest <code>numOfBits</code> bits of the value into the provided buffer, starting at the specified
+     * bit offset. Offset is measured from the start of the buffer and it does not depend on the position of the
+     * buffer, which is not changed. Bits in the buffer which are outside of the written range are left unchanged.
+     * 
+     * @param buffer buffer in which the bits will be written.
+     * @param bitOffset offset of the first bit to write.
+     * @param numOfBits number of bits to write. Valid range is [0, 64].
+     * @param value value whose lowest <code>numOfBits</code> bits will be written.
+     * @throws IndexOutOfBoundsException thrown if the bits exceed the limit of the buffer.
+     * @throws java.nio.ReadOnlyBufferException thrown if the buffer is read-only.
+     */
+    public static void writeBits(ByteBuffer buffer, long bitOffset, int numOfBits, long value) {
+        
+        int byteIndex = (int) (bitOffset >>> 3);
+        int bitPosition = (int) (bitOffset & 7L);
+        int remainingBits = numOfBits;
+        
+        while (remainingBits != 0) {
+            int availableBits = BITS_PER_BYTE - bitPosition;
+            int bitsToWrite = Math.min(availableBits, remainingBits);
+            int shift = availableBits - bitsToWrite;
+            int chunkMask = (1 << bitsToWrite) - 1;
+            int chunk = (int) (value >>> remainingBits - bitsToWrite) & chunkMask;
+            byte oldByte = bitsToWrite == BITS_PER_BYTE ? 0 : buffer.get(byteIndex);
+            
+            buffer.put(byteIndex, (byte) (oldByte & ~(chunkMask << shift) | chunk << shift));
+            remainingBits -= bitsToWrite;
+            bitPosition = 0;
+            byteIndex++;
+        }
+    }
+    
+    /**
+     * Converts the value from natural binary code to gray code.
+     * 
+     * @param value value in natural binary code.
+     * @return Value in gray code.
+     */
+    public static long binaryToGray(long value) {
+        
+        return value ^ value >>> 1;
+    }
+    
+    /**
+     * Converts the value from gray code to natural binary code. Each bit of the result is the exclusive or of all the
+     * bits above it in the gray code, which is calculated as a prefix exclusive or in six steps instead of one step per
+     * bit.
+     * 
+     * @param value value in gray code.
+     * @return Value in natural binary code.
+     */
+    public static long grayToBinary(long value) {
+        
+        long binaryValue = value;
+        
+        binaryValue ^= binaryValue >>> 1;
+        binaryValue ^= binaryValue >>> 2;
+        binaryValue ^= binaryValue >>> 4;
+        binaryValue ^= binaryValue >>> 8;
+        binaryValue ^= binaryValue >>> 16;
+        binaryValue ^= binaryValue >>> 32;
+        
+        return binaryValue;
+    }
+    
+    /**
+     * Converts the unsigned 64-bit value to a <code>double</code>.
+     * 
+     * @param value unsigned value to convert.
+     * @return <code>double</code> which is closest to the unsigned value.
+     */
+    public static double unsignedToDouble(long value) {
+        
+        if (value >= 0L) {
+            return value;
+        }
+        
+        return (value >>> 1 | value & 1L) * 2.0;
+    }
+    
+    /**
+     * Converts the non-negative <code>double</code> to an unsigned 64-bit value. The fractional part is truncated.
+     * Values which are greater than or equal to 2<sup>64</sup> are converted to all ones.
+     * 
+     * @param value non-negative value to convert.
+     * @return Unsigned 64-bit value.
+     */
+    public static long doubleToUnsigned(double value) {
+        
+        if (value < 0x1p63) {
+            return (long) value;
+        } else if (value < 0x1p64) {
+            return (long) (value - 0x1p63) | Long.MIN_VALUE;
+        } else {
+            return -1L;
+        }
+    }
+}
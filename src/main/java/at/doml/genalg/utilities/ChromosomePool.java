@@ -0,0 +1,118 @@
+package at.doml.genalg.utilities;
+
+import at.doml.genalg.population.interfaces.IChromosome;
+import java.util.ArrayDeque;
+
+/**
+ * A pool of chromosomes which can be reused instead of creating new ones. Chromosomes which are discarded from the
+ * population are released into the pool, and operators acquire them when they need a new chromosome. Since chromosomes
+ * keep their internal arrays, setting the genes of an acquired chromosome usually only copies the values into the
+ * existing array, so neither the chromosome nor its array has to be allocated.<br>
+ * <br>
+ * When the pool is empty, a new chromosome is created by calling {@link IChromosome#newLikeThis()} on the prototype,
+ * so the acquired chromosomes are always of the same type as the prototype. The pool holds at most the specified number
+ * of chromosomes; chromosomes released into a full pool are left to the garbage collector.<br>
+ * <br>
+ * A chromosome must not be used after it has been released, and it must not be released more than once. This class is
+ * not thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <C> the type of chromosomes in the pool.
+ * @see IChromosome
+ */
+public final class ChromosomePool<C extends IChromosome> {
+    
+    /**
+     * Chromosome used to create new chromosomes when the pool is empty.
+     */
+    private final C prototype;
+    /**
+     * Maximum number of chromosomes which the pool can hold.
+     */
+    private final int capacity;
+    /**
+     * Chromosomes which are available for reuse.
+     */
+    private final ArrayDeque<C> available;
+    
+    /**
+     * Constructs a <code>ChromosomePool</code> with provided prototype and capacity.
+     * 
+     * @param prototype chromosome used to create new chromosomes when the pool is empty. It is never added to the
+     *            pool.
+     * @param capacity maximum number of chromosomes which the pool can hold. Must not be negative.
+     * @throws IllegalArgumentException thrown if provided capacity is negative.
+     */
+    public ChromosomePool(C prototype, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative. Provided value was: " + capacity + ".");
+        }
+        
+        this.prototype = prototype;
+        this.capacity = capacity;
+        this.available = new ArrayDeque<>(Math.min(capacity, 1_024));
+    }
+    
+    /**
+     * Fetches a chromosome from the pool. If the pool is empty, a new chromosome is created from the prototype. The
+     * fitness of the returned chromosome is not evaluated, while its genes are undefined until they are set.
+     * 
+     * @return A chromosome which can be used as a new chromosome.
+     */
+    @SuppressWarnings("unchecked")
+    public C acquire() {
+        
+        C chromosome = available.pollLast();
+        
+        return chromosome != null ? chromosome : (C) prototype.newLikeThis();
+    }
+    
+    /**
+     * Returns the chromosome to the pool so that it can be reused. The fitness of the chromosome is reset. If the pool
+     * is full, the chromosome is discarded.
+     * 
+     * @param chromosome chromosome which is no longer used.
+     */
+    public void release(C chromosome) {
+        
+        if (available.size() < capacity) {
+            chromosome.resetFitness();
+            available.addLast(chromosome);
+        }
+    }
+    
+    /**
+     * Returns all provided chromosomes to the pool. This is usually called with the part of the population which was
+     * discarded at the end of a generation.
+     * 
+     * @param chromosomes chromosomes which are no longer used.
+     */
+    public void releaseAll(Iterable<? extends C> chromosomes) {
+        
+        for (C chromosome : chromosomes) {
+            release(chromosome);
+        }
+    }
+    
+    /**
+     * Fetches the number of chromosomes which are currently available in the pool.
+     * 
+     * @return Number of available chromosomes.
+     */
+    public int size() {
+        
+        return available.size();
+    }
+    
+    /**
+     * Fetches the maximum number of chromosomes which the pool can hold.
+     * 
+     * @return Capacity of the pool.
+     */
+    public int getCapacity() {
+        
+        return capacity;
+    }
+}
@@ -0,0 +1,306 @@
+package at.doml.genalg.utilities;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An indexed binary heap of fitness values, stored in arrays of primitives. Each entry is identified by an index in
+ * range [0, capacity), which is usually the index of a chromosome in the population, and the heap keeps the index with
+ * the lowest (or the highest) fitness at the top. Fitness of an index which is already in the heap can be changed, and
+ * the heap is repaired in <code>O(log n)</code> time, so the population never has to be sorted again after a single
+ * chromosome is replaced.<br>
+ * <br>
+ * The heap does not allocate any objects after it is constructed. This class is not thread-safe.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ */
+public final class FitnessHeap {
+    
+    /**
+     * Indicates if the index with the highest fitness is kept at the top of the heap.
+     */
+    private final boolean bestFirst;
+    /**
+     * Indices ordered as a binary heap.
+     */
+    private final int[] heap;
+    /**
+     * Position of each index in the heap, or -1 if the index is not in the heap.
+     */
+    private final int[] positions;
+    /**
+     * Fitness of each index.
+     */
+    private final double[] fitness;
+    /**
+     * Number of indices in the heap.
+     */
+    private int size;
+    
+    /**
+     * Constructs an empty <code>FitnessHeap</code> with provided capacity and ordering.
+     * 
+     * @param capacity number of indices which can be stored in the heap. Must not be negative.
+     * @param bestFirst <code>true</code> if the index with the highest fitness should be at the top of the heap,
+     *            <code>false</code> if the index with the lowest fitness should be at the top.
+     * @throws IllegalArgumentException thrown if provided capacity is negative.
+     */
+    private FitnessHeap(int capacity, boolean bestFirst) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative. Provided value was: " + capacity + ".");
+        }
+        
+        this.bestFirst = bestFirst;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.fitness = new double[capacity];
+        
+        Arrays.fill(positions, -1);
+    }
+    
+    /**
+     * Creates an empty heap which keeps the index with the lowest fitness at the top.
+     * 
+     * @param capacity number of indices which can be stored in the heap. Must not be negative.
+     * @return A new heap.
+     * @throws IllegalArgumentException thrown if provided capacity is negative.
+     */
+    public static FitnessHeap worstFirst(int capacity) {
+        
+        return new FitnessHeap(capacity, false);
+    }
+    
+    /**
+     * Creates an empty heap which keeps the index with the highest fitness at the top.
+     * 
+     * @param capacity number of indices which can be stored in the heap. Must not be negative.
+     * @return A new heap.
+     * @throws IllegalArgumentException thrown if provided capacity is negative.
+     */
+    public static FitnessHeap bestFirst(int capacity) {
+        
+        return new FitnessHeap(capacity, true);
+    }
+    
+    /**
+     * Sets the fitness of the provided index. If the index is not in the heap, it is added to it. Otherwise, its
+     * position in the heap is updated.
+     * 
+     * @param index index whose fitness is set.
+     * @param value fitness of the index.
+     * @throws IndexOutOfBoundsException thrown if provided index is outside of range [0, capacity).
+     */
+    public void set(int index, double value) {
+        
+        int position = positions[index];
+        fitness[index] = value;
+        
+        if (position < 0) {
+            position = size++;
+            heap[position] = index;
+            positions[index] = position;
+        }
+        
+        siftDown(siftUp(position));
+    }
+    
+    /**
+     * Removes the provided index from the heap. If the index is not in the heap, nothing happens.
+     * 
+     * @param index index to remove.
+     * @throws IndexOutOfBoundsException thrown if provided index is outside of range [0, capacity).
+     */
+    public void remove(int index) {
+        
+        int position = positions[index];
+        
+        if (position < 0) {
+            return;
+        }
+        
+        positions[index] = -1;
+        size--;
+        
+        if (position != size) {
+            int last = heap[size];
+            heap[position] = last;
+            positions[last] = position;
+            
+            siftDown(siftUp(position));
+        }
+    }
+    
+    /**
+     * Fetches the index at the top of the heap, which is the index with the lowest fitness for heaps created by
+     * {@link #worstFirst(int)}, or with the highest fitness for heaps created by {@link #bestFirst(int)}.
+     * 
+     * @return Index at the top of the heap.
+     * @throws NoSuchElementException thrown if the heap is empty.
+     */
+    public int peek() {
+        
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty.");
+        }
+        
+        return heap[0];
+    }
+    
+    /**
+     * Fetches the fitness of the index at the top of the heap.
+     * 
+     * @return Fitness of the index at the top of the heap.
+     * @throws NoSuchElementException thrown if the heap is empty.
+     */
+    public double peekFitness() {
+        
+        return fitness[peek()];
+    }
+    
+    /**
+     * Removes the index at the top of the heap and returns it.
+     * 
+     * @return Index which was at the top of the heap.
+     * @throws NoSuchElementException thrown if the heap is empty.
+     */
+    public int poll() {
+        
+        int index = peek();
+        
+        remove(index);
+        
+        return index;
+    }
+    
+    /**
+     * Fetches the fitness of the provided index. The result is undefined if the index is not in the heap.
+     * 
+     * @param index index whose fitness is fetched.
+     * @return Fitness of the provided index.
+     * @throws IndexOutOfBoundsException thrown if provided index is outside of range [0, capacity).
+     */
+    public double getFitness(int index) {
+        
+        return fitness[index];
+    }
+    
+    /**
+     * Checks if the provided index is in the heap.
+     * 
+     * @param index index to check.
+     * @return <code>true</code> if the index is in the heap, <code>false</code> otherwise.
+     * @throws IndexOutOfBoundsException thrown if provided index is outside of range [0, capacity).
+     */
+    public boolean contains(int index) {
+        
+        return positions[index] >= 0;
+    }
+    
+    /**
+     * Fetches the number of indices in the heap.
+     * 
+     * @return Number of indices in the heap.
+     */
+    public int size() {
+        
+        return size;
+    }
+    
+    /**
+     * Fetches the maximum number of indices which can be stored in the heap.
+     * 
+     * @return Capacity of the heap.
+     */
+    public int getCapacity() {
+        
+        return heap.length;
+    }
+    
+    /**
+     * Removes all indices from the heap.
+     */
+    public void clear() {
+        
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        
+        size = 0;
+    }
+    
+    /**
+     * Checks if the first index should be closer to the top of the heap than the second index.
+     * 
+     * @param first first index.
+     * @param second second index.
+     * @return <code>true</code> if the first index should be closer to the top of the heap.
+     */
+    private boolean isBefore(int first, int second) {
+        
+        return bestFirst ? fitness[first] > fitness[second] : fitness[first] < fitness[second];
+    }
+    
+    /**
+     * Moves the index at the provided position towards the top of the heap while it is before its parent.
+     * 
+     * @param position position of the index.
+     * @return The new position of the index.
+     */
+    private int siftUp(int position) {
+        
+        int index = heap[position];
+        
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            
+            if (!isBefore(index, parent)) {
+                break;
+            }
+            
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        
+        heap[position] = index;
+        positions[index] = position;
+        
+        return position;
+    }
+    
+    /**
+     * Moves the index at the provided position towards the bottom of the heap while any of its children is before it.
+     * 
+     * @param position position of the index.
+     */
+    private void siftDown(int position) {
+        
+        int index = heap[position];
+        int half = size >>> 1;
+        
+        while (position < half) {
+            int childPosition = 2 * position + 1;
+            int child = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            
+            if (rightPosition < size && isBefore(heap[rightPosition], child)) {
+                childPosition = rightPosition;
+                child = heap[childPosition];
+            }
+            
+            if (!isBefore(child, index)) {
+                break;
+            }
+            
+            heap[position] = child;
+            positions[child] = position;
+            position = childPosition;
+        }
+        
+        heap[position] = index;
+        positions[index] = position;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Contains helper classes which are shared between codecs, operators and genetic algorithms.
+ * 
+ * @author Domagoj Latečki
+ * @since 1.8
+ */
+package at.doml.genalg.utilities;
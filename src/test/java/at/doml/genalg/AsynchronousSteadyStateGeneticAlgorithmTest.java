@@ -0,0 +1,299 @@
+package at.doml.genalg;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IAsyncFitnessTest;
+import at.doml.genalg.population.interfaces.IBatchFitnessTest;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.progress.GenerationSummary;
+import at.doml.genalg.testutils.CollectingSubscriber;
+import at.doml.genalg.testutils.TestUtilities;
+import at.doml.genalg.utilities.ChromosomePool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class which contains tests for <code>AsynchronousSteadyStateGeneticAlgorithm</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see AsynchronousSteadyStateGeneticAlgorithm
+ */
+public class AsynchronousSteadyStateGeneticAlgorithmTest {
+    
+    /**
+     * Number of chromosomes in the population.
+     */
+    private static final int POPULATION_SIZE = 20;
+    /**
+     * Number of worker threads.
+     */
+    private static final int NUM_OF_WORKERS = 4;
+    /**
+     * Executor used in tests.
+     */
+    private final ExecutorService executor = Executors.newFixedThreadPool(NUM_OF_WORKERS);
+    /**
+     * Number of evaluations which are currently running.
+     */
+    private final AtomicInteger running = new AtomicInteger();
+    /**
+     * Highest number of evaluations which were running at the same time.
+     */
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    
+    /**
+     * Shuts down the executor.
+     */
+    @After
+    public void shutdown() {
+        
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Tests if evaluations run concurrently, if the number of evaluations never exceeds the maximum and if the best
+     * fitness never decreases.
+     */
+    @Test
+    public void testRun() {
+        
+        IFitnessTest<DoubleArrayChromosome> slowSphere = chromosome -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(200_000));
+            SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+            running.decrementAndGet();
+        };
+        AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(slowSphere);
+        
+        algorithm.initialize();
+        
+        double previousBest = algorithm.getBestFitness();
+        
+        for (int i = 0; i < 500; i++) {
+            algorithm.step();
+            
+            Assert.assertTrue(algorithm.getBestFitness() >= previousBest);
+            Assert.assertTrue(algorithm.getNumOfEvaluationsInFlight() < NUM_OF_WORKERS);
+            previousBest = algorithm.getBestFitness();
+        }
+        
+        Assert.assertEquals(POPULATION_SIZE + 500, algorithm.getNumOfEvaluations());
+        
+        algorithm.run(2_000, Double.POSITIVE_INFINITY);
+        
+        Assert.assertEquals(2_000, algorithm.getNumOfEvaluations());
+        Assert.assertEquals(0, algorithm.getNumOfEvaluationsInFlight());
+        Assert.assertTrue(maxRunning.get() > 1);
+        Assert.assertTrue(maxRunning.get() <= NUM_OF_WORKERS);
+    }
+    
+    /**
+     * Tests if an asynchronous fitness test, whose futures are completed by another thread after a delay, keeps the
+     * configured number of evaluations in flight.
+     */
+    @Test
+    public void testAsyncFitnessTest() {
+        
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        
+        try {
+            IAsyncFitnessTest<DoubleArrayChromosome> delayedSphere = chromosome -> {
+                CompletableFuture<Double> future = new CompletableFuture<>();
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                
+                scheduler.schedule(() -> {
+                    DoubleArrayChromosome copy = (DoubleArrayChromosome) chromosome.clone();
+                    SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(copy);
+                    running.decrementAndGet();
+                    future.complete(copy.getFitness());
+                }, ThreadLocalRandom.current().nextInt(200), TimeUnit.MICROSECONDS);
+                
+                return future;
+            };
+            AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                    new AsynchronousSteadyStateGeneticAlgorithm<>(TestUtilities.RAND,
+                            SteadyStateGeneticAlgorithmTest.GENERATOR, delayedSphere,
+                            new BlendCrossover<>(TestUtilities.RAND, 0.5),
+                            new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0), POPULATION_SIZE,
+                            NUM_OF_WORKERS);
+            
+            algorithm.initialize();
+            
+            double initialBest = algorithm.getBestFitness();
+            
+            algorithm.run(1_000, Double.POSITIVE_INFINITY);
+            
+            Assert.assertEquals(1_000, algorithm.getNumOfEvaluations());
+            Assert.assertEquals(0, algorithm.getNumOfEvaluationsInFlight());
+            Assert.assertTrue(algorithm.getBestFitness() >= initialBest);
+            Assert.assertTrue(maxRunning.get() > 1);
+            Assert.assertTrue(maxRunning.get() <= Math.max(NUM_OF_WORKERS, POPULATION_SIZE));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if synchronous and asynchronous fitness tests are adapted to each other.
+     */
+    @Test
+    public void testAsyncFitnessTestAdapters() {
+        
+        IAsyncFitnessTest<DoubleArrayChromosome> async =
+                IAsyncFitnessTest.fromFitnessTest(SteadyStateGeneticAlgorithmTest.SPHERE, executor);
+        IBatchFitnessTest<DoubleArrayChromosome> batch = async.toBatchFitnessTest();
+        List<DoubleArrayChromosome> chromosomes = Arrays.asList(new DoubleArrayChromosome(new double[] { 1.0, 2.0 }),
+                new DoubleArrayChromosome(new double[] { 3.0 }));
+        
+        batch.evaluateAll(chromosomes);
+        
+        Assert.assertEquals(-5.0, chromosomes.get(0).getFitness(), 0.0);
+        Assert.assertEquals(-9.0, chromosomes.get(1).getFitness(), 0.0);
+        Assert.assertEquals(-1.0,
+                async.evaluateAsync(new DoubleArrayChromosome(new double[] { 1.0 })).join().doubleValue(), 0.0);
+        
+        IBatchFitnessTest<DoubleArrayChromosome> failing = IAsyncFitnessTest.<DoubleArrayChromosome> fromFitnessTest(
+                chromosome -> {
+                    throw new IllegalStateException();
+                }, executor).toBatchFitnessTest();
+        
+        try {
+            failing.evaluate(new DoubleArrayChromosome(new double[] { 1.0 }));
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException expected) {
+            Assert.assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    /**
+     * Tests if a failed evaluation is reported.
+     */
+    @Test
+    public void testFailedEvaluation() {
+        
+        AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(chromosome -> {
+            throw new IllegalStateException();
+        });
+        
+        try {
+            algorithm.initialize();
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException expected) {
+            Assert.assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    /**
+     * Tests if children of cancelled evaluations are released into the pool, but only after their evaluations stop
+     * using them.
+     */
+    @Test
+    public void testCancelledChildrenAreReleased() throws InterruptedException {
+        
+        AtomicBoolean blocking = new AtomicBoolean();
+        AtomicBoolean open = new AtomicBoolean();
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger blocked = new AtomicInteger();
+        BlendCrossover<DoubleArrayChromosome> crossover = new BlendCrossover<>(TestUtilities.RAND, 0.5);
+        AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                new AsynchronousSteadyStateGeneticAlgorithm<>(TestUtilities.RAND,
+                        SteadyStateGeneticAlgorithmTest.GENERATOR, chromosome -> {
+                            if (blocking.get() && counter.getAndIncrement() % 2 == 0) {
+                                blocked.incrementAndGet();
+                                
+                                while (!open.get()) {
+                                    Thread.interrupted();
+                                    LockSupport.parkNanos(100_000L);
+                                }
+                            }
+                            
+                            SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+                        }, crossover, new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0),
+                        POPULATION_SIZE, executor, NUM_OF_WORKERS);
+        ChromosomePool<DoubleArrayChromosome> pool = new ChromosomePool<>(
+                new DoubleArrayChromosome(new double[SteadyStateGeneticAlgorithmTest.NUM_OF_VALUES]), 1_000);
+        
+        crossover.setPool(pool);
+        algorithm.setPool(pool);
+        algorithm.initialize();
+        blocking.set(true);
+        algorithm.step();
+        
+        while (blocked.get() < 2) {
+            LockSupport.parkNanos(100_000L);
+        }
+        
+        int pooled = pool.size();
+        int inFlight = algorithm.getNumOfEvaluationsInFlight();
+        
+        Assert.assertEquals(NUM_OF_WORKERS - 1, inFlight);
+        
+        algorithm.cancelPendingEvaluations();
+        
+        Assert.assertEquals(0, algorithm.getNumOfEvaluationsInFlight());
+        Assert.assertTrue(pool.size() <= pooled + inFlight - 2);
+        
+        open.set(true);
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(5L, TimeUnit.SECONDS));
+        algorithm.cancelPendingEvaluations();
+        
+        Assert.assertEquals(pooled + inFlight, pool.size());
+    }
+    
+    /**
+     * Tests if the inherited publisher receives a generation for every population size of integrated children.
+     */
+    @Test
+    public void testPublishing() {
+        
+        CollectingSubscriber<GenerationSummary<DoubleArrayChromosome>> subscriber = new CollectingSubscriber<>();
+        GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(Runnable::run);
+        AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                createAlgorithm(SteadyStateGeneticAlgorithmTest.SPHERE);
+        List<GenerationSummary<DoubleArrayChromosome>> summaries = subscriber.getItems();
+        
+        publisher.subscribe(subscriber);
+        algorithm.setPublisher(publisher);
+        algorithm.run(5 * POPULATION_SIZE, Double.POSITIVE_INFINITY);
+        
+        Assert.assertEquals(5, summaries.size());
+        
+        for (int i = 0; i < summaries.size(); i++) {
+            Assert.assertEquals(i, summaries.get(i).getGeneration());
+            Assert.assertEquals((i + 1) * POPULATION_SIZE, summaries.get(i).getNumOfEvaluations());
+        }
+    }
+    
+    /**
+     * Creates the algorithm used in tests.
+     * 
+     * @param fitnessTest fitness test used by the algorithm.
+     * @return A new algorithm.
+     */
+    private AsynchronousSteadyStateGeneticAlgorithm<DoubleArrayChromosome> createAlgorithm(
+            IFitnessTest<DoubleArrayChromosome> fitnessTest) {
+        
+        return new AsynchronousSteadyStateGeneticAlgorithm<>(TestUtilities.RAND,
+                SteadyStateGeneticAlgorithmTest.GENERATOR, fitnessTest, new BlendCrossover<>(TestUtilities.RAND, 0.5),
+                new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0), POPULATION_SIZE, executor,
+                NUM_OF_WORKERS);
+    }
+}
@@ -0,0 +1,173 @@
+package at.doml.genalg;
+
+import at.doml.genalg.CellularGeneticAlgorithm.Neighbourhood;
+import at.doml.genalg.CellularGeneticAlgorithm.UpdateMode;
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.interfaces.IMutationOperator;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Class which contains tests for <code>CellularGeneticAlgorithm</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see CellularGeneticAlgorithm
+ */
+public class CellularGeneticAlgorithmTest {
+    
+    /**
+     * Executor which updates the tiles.
+     */
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    
+    /**
+     * Stops the threads of the executor.
+     */
+    @After
+    public void tearDown() {
+        
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Tests if the neighbours of cells wrap around the edges of the grid.
+     */
+    @Test
+    public void testNeighbours() {
+        
+        CellularGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(4, 5);
+        algorithm.setNeighbourhood(Neighbourhood.VON_NEUMANN);
+        algorithm.initialize();
+        
+        int[] neighbours = algorithm.getNeighbours(0);
+        Arrays.sort(neighbours);
+        Assert.assertArrayEquals(new int[] { 1, 4, 5, 15 }, neighbours);
+        
+        algorithm = createAlgorithm(3, 3, 3);
+        algorithm.initialize();
+        
+        neighbours = algorithm.getNeighbours(13);
+        Arrays.sort(neighbours);
+        Assert.assertEquals(26, neighbours.length);
+        
+        for (int i = 0; i < neighbours.length; i++) {
+            Assert.assertEquals(i < 13 ? i : i + 1, neighbours[i]);
+        }
+    }
+    
+    /**
+     * Tests if the best fitness never decreases and improves over time, in both update modes with parallel tiles.
+     */
+    @Test
+    public void testOptimization() {
+        
+        for (UpdateMode updateMode : UpdateMode.values()) {
+            CellularGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(8, 8);
+            algorithm.setUpdateMode(updateMode);
+            algorithm.setExecutor(executor, 5);
+            algorithm.initialize();
+            
+            Assert.assertEquals(4, algorithm.getNumOfTiles());
+            
+            double initialBest = algorithm.getBestFitness();
+            double previousBest = initialBest;
+            
+            for (int i = 0; i < 30; i++) {
+                algorithm.sweep();
+                
+                Assert.assertTrue(algorithm.getBestFitness() >= previousBest);
+                previousBest = algorithm.getBestFitness();
+            }
+            
+            Assert.assertTrue(algorithm.getBestFitness() > initialBest);
+            Assert.assertEquals(30L, algorithm.getNumOfSweeps());
+            Assert.assertEquals(64L * 31L, algorithm.getNumOfEvaluations());
+            
+            for (int i = 0; i < algorithm.getNumOfCells(); i++) {
+                Assert.assertNotNull(algorithm.getCell(i));
+            }
+        }
+    }
+    
+    /**
+     * Tests if the chromosome returned by the mutation operator is used, for operators which return a new chromosome
+     * instead of modifying the provided one.
+     */
+    @Test
+    public void testMutationResult() {
+        
+        IMutationOperator<DoubleArrayChromosome> replacing = new IMutationOperator<DoubleArrayChromosome>() {
+            
+            @Override
+            public DoubleArrayChromosome mutate(DoubleArrayChromosome chromosome) {
+                
+                return new DoubleArrayChromosome(new double[SteadyStateGeneticAlgorithmTest.NUM_OF_VALUES]);
+            }
+            
+            @Override
+            public void setMutationIntensity(double intensity) {}
+        };
+        CellularGeneticAlgorithm<DoubleArrayChromosome> algorithm = new CellularGeneticAlgorithm<>(new int[] { 3, 3 },
+                SteadyStateGeneticAlgorithmTest.GENERATOR, SteadyStateGeneticAlgorithmTest.SPHERE,
+                rand -> new BlendCrossover<>(rand, 0.5), rand -> replacing, 42L);
+        
+        algorithm.sweep();
+        
+        for (int i = 0; i < algorithm.getNumOfCells(); i++) {
+            Assert.assertEquals(0.0, algorithm.getCell(i).getFitness(), 0.0);
+        }
+    }
+    
+    /**
+     * Tests if illegal arguments and calls are rejected.
+     */
+    @Test
+    public void testIllegalArguments() {
+        
+        try {
+            createAlgorithm(3, 2);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        CellularGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(3, 3);
+        
+        try {
+            algorithm.setExecutor(executor, 0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        algorithm.initialize();
+        
+        try {
+            algorithm.setExecutor(executor, 2);
+            Assert.fail("Expected IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Creates the algorithm used in tests.
+     * 
+     * @param dimensions sizes of the grid in each dimension.
+     * @return A new algorithm.
+     */
+    private static CellularGeneticAlgorithm<DoubleArrayChromosome> createAlgorithm(int... dimensions) {
+        
+        return new CellularGeneticAlgorithm<>(dimensions, SteadyStateGeneticAlgorithmTest.GENERATOR,
+                SteadyStateGeneticAlgorithmTest.SPHERE, rand -> new BlendCrossover<>(rand, 0.5),
+                rand -> new GaussianDistributionMutation<>(rand, 0.1, 1.0, 0.0), 42L);
+    }
+}
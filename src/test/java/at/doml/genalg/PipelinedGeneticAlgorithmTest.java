@@ -0,0 +1,255 @@
+package at.doml.genalg;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.operators.selection.TournamentSelection;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.progress.GenerationSummary;
+import at.doml.genalg.testutils.CollectingSubscriber;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class which contains tests for <code>PipelinedGeneticAlgorithm</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see PipelinedGeneticAlgorithm
+ */
+public class PipelinedGeneticAlgorithmTest {
+    
+    /**
+     * Number of chromosomes in the population.
+     */
+    private static final int POPULATION_SIZE = 40;
+    
+    /**
+     * Tests if the best fitness never decreases and improves over time, with and without an executor.
+     */
+    @Test
+    public void testOptimization() {
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            for (boolean pipelined : new boolean[] { false, true }) {
+                AtomicInteger evaluations = new AtomicInteger();
+                PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(chromosome -> {
+                    evaluations.incrementAndGet();
+                    SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+                });
+                
+                if (pipelined) {
+                    algorithm.setExecutor(executor, 2, 2);
+                }
+                
+                algorithm.setBatchSize(7);
+                algorithm.setElitism(2);
+                algorithm.initialize();
+                
+                double initialBest = algorithm.getBestFitness();
+                double previousBest = initialBest;
+                
+                for (int i = 0; i < 50; i++) {
+                    algorithm.step();
+                    
+                    Assert.assertTrue(algorithm.getBestFitness() >= previousBest);
+                    Assert.assertEquals(POPULATION_SIZE, algorithm.getPopulation().size());
+                    previousBest = algorithm.getBestFitness();
+                }
+                
+                long expected = POPULATION_SIZE + 50L * (POPULATION_SIZE - 2);
+                
+                Assert.assertEquals(50L, algorithm.getGeneration());
+                Assert.assertEquals(expected, algorithm.getNumOfEvaluations());
+                Assert.assertEquals(expected, evaluations.get());
+                Assert.assertTrue(algorithm.getBestFitness() > initialBest);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if the algorithm stops when the target fitness or the maximum number of evaluations is reached.
+     */
+    @Test
+    public void testRun() {
+        
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        
+        try {
+            PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                    createAlgorithm(SteadyStateGeneticAlgorithmTest.SPHERE);
+            algorithm.setExecutor(executor, 1, 2);
+            
+            DoubleArrayChromosome best = algorithm.run(5_000, -0.5);
+            
+            Assert.assertTrue(best.getFitness() >= -0.5 || algorithm.getNumOfEvaluations() >= 5_000);
+            Assert.assertTrue(algorithm.getNumOfEvaluations() < 5_000 + POPULATION_SIZE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if a failure of the fitness test is propagated to the calling thread.
+     */
+    @Test
+    public void testFailurePropagation() {
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger evaluations = new AtomicInteger();
+        
+        try {
+            PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(chromosome -> {
+                if (evaluations.incrementAndGet() > POPULATION_SIZE + 10) {
+                    throw new IllegalStateException("Evaluation failed.");
+                }
+                
+                SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+            });
+            algorithm.setExecutor(executor, 2, 2);
+            algorithm.setBatchSize(4);
+            
+            try {
+                algorithm.step();
+                algorithm.step();
+                Assert.fail("Expected GeneticAlgorithmException.");
+            } catch (GeneticAlgorithmException exception) {
+                Assert.assertTrue(exception.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if the summary of each generation is published.
+     */
+    @Test
+    public void testPublishing() {
+        
+        CollectingSubscriber<GenerationSummary<DoubleArrayChromosome>> subscriber = new CollectingSubscriber<>();
+        GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(Runnable::run);
+        PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                createAlgorithm(SteadyStateGeneticAlgorithmTest.SPHERE);
+        List<GenerationSummary<DoubleArrayChromosome>> summaries = subscriber.getItems();
+        
+        publisher.subscribe(subscriber);
+        algorithm.setPublisher(publisher);
+        
+        for (int i = 0; i < 5; i++) {
+            algorithm.step();
+        }
+        
+        Assert.assertEquals(6, summaries.size());
+        
+        for (int i = 0; i < summaries.size(); i++) {
+            Assert.assertEquals(i, summaries.get(i).getGeneration());
+        }
+        
+        Assert.assertEquals(algorithm.getBestFitness(), summaries.get(5).getBestFitness(), 0.0);
+        Assert.assertEquals(algorithm.getNumOfEvaluations(), summaries.get(5).getNumOfEvaluations());
+    }
+    
+    /**
+     * Tests if discarded chromosomes are reused as children by the breeders, without corrupting the population.
+     */
+    @Test
+    public void testPooling() {
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<DoubleArrayChromosome> distinct = Collections.synchronizedSet(Collections.newSetFromMap(
+                new IdentityHashMap<>()));
+        
+        try {
+            PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm(chromosome -> {
+                distinct.add(chromosome);
+                SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+            });
+            algorithm.setExecutor(executor, 2, 2);
+            algorithm.setBatchSize(5);
+            algorithm.setElitism(2);
+            algorithm.setPoolCapacity(POPULATION_SIZE);
+            
+            for (int i = 0; i < 20; i++) {
+                algorithm.step();
+            }
+            
+            Assert.assertTrue(distinct.size() < algorithm.getNumOfEvaluations() / 2);
+            
+            for (DoubleArrayChromosome chromosome : algorithm.getPopulation()) {
+                double fitness = chromosome.getFitness();
+                
+                SteadyStateGeneticAlgorithmTest.SPHERE.evaluate(chromosome);
+                Assert.assertEquals(chromosome.getFitness(), fitness, 0.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if illegal arguments are rejected.
+     */
+    @Test
+    public void testIllegalArguments() {
+        
+        PipelinedGeneticAlgorithm<DoubleArrayChromosome> algorithm =
+                createAlgorithm(SteadyStateGeneticAlgorithmTest.SPHERE);
+        
+        try {
+            algorithm.setElitism(POPULATION_SIZE);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            algorithm.setBatchSize(0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            algorithm.setExecutor(null, 1, 0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            algorithm.setPoolCapacity(-1);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+    
+    /**
+     * Creates the algorithm used in tests.
+     * 
+     * @param fitnessTest fitness test used by the algorithm.
+     * @return A new algorithm.
+     */
+    private static PipelinedGeneticAlgorithm<DoubleArrayChromosome> createAlgorithm(
+            IFitnessTest<DoubleArrayChromosome> fitnessTest) {
+        
+        return new PipelinedGeneticAlgorithm<>(SteadyStateGeneticAlgorithmTest.GENERATOR, fitnessTest,
+                rand -> new TournamentSelection<>(rand, 2, 3), rand -> new BlendCrossover<>(rand, 0.5),
+                rand -> new GaussianDistributionMutation<>(rand, 0.1, 1.0, 0.0), POPULATION_SIZE, 42L);
+    }
+}
@@ -0,0 +1,201 @@
+package at.doml.genalg;
+
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.population.abstracts.AbstractPopulationGenerator;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IBoundedFitnessTest;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.progress.GenerationSummary;
+import at.doml.genalg.testutils.CollectingSubscriber;
+import at.doml.genalg.testutils.TestUtilities;
+import at.doml.genalg.utilities.ChromosomePool;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class which contains tests for <code>SteadyStateGeneticAlgorithm</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see SteadyStateGeneticAlgorithm
+ */
+public class SteadyStateGeneticAlgorithmTest {
+    
+    /**
+     * Number of values in each chromosome.
+     */
+    static final int NUM_OF_VALUES = 5;
+    /**
+     * Number of chromosomes in the population.
+     */
+    private static final int POPULATION_SIZE = 30;
+    
+    /**
+     * Fitness test which maximizes the negative sum of squares, so the optimum is 0.
+     */
+    static final IFitnessTest<DoubleArrayChromosome> SPHERE = chromosome -> {
+        double[] sum = new double[1];
+        chromosome.forEachValue(value -> sum[0] -= value * value);
+        chromosome.setFitness(sum[0]);
+    };
+    
+    /**
+     * Generator of random chromosomes with values in range [-5, 5).
+     */
+    static final AbstractPopulationGenerator<DoubleArrayChromosome> GENERATOR =
+            new AbstractPopulationGenerator<DoubleArrayChromosome>(TestUtilities.RAND) {
+                
+                @Override
+                protected Collection<DoubleArrayChromosome> createPopulation(int size) {
+                    
+                    List<DoubleArrayChromosome> population = new ArrayList<>(size);
+                    
+                    for (int i = 0; i < size; i++) {
+                        double[] values = new double[NUM_OF_VALUES];
+                        
+                        for (int j = 0; j < NUM_OF_VALUES; j++) {
+                            values[j] = rand.nextDouble() * 10.0 - 5.0;
+                        }
+                        
+                        population.add(new DoubleArrayChromosome(values));
+                    }
+                    
+                    return population;
+                }
+            };
+    
+    /**
+     * Tests if the best fitness never decreases and improves over time, with both replacement strategies.
+     */
+    @Test
+    public void testOptimization() {
+        
+        for (int replacementTournamentSize : new int[] { 0, 3 }) {
+            SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm();
+            algorithm.setReplacementTournamentSize(replacementTournamentSize);
+            algorithm.setReplacementsPerStep(2);
+            algorithm.initialize();
+            
+            double initialBest = algorithm.getBestFitness();
+            double previousBest = initialBest;
+            
+            Assert.assertEquals(POPULATION_SIZE, algorithm.getNumOfEvaluations());
+            
+            for (int i = 0; i < 1_000; i++) {
+                algorithm.step();
+                
+                Assert.assertTrue(algorithm.getBestFitness() >= previousBest);
+                Assert.assertTrue(algorithm.getWorstFitness() <= algorithm.getBestFitness());
+                previousBest = algorithm.getBestFitness();
+            }
+            
+            Assert.assertEquals(POPULATION_SIZE + 2_000, algorithm.getNumOfEvaluations());
+            Assert.assertEquals(POPULATION_SIZE, algorithm.getPopulation().size());
+            Assert.assertTrue(algorithm.getBestFitness() > initialBest);
+            Assert.assertEquals(algorithm.getBestFitness(), algorithm.getBest().getFitness(), 0.0);
+        }
+    }
+    
+    /**
+     * Tests if the algorithm stops when the target fitness or the maximum number of evaluations is reached.
+     */
+    @Test
+    public void testRun() {
+        
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm();
+        DoubleArrayChromosome best = algorithm.run(5_000, -0.5);
+        
+        Assert.assertTrue(best.getFitness() >= -0.5 || algorithm.getNumOfEvaluations() >= 5_000);
+        Assert.assertTrue(algorithm.getNumOfEvaluations() <= 5_000);
+    }
+    
+    /**
+     * Tests if a bounded fitness test stops evaluating hopeless children early, while the population keeps only
+     * chromosomes with exact fitness.
+     */
+    @Test
+    public void testBoundedEvaluation() {
+        
+        AtomicLong numOfTerms = new AtomicLong();
+        IBoundedFitnessTest<DoubleArrayChromosome> boundedSphere = (chromosome, threshold) -> {
+            double sum = 0.0;
+            
+            for (int i = 0; i < NUM_OF_VALUES && sum >= threshold; i++) {
+                double value = chromosome.getValue(i);
+                sum -= value * value;
+                numOfTerms.incrementAndGet();
+            }
+            
+            chromosome.setFitness(sum);
+        };
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = new SteadyStateGeneticAlgorithm<>(
+                TestUtilities.RAND, GENERATOR, boundedSphere, new BlendCrossover<>(TestUtilities.RAND, 0.5),
+                new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0), POPULATION_SIZE);
+        algorithm.setTournamentSize(3);
+        algorithm.setReplacementTournamentSize(3);
+        algorithm.run(3_000, 0.0);
+        
+        Assert.assertTrue(numOfTerms.get() < algorithm.getNumOfEvaluations() * NUM_OF_VALUES);
+        
+        for (DoubleArrayChromosome chromosome : algorithm.getPopulation()) {
+            double fitness = chromosome.getFitness();
+            
+            SPHERE.evaluate(chromosome);
+            Assert.assertEquals(chromosome.getFitness(), fitness, 0.0);
+        }
+    }
+    
+    /**
+     * Tests if a generation is published every time the number of evaluations reaches another multiple of the
+     * population size.
+     */
+    @Test
+    public void testPublishing() {
+        
+        CollectingSubscriber<GenerationSummary<DoubleArrayChromosome>> subscriber = new CollectingSubscriber<>();
+        GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(Runnable::run);
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = createAlgorithm();
+        List<GenerationSummary<DoubleArrayChromosome>> summaries = subscriber.getItems();
+        
+        publisher.subscribe(subscriber);
+        algorithm.setPublisher(publisher);
+        algorithm.run(5 * POPULATION_SIZE, 0.0);
+        
+        Assert.assertEquals(5, summaries.size());
+        
+        for (int i = 0; i < summaries.size(); i++) {
+            Assert.assertEquals(i, summaries.get(i).getGeneration());
+            Assert.assertEquals((i + 1) * POPULATION_SIZE, summaries.get(i).getNumOfEvaluations());
+        }
+        
+        Assert.assertEquals(algorithm.getBestFitness(), summaries.get(4).getBestFitness(), 0.0);
+    }
+    
+    /**
+     * Creates the algorithm used in tests.
+     * 
+     * @return A new algorithm.
+     */
+    private static SteadyStateGeneticAlgorithm<DoubleArrayChromosome> createAlgorithm() {
+        
+        BlendCrossover<DoubleArrayChromosome> crossover = new BlendCrossover<>(TestUtilities.RAND, 0.5);
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = new SteadyStateGeneticAlgorithm<>(
+                TestUtilities.RAND, GENERATOR, SPHERE, crossover,
+                new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0), POPULATION_SIZE);
+        ChromosomePool<DoubleArrayChromosome> pool =
+                new ChromosomePool<>(new DoubleArrayChromosome(new double[NUM_OF_VALUES]), POPULATION_SIZE);
+        
+        crossover.setPool(pool);
+        algorithm.setPool(pool);
+        algorithm.setTournamentSize(3);
+        
+        return algorithm;
+    }
+}
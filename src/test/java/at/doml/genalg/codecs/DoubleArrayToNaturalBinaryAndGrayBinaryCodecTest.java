@@ -5,6 +5,8 @@ import at.doml.genalg.testutils.TestUtilities;
 import org.junit.Assert;
 import org.junit.Test;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.function.Function;
 
 /**
@@ -82,6 +84,129 @@ public class DoubleArrayToNaturalBinaryAndGrayBinaryCodecTest {
         testCodec(bitsPerValue -> new DoubleArrayToGrayBinaryCodec(bitsPerValue, LOWER_BOUND, UPPER_BOUND));
     }
     
+    /**
+     * Tests if the gray binary codec produces the gray code of the value encoded by the natural binary codec. With
+     * {@link #BITS_PER_VALUE} set to 8, each <code>byte</code> holds exactly one encoded value.
+     */
+    @Test
+    public void testGrayCodeMatchesNaturalBinaryCode() {
+        
+        byte[] naturalBytes =
+                new DoubleArrayToNaturalBinaryCodec(BITS_PER_VALUE, LOWER_BOUND, UPPER_BOUND).encode(INPUT_ARRAY);
+        byte[] grayBytes =
+                new DoubleArrayToGrayBinaryCodec(BITS_PER_VALUE, LOWER_BOUND, UPPER_BOUND).encode(INPUT_ARRAY);
+        Assert.assertEquals(naturalBytes.length, grayBytes.length);
+        
+        for (int i = 0; i < naturalBytes.length; i++) {
+            int natural = naturalBytes[i] & 0xFF;
+            
+            Assert.assertEquals((byte) (natural ^ natural >>> 1), grayBytes[i]);
+        }
+    }
+    
+    /**
+     * Tests if single values decoded by the natural and gray binary codecs match the decoded arrays.
+     */
+    @Test
+    public void testDecodeSingleValue() {
+        
+        for (int i = AbstractDoubleArrayToBinaryCodec.getMinNumOfBitsPerValue(), bound =
+                AbstractDoubleArrayToBinaryCodec.getMaxNumOfBitsPerValue(); i <= bound; i++) {
+            testDecodeSingleValue(new DoubleArrayToNaturalBinaryCodec(i, LOWER_BOUND, UPPER_BOUND));
+            testDecodeSingleValue(new DoubleArrayToGrayBinaryCodec(i, LOWER_BOUND, UPPER_BOUND));
+        }
+    }
+    
+    /**
+     * Tests if single values decoded by the provided codec match the decoded array.
+     * 
+     * @param codec codec to test.
+     */
+    private void testDecodeSingleValue(AbstractDoubleArrayToBinaryCodec codec) {
+        
+        byte[] bytes = codec.encode(INPUT_ARRAY);
+        double[] decoded = codec.decode(bytes);
+        Assert.assertEquals(decoded.length, codec.getNumOfValues(bytes));
+        
+        for (int i = 0; i < decoded.length; i++) {
+            Assert.assertEquals(decoded[i], codec.decodeValue(bytes, i), 0.0);
+        }
+        
+        try {
+            codec.decodeValue(bytes, decoded.length);
+            Assert.fail("Expected IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if bulk encoding and decoding of many items matches encoding and decoding of single items.
+     */
+    @Test
+    public void testBulkEncodeDecode() {
+        
+        int valuesPerItem = 7;
+        int numOfItems = TEST_ARRAY_SIZE / valuesPerItem;
+        
+        for (int i = AbstractDoubleArrayToBinaryCodec.getMinNumOfBitsPerValue(), bound =
+                AbstractDoubleArrayToBinaryCodec.getMaxNumOfBitsPerValue(); i <= bound; i++) {
+            AbstractDoubleArrayToBinaryCodec codec = new DoubleArrayToGrayBinaryCodec(i, LOWER_BOUND, UPPER_BOUND);
+            int stride = codec.getEncodedLength(valuesPerItem) + 1;
+            byte[] bytes = new byte[numOfItems * stride];
+            double[] decoded = new double[numOfItems * valuesPerItem];
+            
+            codec.encodeAll(INPUT_ARRAY, numOfItems, valuesPerItem, bytes, stride);
+            codec.decodeAll(bytes, numOfItems, valuesPerItem, stride, decoded);
+            
+            for (int j = 0; j < numOfItems; j++) {
+                double[] item = Arrays.copyOfRange(INPUT_ARRAY, j * valuesPerItem, (j + 1) * valuesPerItem);
+                byte[] itemBytes = codec.encode(item);
+                double[] decodedItem = codec.decode(itemBytes);
+                
+                for (int k = 0; k < itemBytes.length; k++) {
+                    Assert.assertEquals(itemBytes[k], bytes[j * stride + k]);
+                }
+                
+                for (int k = 0; k < valuesPerItem; k++) {
+                    Assert.assertEquals(decodedItem[k], decoded[j * valuesPerItem + k], 0.0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Tests if encoding into a direct <code>ByteBuffer</code> produces the same bytes as encoding into an array, and if
+     * values decoded from the buffer match the decoded array.
+     */
+    @Test
+    public void testByteBufferEncodeDecode() {
+        
+        for (int i = AbstractDoubleArrayToBinaryCodec.getMinNumOfBitsPerValue(), bound =
+                AbstractDoubleArrayToBinaryCodec.getMaxNumOfBitsPerValue(); i <= bound; i++) {
+            AbstractDoubleArrayToBinaryCodec codec = new DoubleArrayToNaturalBinaryCodec(i, LOWER_BOUND, UPPER_BOUND);
+            byte[] bytes = codec.encode(INPUT_ARRAY);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length * 2 + 1);
+            double[] decoded = new double[TEST_ARRAY_SIZE];
+            
+            buffer.put((byte) 1);
+            codec.encode(INPUT_ARRAY, buffer);
+            codec.encode(INPUT_ARRAY, buffer);
+            Assert.assertEquals(bytes.length * 2 + 1, buffer.position());
+            
+            for (int j = 0; j < bytes.length; j++) {
+                Assert.assertEquals(bytes[j], buffer.get(j + 1));
+                Assert.assertEquals(bytes[j], buffer.get(j + 1 + bytes.length));
+            }
+            
+            buffer.position(1 + bytes.length);
+            codec.decode(buffer, decoded);
+            
+            Assert.assertEquals(1 + bytes.length * 2, buffer.position());
+            TestUtilities.assertArrayElementsEqual(codec.decode(bytes), decoded, 0.0);
+        }
+    }
+    
     /**
      * Tests the codec which is generated by provided function.
      * 
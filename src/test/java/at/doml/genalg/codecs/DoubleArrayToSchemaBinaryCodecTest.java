@@ -0,0 +1,260 @@
+package at.doml.genalg.codecs;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Class which contains tests for <code>DoubleArrayToSchemaBinaryCodec</code> and <code>BinaryGene</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see DoubleArrayToSchemaBinaryCodec
+ * @see BinaryGene
+ */
+public class DoubleArrayToSchemaBinaryCodecTest {
+    
+    /**
+     * Lower bound of real genes used in the test.
+     */
+    private static final double LOWER_BOUND = -100.0;
+    /**
+     * Upper bound of real genes used in the test.
+     */
+    private static final double UPPER_BOUND = 100.0;
+    /**
+     * Number of random arrays used in the test.
+     */
+    private static final int NUM_OF_TESTS = 1_000;
+    /**
+     * Schema used in the test. Genes have various widths, so most of them span <code>byte</code> boundaries.
+     */
+    private static final BinaryGene[] GENES = {
+            BinaryGene.real(1, LOWER_BOUND, UPPER_BOUND),
+            BinaryGene.real(17, LOWER_BOUND, UPPER_BOUND),
+            BinaryGene.grayReal(40, LOWER_BOUND, UPPER_BOUND),
+            BinaryGene.integer(-5L, 1_000L),
+            BinaryGene.categorical(3),
+            BinaryGene.real(64, LOWER_BOUND, UPPER_BOUND),
+            BinaryGene.grayReal(33, LOWER_BOUND, UPPER_BOUND),
+            BinaryGene.integer(Long.MIN_VALUE / 2L, Long.MAX_VALUE / 2L)
+    };
+    
+    /**
+     * Tests if values are encoded and decoded with expected precision.
+     */
+    @Test
+    public void testEncodeDecode() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        Assert.assertEquals((1 + 17 + 40 + 11 + 2 + 64 + 33 + 64 + 7) / 8, codec.getNumOfBytes());
+        
+        for (int i = 0; i < NUM_OF_TESTS; i++) {
+            double[] input = randomInput();
+            double[] output = codec.decode(codec.encode(input));
+            Assert.assertEquals(GENES.length, output.length);
+            
+            for (int j = 0; j < GENES.length; j++) {
+                BinaryGene gene = GENES[j];
+                double precision = gene.getKind() == BinaryGene.Kind.REAL ? Math.max(
+                        (gene.getUpperBound() - gene.getLowerBound()) / Math.pow(2.0, gene.getBits()),
+                        4.0 * Math.ulp(UPPER_BOUND)) : Math.ulp(input[j]);
+                
+                Assert.assertEquals(input[j], output[j], precision);
+            }
+        }
+    }
+    
+    /**
+     * Tests if decoding and encoding single genes matches the whole array operations.
+     */
+    @Test
+    public void testRandomAccess() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        double[] input = randomInput();
+        byte[] bytes = codec.encode(input);
+        double[] decoded = codec.decode(bytes);
+        
+        for (int i = 0; i < GENES.length; i++) {
+            Assert.assertEquals(decoded[i], codec.decodeValue(bytes, i), 0.0);
+        }
+        
+        byte[] copy = new byte[codec.getNumOfBytes()];
+        
+        for (int i = GENES.length - 1; i >= 0; i--) {
+            codec.encodeValue(copy, i, input[i]);
+        }
+        
+        TestUtilities.assertArrayElementsEqual(bytes, copy);
+    }
+    
+    /**
+     * Tests if bulk encoding and decoding of many items matches encoding and decoding of single items.
+     */
+    @Test
+    public void testBulkEncodeDecode() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        int numOfItems = 10;
+        int stride = codec.getNumOfBytes();
+        double[] values = new double[numOfItems * GENES.length];
+        
+        for (int i = 0; i < numOfItems; i++) {
+            System.arraycopy(randomInput(), 0, values, i * GENES.length, GENES.length);
+        }
+        
+        byte[] bytes = new byte[numOfItems * stride];
+        double[] decoded = new double[values.length];
+        
+        codec.encodeAll(values, numOfItems, GENES.length, bytes, stride);
+        codec.decodeAll(bytes, numOfItems, GENES.length, stride, decoded);
+        
+        for (int i = 0; i < numOfItems; i++) {
+            byte[] itemBytes = codec.encode(Arrays.copyOfRange(values, i * GENES.length, (i + 1) * GENES.length));
+            
+            TestUtilities.assertArrayElementsEqual(itemBytes, Arrays.copyOfRange(bytes, i * stride, (i + 1) * stride));
+            TestUtilities.assertArrayElementsEqual(codec.decode(itemBytes),
+                    Arrays.copyOfRange(decoded, i * GENES.length, (i + 1) * GENES.length), 0.0);
+        }
+        
+        assertThrows(() -> codec.encodeAll(values, numOfItems, GENES.length, bytes, stride - 1));
+        assertThrows(() -> codec.getEncodedLength(GENES.length + 1));
+    }
+    
+    /**
+     * Tests encoding into and decoding from a <code>ByteBuffer</code>.
+     */
+    @Test
+    public void testByteBufferEncodeDecode() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        double[] input = randomInput();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(codec.getNumOfBytes() + 3);
+        double[] decoded = new double[GENES.length];
+        
+        codec.encode(input, 0, GENES.length, buffer, 3);
+        codec.decode(buffer, 3, GENES.length, decoded, 0);
+        
+        Assert.assertEquals(0, buffer.position());
+        TestUtilities.assertArrayElementsEqual(codec.decode(codec.encode(input)), decoded, 0.0);
+    }
+    
+    /**
+     * Tests the behavior of values which are outside of gene bounds.
+     */
+    @Test
+    public void testOutOfBoundsValues() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(
+                BinaryGene.real(64, LOWER_BOUND, UPPER_BOUND),
+                BinaryGene.grayReal(64, LOWER_BOUND, UPPER_BOUND),
+                BinaryGene.integer(0L, 5L),
+                BinaryGene.categorical(5)
+        );
+        
+        TestUtilities.assertArrayElementsEqual(new double[] { UPPER_BOUND, LOWER_BOUND, 5.0, 0.0 },
+                codec.decode(codec.encode(new double[] { 1_000.0, -1_000.0, 9.0, -3.0 })));
+        
+        byte[] allOnes = new byte[codec.getNumOfBytes()];
+        Arrays.fill(allOnes, (byte) -1);
+        
+        Assert.assertEquals(5.0, codec.decodeValue(allOnes, 2), 0.0);
+        Assert.assertEquals(7L % 5L, codec.decodeValue(allOnes, 3), 0.0);
+    }
+    
+    /**
+     * Tests bit offsets of the genes.
+     */
+    @Test
+    public void testBitOffsets() {
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        long offset = 0L;
+        
+        for (int i = 0; i < GENES.length; i++) {
+            Assert.assertEquals(offset, codec.getBitOffset(i));
+            Assert.assertSame(GENES[i], codec.getGene(i));
+            offset += GENES[i].getBits();
+        }
+        
+        Assert.assertEquals(GENES.length, codec.getNumOfGenes());
+    }
+    
+    /**
+     * Tests invalid arguments.
+     */
+    @Test
+    public void testInvalidArguments() {
+        
+        assertThrows(() -> new DoubleArrayToSchemaBinaryCodec());
+        assertThrows(() -> BinaryGene.real(0, LOWER_BOUND, UPPER_BOUND));
+        assertThrows(() -> BinaryGene.real(65, LOWER_BOUND, UPPER_BOUND));
+        assertThrows(() -> BinaryGene.grayReal(8, UPPER_BOUND, LOWER_BOUND));
+        assertThrows(() -> BinaryGene.integer(5L, 5L));
+        assertThrows(() -> BinaryGene.integer(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertThrows(() -> BinaryGene.categorical(1));
+        
+        DoubleArrayToSchemaBinaryCodec codec = new DoubleArrayToSchemaBinaryCodec(GENES);
+        
+        assertThrows(() -> codec.encode(new double[GENES.length - 1]));
+        assertThrows(() -> codec.decode(new byte[codec.getNumOfBytes() - 1]));
+    }
+    
+    /**
+     * Tests the serialization for schema binary codec.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        
+        DoubleArrayToSchemaBinaryCodec toSend = new DoubleArrayToSchemaBinaryCodec(GENES);
+        Object recieved = TestUtilities.serializeDeserialize(toSend);
+        Assert.assertTrue(recieved instanceof DoubleArrayToSchemaBinaryCodec);
+        
+        DoubleArrayToSchemaBinaryCodec codec = (DoubleArrayToSchemaBinaryCodec) recieved;
+        double[] input = randomInput();
+        TestUtilities.assertArrayElementsEqual(toSend.encode(input), codec.encode(input));
+    }
+    
+    /**
+     * Generates random values which are within the bounds of the genes used in the test.
+     * 
+     * @return Generated values.
+     */
+    private static double[] randomInput() {
+        
+        double[] input = new double[GENES.length];
+        
+        for (int i = 0; i < GENES.length; i++) {
+            BinaryGene gene = GENES[i];
+            double range = gene.getUpperBound() - gene.getLowerBound();
+            double value = TestUtilities.RAND.nextDouble() * range + gene.getLowerBound();
+            
+            input[i] = gene.getKind() == BinaryGene.Kind.REAL ? value : Math.rint(value);
+        }
+        
+        return input;
+    }
+    
+    /**
+     * Asserts that the provided action throws an <code>IllegalArgumentException</code>.
+     * 
+     * @param action action which should throw the exception.
+     */
+    private static void assertThrows(Runnable action) {
+        
+        try {
+            action.run();
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+}
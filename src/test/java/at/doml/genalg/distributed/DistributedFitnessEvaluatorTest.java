@@ -0,0 +1,321 @@
+package at.doml.genalg.distributed;
+
+import at.doml.genalg.SteadyStateGeneticAlgorithm;
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.exceptions.FitnessNotEvaluatedException;
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.population.abstracts.AbstractPopulationGenerator;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Class which contains tests for <code>DistributedFitnessEvaluator</code> and <code>FitnessWorker</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see DistributedFitnessEvaluator
+ * @see FitnessWorker
+ */
+public class DistributedFitnessEvaluatorTest {
+    
+    /**
+     * Number of values in each chromosome.
+     */
+    private static final int NUM_OF_VALUES = 4;
+    /**
+     * Host on which the tests run.
+     */
+    private static final String HOST = InetAddress.getLoopbackAddress().getHostAddress();
+    
+    /**
+     * Codec used by the coordinator, which stores the values of a chromosome as raw <code>double</code>s.
+     */
+    private static final IByteArrayCodec<DoubleArrayChromosome> CHROMOSOME_CODEC =
+            new IByteArrayCodec<DoubleArrayChromosome>() {
+                
+                private static final long serialVersionUID = 1L;
+                
+                @Override
+                public byte[] encode(DoubleArrayChromosome item) {
+                    
+                    return VALUES_CODEC.encode(item.getValues());
+                }
+                
+                @Override
+                public DoubleArrayChromosome decode(byte[] bytes) {
+                    
+                    return new DoubleArrayChromosome(VALUES_CODEC.decode(bytes));
+                }
+            };
+    
+    /**
+     * Codec used by the workers, which decodes raw <code>double</code>s.
+     */
+    private static final IByteArrayCodec<double[]> VALUES_CODEC = new IByteArrayCodec<double[]>() {
+        
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        public byte[] encode(double[] item) {
+            
+            ByteBuffer buffer = ByteBuffer.allocate(item.length * Double.BYTES);
+            buffer.asDoubleBuffer().put(item);
+            
+            return buffer.array();
+        }
+        
+        @Override
+        public double[] decode(byte[] bytes) {
+            
+            double[] values = new double[bytes.length / Double.BYTES];
+            ByteBuffer.wrap(bytes).asDoubleBuffer().get(values);
+            
+            return values;
+        }
+    };
+    
+    /**
+     * Fitness function of the workers, which is the negative sum of squares.
+     */
+    private static final ToDoubleFunction<double[]> SPHERE = values -> {
+        double sum = 0.0;
+        
+        for (double value : values) {
+            sum -= value * value;
+        }
+        
+        return sum;
+    };
+    
+    /**
+     * Threads which run the workers.
+     */
+    private final List<Thread> workerThreads = new ArrayList<>();
+    /**
+     * Evaluator used in the current test.
+     */
+    private DistributedFitnessEvaluator<DoubleArrayChromosome> evaluator;
+    
+    /**
+     * Closes the evaluator, which also stops the workers.
+     */
+    @After
+    public void tearDown() throws IOException, InterruptedException {
+        
+        if (evaluator != null) {
+            evaluator.close();
+        }
+        
+        for (Thread thread : workerThreads) {
+            thread.join(5_000L);
+        }
+    }
+    
+    /**
+     * Tests if chromosomes are evaluated by several workers, also when used by a genetic algorithm.
+     */
+    @Test
+    public void testEvaluation() throws IOException {
+        
+        evaluator = new DistributedFitnessEvaluator<>(InetAddress.getLoopbackAddress(), 0, CHROMOSOME_CODEC, 4, 8,
+                5_000L);
+        startWorker(SPHERE);
+        startWorker(SPHERE);
+        
+        List<DoubleArrayChromosome> chromosomes = createChromosomes(50);
+        evaluator.evaluateAll(chromosomes);
+        
+        for (DoubleArrayChromosome chromosome : chromosomes) {
+            Assert.assertEquals(SPHERE.applyAsDouble(chromosome.getValues()), chromosome.getFitness(), 0.0);
+        }
+        
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> algorithm = new SteadyStateGeneticAlgorithm<>(
+                TestUtilities.RAND, new AbstractPopulationGenerator<DoubleArrayChromosome>(TestUtilities.RAND) {
+                    
+                    @Override
+                    protected Collection<DoubleArrayChromosome> createPopulation(int size) {
+                        
+                        return createChromosomes(size);
+                    }
+                }, evaluator, new BlendCrossover<>(TestUtilities.RAND, 0.5),
+                new GaussianDistributionMutation<>(TestUtilities.RAND, 0.1, 1.0, 0.0), 20);
+        
+        algorithm.setReplacementsPerStep(4);
+        algorithm.initialize();
+        
+        double initialBest = algorithm.getBestFitness();
+        
+        algorithm.run(1_000, 0.0);
+        
+        Assert.assertTrue(algorithm.getBestFitness() >= initialBest);
+        Assert.assertEquals(1_000, algorithm.getNumOfEvaluations());
+    }
+    
+    /**
+     * Tests if tasks of a worker which stopped responding are dispatched to other workers.
+     */
+    @Test
+    public void testLostWorker() throws IOException, InterruptedException {
+        
+        evaluator = new DistributedFitnessEvaluator<>(InetAddress.getLoopbackAddress(), 0, CHROMOSOME_CODEC, 4, 8,
+                200L);
+        
+        // A connection which never responds receives tasks first, because it connects first.
+        try (Socket silent = new Socket(HOST, evaluator.getPort())) {
+            Assert.assertTrue(silent.isConnected());
+            awaitWorkers(1);
+            startWorker(SPHERE);
+            awaitWorkers(2);
+            
+            List<DoubleArrayChromosome> chromosomes = createChromosomes(20);
+            evaluator.evaluateAll(chromosomes);
+            
+            for (DoubleArrayChromosome chromosome : chromosomes) {
+                Assert.assertEquals(SPHERE.applyAsDouble(chromosome.getValues()), chromosome.getFitness(), 0.0);
+            }
+            
+            Assert.assertTrue(evaluator.getNumOfRedispatched() > 0L);
+            Assert.assertEquals(1, evaluator.getNumOfWorkers());
+        }
+    }
+    
+    /**
+     * Tests if a failure of the fitness function is reported to the caller.
+     */
+    @Test
+    public void testFailure() throws IOException {
+        
+        evaluator = new DistributedFitnessEvaluator<>(InetAddress.getLoopbackAddress(), 0, CHROMOSOME_CODEC, 4, 8,
+                5_000L);
+        startWorker(values -> {
+            throw new IllegalStateException("Simulator crashed.");
+        });
+        
+        try {
+            evaluator.evaluateAll(createChromosomes(5));
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException e) {
+            Assert.assertTrue(e.getMessage().contains("Simulator crashed."));
+        }
+    }
+    
+    /**
+     * Tests if the remaining tasks of a failed batch are withdrawn, so they are never evaluated afterwards and do not
+     * delay the next batch.
+     */
+    @Test
+    public void testFailedBatchIsWithdrawn() throws IOException {
+        
+        AtomicInteger evaluations = new AtomicInteger();
+        
+        evaluator = new DistributedFitnessEvaluator<>(InetAddress.getLoopbackAddress(), 0, CHROMOSOME_CODEC, 1, 1,
+                5_000L);
+        startWorker(values -> {
+            if (evaluations.getAndIncrement() == 0) {
+                throw new IllegalStateException("Simulator crashed.");
+            }
+            
+            return SPHERE.applyAsDouble(values);
+        });
+        
+        List<DoubleArrayChromosome> failed = createChromosomes(10);
+        
+        try {
+            evaluator.evaluateAll(failed);
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException e) {
+            // expected
+        }
+        
+        List<DoubleArrayChromosome> chromosomes = createChromosomes(1);
+        evaluator.evaluateAll(chromosomes);
+        
+        Assert.assertEquals(SPHERE.applyAsDouble(chromosomes.get(0).getValues()), chromosomes.get(0).getFitness(), 0.0);
+        Assert.assertEquals(2, evaluations.get());
+        
+        for (DoubleArrayChromosome chromosome : failed) {
+            try {
+                chromosome.getFitness();
+                Assert.fail("Expected FitnessNotEvaluatedException.");
+            } catch (FitnessNotEvaluatedException e) {
+                // expected
+            }
+        }
+    }
+    
+    /**
+     * Starts a worker with provided fitness function on a separate thread.
+     * 
+     * @param fitnessFunction fitness function of the worker.
+     */
+    private void startWorker(ToDoubleFunction<double[]> fitnessFunction) {
+        
+        FitnessWorker<double[]> worker = new FitnessWorker<>(VALUES_CODEC, fitnessFunction, 50L, 1024);
+        Thread thread = new Thread(() -> {
+            try {
+                worker.run(HOST, evaluator.getPort());
+            } catch (IOException ignorable) {
+                // The coordinator was closed.
+            }
+        });
+        
+        workerThreads.add(thread);
+        thread.start();
+    }
+    
+    /**
+     * Waits until the provided number of workers is connected.
+     * 
+     * @param numOfWorkers expected number of workers.
+     */
+    private void awaitWorkers(int numOfWorkers) throws InterruptedException {
+        
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        
+        while (evaluator.getNumOfWorkers() < numOfWorkers) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Expected " + numOfWorkers + " workers.");
+            }
+            
+            Thread.sleep(1L);
+        }
+    }
+    
+    /**
+     * Creates chromosomes with random values in range [-5, 5).
+     * 
+     * @param size number of chromosomes.
+     * @return List of new chromosomes.
+     */
+    private static List<DoubleArrayChromosome> createChromosomes(int size) {
+        
+        List<DoubleArrayChromosome> chromosomes = new ArrayList<>(size);
+        
+        for (int i = 0; i < size; i++) {
+            double[] values = new double[NUM_OF_VALUES];
+            
+            for (int j = 0; j < NUM_OF_VALUES; j++) {
+                values[j] = TestUtilities.RAND.nextDouble() * 10.0 - 5.0;
+            }
+            
+            chromosomes.add(new DoubleArrayChromosome(values));
+        }
+        
+        return chromosomes;
+    }
+}
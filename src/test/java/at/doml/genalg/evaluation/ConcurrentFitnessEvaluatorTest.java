@@ -0,0 +1,132 @@
+package at.doml.genalg.evaluation;
+
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class which contains tests for <code>ConcurrentFitnessEvaluator</code> and <code>EvaluationExecutors</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see ConcurrentFitnessEvaluator
+ * @see EvaluationExecutors
+ */
+public class ConcurrentFitnessEvaluatorTest {
+    
+    /**
+     * Tests if blocking evaluations run concurrently, without exceeding the limit.
+     */
+    @Test
+    public void testConcurrentEvaluation() {
+        
+        int numOfChromosomes = 200;
+        int maxConcurrency = 50;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        IFitnessTest<DoubleArrayChromosome> blocking = chromosome -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            
+            running.decrementAndGet();
+            chromosome.setFitness(chromosome.getValue(0));
+        };
+        List<DoubleArrayChromosome> chromosomes = new ArrayList<>(numOfChromosomes);
+        
+        for (int i = 0; i < numOfChromosomes; i++) {
+            chromosomes.add(new DoubleArrayChromosome(new double[] { i }));
+        }
+        
+        try (ConcurrentFitnessEvaluator<DoubleArrayChromosome> evaluator =
+                ConcurrentFitnessEvaluator.threadPerTask(blocking, maxConcurrency)) {
+            long start = System.nanoTime();
+            evaluator.evaluateAll(chromosomes);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            
+            // Evaluated one after another, the chromosomes would take 4 seconds.
+            Assert.assertTrue(elapsedMillis < 2_000L);
+        }
+        
+        Assert.assertTrue(maxRunning.get() > 1);
+        Assert.assertTrue(maxRunning.get() <= maxConcurrency);
+        
+        for (int i = 0; i < numOfChromosomes; i++) {
+            Assert.assertEquals(i, chromosomes.get(i).getFitness(), 0.0);
+        }
+    }
+    
+    /**
+     * Tests if a failed evaluation is reported to the caller.
+     */
+    @Test
+    public void testFailure() {
+        
+        List<DoubleArrayChromosome> chromosomes = new ArrayList<>();
+        chromosomes.add(new DoubleArrayChromosome(new double[] { 1.0 }));
+        chromosomes.add(new DoubleArrayChromosome(new double[] { -1.0 }));
+        
+        try (ConcurrentFitnessEvaluator<DoubleArrayChromosome> evaluator =
+                ConcurrentFitnessEvaluator.threadPerTask(chromosome -> {
+                    if (chromosome.getValue(0) < 0.0) {
+                        throw new IllegalStateException("Service unavailable.");
+                    }
+                    
+                    chromosome.setFitness(1.0);
+                }, 4)) {
+            evaluator.evaluateAll(chromosomes);
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        
+        try {
+            ConcurrentFitnessEvaluator.threadPerTask(chromosome -> {}, 0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if the executors run tasks, regardless of whether virtual threads are available.
+     */
+    @Test
+    public void testExecutor() throws Exception {
+        
+        ExecutorService executor = EvaluationExecutors.newThreadPerTaskExecutor();
+        
+        try {
+            Assert.assertEquals(Boolean.valueOf(EvaluationExecutors.isVirtual()),
+                    executor.submit(() -> isVirtual(Thread.currentThread())).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Checks if the provided thread is virtual. Threads are never virtual on JVMs older than Java 21.
+     * 
+     * @param thread thread to check.
+     * @return <code>true</code> if the thread is virtual, <code>false</code> otherwise.
+     */
+    private static boolean isVirtual(Thread thread) {
+        
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
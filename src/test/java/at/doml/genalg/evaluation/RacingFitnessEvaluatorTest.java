@@ -0,0 +1,182 @@
+package at.doml.genalg.evaluation;
+
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.ISampledFitnessTest;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class which contains tests for <code>RacingFitnessEvaluator</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see RacingFitnessEvaluator
+ */
+public class RacingFitnessEvaluatorTest {
+    
+    /**
+     * Minimum number of samples.
+     */
+    private static final int MIN_SAMPLES = 5;
+    /**
+     * Maximum number of samples.
+     */
+    private static final int MAX_SAMPLES = 200;
+    
+    /**
+     * Noise of each sample, uniform in range [-0.5, 0.5).
+     */
+    private static final double[] NOISE = new Random(42L).doubles(MAX_SAMPLES, -0.5, 0.5).toArray();
+    /**
+     * Sampled fitness test which adds the noise of the sample to the first value of the chromosome.
+     */
+    private static final ISampledFitnessTest<DoubleArrayChromosome> NOISY =
+            (chromosome, sampleIndex) -> chromosome.getValue(0) + NOISE[sampleIndex];
+    
+    /**
+     * Tests if dominated chromosomes drop out of the race early, while the best chromosome gets all samples.
+     */
+    @Test
+    public void testRace() {
+        
+        RacingFitnessEvaluator<DoubleArrayChromosome> evaluator = createEvaluator();
+        List<DoubleArrayChromosome> chromosomes = createChromosomes(10);
+        
+        evaluator.evaluateAll(chromosomes);
+        
+        DoubleArrayChromosome best = chromosomes.get(9);
+        DoubleArrayChromosome worst = chromosomes.get(0);
+        
+        Assert.assertEquals(MAX_SAMPLES, evaluator.getStatistics(best).getNumOfSamples());
+        Assert.assertTrue(evaluator.getStatistics(worst).getNumOfSamples() < MAX_SAMPLES);
+        Assert.assertEquals(9, evaluator.getNumOfDropped());
+        Assert.assertTrue(evaluator.getNumOfSamples() < 10L * MAX_SAMPLES / 2);
+        Assert.assertEquals(9.0, best.getFitness(), 0.1);
+        
+        for (DoubleArrayChromosome chromosome : chromosomes) {
+            SampleStatistics statistics = evaluator.getStatistics(chromosome);
+            
+            Assert.assertEquals(statistics.getMean(), chromosome.getFitness(), 0.0);
+            Assert.assertTrue(statistics.getVariance() < 1.0);
+            Assert.assertTrue(chromosome == best || chromosome.getFitness() < best.getFitness());
+        }
+    }
+    
+    /**
+     * Tests if more contenders keep more chromosomes in the race.
+     */
+    @Test
+    public void testContenders() {
+        
+        RacingFitnessEvaluator<DoubleArrayChromosome> evaluator = createEvaluator();
+        List<DoubleArrayChromosome> chromosomes = createChromosomes(10);
+        
+        evaluator.setNumOfContenders(3);
+        evaluator.evaluateAll(chromosomes);
+        
+        for (int i = 7; i < 10; i++) {
+            Assert.assertEquals(MAX_SAMPLES, evaluator.getStatistics(chromosomes.get(i)).getNumOfSamples());
+        }
+        
+        Assert.assertEquals(7, evaluator.getNumOfDropped());
+    }
+    
+    /**
+     * Tests if a single chromosome drops out as soon as it can not reach the threshold.
+     */
+    @Test
+    public void testThreshold() {
+        
+        RacingFitnessEvaluator<DoubleArrayChromosome> evaluator = createEvaluator();
+        DoubleArrayChromosome chromosome = createChromosomes(1).get(0);
+        
+        evaluator.evaluate(chromosome, 5.0);
+        
+        Assert.assertEquals(MIN_SAMPLES, evaluator.getStatistics(chromosome).getNumOfSamples());
+        Assert.assertTrue(chromosome.getFitness() < 5.0);
+        Assert.assertEquals(1, evaluator.getNumOfDropped());
+        
+        evaluator.evaluate(chromosome, 0.0);
+        
+        Assert.assertEquals(MAX_SAMPLES, evaluator.getStatistics(chromosome).getNumOfSamples());
+        
+        evaluator.evaluate(chromosome);
+        
+        Assert.assertEquals(MAX_SAMPLES, evaluator.getStatistics(chromosome).getNumOfSamples());
+        Assert.assertEquals(1, evaluator.getNumOfDropped());
+        Assert.assertEquals(MIN_SAMPLES + 2L * MAX_SAMPLES, evaluator.getNumOfSamples());
+    }
+    
+    /**
+     * Tests if illegal arguments are rejected.
+     */
+    @Test
+    public void testIllegalArguments() {
+        
+        try {
+            new RacingFitnessEvaluator<>(NOISY, 0, MAX_SAMPLES, 1.0, 0.05);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            new RacingFitnessEvaluator<>(NOISY, MIN_SAMPLES, MIN_SAMPLES - 1, 1.0, 0.05);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            new RacingFitnessEvaluator<>(NOISY, MIN_SAMPLES, MAX_SAMPLES, 0.0, 0.05);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            new RacingFitnessEvaluator<>(NOISY, MIN_SAMPLES, MAX_SAMPLES, 1.0, 1.0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        try {
+            createEvaluator().setNumOfContenders(0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+    
+    /**
+     * Creates the evaluator used in tests.
+     * 
+     * @return A new evaluator.
+     */
+    private static RacingFitnessEvaluator<DoubleArrayChromosome> createEvaluator() {
+        
+        return new RacingFitnessEvaluator<>(NOISY, MIN_SAMPLES, MAX_SAMPLES, 1.0, 0.05);
+    }
+    
+    /**
+     * Creates chromosomes whose true fitness values are 0, 1, ... <code>size</code> - 1.
+     * 
+     * @param size number of chromosomes.
+     * @return A new list of chromosomes.
+     */
+    private static List<DoubleArrayChromosome> createChromosomes(int size) {
+        
+        List<DoubleArrayChromosome> chromosomes = new ArrayList<>(size);
+        
+        for (int i = 0; i < size; i++) {
+            chromosomes.add(new DoubleArrayChromosome(new double[] { i }));
+        }
+        
+        return chromosomes;
+    }
+}
@@ -0,0 +1,206 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.SteadyStateGeneticAlgorithm;
+import at.doml.genalg.exceptions.GeneticAlgorithmException;
+import at.doml.genalg.operators.crossover.BlendCrossover;
+import at.doml.genalg.operators.mutation.GaussianDistributionMutation;
+import at.doml.genalg.population.abstracts.AbstractPopulationGenerator;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IFitnessTest;
+import at.doml.genalg.progress.GenerationPublisher;
+import at.doml.genalg.progress.GenerationSummary;
+import at.doml.genalg.testutils.CollectingSubscriber;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class which contains tests for <code>IslandModel</code> and <code>MigrationTopologies</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IslandModel
+ * @see MigrationTopologies
+ */
+public class IslandModelTest {
+    
+    /**
+     * Number of values in each chromosome.
+     */
+    private static final int NUM_OF_VALUES = 5;
+    
+    /**
+     * Fitness test which maximizes the negative sum of squares, so the optimum is 0.
+     */
+    private static final IFitnessTest<DoubleArrayChromosome> SPHERE = chromosome -> {
+        double[] sum = new double[1];
+        chromosome.forEachValue(value -> sum[0] -= value * value);
+        chromosome.setFitness(sum[0]);
+    };
+    
+    /**
+     * Tests if topologies produce the expected targets.
+     */
+    @Test
+    public void testTopologies() {
+        
+        Random rand = new Random(42L);
+        
+        Assert.assertArrayEquals(new int[] { 1 }, MigrationTopologies.ring().getTargets(0, 4, rand));
+        Assert.assertArrayEquals(new int[] { 0 }, MigrationTopologies.ring().getTargets(3, 4, rand));
+        Assert.assertArrayEquals(new int[0], MigrationTopologies.ring().getTargets(0, 1, rand));
+        
+        // 2 x 3 grid: island 4 is in the middle of the second row.
+        int[] torusTargets = MigrationTopologies.torus(3).getTargets(4, 6, rand);
+        Arrays.sort(torusTargets);
+        Assert.assertArrayEquals(new int[] { 1, 3, 5 }, torusTargets);
+        
+        int[] fullTargets = MigrationTopologies.fullyConnected().getTargets(2, 4, rand);
+        Arrays.sort(fullTargets);
+        Assert.assertArrayEquals(new int[] { 0, 1, 3 }, fullTargets);
+        
+        for (int i = 0; i < 100; i++) {
+            int[] randomTargets = MigrationTopologies.random(2).getTargets(1, 5, rand);
+            
+            Assert.assertEquals(2, randomTargets.length);
+            Assert.assertNotEquals(randomTargets[0], randomTargets[1]);
+            
+            for (int target : randomTargets) {
+                Assert.assertTrue(target >= 0 && target < 5 && target != 1);
+            }
+        }
+        
+        try {
+            MigrationTopologies.torus(4).getTargets(0, 6, rand);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if islands running concurrently optimize the function and respect the evaluation limit.
+     */
+    @Test
+    public void testOptimization() {
+        
+        for (MigrationPolicy policy : MigrationPolicy.values()) {
+            IslandModel<DoubleArrayChromosome> model = new IslandModel<>(4, IslandModelTest::createIsland,
+                    MigrationTopologies.ring(), policy, 10, 8, 42L);
+            
+            double initialBest = Double.NEGATIVE_INFINITY;
+            
+            for (SteadyStateGeneticAlgorithm<DoubleArrayChromosome> island : model.getIslands()) {
+                island.initialize();
+                initialBest = Math.max(initialBest, island.getBestFitness());
+            }
+            
+            DoubleArrayChromosome best = model.run(3_000, 0.0);
+            
+            Assert.assertTrue(best.getFitness() > initialBest);
+            
+            for (SteadyStateGeneticAlgorithm<DoubleArrayChromosome> island : model.getIslands()) {
+                Assert.assertTrue(island.getNumOfEvaluations() <= 3_000);
+                Assert.assertTrue(best.getFitness() >= island.getBestFitness());
+            }
+        }
+    }
+    
+    /**
+     * Tests if the model publishes merged summaries which contain the best chromosome of every island.
+     */
+    @Test
+    public void testPublishing() {
+        
+        CollectingSubscriber<GenerationSummary<DoubleArrayChromosome>> subscriber = new CollectingSubscriber<>();
+        GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(Runnable::run);
+        IslandModel<DoubleArrayChromosome> model = new IslandModel<>(4, IslandModelTest::createIsland,
+                MigrationTopologies.ring(), MigrationPolicy.BEST, 10, 8, 42L);
+        List<GenerationSummary<DoubleArrayChromosome>> summaries = subscriber.getItems();
+        
+        publisher.subscribe(subscriber, true);
+        model.setPublisher(publisher);
+        
+        DoubleArrayChromosome best = model.run(1_000, 0.0);
+        GenerationSummary<DoubleArrayChromosome> last = summaries.get(summaries.size() - 1);
+        
+        Assert.assertEquals(4, last.getPopulation().size());
+        Assert.assertEquals(best.getFitness(), last.getBestFitness(), 0.0);
+        
+        for (int i = 1; i < summaries.size(); i++) {
+            Assert.assertTrue(summaries.get(i).getNumOfEvaluations() >= summaries.get(i - 1).getNumOfEvaluations());
+        }
+    }
+    
+    /**
+     * Tests if the failure of an island is propagated to the caller.
+     */
+    @Test
+    public void testFailure() {
+        
+        IslandModel<DoubleArrayChromosome> model = new IslandModel<>(2, rand -> new SteadyStateGeneticAlgorithm<>(
+                rand, createGenerator(rand), chromosome -> {
+                    throw new IllegalStateException("Failure.");
+                }, new BlendCrossover<>(rand, 0.5), new GaussianDistributionMutation<>(rand, 0.1, 1.0, 0.0), 10),
+                MigrationTopologies.fullyConnected(), MigrationPolicy.BEST, 1, 4, 42L);
+        
+        try {
+            model.run(100, 0.0);
+            Assert.fail("Expected GeneticAlgorithmException.");
+        } catch (GeneticAlgorithmException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    /**
+     * Creates an island which uses only the provided <code>Random</code> object.
+     * 
+     * @param rand object used to generate random numbers.
+     * @return A new island.
+     */
+    static SteadyStateGeneticAlgorithm<DoubleArrayChromosome> createIsland(Random rand) {
+        
+        SteadyStateGeneticAlgorithm<DoubleArrayChromosome> island = new SteadyStateGeneticAlgorithm<>(rand,
+                createGenerator(rand), SPHERE, new BlendCrossover<>(rand, 0.5),
+                new GaussianDistributionMutation<>(rand, 0.1, 1.0, 0.0), 20);
+        
+        island.setTournamentSize(3);
+        
+        return island;
+    }
+    
+    /**
+     * Creates a generator of random chromosomes with values in range [-5, 5).
+     * 
+     * @param rand object used to generate random numbers.
+     * @return A new generator.
+     */
+    private static AbstractPopulationGenerator<DoubleArrayChromosome> createGenerator(Random rand) {
+        
+        return new AbstractPopulationGenerator<DoubleArrayChromosome>(rand) {
+            
+            @Override
+            protected Collection<DoubleArrayChromosome> createPopulation(int size) {
+                
+                List<DoubleArrayChromosome> population = new ArrayList<>(size);
+                
+                for (int i = 0; i < size; i++) {
+                    double[] values = new double[NUM_OF_VALUES];
+                    
+                    for (int j = 0; j < NUM_OF_VALUES; j++) {
+                        values[j] = rand.nextDouble() * 10.0 - 5.0;
+                    }
+                    
+                    population.add(new DoubleArrayChromosome(values));
+                }
+                
+                return population;
+            }
+        };
+    }
+}
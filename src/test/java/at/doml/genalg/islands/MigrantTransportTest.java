@@ -0,0 +1,257 @@
+package at.doml.genalg.islands;
+
+import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Class which contains tests for <code>MigrantSender</code> and <code>MigrantReceiver</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see MigrantSender
+ * @see MigrantReceiver
+ */
+public class MigrantTransportTest {
+    
+    /**
+     * Number of values in each chromosome.
+     */
+    private static final int NUM_OF_VALUES = 4;
+    /**
+     * Maximum length of an encoded chromosome accepted by receivers.
+     */
+    private static final int MAX_ENCODED_LENGTH = 1024;
+    
+    /**
+     * Codec which stores the values of a chromosome as raw <code>double</code>s.
+     */
+    private static final IByteArrayCodec<DoubleArrayChromosome> CODEC = new IByteArrayCodec<DoubleArrayChromosome>() {
+        
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        public byte[] encode(DoubleArrayChromosome item) {
+            
+            ByteBuffer buffer = ByteBuffer.allocate(item.getArrayLength() * Double.BYTES);
+            item.forEachValue(buffer::putDouble);
+            
+            return buffer.array();
+        }
+        
+        @Override
+        public DoubleArrayChromosome decode(byte[] bytes) {
+            
+            double[] values = new double[bytes.length / Double.BYTES];
+            ByteBuffer.wrap(bytes).asDoubleBuffer().get(values);
+            
+            return new DoubleArrayChromosome(values);
+        }
+    };
+    
+    /**
+     * Tests if migrants are received in the order in which they were sent, with their values and fitness.
+     */
+    @Test
+    public void testTransfer() throws IOException, InterruptedException {
+        
+        int numOfMigrants = 100;
+        DoubleArrayChromosome[] sent = new DoubleArrayChromosome[numOfMigrants];
+        MigrationQueue<DoubleArrayChromosome> inbox = new MigrationQueue<>(8);
+        
+        try (MigrantReceiver<DoubleArrayChromosome> receiver = new MigrantReceiver<>(InetAddress.getLoopbackAddress(),
+                0, CODEC, MAX_ENCODED_LENGTH, inbox)) {
+            try (MigrantSender<DoubleArrayChromosome> sender = new MigrantSender<>(
+                    InetAddress.getLoopbackAddress().getHostAddress(), receiver.getPort(), CODEC, 16, 4)) {
+                for (int i = 0; i < numOfMigrants; i++) {
+                    double[] values = new double[NUM_OF_VALUES];
+                    
+                    for (int j = 0; j < NUM_OF_VALUES; j++) {
+                        values[j] = TestUtilities.RAND.nextDouble();
+                    }
+                    
+                    sent[i] = new DoubleArrayChromosome(values);
+                    sent[i].setFitness(i);
+                    
+                    while (!sender.offer(sent[i])) {
+                        Thread.sleep(1L);
+                    }
+                }
+                
+                // The inbox is smaller than the number of migrants, so the receiver must wait for it to be drained.
+                for (int i = 0; i < numOfMigrants; i++) {
+                    DoubleArrayChromosome received = pollWithTimeout(inbox);
+                    
+                    Assert.assertEquals(i, received.getFitness(), 0.0);
+                    TestUtilities.assertArrayElementsEqual(sent[i].getValues(), received.getValues());
+                }
+                
+                Assert.assertEquals(numOfMigrants, sender.getNumOfSent());
+                Assert.assertEquals(numOfMigrants, receiver.getNumOfReceived());
+            }
+        }
+    }
+    
+    /**
+     * Tests if islands in two separate models exchange migrants through a connection.
+     */
+    @Test
+    public void testConnectedModels() throws IOException {
+        
+        IslandModel<DoubleArrayChromosome> first = new IslandModel<>(1, IslandModelTest::createIsland,
+                MigrationTopologies.ring(), MigrationPolicy.BEST, 5, 8, 1L);
+        IslandModel<DoubleArrayChromosome> second = new IslandModel<>(1, IslandModelTest::createIsland,
+                MigrationTopologies.ring(), MigrationPolicy.BEST, 5, 8, 2L);
+        
+        try (MigrantReceiver<DoubleArrayChromosome> receiver = new MigrantReceiver<>(InetAddress.getLoopbackAddress(),
+                0, CODEC, MAX_ENCODED_LENGTH, second.getInbox(0))) {
+            try (MigrantSender<DoubleArrayChromosome> sender = new MigrantSender<>(
+                    InetAddress.getLoopbackAddress().getHostAddress(), receiver.getPort(), CODEC, 16, 4)) {
+                first.connect(0, sender);
+                first.run(1_000, 0.0);
+            }
+            
+            Assert.assertTrue(receiver.getNumOfReceived() > 0);
+            
+            second.run(1_000, 0.0);
+        }
+    }
+    
+    /**
+     * Tests if closing a sender returns after the timeout when the receiver stopped reading, and counts the migrants
+     * which were not sent as dropped.
+     */
+    @Test
+    public void testCloseWhenReceiverIsBlocked() throws IOException, InterruptedException {
+        
+        // The target never accepts migrants, so the receiver stops reading after the first one.
+        try (MigrantReceiver<DoubleArrayChromosome> receiver = new MigrantReceiver<>(InetAddress.getLoopbackAddress(),
+                0, CODEC, MAX_ENCODED_LENGTH, migrant -> false)) {
+            MigrantSender<DoubleArrayChromosome> sender = new MigrantSender<>(
+                    InetAddress.getLoopbackAddress().getHostAddress(), receiver.getPort(), CODEC, 16, 4);
+            DoubleArrayChromosome migrant = new DoubleArrayChromosome(new double[MAX_ENCODED_LENGTH / Double.BYTES]);
+            long lastSent = -1L;
+            long stalledSince = System.nanoTime();
+            
+            migrant.setFitness(0.0);
+            
+            // Offers migrants until the connection buffers are full and the sending thread is blocked.
+            while (System.nanoTime() - stalledSince < 200_000_000L) {
+                if (!sender.offer(migrant)) {
+                    Thread.sleep(1L);
+                }
+                
+                if (sender.getNumOfSent() != lastSent) {
+                    lastSent = sender.getNumOfSent();
+                    stalledSince = System.nanoTime();
+                }
+            }
+            
+            long droppedBeforeClose = sender.getNumOfDropped();
+            long start = System.nanoTime();
+            
+            sender.close(100L);
+            
+            Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+            Assert.assertTrue(sender.getNumOfDropped() > droppedBeforeClose);
+            Assert.assertFalse(sender.offer(migrant));
+        }
+    }
+    
+    /**
+     * Tests if a connection whose data cannot be decoded is dropped without killing the reader thread through an
+     * uncaught exception, while other connections keep working.
+     */
+    @Test
+    public void testMalformedConnection() throws IOException, InterruptedException {
+        
+        IByteArrayCodec<DoubleArrayChromosome> strictCodec = new IByteArrayCodec<DoubleArrayChromosome>() {
+            
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            public byte[] encode(DoubleArrayChromosome item) {
+                
+                return CODEC.encode(item);
+            }
+            
+            @Override
+            public DoubleArrayChromosome decode(byte[] bytes) {
+                
+                if (bytes.length % Double.BYTES != 0) {
+                    throw new IllegalArgumentException("Illegal length: " + bytes.length + ".");
+                }
+                
+                return CODEC.decode(bytes);
+            }
+        };
+        List<Throwable> uncaught = new CopyOnWriteArrayList<>();
+        Thread.UncaughtExceptionHandler previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        MigrationQueue<DoubleArrayChromosome> inbox = new MigrationQueue<>(8);
+        
+        Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> uncaught.add(throwable));
+        
+        try (MigrantReceiver<DoubleArrayChromosome> receiver = new MigrantReceiver<>(InetAddress.getLoopbackAddress(),
+                0, strictCodec, MAX_ENCODED_LENGTH, inbox)) {
+            try (Socket malformed = new Socket(InetAddress.getLoopbackAddress(), receiver.getPort())) {
+                DataOutputStream output = new DataOutputStream(malformed.getOutputStream());
+                
+                output.writeInt(1);
+                output.writeDouble(0.0);
+                output.writeInt(3);
+                output.write(new byte[3]);
+                output.flush();
+                malformed.setSoTimeout(10_000);
+                
+                Assert.assertEquals(-1, malformed.getInputStream().read());
+            }
+            
+            try (MigrantSender<DoubleArrayChromosome> sender = new MigrantSender<>(
+                    InetAddress.getLoopbackAddress().getHostAddress(), receiver.getPort(), strictCodec, 16, 4)) {
+                DoubleArrayChromosome migrant = new DoubleArrayChromosome(new double[NUM_OF_VALUES]);
+                migrant.setFitness(1.0);
+                
+                Assert.assertTrue(sender.offer(migrant));
+                Assert.assertEquals(1.0, pollWithTimeout(inbox).getFitness(), 0.0);
+            }
+            
+            Assert.assertEquals(1, receiver.getNumOfReceived());
+            Assert.assertTrue(uncaught.isEmpty());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+        }
+    }
+    
+    /**
+     * Polls the queue until it returns an element, or fails the test after a timeout.
+     * 
+     * @param queue queue to poll.
+     * @return Polled element.
+     */
+    private static DoubleArrayChromosome pollWithTimeout(MigrationQueue<DoubleArrayChromosome> queue)
+            throws InterruptedException {
+        
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        DoubleArrayChromosome element;
+        
+        while ((element = queue.poll()) == null) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Expected a migrant.");
+            }
+            
+            Thread.sleep(1L);
+        }
+        
+        return element;
+    }
+}
@@ -0,0 +1,134 @@
+package at.doml.genalg.islands;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class which contains tests for <code>MigrationQueue</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see MigrationQueue
+ */
+public class MigrationQueueTest {
+    
+    /**
+     * Tests if elements are polled in the same order in which they were offered, and if the capacity is respected.
+     */
+    @Test
+    public void testOrderAndCapacity() {
+        
+        MigrationQueue<Integer> queue = new MigrationQueue<>(3);
+        
+        Assert.assertEquals(4, queue.getCapacity());
+        Assert.assertNull(queue.poll());
+        
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                Assert.assertTrue(queue.offer(i));
+            }
+            
+            Assert.assertFalse(queue.offer(4));
+            Assert.assertEquals(4, queue.size());
+            
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(Integer.valueOf(i), queue.poll());
+            }
+            
+            Assert.assertNull(queue.poll());
+            Assert.assertEquals(0, queue.size());
+        }
+    }
+    
+    /**
+     * Tests if illegal arguments are rejected.
+     */
+    @Test
+    public void testIllegalArguments() {
+        
+        try {
+            new MigrationQueue<>(0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        try {
+            new MigrationQueue<>(1).offer(null);
+            Assert.fail("Expected NullPointerException.");
+        } catch (NullPointerException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if every element offered by multiple producers is polled exactly once by multiple consumers.
+     */
+    @Test
+    public void testConcurrentDelivery() throws InterruptedException {
+        
+        int numOfProducers = 4;
+        int elementsPerProducer = 20_000;
+        int total = numOfProducers * elementsPerProducer;
+        MigrationQueue<Integer> queue = new MigrationQueue<>(64);
+        BitSet[] received = new BitSet[numOfProducers];
+        AtomicInteger numOfReceived = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < numOfProducers; p++) {
+            int first = p * elementsPerProducer;
+            
+            threads.add(new Thread(() -> {
+                for (int i = first; i < first + elementsPerProducer; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        
+        for (int c = 0; c < numOfProducers; c++) {
+            BitSet seen = new BitSet(total);
+            received[c] = seen;
+            
+            threads.add(new Thread(() -> {
+                while (numOfReceived.get() < total) {
+                    Integer element = queue.poll();
+                    
+                    if (element == null) {
+                        Thread.yield();
+                    } else {
+                        Assert.assertFalse(seen.get(element));
+                        seen.set(element);
+                        numOfReceived.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        
+        for (Thread thread : threads) {
+            thread.join(30_000);
+        }
+        
+        BitSet all = new BitSet(total);
+        int cardinality = 0;
+        
+        for (BitSet seen : received) {
+            cardinality += seen.cardinality();
+            all.or(seen);
+        }
+        
+        Assert.assertEquals(total, cardinality);
+        Assert.assertEquals(total, all.cardinality());
+        Assert.assertNull(queue.poll());
+    }
+}
@@ -0,0 +1,195 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.operators.abstracts.AbstractPermutationCrossover;
+import at.doml.genalg.population.chromosomes.PermutationChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.BitSet;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Class which contains tests for crossover operators which are used on permutations.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see OrderCrossover
+ * @see PartiallyMappedCrossover
+ * @see CycleCrossover
+ * @see EdgeRecombinationCrossover
+ */
+public class PermutationCrossoverTest {
+    
+    /**
+     * Length of permutations used in tests.
+     */
+    private static final int LENGTH = 50;
+    /**
+     * Number of crossovers performed with each operator.
+     */
+    private static final int NUM_OF_CROSSOVERS = 200;
+    
+    /**
+     * Tests the order crossover.
+     */
+    @Test
+    public void testOrderCrossover() {
+        
+        testCrossover(new OrderCrossover<>(TestUtilities.RAND));
+    }
+    
+    /**
+     * Tests the partially mapped crossover.
+     */
+    @Test
+    public void testPartiallyMappedCrossover() {
+        
+        testCrossover(new PartiallyMappedCrossover<>(TestUtilities.RAND));
+    }
+    
+    /**
+     * Tests the cycle crossover. Every element of the child must keep the position it has in one of the parents.
+     */
+    @Test
+    public void testCycleCrossover() {
+        
+        CycleCrossover<PermutationChromosome> crossover = new CycleCrossover<>(TestUtilities.RAND);
+        
+        for (int i = 0; i < NUM_OF_CROSSOVERS; i++) {
+            SortedSet<PermutationChromosome> parents = createParents(LENGTH);
+            int[] first = parents.first().getPermutation();
+            int[] second = parents.last().getPermutation();
+            int[] child = checkChild(crossover.doCrossover(parents), LENGTH);
+            
+            for (int j = 0; j < LENGTH; j++) {
+                Assert.assertTrue(child[j] == first[j] || child[j] == second[j]);
+            }
+        }
+    }
+    
+    /**
+     * Tests the edge recombination crossover. When both parents are equal, the child must contain only their edges.
+     */
+    @Test
+    public void testEdgeRecombinationCrossover() {
+        
+        EdgeRecombinationCrossover<PermutationChromosome> crossover =
+                new EdgeRecombinationCrossover<>(TestUtilities.RAND);
+        
+        testCrossover(crossover);
+        
+        int[] ring = randomPermutation(LENGTH);
+        int[] child = checkChild(crossover.doCrossover(createParents(ring, ring)), LENGTH);
+        int[] positions = new int[LENGTH];
+        
+        for (int i = 0; i < LENGTH; i++) {
+            positions[ring[i]] = i;
+        }
+        
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int distance = Math.abs(positions[child[i]] - positions[child[i + 1]]);
+            
+            Assert.assertTrue(distance == 1 || distance == LENGTH - 1);
+        }
+    }
+    
+    /**
+     * Tests if crossover of parents with different lengths is rejected.
+     */
+    @Test(expected = IncompatibleParentsException.class)
+    public void testIncompatibleParents() {
+        
+        new OrderCrossover<PermutationChromosome>(TestUtilities.RAND)
+                .doCrossover(createParents(randomPermutation(LENGTH), randomPermutation(LENGTH + 1)));
+    }
+    
+    /**
+     * Performs many crossovers with the provided operator, using permutations of various lengths, and checks if every
+     * child is a valid permutation.
+     * 
+     * @param crossover crossover operator to test.
+     */
+    private static void testCrossover(AbstractPermutationCrossover<PermutationChromosome> crossover) {
+        
+        for (int length = 1; length <= LENGTH; length += 7) {
+            for (int i = 0; i < NUM_OF_CROSSOVERS; i++) {
+                checkChild(crossover.doCrossover(createParents(length)), length);
+            }
+        }
+    }
+    
+    /**
+     * Checks if the child is a permutation of provided length.
+     * 
+     * @param child child created by the crossover.
+     * @param length expected length.
+     * @return Permutation of the child.
+     */
+    private static int[] checkChild(PermutationChromosome child, int length) {
+        
+        int[] permutation = child.getPermutation();
+        BitSet seen = new BitSet(length);
+        Assert.assertEquals(length, permutation.length);
+        
+        for (int element : permutation) {
+            Assert.assertTrue(element >= 0 && element < length);
+            Assert.assertFalse(seen.get(element));
+            seen.set(element);
+        }
+        
+        return permutation;
+    }
+    
+    /**
+     * Creates two parents with random permutations of provided length.
+     * 
+     * @param length length of the permutations.
+     * @return Set of parents.
+     */
+    private static SortedSet<PermutationChromosome> createParents(int length) {
+        
+        return createParents(randomPermutation(length), randomPermutation(length));
+    }
+    
+    /**
+     * Creates two parents with provided permutations. The first parent is fitter than the second one.
+     * 
+     * @param firstPermutation permutation of the first parent.
+     * @param secondPermutation permutation of the second parent.
+     * @return Set of parents.
+     */
+    private static SortedSet<PermutationChromosome> createParents(int[] firstPermutation, int[] secondPermutation) {
+        
+        SortedSet<PermutationChromosome> parents = new TreeSet<>();
+        PermutationChromosome first = new PermutationChromosome(firstPermutation);
+        PermutationChromosome second = new PermutationChromosome(secondPermutation);
+        first.setFitness(1.0);
+        second.setFitness(0.0);
+        parents.add(first);
+        parents.add(second);
+        
+        return parents;
+    }
+    
+    /**
+     * Creates a random permutation of provided length.
+     * 
+     * @param length length of the permutation.
+     * @return Random permutation.
+     */
+    private static int[] randomPermutation(int length) {
+        
+        int[] permutation = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            int j = TestUtilities.RAND.nextInt(i + 1);
+            permutation[i] = permutation[j];
+            permutation[j] = i;
+        }
+        
+        return permutation;
+    }
+}
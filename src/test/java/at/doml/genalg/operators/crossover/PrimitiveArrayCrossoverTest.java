@@ -0,0 +1,198 @@
+package at.doml.genalg.operators.crossover;
+
+import at.doml.genalg.exceptions.IncompatibleParentsException;
+import at.doml.genalg.population.abstracts.AbstractChromosome;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.chromosomes.FloatArrayChromosome;
+import at.doml.genalg.population.chromosomes.IntArrayChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Class which contains tests for crossover operators which are used on chromosomes based on arrays of
+ * <code>double</code>s, <code>float</code>s and <code>int</code>s.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see BlendCrossover
+ * @see SimulatedBinaryCrossover
+ * @see FloatArrayBlendCrossover
+ * @see IntArrayUniformCrossover
+ */
+public class PrimitiveArrayCrossoverTest {
+    
+    /**
+     * Length of arrays used in tests.
+     */
+    private static final int LENGTH = 200;
+    /**
+     * Extension factor used for the blend crossover.
+     */
+    private static final double ALPHA = 0.5;
+    
+    /**
+     * Tests the blend crossover with known samples. Parent elements are 1 and 3, so the extended interval is [0, 4).
+     */
+    @Test
+    public void testBlendCrossover() {
+        
+        double[] samples = { 0.0, 0.25, 0.5, 0.999 };
+        double[] child = new BlendCrossover<DoubleArrayChromosome>(fixedSamples(samples), ALPHA)
+                .doCrossover(doubleParents(samples.length)).getValues();
+        
+        TestUtilities.assertArrayElementsEqual(new double[] { 0.0, 1.0, 2.0, 3.996 }, child);
+    }
+    
+    /**
+     * Tests the simulated binary crossover with known samples. For the distribution index 1, the spread factors of the
+     * samples are 0, 1, sqrt(2) and 1 / sqrt(2), and the child element is 2 - spread for parent elements 1 and 3.
+     */
+    @Test
+    public void testSimulatedBinaryCrossover() {
+        
+        double[] samples = { 0.0, 0.5, 0.75, 0.25 };
+        double[] child = new SimulatedBinaryCrossover<DoubleArrayChromosome>(fixedSamples(samples), 1.0)
+                .doCrossover(doubleParents(samples.length)).getValues();
+        
+        TestUtilities.assertArrayElementsEqual(
+                new double[] { 2.0, 1.0, 2.0 - Math.sqrt(2.0), 2.0 - Math.sqrt(0.5) }, child);
+    }
+    
+    /**
+     * Tests if every element created by the blend crossover is inside the extended interval of the parent elements.
+     */
+    @Test
+    public void testFloatArrayBlendCrossover() {
+        
+        float[] first = new float[LENGTH];
+        float[] second = new float[LENGTH];
+        
+        for (int i = 0; i < LENGTH; i++) {
+            first[i] = (float) TestUtilities.RAND.nextGaussian();
+            second[i] = (float) TestUtilities.RAND.nextGaussian();
+        }
+        
+        SortedSet<FloatArrayChromosome> parents = new TreeSet<>();
+        parents.add(withFitness(new FloatArrayChromosome(first), 1.0));
+        parents.add(withFitness(new FloatArrayChromosome(second), 0.0));
+        
+        float[] child = new FloatArrayBlendCrossover<FloatArrayChromosome>(TestUtilities.RAND, ALPHA)
+                .doCrossover(parents).getValues();
+        
+        for (int i = 0; i < LENGTH; i++) {
+            double extension = ALPHA * Math.abs(first[i] - second[i]) + TestUtilities.PRECISION;
+            
+            Assert.assertTrue(child[i] >= Math.min(first[i], second[i]) - extension);
+            Assert.assertTrue(child[i] <= Math.max(first[i], second[i]) + extension);
+        }
+    }
+    
+    /**
+     * Tests if every element created by the uniform crossover is copied from one of the parents, and if all parents
+     * contribute to the child.
+     */
+    @Test
+    public void testIntArrayUniformCrossover() {
+        
+        SortedSet<IntArrayChromosome> parents = new TreeSet<>();
+        
+        for (int p = 0; p < 3; p++) {
+            int[] values = new int[LENGTH];
+            
+            for (int i = 0; i < LENGTH; i++) {
+                values[i] = p;
+            }
+            
+            parents.add(withFitness(new IntArrayChromosome(values), p));
+        }
+        
+        int[] child = new IntArrayUniformCrossover<IntArrayChromosome>(TestUtilities.RAND).doCrossover(parents)
+                .getValues();
+        int[] counts = new int[3];
+        
+        for (int value : child) {
+            counts[value]++;
+        }
+        
+        for (int count : counts) {
+            Assert.assertTrue(count > 0);
+        }
+    }
+    
+    /**
+     * Tests if crossover of parents with different lengths is rejected.
+     */
+    @Test(expected = IncompatibleParentsException.class)
+    public void testIncompatibleParents() {
+        
+        SortedSet<IntArrayChromosome> parents = new TreeSet<>();
+        parents.add(withFitness(new IntArrayChromosome(new int[LENGTH]), 1.0));
+        parents.add(withFitness(new IntArrayChromosome(new int[LENGTH + 1]), 0.0));
+        
+        new IntArrayUniformCrossover<IntArrayChromosome>(TestUtilities.RAND).doCrossover(parents);
+    }
+    
+    /**
+     * Creates two parents of the provided length. All elements of the fitter parent are 1, and all elements of the
+     * other parent are 3.
+     * 
+     * @param length length of the parents.
+     * @return Created parents.
+     */
+    private static SortedSet<DoubleArrayChromosome> doubleParents(int length) {
+        
+        double[] first = new double[length];
+        double[] second = new double[length];
+        
+        Arrays.fill(first, 1.0);
+        Arrays.fill(second, 3.0);
+        
+        SortedSet<DoubleArrayChromosome> parents = new TreeSet<>();
+        parents.add(withFitness(new DoubleArrayChromosome(first), 1.0));
+        parents.add(withFitness(new DoubleArrayChromosome(second), 0.0));
+        
+        return parents;
+    }
+    
+    /**
+     * Creates a random number generator which returns the provided samples from <code>nextDouble</code>, in order.
+     * 
+     * @param samples samples which will be returned.
+     * @return Created random number generator.
+     */
+    private static Random fixedSamples(double[] samples) {
+        
+        return new Random() {
+            
+            private static final long serialVersionUID = 1L;
+            private int index;
+            
+            @Override
+            public double nextDouble() {
+                
+                return samples[index++];
+            }
+        };
+    }
+    
+    /**
+     * Sets the fitness of the provided chromosome.
+     * 
+     * @param chromosome chromosome whose fitness will be set.
+     * @param fitness fitness of the chromosome.
+     * @param <C> the type of the chromosome.
+     * @return Provided chromosome.
+     */
+    private static <C extends AbstractChromosome> C withFitness(C chromosome, double fitness) {
+        
+        chromosome.setFitness(fitness);
+        
+        return chromosome;
+    }
+}
@@ -0,0 +1,156 @@
+package at.doml.genalg.operators.kernels;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+
+/**
+ * Class which contains tests for <code>DoubleArrayKernels</code>. Both the scalar kernels and the kernels which are
+ * selected at runtime are compared to values calculated directly from the formulas. When the tests are run with the
+ * <code>vector</code> profile, the SIMD kernels must be selected.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see DoubleArrayKernels
+ */
+public class DoubleArrayKernelsTest {
+    
+    /**
+     * Name of the system property which is set to <code>vector</code> when the SIMD kernels are expected to be
+     * selected.
+     */
+    private static final String EXPECTED_KERNELS_PROPERTY = "at.doml.genalg.kernels.expected";
+    /**
+     * Size of test arrays. Not a multiple of any vector length in order to test the tail loops.
+     */
+    private static final int TEST_ARRAY_SIZE = 1_003;
+    /**
+     * Range of <code>double</code> values to use in tests. This value will be used as positive and negative bound.
+     */
+    private static final double RANGE = 100.0;
+    /**
+     * First array of values used in tests.
+     */
+    private static final double[] FIRST = new double[TEST_ARRAY_SIZE];
+    /**
+     * Second array of values used in tests.
+     */
+    private static final double[] SECOND = new double[TEST_ARRAY_SIZE];
+    /**
+     * Uniformly distributed samples used in tests.
+     */
+    private static final double[] SAMPLES = new double[TEST_ARRAY_SIZE];
+    
+    static {
+        for (int i = 0; i < TEST_ARRAY_SIZE; i++) {
+            FIRST[i] = TestUtilities.RAND.nextDouble() * RANGE * 2.0 - RANGE;
+            SECOND[i] = TestUtilities.RAND.nextDouble() * RANGE * 2.0 - RANGE;
+            SAMPLES[i] = TestUtilities.RAND.nextDouble();
+        }
+    }
+    
+    /**
+     * Tests if the SIMD kernels are selected exactly when the tests are run with the <code>vector</code> profile.
+     */
+    @Test
+    public void testSelectedKernels() {
+        
+        boolean vectorExpected = "vector".equals(System.getProperty(EXPECTED_KERNELS_PROPERTY));
+        
+        Assert.assertEquals(vectorExpected, DoubleArrayKernels.isVectorized());
+        Assert.assertEquals(vectorExpected ? "VectorDoubleArrayKernels" : "ScalarDoubleArrayKernels",
+                DoubleArrayKernels.getInstance().getClass().getSimpleName());
+    }
+    
+    /**
+     * Tests the <code>addScaled</code>, <code>add</code> and <code>divide</code> kernels.
+     */
+    @Test
+    public void testArithmeticKernels() {
+        
+        double[] expected = new double[TEST_ARRAY_SIZE];
+        
+        for (int i = 0; i < TEST_ARRAY_SIZE; i++) {
+            expected[i] = (FIRST[i] + SAMPLES[i] * 0.5 + 1.5 + SECOND[i]) / 3.0;
+        }
+        
+        for (IDoubleArrayKernels kernels : getKernels()) {
+            double[] actual = Arrays.copyOf(FIRST, FIRST.length);
+            
+            kernels.addScaled(actual, SAMPLES, 0.5, 1.5);
+            kernels.add(actual, SECOND);
+            kernels.divide(actual, 3.0);
+            TestUtilities.assertArrayElementsEqual(expected, actual);
+        }
+    }
+    
+    /**
+     * Tests the blend crossover kernel. Each child value is the lower limit of the extended interval, increased by the
+     * sample multiplied by the length of the interval.
+     */
+    @Test
+    public void testBlendKernel() {
+        
+        double alpha = 0.5;
+        double[] expected = new double[TEST_ARRAY_SIZE];
+        
+        for (int i = 0; i < TEST_ARRAY_SIZE; i++) {
+            double distance = Math.abs(FIRST[i] - SECOND[i]);
+            double lower = Math.min(FIRST[i], SECOND[i]) - alpha * distance;
+            
+            expected[i] = lower + SAMPLES[i] * distance * (1.0 + 2.0 * alpha);
+        }
+        
+        for (IDoubleArrayKernels kernels : getKernels()) {
+            double[] actual = new double[TEST_ARRAY_SIZE];
+            
+            kernels.blend(actual, FIRST, SECOND, SAMPLES, alpha);
+            TestUtilities.assertArrayElementsEqual(expected, actual);
+        }
+    }
+    
+    /**
+     * Tests the simulated binary crossover kernel with known samples, for which the spread factor can be calculated
+     * exactly, and with random samples.
+     */
+    @Test
+    public void testSimulatedBinaryKernel() {
+        
+        double[] first = { 1.0, 1.0, 1.0, 1.0, 1.0 };
+        double[] second = { 3.0, 3.0, 3.0, 3.0, 3.0 };
+        double[] samples = { 0.0, 0.5, 0.75, 0.25, 0.875 };
+        // Spread factors are 0, 1, sqrt(2), 1 / sqrt(2) and 2 for the distribution index 1.
+        double[] knownExpected = { 2.0, 1.0, 2.0 - Math.sqrt(2.0), 2.0 - Math.sqrt(0.5), 0.0 };
+        double exponent = 1.0 / 3.0;
+        double[] expected = new double[TEST_ARRAY_SIZE];
+        
+        for (int i = 0; i < TEST_ARRAY_SIZE; i++) {
+            double spread = SAMPLES[i] <= 0.5 ? Math.pow(2.0 * SAMPLES[i], exponent)
+                    : Math.pow(1.0 / (2.0 * (1.0 - SAMPLES[i])), exponent);
+            
+            expected[i] = 0.5 * ((1.0 + spread) * FIRST[i] + (1.0 - spread) * SECOND[i]);
+        }
+        
+        for (IDoubleArrayKernels kernels : getKernels()) {
+            double[] known = new double[first.length];
+            double[] actual = new double[TEST_ARRAY_SIZE];
+            
+            kernels.simulatedBinary(known, first, second, samples, 1.0);
+            kernels.simulatedBinary(actual, FIRST, SECOND, SAMPLES, 2.0);
+            TestUtilities.assertArrayElementsEqual(knownExpected, known);
+            TestUtilities.assertArrayElementsEqual(expected, actual);
+        }
+    }
+    
+    /**
+     * Fetches the kernels which are tested, which are the scalar kernels and the kernels selected at runtime.
+     * 
+     * @return Tested kernels.
+     */
+    private static IDoubleArrayKernels[] getKernels() {
+        
+        return new IDoubleArrayKernels[] { DoubleArrayKernels.getScalarInstance(), DoubleArrayKernels.getInstance() };
+    }
+}
@@ -0,0 +1,82 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.operators.abstracts.AbstractMutationOperator;
+import at.doml.genalg.population.chromosomes.PermutationChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+
+/**
+ * Class which contains tests for mutation operators which are used on permutations.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see SwapMutation
+ * @see InsertionMutation
+ * @see InversionMutation
+ */
+public class PermutationMutationTest {
+    
+    /**
+     * Length of permutations used in tests.
+     */
+    private static final int LENGTH = 100;
+    
+    /**
+     * Tests the swap mutation.
+     */
+    @Test
+    public void testSwapMutation() {
+        
+        testMutation(new SwapMutation<>(TestUtilities.RAND, 0.1), new SwapMutation<>(TestUtilities.RAND, 0.0));
+    }
+    
+    /**
+     * Tests the insertion mutation.
+     */
+    @Test
+    public void testInsertionMutation() {
+        
+        testMutation(new InsertionMutation<>(TestUtilities.RAND, 0.1),
+                new InsertionMutation<>(TestUtilities.RAND, 0.0));
+    }
+    
+    /**
+     * Tests the inversion mutation.
+     */
+    @Test
+    public void testInversionMutation() {
+        
+        testMutation(new InversionMutation<>(TestUtilities.RAND, 0.1),
+                new InversionMutation<>(TestUtilities.RAND, 0.0));
+    }
+    
+    /**
+     * Checks if the mutation keeps the chromosome a valid permutation and if the mutation with zero intensity leaves
+     * the chromosome unchanged.
+     * 
+     * @param mutation mutation operator with non-zero intensity.
+     * @param noMutation mutation operator with zero intensity.
+     */
+    private static void testMutation(AbstractMutationOperator<PermutationChromosome> mutation,
+            AbstractMutationOperator<PermutationChromosome> noMutation) {
+        
+        PermutationChromosome chromosome = new PermutationChromosome(LENGTH);
+        int[] identity = chromosome.getPermutation();
+        
+        Assert.assertSame(chromosome, noMutation.mutate(chromosome));
+        TestUtilities.assertArrayElementsEqual(identity, chromosome.getPermutation());
+        
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(chromosome, mutation.mutate(chromosome));
+        }
+        
+        int[] sorted = chromosome.getPermutation();
+        Arrays.sort(sorted);
+        
+        TestUtilities.assertArrayElementsEqual(identity, sorted);
+        Assert.assertFalse(Arrays.equals(identity, chromosome.getPermutation()));
+    }
+}
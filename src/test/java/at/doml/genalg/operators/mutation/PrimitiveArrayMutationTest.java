@@ -0,0 +1,127 @@
+package at.doml.genalg.operators.mutation;
+
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.chromosomes.FloatArrayChromosome;
+import at.doml.genalg.population.chromosomes.IntArrayChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Random;
+
+/**
+ * Class which contains tests for mutation operators which are used on chromosomes based on arrays of
+ * <code>double</code>s, <code>float</code>s and <code>int</code>s.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see GaussianDistributionMutation
+ * @see UniformDistributionMutation
+ * @see FloatArrayGaussianMutation
+ * @see IntArrayRandomResetMutation
+ */
+public class PrimitiveArrayMutationTest {
+    
+    /**
+     * Length of arrays used in tests.
+     */
+    private static final int LENGTH = 200;
+    
+    /**
+     * Tests the Gaussian mutation of <code>float</code>s. With zero intensity, only the bias is added to each value.
+     */
+    @Test
+    public void testFloatArrayGaussianMutation() {
+        
+        FloatArrayChromosome chromosome = new FloatArrayChromosome(new float[LENGTH]);
+        
+        new FloatArrayGaussianMutation<FloatArrayChromosome>(TestUtilities.RAND, 0.0, 1.0, 0.5).mutate(chromosome);
+        
+        for (int i = 0; i < LENGTH; i++) {
+            Assert.assertEquals(0.5f, chromosome.getValue(i), 0.0f);
+        }
+        
+        new FloatArrayGaussianMutation<FloatArrayChromosome>(TestUtilities.RAND, 1.0, 1.0, 0.0).mutate(chromosome);
+        
+        int changed = 0;
+        
+        for (int i = 0; i < LENGTH; i++) {
+            changed += chromosome.getValue(i) != 0.5f ? 1 : 0;
+        }
+        
+        Assert.assertTrue(changed > 0);
+        
+        try {
+            new FloatArrayGaussianMutation<FloatArrayChromosome>(TestUtilities.RAND, 1.0, 0.0, 0.0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if distribution mutations which reuse their scratch array of samples produce the same values as mutating
+     * each element separately, also when a shorter chromosome is mutated after a longer one.
+     */
+    @Test
+    public void testDistributionMutationWithScratchArray() {
+        
+        GaussianDistributionMutation<DoubleArrayChromosome> gaussian =
+                new GaussianDistributionMutation<>(new Random(42L), 1.0, 0.5, 0.25);
+        GaussianDistributionMutation<DoubleArrayChromosome> gaussianReference =
+                new GaussianDistributionMutation<>(new Random(42L), 1.0, 0.5, 0.25);
+        UniformDistributionMutation<DoubleArrayChromosome> uniform =
+                new UniformDistributionMutation<>(new Random(42L), 1.0, 0.5);
+        UniformDistributionMutation<DoubleArrayChromosome> uniformReference =
+                new UniformDistributionMutation<>(new Random(42L), 1.0, 0.5);
+        
+        for (int length : new int[] { LENGTH, 3 }) {
+            double[] values = new double[length];
+            
+            for (int i = 0; i < length; i++) {
+                values[i] = i;
+            }
+            
+            DoubleArrayChromosome mutated = gaussian.mutate(new DoubleArrayChromosome(values));
+            
+            for (int i = 0; i < length; i++) {
+                Assert.assertEquals(gaussianReference.calculateNewValue(values[i], 0.5), mutated.getValue(i), 0.0);
+            }
+            
+            mutated = uniform.mutate(new DoubleArrayChromosome(values));
+            
+            for (int i = 0; i < length; i++) {
+                Assert.assertEquals(uniformReference.calculateNewValue(values[i], 0.5), mutated.getValue(i), 0.0);
+            }
+        }
+    }
+    
+    /**
+     * Tests if the random reset mutation generates values inside the provided bounds.
+     */
+    @Test
+    public void testIntArrayRandomResetMutation() {
+        
+        IntArrayChromosome chromosome = new IntArrayChromosome(new int[LENGTH]);
+        
+        new IntArrayRandomResetMutation<IntArrayChromosome>(TestUtilities.RAND, 0.0, 5, 10).mutate(chromosome);
+        
+        TestUtilities.assertArrayElementsEqual(new int[LENGTH], chromosome.getValues());
+        
+        new IntArrayRandomResetMutation<IntArrayChromosome>(TestUtilities.RAND, 1.0, 5, 10).mutate(chromosome);
+        
+        for (int value : chromosome.getValues()) {
+            Assert.assertTrue(value >= 5 && value <= 10);
+        }
+        
+        new IntArrayRandomResetMutation<IntArrayChromosome>(TestUtilities.RAND, 1.0, Integer.MIN_VALUE,
+                Integer.MAX_VALUE).mutate(chromosome);
+        
+        try {
+            new IntArrayRandomResetMutation<IntArrayChromosome>(TestUtilities.RAND, 1.0, 1, 0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+}
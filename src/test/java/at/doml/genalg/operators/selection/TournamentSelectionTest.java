@@ -0,0 +1,133 @@
+package at.doml.genalg.operators.selection;
+
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Class which contains tests for <code>TournamentSelection</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see TournamentSelection
+ */
+public class TournamentSelectionTest {
+    
+    /**
+     * Number of chromosomes in the pool.
+     */
+    private static final int POOL_SIZE = 20;
+    
+    /**
+     * Tests if selected chromosomes are distinct members of the pool.
+     */
+    @Test
+    public void testDistinctSelection() {
+        
+        SortedSet<DoubleArrayChromosome> pool = createPool();
+        TournamentSelection<DoubleArrayChromosome> selection = new TournamentSelection<>(TestUtilities.RAND, 5, 3);
+        
+        for (int i = 0; i < 100; i++) {
+            SortedSet<DoubleArrayChromosome> selected = selection.select(pool);
+            
+            Assert.assertEquals(5, selected.size());
+            Assert.assertTrue(pool.containsAll(selected));
+        }
+        
+        Assert.assertEquals(POOL_SIZE, selection.select(pool, POOL_SIZE).size());
+    }
+    
+    /**
+     * Tests if a tournament which is larger than the pool always selects the fittest chromosomes.
+     */
+    @Test
+    public void testSelectionPressure() {
+        
+        SortedSet<DoubleArrayChromosome> pool = createPool();
+        TournamentSelection<DoubleArrayChromosome> selection =
+                new TournamentSelection<>(TestUtilities.RAND, 2, POOL_SIZE * 100);
+        
+        for (int i = 0; i < 10; i++) {
+            SortedSet<DoubleArrayChromosome> selected = selection.select(pool);
+            
+            Assert.assertEquals(POOL_SIZE - 1, selected.first().getFitness(), 0.0);
+            Assert.assertEquals(POOL_SIZE - 2, selected.last().getFitness(), 0.0);
+        }
+    }
+    
+    /**
+     * Tests if a chromosome which was removed from a pool that is modified in place is never selected again.
+     */
+    @Test
+    public void testModifiedPool() {
+        
+        SortedSet<DoubleArrayChromosome> pool = createPool();
+        TournamentSelection<DoubleArrayChromosome> selection = new TournamentSelection<>(TestUtilities.RAND, 5, 3);
+        DoubleArrayChromosome removed = null;
+        
+        selection.select(pool);
+        
+        for (DoubleArrayChromosome chromosome : pool) {
+            if (chromosome.getFitness() == POOL_SIZE / 2) {
+                removed = chromosome;
+            }
+        }
+        
+        DoubleArrayChromosome child = new DoubleArrayChromosome(new double[] { POOL_SIZE / 2 });
+        child.setFitness(POOL_SIZE / 2 + 0.5);
+        pool.remove(removed);
+        pool.add(child);
+        
+        for (int i = 0; i < 1_000; i++) {
+            SortedSet<DoubleArrayChromosome> selected = selection.select(pool);
+            
+            Assert.assertFalse(selected.contains(removed));
+            Assert.assertTrue(pool.containsAll(selected));
+        }
+    }
+    
+    /**
+     * Tests if illegal arguments are rejected.
+     */
+    @Test
+    public void testIllegalArguments() {
+        
+        try {
+            new TournamentSelection<DoubleArrayChromosome>(TestUtilities.RAND, 2, 0);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        
+        TournamentSelection<DoubleArrayChromosome> selection = new TournamentSelection<>(TestUtilities.RAND, 2, 2);
+        
+        try {
+            selection.select(createPool(), POOL_SIZE + 1);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+    
+    /**
+     * Creates a pool of chromosomes with fitness values from 0 to {@value #POOL_SIZE} - 1.
+     * 
+     * @return A new pool.
+     */
+    private static SortedSet<DoubleArrayChromosome> createPool() {
+        
+        SortedSet<DoubleArrayChromosome> pool = new TreeSet<>();
+        
+        for (int i = 0; i < POOL_SIZE; i++) {
+            DoubleArrayChromosome chromosome = new DoubleArrayChromosome(new double[] { i });
+            chromosome.setFitness(i);
+            pool.add(chromosome);
+        }
+        
+        return pool;
+    }
+}
@@ -4,6 +4,11 @@ import at.doml.genalg.testutils.TestUtilities;
 import org.junit.Assert;
 import org.junit.Test;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Class which contains tests for <code>ByteArrayChromosome</code>.
@@ -61,6 +66,7 @@ public class ByteArrayChromosomeTest {
         Assert.assertNotSame(ARRAY_1, values);
         Assert.assertNotSame(values, a.getBytes());
         TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+        Assert.assertEquals(ARRAY_1_SIZE, a.getArrayLength());
         
         a.setBytes(ARRAY_2);
         values = a.getBytes();
@@ -79,6 +85,100 @@ public class ByteArrayChromosomeTest {
         TestUtilities.assertArrayElementsEqual(a.getBytes(), b.getBytes());
     }
     
+    /**
+     * Tests the iteration over elements without boxing, with and without indices, and the stream of elements.
+     */
+    @Test
+    public void testPrimitiveIteration() {
+        
+        ByteArrayChromosome a = new ByteArrayChromosome(ARRAY_1);
+        byte[] values = new byte[ARRAY_1_SIZE];
+        long[] sum = new long[1];
+        long expectedSum = 0;
+        
+        for (byte value : ARRAY_1) {
+            expectedSum += value;
+        }
+        
+        a.forEachByte(value -> sum[0] += value);
+        a.forEachIndexedByte((index, value) -> values[index] = (byte) value);
+        
+        Assert.assertEquals(expectedSum, sum[0]);
+        Assert.assertEquals(expectedSum, a.byteStream().sum());
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+    }
+    
+    /**
+     * Tests the read-only view of the internal array.
+     */
+    @Test
+    public void testReadOnlyView() {
+        
+        ByteArrayChromosome a = new ByteArrayChromosome(ARRAY_1);
+        ByteBuffer view = a.getBytesView();
+        
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(ARRAY_1_SIZE, view.remaining());
+        
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            Assert.assertEquals(ARRAY_1[i], view.get(i));
+        }
+        
+        a.setByte(0, (byte) (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(a.getByte(0), view.get(0));
+        
+        try {
+            view.put(0, ARRAY_1[0]);
+            Assert.fail("Expected ReadOnlyBufferException.");
+        } catch (ReadOnlyBufferException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if the clone and the original chromosome can be changed independently, although they share the internal
+     * array until the first write.
+     */
+    @Test
+    public void testCopyOnWriteClone() {
+        
+        ByteArrayChromosome a = new ByteArrayChromosome(ARRAY_1);
+        ByteArrayChromosome b = (ByteArrayChromosome) a.clone();
+        ByteArrayChromosome c = (ByteArrayChromosome) a.clone();
+        
+        b.setByte(0, (byte) (ARRAY_1[0] + 1));
+        a.setByte(1, (byte) (ARRAY_1[1] + 1));
+        c.setBytes(ARRAY_1, 0, ARRAY_1_SIZE);
+        
+        Assert.assertEquals(ARRAY_1[0], a.getByte(0));
+        Assert.assertEquals((byte) (ARRAY_1[1] + 1), a.getByte(1));
+        Assert.assertEquals((byte) (ARRAY_1[0] + 1), b.getByte(0));
+        Assert.assertEquals(ARRAY_1[1], b.getByte(1));
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, c.getBytes());
+    }
+    
+    /**
+     * Tests if an original and its clone which are serialized together can still be changed independently, although
+     * they are deserialized with a shared internal array.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerializedCloneIsIndependent() throws IOException, ClassNotFoundException {
+        
+        ByteArrayChromosome a = new ByteArrayChromosome(ARRAY_1);
+        List<ByteArrayChromosome> toSend = new ArrayList<>(Arrays.asList(a, (ByteArrayChromosome) a.clone()));
+        @SuppressWarnings("unchecked")
+        List<ByteArrayChromosome> received = (List<ByteArrayChromosome>) TestUtilities.serializeDeserialize(toSend);
+        
+        received.get(1).setByte(0, (byte) (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(ARRAY_1[0], received.get(0).getByte(0));
+        Assert.assertEquals((byte) (ARRAY_1[0] + 1), received.get(1).getByte(0));
+    }
+    
     /**
      * Tests the serialization.
      * 
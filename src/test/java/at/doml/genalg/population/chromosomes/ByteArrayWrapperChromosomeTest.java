@@ -1,5 +1,6 @@
 package at.doml.genalg.population.chromosomes;
 
+import at.doml.genalg.codecs.DoubleArrayToNaturalBinaryCodec;
 import at.doml.genalg.codecs.interfaces.IByteArrayCodec;
 import at.doml.genalg.testutils.TestUtilities;
 import org.junit.Assert;
@@ -257,6 +258,69 @@ public class ByteArrayWrapperChromosomeTest {
         Assert.assertEquals(TEST_STRING_2, a.getItem());
     }
     
+    /**
+     * Tests the chromosome with decode caching enabled.
+     */
+    @Test
+    public void testDecodeCaching() {
+        
+        MutableStringContainerToByteCodec codec = new MutableStringContainerToByteCodec();
+        ByteArrayWrapperChromosome<MutableStringContainer> a =
+                ByteArrayWrapperChromosome.fromMutable(new MutableStringContainer(TEST_STRING_1), codec);
+        Assert.assertNotSame(a.getItem(), a.getItem());
+        
+        a.setDecodeCaching(true);
+        
+        Assert.assertSame(a.getItem(), a.getItem());
+        Assert.assertEquals(new MutableStringContainer(TEST_STRING_1), a.getItem());
+        
+        a.setByte(STRING_2_BYTES.length - 1, STRING_2_BYTES[STRING_2_BYTES.length - 1]);
+        
+        Assert.assertEquals(new MutableStringContainer(TEST_STRING_2), a.getItem());
+        Assert.assertSame(a.getItem(), a.getItem());
+        
+        a.setBytes(STRING_1_BYTES);
+        
+        Assert.assertEquals(new MutableStringContainer(TEST_STRING_1), a.getItem());
+        Assert.assertTrue(a.newLikeThis().isDecodeCaching());
+    }
+    
+    /**
+     * Tests decoding of single values.
+     */
+    @Test
+    public void testDecodedValues() {
+        
+        double[] values = { -1.0, 0.0, 1.0, 0.5 };
+        DoubleArrayToNaturalBinaryCodec codec = new DoubleArrayToNaturalBinaryCodec(12, -1.0, 1.0);
+        ByteArrayWrapperChromosome<double[]> a = ByteArrayWrapperChromosome.fromMutable(values, codec);
+        DecodedValuesView view = a.getDecodedView();
+        Assert.assertTrue(a.isRandomAccess());
+        Assert.assertEquals(values.length, a.getNumOfDecodedValues());
+        Assert.assertEquals(values.length, view.size());
+        
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(values[i], a.getDecodedValue(i), TestUtilities.PRECISION);
+            Assert.assertEquals(values[i], view.get(i), TestUtilities.PRECISION);
+        }
+        
+        a.setItem(new double[] { 0.25, -0.25 });
+        
+        Assert.assertEquals(2, view.size());
+        Assert.assertEquals(-0.25, view.get(1), TestUtilities.PRECISION);
+        
+        ByteArrayWrapperChromosome<String> b =
+                ByteArrayWrapperChromosome.fromBytes(STRING_1_BYTES, new StringToByteCodec());
+        Assert.assertFalse(b.isRandomAccess());
+        
+        try {
+            b.getDecodedView();
+            Assert.fail("Expected UnsupportedOperationException.");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+    
     /**
      * Tests the serialization.
      * 
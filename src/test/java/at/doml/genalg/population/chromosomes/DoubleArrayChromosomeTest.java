@@ -4,6 +4,11 @@ import at.doml.genalg.testutils.TestUtilities;
 import org.junit.Assert;
 import org.junit.Test;
 import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Class which contains tests for <code>DoubleArrayChromosome</code>.
@@ -70,6 +75,7 @@ public class DoubleArrayChromosomeTest {
         Assert.assertNotSame(ARRAY_1, values);
         Assert.assertNotSame(values, a.getValues());
         TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+        Assert.assertEquals(ARRAY_1_SIZE, a.getArrayLength());
         
         a.setValues(ARRAY_2);
         values = a.getValues();
@@ -88,6 +94,128 @@ public class DoubleArrayChromosomeTest {
         TestUtilities.assertArrayElementsEqual(a.getValues(), b.getValues());
     }
     
+    /**
+     * Tests copying of values from and into flat arrays.
+     */
+    @Test
+    public void testFlatArrayCopy() {
+        
+        double[] flat = new double[ARRAY_1_SIZE * 2];
+        DoubleArrayChromosome a = new DoubleArrayChromosome(ARRAY_1);
+        a.copyValuesTo(flat, ARRAY_1_SIZE);
+        
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            Assert.assertEquals(0.0, flat[i], 0.0);
+            Assert.assertEquals(ARRAY_1[i], flat[ARRAY_1_SIZE + i], 0.0);
+        }
+        
+        DoubleArrayChromosome b = new DoubleArrayChromosome().newLikeThis();
+        b.setValues(flat, ARRAY_1_SIZE, ARRAY_1_SIZE);
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, b.getValues());
+        
+        try {
+            b.setValues(flat, ARRAY_1_SIZE + 1, ARRAY_1_SIZE);
+            Assert.fail("Expected IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests the iteration over elements without boxing, with and without indices, and the stream of elements.
+     */
+    @Test
+    public void testPrimitiveIteration() {
+        
+        DoubleArrayChromosome a = new DoubleArrayChromosome(ARRAY_1);
+        double[] values = new double[ARRAY_1_SIZE];
+        double[] sum = new double[1];
+        double expectedSum = 0;
+        
+        for (double value : ARRAY_1) {
+            expectedSum += value;
+        }
+        
+        a.forEachValue(value -> sum[0] += value);
+        a.forEachIndexedValue((index, value) -> values[index] = value);
+        
+        Assert.assertEquals(expectedSum, sum[0], 0.0);
+        Assert.assertEquals(expectedSum, a.valueStream().sum(), TestUtilities.PRECISION);
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+    }
+    
+    /**
+     * Tests the read-only view of the internal array.
+     */
+    @Test
+    public void testReadOnlyView() {
+        
+        DoubleArrayChromosome a = new DoubleArrayChromosome(ARRAY_1);
+        DoubleBuffer view = a.getValuesView();
+        
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(ARRAY_1_SIZE, view.remaining());
+        
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            Assert.assertEquals(ARRAY_1[i], view.get(i), 0.0);
+        }
+        
+        a.setValue(0, (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(a.getValue(0), view.get(0), 0.0);
+        
+        try {
+            view.put(0, ARRAY_1[0]);
+            Assert.fail("Expected ReadOnlyBufferException.");
+        } catch (ReadOnlyBufferException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if the clone and the original chromosome can be changed independently, although they share the internal
+     * array until the first write.
+     */
+    @Test
+    public void testCopyOnWriteClone() {
+        
+        DoubleArrayChromosome a = new DoubleArrayChromosome(ARRAY_1);
+        DoubleArrayChromosome b = (DoubleArrayChromosome) a.clone();
+        DoubleArrayChromosome c = (DoubleArrayChromosome) a.clone();
+        
+        b.setValue(0, (ARRAY_1[0] + 1));
+        a.setValue(1, (ARRAY_1[1] + 1));
+        c.setValues(ARRAY_1, 0, ARRAY_1_SIZE);
+        
+        Assert.assertEquals(ARRAY_1[0], a.getValue(0), 0.0);
+        Assert.assertEquals((ARRAY_1[1] + 1), a.getValue(1), 0.0);
+        Assert.assertEquals((ARRAY_1[0] + 1), b.getValue(0), 0.0);
+        Assert.assertEquals(ARRAY_1[1], b.getValue(1), 0.0);
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, c.getValues());
+    }
+    
+    /**
+     * Tests if an original and its clone which are serialized together can still be changed independently, although
+     * they are deserialized with a shared internal array.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerializedCloneIsIndependent() throws IOException, ClassNotFoundException {
+        
+        DoubleArrayChromosome a = new DoubleArrayChromosome(ARRAY_1);
+        List<DoubleArrayChromosome> toSend = new ArrayList<>(Arrays.asList(a, (DoubleArrayChromosome) a.clone()));
+        @SuppressWarnings("unchecked")
+        List<DoubleArrayChromosome> received = (List<DoubleArrayChromosome>) TestUtilities.serializeDeserialize(toSend);
+        
+        received.get(1).setValue(0, (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(ARRAY_1[0], received.get(0).getValue(0), 0.0);
+        Assert.assertEquals((ARRAY_1[0] + 1), received.get(1).getValue(0), 0.0);
+    }
+    
     /**
      * Tests the serialization.
      * 
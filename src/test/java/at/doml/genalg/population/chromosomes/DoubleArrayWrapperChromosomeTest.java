@@ -47,6 +47,10 @@ public class DoubleArrayWrapperChromosomeTest {
          * Serial version UID.
          */
         private static final long serialVersionUID = -6624307945336344687L;
+        /**
+         * Number of performed decodings.
+         */
+        private int numOfDecodes;
         
         @Override
         public double[] encode(int[] item) {
@@ -63,6 +67,8 @@ public class DoubleArrayWrapperChromosomeTest {
         @Override
         public int[] decode(double[] values) {
             
+            numOfDecodes++;
+            
             int[] output = new int[values.length];
             
             for (int i = 0; i < values.length; i++) {
@@ -153,6 +159,43 @@ public class DoubleArrayWrapperChromosomeTest {
         Assert.assertNotSame(TEST_ARRAY_2_DOUBLES, a.getValues());
     }
     
+    /**
+     * Tests the chromosome with decode caching enabled.
+     */
+    @Test
+    public void testDecodeCaching() {
+        
+        IntToDoubleCodec codec = new IntToDoubleCodec();
+        DoubleArrayWrapperChromosome<int[]> a = DoubleArrayWrapperChromosome.fromMutable(new int[] { 1, 2, 3 }, codec);
+        a.setDecodeCaching(true);
+        Assert.assertTrue(a.isDecodeCaching());
+        
+        int[] item = a.getItem();
+        int numOfDecodes = codec.numOfDecodes;
+        Assert.assertSame(item, a.getItem());
+        Assert.assertEquals(numOfDecodes, codec.numOfDecodes);
+        
+        a.setValue(1, 5.0);
+        a.setValues(new double[] { 4.0, 5.0, 6.0 });
+        
+        Assert.assertEquals(numOfDecodes, codec.numOfDecodes);
+        TestUtilities.assertArrayElementsEqual(new int[] { 4, 5, 6 }, a.getItem());
+        Assert.assertEquals(numOfDecodes + 1, codec.numOfDecodes);
+        Assert.assertSame(a.getItem(), a.getItem());
+        
+        @SuppressWarnings("unchecked")
+        DoubleArrayWrapperChromosome<int[]> b = (DoubleArrayWrapperChromosome<int[]>) a.clone();
+        Assert.assertTrue(b.isDecodeCaching());
+        Assert.assertSame(a.getItem(), b.getItem());
+        Assert.assertEquals(numOfDecodes + 1, codec.numOfDecodes);
+        Assert.assertTrue(a.newLikeThis().isDecodeCaching());
+        
+        a.setDecodeCaching(false);
+        a.setItem(new int[] { 7, 8, 9 });
+        
+        Assert.assertNotSame(a.getItem(), a.getItem());
+    }
+    
     /**
      * Tests the serialization.
      * 
@@ -0,0 +1,203 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class which contains tests for <code>FloatArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see FloatArrayChromosome
+ */
+public class FloatArrayChromosomeTest {
+    
+    /**
+     * Size of first array to use in tests.
+     */
+    private static final int ARRAY_1_SIZE = 500;
+    /**
+     * Size of second array to use in tests.
+     */
+    private static final int ARRAY_2_SIZE = 1_000;
+    /**
+     * Range of <code>float</code> values to use in tests. This value will be used as positive and negative bound.
+     */
+    private static final float RANGE = 100.0f;
+    /**
+     * First array of <code>float</code>s used in tests.
+     */
+    private static final float[] ARRAY_1 = new float[ARRAY_1_SIZE];
+    /**
+     * Second array of <code>float</code>s used in tests.
+     */
+    private static final float[] ARRAY_2 = new float[ARRAY_2_SIZE];
+    
+    static {
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            ARRAY_1[i] = (float) (TestUtilities.RAND.nextDouble() * RANGE * 2.0 - RANGE);
+        }
+        
+        for (int i = 0; i < ARRAY_2_SIZE; i++) {
+            ARRAY_2[i] = (float) (TestUtilities.RAND.nextDouble() * RANGE * 2.0 - RANGE);
+        }
+    }
+    
+    /**
+     * Tests the constructor, getters and setters.
+     */
+    @Test
+    public void testConstructorGetterAndSetter() {
+        
+        FloatArrayChromosome a = new FloatArrayChromosome(ARRAY_1);
+        
+        float[] values = a.getValues();
+        
+        Assert.assertNotSame(ARRAY_1, values);
+        Assert.assertNotSame(values, a.getValues());
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+        Assert.assertEquals(ARRAY_1_SIZE, a.getArrayLength());
+        
+        a.setValues(ARRAY_2);
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_2, a.getValues());
+        
+        a.setValue(0, ARRAY_2[0] / 2.0f);
+        
+        Assert.assertEquals(ARRAY_2[0] / 2.0f, a.getValue(0), 0.0f);
+        Assert.assertNotEquals(ARRAY_2[0] / 2.0f, ARRAY_2[0], 0.0f);
+    }
+    
+    /**
+     * Tests if the clone does not share the values with the original chromosome.
+     */
+    @Test
+    public void testClone() {
+        
+        FloatArrayChromosome a = new FloatArrayChromosome(ARRAY_1);
+        FloatArrayChromosome b = (FloatArrayChromosome) a.clone();
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, b.getValues());
+        
+        b.setValue(0, ARRAY_1[0] + 1);
+        
+        Assert.assertEquals(ARRAY_1[0], a.getValue(0), 0.0f);
+    }
+    
+    /**
+     * Tests copying of values from and into flat arrays.
+     */
+    @Test
+    public void testFlatArrayCopy() {
+        
+        float[] flat = new float[ARRAY_1_SIZE * 2];
+        new FloatArrayChromosome(ARRAY_1).copyValuesTo(flat, ARRAY_1_SIZE);
+        
+        FloatArrayChromosome b = new FloatArrayChromosome().newLikeThis();
+        b.setValues(flat, ARRAY_1_SIZE, ARRAY_1_SIZE);
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, b.getValues());
+        
+        try {
+            b.setValues(flat, ARRAY_1_SIZE + 1, ARRAY_1_SIZE);
+            Assert.fail("Expected IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests the iteration over elements without boxing, with and without indices, and the stream of elements.
+     */
+    @Test
+    public void testPrimitiveIteration() {
+        
+        FloatArrayChromosome a = new FloatArrayChromosome(ARRAY_1);
+        float[] values = new float[ARRAY_1_SIZE];
+        double[] sum = new double[1];
+        double expectedSum = 0;
+        
+        for (float value : ARRAY_1) {
+            expectedSum += value;
+        }
+        
+        a.forEachValue(value -> sum[0] += value);
+        a.forEachIndexedValue((index, value) -> values[index] = (float) value);
+        
+        Assert.assertEquals(expectedSum, sum[0], 0.0);
+        Assert.assertEquals(expectedSum, a.valueStream().sum(), TestUtilities.PRECISION);
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+    }
+    
+    /**
+     * Tests the read-only view of the internal array.
+     */
+    @Test
+    public void testReadOnlyView() {
+        
+        FloatArrayChromosome a = new FloatArrayChromosome(ARRAY_1);
+        FloatBuffer view = a.getValuesView();
+        
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(ARRAY_1_SIZE, view.remaining());
+        
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            Assert.assertEquals(ARRAY_1[i], view.get(i), 0.0f);
+        }
+        
+        a.setValue(0, (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(a.getValue(0), view.get(0), 0.0f);
+        
+        try {
+            view.put(0, ARRAY_1[0]);
+            Assert.fail("Expected ReadOnlyBufferException.");
+        } catch (ReadOnlyBufferException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if an original and its clone which are serialized together can still be changed independently, although
+     * they are deserialized with a shared internal array.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerializedCloneIsIndependent() throws IOException, ClassNotFoundException {
+        
+        FloatArrayChromosome a = new FloatArrayChromosome(ARRAY_1);
+        List<FloatArrayChromosome> toSend = new ArrayList<>(Arrays.asList(a, (FloatArrayChromosome) a.clone()));
+        @SuppressWarnings("unchecked")
+        List<FloatArrayChromosome> received = (List<FloatArrayChromosome>) TestUtilities.serializeDeserialize(toSend);
+        
+        received.get(1).setValue(0, ARRAY_1[0] + 1);
+        
+        Assert.assertEquals(ARRAY_1[0], received.get(0).getValue(0), 0.0f);
+        Assert.assertEquals(ARRAY_1[0] + 1, received.get(1).getValue(0), 0.0f);
+    }
+    
+    /**
+     * Tests the serialization.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        
+        FloatArrayChromosome toSend = new FloatArrayChromosome(ARRAY_1);
+        Object recieved = TestUtilities.serializeDeserialize(toSend);
+        Assert.assertTrue(recieved instanceof FloatArrayChromosome);
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, ((FloatArrayChromosome) recieved).getValues());
+    }
+}
@@ -0,0 +1,203 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class which contains tests for <code>IntArrayChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IntArrayChromosome
+ */
+public class IntArrayChromosomeTest {
+    
+    /**
+     * Size of first array to use in tests.
+     */
+    private static final int ARRAY_1_SIZE = 500;
+    /**
+     * Size of second array to use in tests.
+     */
+    private static final int ARRAY_2_SIZE = 1_000;
+    /**
+     * Range of <code>int</code> values to use in tests. This value will be used as positive and negative bound.
+     */
+    private static final int RANGE = 100;
+    /**
+     * First array of <code>int</code>s used in tests.
+     */
+    private static final int[] ARRAY_1 = new int[ARRAY_1_SIZE];
+    /**
+     * Second array of <code>int</code>s used in tests.
+     */
+    private static final int[] ARRAY_2 = new int[ARRAY_2_SIZE];
+    
+    static {
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            ARRAY_1[i] = TestUtilities.RAND.nextInt(RANGE * 2 + 1) - RANGE;
+        }
+        
+        for (int i = 0; i < ARRAY_2_SIZE; i++) {
+            ARRAY_2[i] = TestUtilities.RAND.nextInt(RANGE * 2 + 1) - RANGE;
+        }
+    }
+    
+    /**
+     * Tests the constructor, getters and setters.
+     */
+    @Test
+    public void testConstructorGetterAndSetter() {
+        
+        IntArrayChromosome a = new IntArrayChromosome(ARRAY_1);
+        
+        int[] values = a.getValues();
+        
+        Assert.assertNotSame(ARRAY_1, values);
+        Assert.assertNotSame(values, a.getValues());
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+        Assert.assertEquals(ARRAY_1_SIZE, a.getArrayLength());
+        
+        a.setValues(ARRAY_2);
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_2, a.getValues());
+        
+        a.setValue(0, ARRAY_2[0] + 1);
+        
+        Assert.assertEquals(ARRAY_2[0] + 1, a.getValue(0));
+        Assert.assertNotEquals(ARRAY_2[0] + 1, ARRAY_2[0]);
+    }
+    
+    /**
+     * Tests if the clone does not share the values with the original chromosome.
+     */
+    @Test
+    public void testClone() {
+        
+        IntArrayChromosome a = new IntArrayChromosome(ARRAY_1);
+        IntArrayChromosome b = (IntArrayChromosome) a.clone();
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, b.getValues());
+        
+        b.setValue(0, ARRAY_1[0] + 1);
+        
+        Assert.assertEquals(ARRAY_1[0], a.getValue(0));
+    }
+    
+    /**
+     * Tests copying of values from and into flat arrays.
+     */
+    @Test
+    public void testFlatArrayCopy() {
+        
+        int[] flat = new int[ARRAY_1_SIZE * 2];
+        new IntArrayChromosome(ARRAY_1).copyValuesTo(flat, ARRAY_1_SIZE);
+        
+        IntArrayChromosome b = new IntArrayChromosome().newLikeThis();
+        b.setValues(flat, ARRAY_1_SIZE, ARRAY_1_SIZE);
+        
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, b.getValues());
+        
+        try {
+            b.setValues(flat, ARRAY_1_SIZE + 1, ARRAY_1_SIZE);
+            Assert.fail("Expected IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests the iteration over elements without boxing, with and without indices, and the stream of elements.
+     */
+    @Test
+    public void testPrimitiveIteration() {
+        
+        IntArrayChromosome a = new IntArrayChromosome(ARRAY_1);
+        int[] values = new int[ARRAY_1_SIZE];
+        long[] sum = new long[1];
+        long expectedSum = 0;
+        
+        for (int value : ARRAY_1) {
+            expectedSum += value;
+        }
+        
+        a.forEachValue(value -> sum[0] += value);
+        a.forEachIndexedValue((index, value) -> values[index] = value);
+        
+        Assert.assertEquals(expectedSum, sum[0]);
+        Assert.assertEquals(expectedSum, a.valueStream().sum());
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, values);
+    }
+    
+    /**
+     * Tests the read-only view of the internal array.
+     */
+    @Test
+    public void testReadOnlyView() {
+        
+        IntArrayChromosome a = new IntArrayChromosome(ARRAY_1);
+        IntBuffer view = a.getValuesView();
+        
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(ARRAY_1_SIZE, view.remaining());
+        
+        for (int i = 0; i < ARRAY_1_SIZE; i++) {
+            Assert.assertEquals(ARRAY_1[i], view.get(i));
+        }
+        
+        a.setValue(0, (ARRAY_1[0] + 1));
+        
+        Assert.assertEquals(a.getValue(0), view.get(0));
+        
+        try {
+            view.put(0, ARRAY_1[0]);
+            Assert.fail("Expected ReadOnlyBufferException.");
+        } catch (ReadOnlyBufferException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if an original and its clone which are serialized together can still be changed independently, although
+     * they are deserialized with a shared internal array.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerializedCloneIsIndependent() throws IOException, ClassNotFoundException {
+        
+        IntArrayChromosome a = new IntArrayChromosome(ARRAY_1);
+        List<IntArrayChromosome> toSend = new ArrayList<>(Arrays.asList(a, (IntArrayChromosome) a.clone()));
+        @SuppressWarnings("unchecked")
+        List<IntArrayChromosome> received = (List<IntArrayChromosome>) TestUtilities.serializeDeserialize(toSend);
+        
+        received.get(1).setValue(0, ARRAY_1[0] + 1);
+        
+        Assert.assertEquals(ARRAY_1[0], received.get(0).getValue(0));
+        Assert.assertEquals(ARRAY_1[0] + 1, received.get(1).getValue(0));
+    }
+    
+    /**
+     * Tests the serialization.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        
+        IntArrayChromosome toSend = new IntArrayChromosome(ARRAY_1);
+        Object recieved = TestUtilities.serializeDeserialize(toSend);
+        Assert.assertTrue(recieved instanceof IntArrayChromosome);
+        TestUtilities.assertArrayElementsEqual(ARRAY_1, ((IntArrayChromosome) recieved).getValues());
+    }
+}
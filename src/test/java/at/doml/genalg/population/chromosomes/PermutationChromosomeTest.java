@@ -0,0 +1,115 @@
+package at.doml.genalg.population.chromosomes;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+
+/**
+ * Class which contains tests for <code>PermutationChromosome</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see PermutationChromosome
+ */
+public class PermutationChromosomeTest {
+    
+    /**
+     * Permutation used in tests.
+     */
+    private static final int[] PERMUTATION = { 3, 0, 4, 1, 2 };
+    
+    /**
+     * Tests the constructors, getters and setters.
+     */
+    @Test
+    public void testConstructorGetterAndSetter() {
+        
+        PermutationChromosome a = new PermutationChromosome(PERMUTATION);
+        TestUtilities.assertArrayElementsEqual(PERMUTATION, a.getPermutation());
+        Assert.assertNotSame(a.getPermutation(), a.getPermutation());
+        Assert.assertEquals(PERMUTATION.length, a.getLength());
+        Assert.assertEquals(PERMUTATION[2], a.getElement(2));
+        
+        a.setPermutation(new int[] { 0, 1, 2 });
+        
+        TestUtilities.assertArrayElementsEqual(new int[] { 0, 1, 2 }, a.getPermutation());
+        TestUtilities.assertArrayElementsEqual(new int[] { 0, 1, 2, 3 }, new PermutationChromosome(4).getPermutation());
+        
+        int[] flat = new int[PERMUTATION.length + 1];
+        new PermutationChromosome(PERMUTATION).copyPermutationTo(flat, 1);
+        a.setPermutation(flat, 1, PERMUTATION.length);
+        
+        TestUtilities.assertArrayElementsEqual(PERMUTATION, a.getPermutation());
+    }
+    
+    /**
+     * Tests if invalid permutations are rejected.
+     */
+    @Test
+    public void testInvalidPermutation() {
+        
+        int[][] invalid = { { 0, 0 }, { 1, 2 }, { -1, 0 } };
+        
+        for (int[] array : invalid) {
+            try {
+                new PermutationChromosome(array);
+                Assert.fail("Expected IllegalArgumentException.");
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+    
+    /**
+     * Tests the methods which change the permutation in place.
+     */
+    @Test
+    public void testInPlaceChanges() {
+        
+        PermutationChromosome a = new PermutationChromosome(6);
+        
+        a.swap(0, 5);
+        TestUtilities.assertArrayElementsEqual(new int[] { 5, 1, 2, 3, 4, 0 }, a.getPermutation());
+        
+        a.move(1, 4);
+        TestUtilities.assertArrayElementsEqual(new int[] { 5, 2, 3, 4, 1, 0 }, a.getPermutation());
+        
+        a.move(4, 0);
+        TestUtilities.assertArrayElementsEqual(new int[] { 1, 5, 2, 3, 4, 0 }, a.getPermutation());
+        
+        a.reverse(1, 5);
+        TestUtilities.assertArrayElementsEqual(new int[] { 1, 4, 3, 2, 5, 0 }, a.getPermutation());
+    }
+    
+    /**
+     * Tests if the clone does not share the permutation with the original chromosome.
+     */
+    @Test
+    public void testClone() {
+        
+        PermutationChromosome a = new PermutationChromosome(PERMUTATION);
+        PermutationChromosome b = (PermutationChromosome) a.clone();
+        
+        b.swap(0, 1);
+        
+        TestUtilities.assertArrayElementsEqual(PERMUTATION, a.getPermutation());
+        Assert.assertEquals(PERMUTATION[0], b.getElement(1));
+    }
+    
+    /**
+     * Tests the serialization.
+     * 
+     * @throws IOException thrown if any stream is unable to read or write.
+     * @throws ClassNotFoundException thrown if object in the stream cannot be deserialized.
+     */
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        
+        PermutationChromosome toSend = new PermutationChromosome(PERMUTATION);
+        Object recieved = TestUtilities.serializeDeserialize(toSend);
+        Assert.assertTrue(recieved instanceof PermutationChromosome);
+        TestUtilities.assertArrayElementsEqual(PERMUTATION, ((PermutationChromosome) recieved).getPermutation());
+    }
+}
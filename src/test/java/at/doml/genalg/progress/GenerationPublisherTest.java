@@ -0,0 +1,327 @@
+package at.doml.genalg.progress;
+
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class which contains tests for <code>GenerationPublisher</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see GenerationPublisher
+ */
+public class GenerationPublisherTest {
+    
+    /**
+     * Maximum time in seconds to wait for a signal.
+     */
+    private static final long TIMEOUT_SECONDS = 5L;
+    
+    /**
+     * Tests if a slow subscriber receives only the latest summary, without stalling the publishing thread.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted.
+     */
+    @Test
+    public void testConflation() throws InterruptedException {
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        try (GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(executor)) {
+            RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE) {
+                
+                @Override
+                public void onNext(GenerationSummary<DoubleArrayChromosome> item) {
+                    
+                    super.onNext(item);
+                    
+                    if (item.getGeneration() == 0L) {
+                        blocked.countDown();
+                        await(release);
+                    }
+                }
+            };
+            publisher.subscribe(subscriber);
+            publisher.publish(0L, 3L, createPopulation(3));
+            
+            Assert.assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            
+            for (int i = 1; i < 100; i++) {
+                publisher.publish(i, 3L * (i + 1), createPopulation(3));
+            }
+            
+            Assert.assertEquals(98L, publisher.getNumOfDropped());
+            release.countDown();
+            
+            Assert.assertEquals(0L, subscriber.next().getGeneration());
+            
+            GenerationSummary<DoubleArrayChromosome> latest = subscriber.next();
+            
+            Assert.assertEquals(99L, latest.getGeneration());
+            Assert.assertEquals(300L, latest.getNumOfEvaluations());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if summaries are delivered only when they are requested.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted.
+     */
+    @Test
+    public void testDemand() throws InterruptedException {
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try (GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(executor)) {
+            RecordingSubscriber subscriber = new RecordingSubscriber(0L);
+            publisher.subscribe(subscriber);
+            
+            publisher.publish(0L, 3L, createPopulation(3));
+            publisher.publish(1L, 6L, createPopulation(3));
+            
+            Assert.assertNull(subscriber.signals.poll(100L, TimeUnit.MILLISECONDS));
+            
+            subscriber.awaitSubscription().request(1L);
+            
+            Assert.assertEquals(1L, subscriber.next().getGeneration());
+            Assert.assertNull(subscriber.signals.poll(100L, TimeUnit.MILLISECONDS));
+            
+            subscriber.awaitSubscription().cancel();
+            
+            Assert.assertEquals(0, publisher.getNumOfSubscribers());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if summaries contain correct statistics, and copies of the population only when requested.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted.
+     */
+    @Test
+    public void testSummary() throws InterruptedException {
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try (GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(executor)) {
+            RecordingSubscriber withPopulation = new RecordingSubscriber(1L);
+            RecordingSubscriber withoutPopulation = new RecordingSubscriber(1L);
+            List<DoubleArrayChromosome> population = createPopulation(4);
+            
+            publisher.subscribe(withPopulation, true);
+            publisher.subscribe(withoutPopulation);
+            publisher.publish(7L, 40L, population);
+            
+            GenerationSummary<DoubleArrayChromosome> full = withPopulation.next();
+            GenerationSummary<DoubleArrayChromosome> summary = withoutPopulation.next();
+            
+            Assert.assertNull(summary.getPopulation());
+            Assert.assertEquals(4, full.getPopulation().size());
+            Assert.assertNotSame(population.get(0), full.getPopulation().get(0));
+            Assert.assertNotSame(population.get(3), summary.getBest());
+            Assert.assertEquals(3.0, summary.getBest().getValue(0), 0.0);
+            Assert.assertEquals(3.0, summary.getBestFitness(), 0.0);
+            Assert.assertEquals(1.5, summary.getMeanFitness(), 0.0);
+            Assert.assertEquals(0.0, summary.getWorstFitness(), 0.0);
+            Assert.assertEquals(7L, summary.getGeneration());
+            Assert.assertEquals(40L, summary.getNumOfEvaluations());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Tests if subscribers receive terminal signals when the publisher is closed or the request is illegal.
+     * 
+     * @throws InterruptedException thrown if the test is interrupted.
+     */
+    @Test
+    public void testTermination() throws InterruptedException {
+        
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try {
+            GenerationPublisher<DoubleArrayChromosome> publisher = new GenerationPublisher<>(executor);
+            RecordingSubscriber completed = new RecordingSubscriber(1L);
+            RecordingSubscriber illegal = new RecordingSubscriber(0L);
+            
+            publisher.subscribe(completed);
+            publisher.subscribe(illegal);
+            illegal.awaitSubscription().request(0L);
+            
+            Assert.assertTrue(illegal.signals.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    instanceof IllegalArgumentException);
+            
+            publisher.publish(0L, 3L, createPopulation(3));
+            publisher.close();
+            
+            Assert.assertEquals(0L, completed.next().getGeneration());
+            Assert.assertSame(RecordingSubscriber.COMPLETE, completed.signals.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertEquals(0, publisher.getNumOfSubscribers());
+            
+            try {
+                publisher.publish(1L, 6L, createPopulation(3));
+                Assert.fail("Expected IllegalStateException.");
+            } catch (IllegalStateException exception) {
+                // expected
+            }
+            
+            GenerationPublisher<DoubleArrayChromosome> failed = new GenerationPublisher<>(executor);
+            RecordingSubscriber failedSubscriber = new RecordingSubscriber(1L);
+            IllegalStateException failure = new IllegalStateException("Algorithm failed.");
+            
+            failed.subscribe(failedSubscriber);
+            failed.closeExceptionally(failure);
+            
+            Assert.assertSame(failure, failedSubscriber.signals.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Creates chromosomes whose values and fitness values are 0, 1, ... <code>size</code> - 1.
+     * 
+     * @param size number of chromosomes.
+     * @return A new population.
+     */
+    private static List<DoubleArrayChromosome> createPopulation(int size) {
+        
+        List<DoubleArrayChromosome> population = new ArrayList<>(size);
+        
+        for (int i = 0; i < size; i++) {
+            DoubleArrayChromosome chromosome = new DoubleArrayChromosome(new double[] { i });
+            chromosome.setFitness(i);
+            population.add(chromosome);
+        }
+        
+        return population;
+    }
+    
+    /**
+     * Waits for the latch without a timeout, ignoring interrupts.
+     * 
+     * @param latch latch to wait for.
+     */
+    private static void await(CountDownLatch latch) {
+        
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Subscriber which records all signals in a queue.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private static class RecordingSubscriber implements IProgressSubscriber<GenerationSummary<DoubleArrayChromosome>> {
+        
+        /**
+         * Signal which is recorded on completion.
+         */
+        private static final Object COMPLETE = new Object();
+        
+        /**
+         * Number of items requested on subscription.
+         */
+        private final long initialRequest;
+        /**
+         * Recorded signals: summaries, failures and the completion signal.
+         */
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        /**
+         * Subscription of this subscriber.
+         */
+        private volatile IProgressSubscription subscription;
+        /**
+         * Latch which is opened on subscription.
+         */
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        
+        /**
+         * Constructs a <code>RecordingSubscriber</code> which requests provided number of items on subscription.
+         * 
+         * @param initialRequest number of items to request, or 0 to request nothing.
+         */
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+        
+        @Override
+        public void onSubscribe(IProgressSubscription subscription) {
+            
+            this.subscription = subscription;
+            
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+            
+            subscribed.countDown();
+        }
+        
+        @Override
+        public void onNext(GenerationSummary<DoubleArrayChromosome> item) {
+            
+            signals.add(item);
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            
+            signals.add(throwable);
+        }
+        
+        @Override
+        public void onComplete() {
+            
+            signals.add(COMPLETE);
+        }
+        
+        /**
+         * Waits until this subscriber is subscribed.
+         * 
+         * @return Subscription of this subscriber.
+         * @throws InterruptedException thrown if the calling thread is interrupted.
+         */
+        private IProgressSubscription awaitSubscription() throws InterruptedException {
+            
+            Assert.assertTrue(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return subscription;
+        }
+        
+        /**
+         * Waits for the next summary.
+         * 
+         * @return Next summary.
+         * @throws InterruptedException thrown if the calling thread is interrupted.
+         */
+        @SuppressWarnings("unchecked")
+        private GenerationSummary<DoubleArrayChromosome> next() throws InterruptedException {
+            
+            Object signal = signals.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            
+            Assert.assertTrue(signal instanceof GenerationSummary);
+            return (GenerationSummary<DoubleArrayChromosome>) signal;
+        }
+    }
+}
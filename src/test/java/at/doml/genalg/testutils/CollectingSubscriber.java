@@ -0,0 +1,51 @@
+package at.doml.genalg.testutils;
+
+import at.doml.genalg.progress.IProgressSubscriber;
+import at.doml.genalg.progress.IProgressSubscription;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Subscriber which requests an unbounded number of items and collects all of them, used in tests of algorithms which
+ * publish their progress.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @param <T> the type of collected items.
+ */
+public class CollectingSubscriber<T> implements IProgressSubscriber<T> {
+    
+    /**
+     * Collected items, in the order of delivery.
+     */
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public void onSubscribe(IProgressSubscription subscription) {
+        
+        subscription.request(Long.MAX_VALUE);
+    }
+    
+    @Override
+    public void onNext(T item) {
+        
+        items.add(item);
+    }
+    
+    @Override
+    public void onError(Throwable throwable) {}
+    
+    @Override
+    public void onComplete() {}
+    
+    /**
+     * Fetches the collected items.
+     * 
+     * @return Collected items, in the order of delivery.
+     */
+    public List<T> getItems() {
+        
+        return items;
+    }
+}
@@ -0,0 +1,162 @@
+package at.doml.genalg.utilities;
+
+import at.doml.genalg.exceptions.FitnessNotEvaluatedException;
+import at.doml.genalg.operators.crossover.ArithmeticMeanCrossover;
+import at.doml.genalg.population.chromosomes.DoubleArrayChromosome;
+import at.doml.genalg.population.interfaces.IChromosome;
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Class which contains tests for <code>ChromosomePool</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see ChromosomePool
+ */
+public class ChromosomePoolTest {
+    
+    /**
+     * Tests acquiring and releasing of chromosomes.
+     */
+    @Test
+    public void testAcquireAndRelease() {
+        
+        DoubleArrayChromosome prototype = new DoubleArrayChromosome(new double[] { 1.0 });
+        ChromosomePool<DoubleArrayChromosome> pool = new ChromosomePool<>(prototype, 2);
+        
+        DoubleArrayChromosome a = pool.acquire();
+        DoubleArrayChromosome b = pool.acquire();
+        DoubleArrayChromosome c = pool.acquire();
+        
+        Assert.assertNotSame(prototype, a);
+        Assert.assertNotSame(a, b);
+        Assert.assertEquals(0, pool.size());
+        Assert.assertEquals(2, pool.getCapacity());
+        
+        a.setFitness(1.0);
+        pool.releaseAll(Arrays.asList(a, b, c));
+        
+        Assert.assertEquals(2, pool.size());
+        Assert.assertSame(b, pool.acquire());
+        Assert.assertSame(a, pool.acquire());
+        
+        try {
+            a.getFitness();
+            Assert.fail("Expected FitnessNotEvaluatedException.");
+        } catch (FitnessNotEvaluatedException expected) {
+            // expected
+        }
+        
+        try {
+            new ChromosomePool<>(prototype, -1);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+    
+    /**
+     * Tests if the crossover operator creates children from the pool.
+     */
+    @Test
+    public void testCrossoverWithPool() {
+        
+        DoubleArrayChromosome first = new DoubleArrayChromosome(new double[] { 1.0, 2.0 });
+        DoubleArrayChromosome second = new DoubleArrayChromosome(new double[] { 3.0, 4.0 });
+        first.setFitness(1.0);
+        second.setFitness(0.0);
+        
+        SortedSet<DoubleArrayChromosome> parents = new TreeSet<>();
+        parents.add(first);
+        parents.add(second);
+        
+        ChromosomePool<DoubleArrayChromosome> pool = new ChromosomePool<>(first, 1);
+        DoubleArrayChromosome recycled = new DoubleArrayChromosome(new double[2]);
+        pool.release(recycled);
+        
+        ArithmeticMeanCrossover<DoubleArrayChromosome> crossover = new ArithmeticMeanCrossover<>(TestUtilities.RAND);
+        crossover.setPool(pool);
+        
+        Assert.assertSame(pool, crossover.getPool());
+        Assert.assertSame(recycled, crossover.doCrossover(parents));
+        TestUtilities.assertArrayElementsEqual(new double[] { 2.0, 3.0 }, recycled.getValues());
+        
+        crossover.setPool(null);
+        
+        Assert.assertNotSame(recycled, crossover.doCrossover(parents));
+    }
+    
+    /**
+     * Tests if chromosomes which implement the interface directly can be pooled, using the default implementation of
+     * {@link IChromosome#resetFitness()}.
+     */
+    @Test
+    public void testChromosomeWithoutReset() {
+        
+        ChromosomePool<MinimalChromosome> pool = new ChromosomePool<>(new MinimalChromosome(), 1);
+        MinimalChromosome chromosome = pool.acquire();
+        chromosome.setFitness(1.0);
+        pool.release(chromosome);
+        
+        Assert.assertSame(chromosome, pool.acquire());
+        Assert.assertEquals(1.0, chromosome.getFitness(), 0.0);
+    }
+    
+    /**
+     * Chromosome which implements {@link IChromosome} without extending the abstract chromosome.
+     * 
+     * @author Domagoj Latečki
+     * @version 1.0
+     * @since 1.8
+     */
+    private static final class MinimalChromosome implements IChromosome {
+        
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Fitness of the chromosome.
+         */
+        private double fitness;
+        
+        @Override
+        public int compareTo(IChromosome other) {
+            
+            return Double.compare(other.getFitness(), fitness);
+        }
+        
+        @Override
+        public double getFitness() {
+            
+            return fitness;
+        }
+        
+        @Override
+        public void setFitness(double fitness) {
+            
+            this.fitness = fitness;
+        }
+        
+        @Override
+        public IChromosome clone() {
+            
+            MinimalChromosome clone = new MinimalChromosome();
+            clone.fitness = fitness;
+            
+            return clone;
+        }
+        
+        @Override
+        public IChromosome newLikeThis() {
+            
+            return new MinimalChromosome();
+        }
+    }
+}
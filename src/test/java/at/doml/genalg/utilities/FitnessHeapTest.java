@@ -0,0 +1,107 @@
+package at.doml.genalg.utilities;
+
+import at.doml.genalg.testutils.TestUtilities;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.NoSuchElementException;
+
+/**
+ * Class which contains tests for <code>FitnessHeap</code>.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see FitnessHeap
+ */
+public class FitnessHeapTest {
+    
+    /**
+     * Capacity of the heaps used in tests.
+     */
+    private static final int CAPACITY = 100;
+    
+    /**
+     * Tests random insertions, updates and removals against a linear search over all fitness values.
+     */
+    @Test
+    public void testRandomOperations() {
+        
+        FitnessHeap worst = FitnessHeap.worstFirst(CAPACITY);
+        FitnessHeap best = FitnessHeap.bestFirst(CAPACITY);
+        double[] fitness = new double[CAPACITY];
+        boolean[] present = new boolean[CAPACITY];
+        
+        for (int i = 0; i < 10_000; i++) {
+            int index = TestUtilities.RAND.nextInt(CAPACITY);
+            
+            if (TestUtilities.RAND.nextInt(4) == 0) {
+                worst.remove(index);
+                best.remove(index);
+                present[index] = false;
+            } else {
+                fitness[index] = TestUtilities.RAND.nextInt(1_000);
+                worst.set(index, fitness[index]);
+                best.set(index, fitness[index]);
+                present[index] = true;
+            }
+            
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            int size = 0;
+            
+            for (int j = 0; j < CAPACITY; j++) {
+                if (present[j]) {
+                    min = Math.min(min, fitness[j]);
+                    max = Math.max(max, fitness[j]);
+                    size++;
+                }
+                
+                Assert.assertEquals(present[j], worst.contains(j));
+            }
+            
+            Assert.assertEquals(size, worst.size());
+            Assert.assertEquals(size, best.size());
+            
+            if (size > 0) {
+                Assert.assertEquals(min, worst.peekFitness(), 0.0);
+                Assert.assertEquals(max, best.peekFitness(), 0.0);
+                Assert.assertEquals(min, fitness[worst.peek()], 0.0);
+            }
+        }
+    }
+    
+    /**
+     * Tests polling of all indices and clearing of the heap.
+     */
+    @Test
+    public void testPollAndClear() {
+        
+        FitnessHeap heap = FitnessHeap.worstFirst(CAPACITY);
+        
+        for (int i = 0; i < CAPACITY; i++) {
+            heap.set(i, TestUtilities.RAND.nextDouble());
+        }
+        
+        double previous = Double.NEGATIVE_INFINITY;
+        
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            double current = heap.peekFitness();
+            heap.poll();
+            
+            Assert.assertTrue(current >= previous);
+            previous = current;
+        }
+        
+        heap.clear();
+        
+        Assert.assertEquals(0, heap.size());
+        Assert.assertFalse(heap.contains(CAPACITY - 1));
+        
+        try {
+            heap.peek();
+            Assert.fail("Expected NoSuchElementException.");
+        } catch (NoSuchElementException expected) {
+            // expected
+        }
+    }
+}
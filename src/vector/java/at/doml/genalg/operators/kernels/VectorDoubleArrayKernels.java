@@ -0,0 +1,129 @@
+package at.doml.genalg.operators.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An implementation of <code>IDoubleArrayKernels</code> which uses the Vector API. This class is only compiled with the
+ * <code>vector</code> profile and it is loaded reflectively by <code>DoubleArrayKernels</code>. Elements which do not
+ * fill a whole vector are processed with the same arithmetic as in <code>ScalarDoubleArrayKernels</code>. Operations
+ * are performed in the same order as in the scalar kernels, so all kernels except
+ * {@link #simulatedBinary(double[], double[], double[], double[], double)} produce bitwise identical results. The
+ * simulated binary crossover relies on the vectorized power function, which may differ from <code>Math.pow</code> in
+ * the last bit.
+ * 
+ * @author Domagoj Latečki
+ * @version 1.0
+ * @since 1.8
+ * @see IDoubleArrayKernels
+ * @see ScalarDoubleArrayKernels
+ */
+public class VectorDoubleArrayKernels extends ScalarDoubleArrayKernels {
+    
+    /**
+     * Preferred vector species on the current platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * Vector which has all lanes set to 1.
+     */
+    private static final DoubleVector ONE = DoubleVector.broadcast(SPECIES, 1.0);
+    
+    @Override
+    public void addScaled(double[] values, double[] samples, double scale, double offset) {
+        
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length()) {
+            DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+            DoubleVector sample = DoubleVector.fromArray(SPECIES, samples, i);
+            
+            value.add(sample.mul(scale)).add(offset).intoArray(values, i);
+        }
+        
+        for (; i < values.length; i++) {
+            values[i] = values[i] + samples[i] * scale + offset;
+        }
+    }
+    
+    @Override
+    public void add(double[] accumulator, double[] values) {
+        
+        int i = 0;
+        for (int bound = SPECIES.loopBound(accumulator.length); i < bound; i += SPECIES.length()) {
+            DoubleVector sum = DoubleVector.fromArray(SPECIES, accumulator, i);
+            
+            sum.add(DoubleVector.fromArray(SPECIES, values, i)).intoArray(accumulator, i);
+        }
+        
+        for (; i < accumulator.length; i++) {
+            accumulator[i] += values[i];
+        }
+    }
+    
+    @Override
+    public void divide(double[] values, double divisor) {
+        
+        int i = 0;
+        for (int bound = SPECIES.loopBound(values.length); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i).div(divisor).intoArray(values, i);
+        }
+        
+        for (; i < values.length; i++) {
+            values[i] /= divisor;
+        }
+    }
+    
+    @Override
+    public void blend(double[] child, double[] first, double[] second, double[] samples, double alpha) {
+        
+        double rangeFactor = 1.0 + 2.0 * alpha;
+        
+        int i = 0;
+        for (int bound = SPECIES.loopBound(child.length); i < bound; i += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, first, i);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, second, i);
+            DoubleVector distance = a.sub(b).abs();
+            DoubleVector lowerLimit = a.min(b).sub(distance.mul(alpha));
+            
+            lowerLimit.add(DoubleVector.fromArray(SPECIES, samples, i).mul(distance.mul(rangeFactor)))
+                    .intoArray(child, i);
+        }
+        
+        for (; i < child.length; i++) {
+            double distance = Math.abs(first[i] - second[i]);
+            double lowerLimit = Math.min(first[i], second[i]) - alpha * distance;
+            
+            child[i] = lowerLimit + samples[i] * (distance * rangeFactor);
+        }
+    }
+    
+    @Override
+    public void simulatedBinary(double[] child, double[] first, double[] second, double[] samples,
+            double distributionIndex) {
+        
+        double exponent = 1.0 / (distributionIndex + 1.0);
+        
+        int i = 0;
+        for (int bound = SPECIES.loopBound(child.length); i < bound; i += SPECIES.length()) {
+            DoubleVector sample = DoubleVector.fromArray(SPECIES, samples, i);
+            VectorMask<Double> lowerHalf = sample.compare(VectorOperators.LE, 0.5);
+            DoubleVector lowerBase = sample.mul(2.0);
+            DoubleVector upperBase = ONE.div(sample.neg().add(1.0).mul(2.0));
+            DoubleVector spread = upperBase.blend(lowerBase, lowerHalf).pow(exponent);
+            DoubleVector a = DoubleVector.fromArray(SPECIES, first, i);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, second, i);
+            
+            spread.add(1.0).mul(a).add(spread.neg().add(1.0).mul(b)).mul(0.5).intoArray(child, i);
+        }
+        
+        for (; i < child.length; i++) {
+            double sample = samples[i];
+            double spread = sample <= 0.5 ? Math.pow(2.0 * sample, exponent)
+                    : Math.pow(1.0 / (2.0 * (1.0 - sample)), exponent);
+            
+            child[i] = 0.5 * ((1.0 + spread) * first[i] + (1.0 - spread) * second[i]);
+        }
+    }
+}